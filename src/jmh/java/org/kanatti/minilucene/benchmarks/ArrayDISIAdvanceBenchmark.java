@@ -0,0 +1,74 @@
+package org.kanatti.minilucene.benchmarks;
+
+import org.kanatti.minilucene.search.ArrayDISI;
+import org.kanatti.minilucene.search.DocIdSetIterator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Compares ArrayDISI.advance (galloping + binary search) against the old
+ * linear advance that calls nextDoc() until it reaches target.
+ *
+ * Each op walks the whole list, advancing by `skip` docs at a time, which is what
+ * a long postings list sees when it follows a rarer lead iterator in a conjunction.
+ * Score is per op, so divide by (numDocs / skip) for cost per advance.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 1, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+public class ArrayDISIAdvanceBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int numDocs;
+
+    @Param({"1", "8", "128", "4096"})
+    private int skip;
+
+    private int[] docIds;
+
+    @Setup
+    public void setup() {
+        // Every other doc, so targets often land on a gap.
+        docIds = new int[numDocs];
+        for (int i = 0; i < numDocs; i++) {
+            docIds[i] = i * 2;
+        }
+    }
+
+    @Benchmark
+    public void galloping(Blackhole bh) {
+        DocIdSetIterator disi = new ArrayDISI(docIds);
+        int step = skip * 2;
+        int doc = disi.nextDoc();
+        while (doc != DocIdSetIterator.NO_MORE_DOCS) {
+            doc = disi.advance(doc + step);
+        }
+        bh.consume(doc);
+    }
+
+    @Benchmark
+    public void linear(Blackhole bh) {
+        DocIdSetIterator disi = new ArrayDISI(docIds);
+        int step = skip * 2;
+        int doc = disi.nextDoc();
+        while (doc != DocIdSetIterator.NO_MORE_DOCS) {
+            doc = linearAdvance(disi, doc + step);
+        }
+        bh.consume(doc);
+    }
+
+    /**
+     * What ArrayDISI.advance used to do.
+     */
+    private static int linearAdvance(DocIdSetIterator disi, int target) {
+        int doc;
+        do {
+            doc = disi.nextDoc();
+        } while (doc < target);
+        return doc;
+    }
+}
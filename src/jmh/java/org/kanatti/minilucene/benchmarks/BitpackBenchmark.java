@@ -0,0 +1,83 @@
+package org.kanatti.minilucene.benchmarks;
+
+import org.kanatti.minilucene.compression.Bitpack;
+import org.kanatti.minilucene.compression.BlockDecoder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Decoding a block of 128 values:
+ * - byteUnpack: Bitpack.unpack, bit by bit within bytes.
+ * - scalarDecode: generated unrolled decoder, 2 lanes per 64-bit word.
+ * - vectorDecode: Vector API decoder, 4 lanes per 128-bit vector.
+ *
+ * And the same for encoding. Decode is what matters for postings, encode only runs at flush.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 1, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+public class BitpackBenchmark {
+
+    @Param({"1", "4", "7", "12", "17", "24", "31", "32"})
+    private int bitsPerValue;
+
+    private int[] values;
+    private byte[] packedBytes;
+    private long[] packedLongs;
+    private int[] decoded;
+    private BlockDecoder scalar;
+    private BlockDecoder vector;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        values = new int[Bitpack.BLOCK_SIZE];
+        // Long, as 1 << 31 and 1 << 32 don't fit an int.
+        long mask = (1L << bitsPerValue) - 1;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (int) (random.nextLong() & mask);
+        }
+        // Make sure values need all bits, since pack() picks the width from them.
+        values[0] = (int) mask;
+
+        packedBytes = Bitpack.pack(values);
+        packedLongs = new long[Bitpack.packedLongs(bitsPerValue)];
+        Bitpack.encode128(values, bitsPerValue, packedLongs);
+        decoded = new int[Bitpack.BLOCK_SIZE];
+        scalar = BlockDecoder.scalar();
+        vector = BlockDecoder.vectorized();
+    }
+
+    @Benchmark
+    public void byteUnpack(Blackhole bh) {
+        bh.consume(Bitpack.unpack(packedBytes, Bitpack.BLOCK_SIZE, bitsPerValue));
+    }
+
+    @Benchmark
+    public void scalarDecode(Blackhole bh) {
+        scalar.decode128(packedLongs, bitsPerValue, decoded);
+        bh.consume(decoded);
+    }
+
+    @Benchmark
+    public void vectorDecode(Blackhole bh) {
+        vector.decode128(packedLongs, bitsPerValue, decoded);
+        bh.consume(decoded);
+    }
+
+    @Benchmark
+    public void bytePack(Blackhole bh) {
+        bh.consume(Bitpack.pack(values));
+    }
+
+    @Benchmark
+    public void wordEncode(Blackhole bh) {
+        Bitpack.encode128(values, bitsPerValue, packedLongs);
+        bh.consume(packedLongs);
+    }
+}
@@ -0,0 +1,72 @@
+package org.kanatti.minilucene.benchmarks;
+
+import org.kanatti.minilucene.compression.Delta;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Delta decoding of a postings-sized block:
+ * - allocating: Delta.decode(int[]), a new array per call.
+ * - intoBuffer: decode into a reused array.
+ * - inPlace: prefixSum over the deltas themselves (they get restored from a copy first).
+ * - longInPlace: same for long[], like doc values.
+ *
+ * Run with the gc profiler (already on in build.gradle), gc.alloc.rate.norm should be ~0
+ * bytes/op for everything but allocating.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 1, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+public class DeltaBenchmark {
+
+    @Param({"128", "4096"})
+    private int blockSize;
+
+    private int[] deltas;
+    private int[] buffer;
+    private long[] longDeltas;
+    private long[] longBuffer;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        deltas = new int[blockSize];
+        longDeltas = new long[blockSize];
+        for (int i = 0; i < blockSize; i++) {
+            deltas[i] = 1 + random.nextInt(16);
+            longDeltas[i] = random.nextInt(1 << 20);
+        }
+        buffer = new int[blockSize];
+        longBuffer = new long[blockSize];
+    }
+
+    @Benchmark
+    public void allocating(Blackhole bh) {
+        bh.consume(Delta.decode(deltas));
+    }
+
+    @Benchmark
+    public void intoBuffer(Blackhole bh) {
+        Delta.decode(deltas, 0, buffer, 0, blockSize, 0);
+        bh.consume(buffer);
+    }
+
+    @Benchmark
+    public void inPlace(Blackhole bh) {
+        System.arraycopy(deltas, 0, buffer, 0, blockSize);
+        Delta.prefixSum(buffer, 0, blockSize, 0);
+        bh.consume(buffer);
+    }
+
+    @Benchmark
+    public void longInPlace(Blackhole bh) {
+        System.arraycopy(longDeltas, 0, longBuffer, 0, blockSize);
+        Delta.prefixSum(longBuffer, 0, blockSize, 0L);
+        bh.consume(longBuffer);
+    }
+}
@@ -0,0 +1,102 @@
+package org.kanatti.minilucene.benchmarks;
+
+import org.kanatti.minilucene.index.Document;
+import org.kanatti.minilucene.index.IndexReader;
+import org.kanatti.minilucene.index.IndexWriter;
+import org.kanatti.minilucene.index.IndexWriterConfig;
+import org.kanatti.minilucene.index.LeafReaderContext;
+import org.kanatti.minilucene.search.Collector;
+import org.kanatti.minilucene.search.DocValuesRangeQuery;
+import org.kanatti.minilucene.search.IndexSearcher;
+import org.kanatti.minilucene.search.LeafCollector;
+import org.kanatti.minilucene.search.Query;
+import org.kanatti.minilucene.search.ScoreMode;
+import org.kanatti.minilucene.store.MMapDirectory;
+import org.openjdk.jmh.annotations.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Counting a DocValuesRangeQuery over a timestamp field whose values grow with doc ids,
+ * like an index sorted by time. Range covers the middle `percent` of the docs.
+ * - count: IndexSearcher.count, fully matching skip intervals are counted by doc count.
+ * - countPerDoc: a collector taking docs one at a time, so every hit is visited.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 1, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+public class RangeCountBenchmark {
+
+    @Param({"1000000"})
+    private int numDocs;
+
+    @Param({"1", "10", "50"})
+    private int percent;
+
+    private Path path;
+    private IndexReader reader;
+    private IndexSearcher searcher;
+    private Query query;
+
+    @Setup
+    public void setup() throws IOException {
+        Random random = new Random(42);
+        long[] timestamps = new long[numDocs];
+        path = Files.createTempDirectory("skipindex");
+        MMapDirectory dir = new MMapDirectory(path);
+        try (IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig())) {
+            long timestamp = 1_700_000_000_000L;
+            for (int i = 0; i < numDocs; i++) {
+                timestamp += random.nextInt(1000);
+                timestamps[i] = timestamp;
+                writer.addDocument(new Document().addLong("timestamp", timestamp));
+            }
+        }
+        reader = IndexReader.open(dir);
+        // Leaves one at a time, so the difference isn't hidden behind threads.
+        searcher = new IndexSearcher(reader, null);
+
+        int from = (int) ((long) numDocs * (100 - percent) / 200);
+        int to = from + (int) ((long) numDocs * percent / 100) - 1;
+        query = new DocValuesRangeQuery("timestamp", timestamps[from], timestamps[to]);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        reader.close();
+        try (var files = Files.walk(path)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public int count() {
+        return searcher.count(query);
+    }
+
+    @Benchmark
+    public int countPerDoc() {
+        int[] count = new int[1];
+        searcher.search(query, new Collector() {
+            @Override
+            public ScoreMode scoreMode() {
+                return ScoreMode.COMPLETE_NO_SCORES;
+            }
+
+            @Override
+            public LeafCollector getLeafCollector(LeafReaderContext context) {
+                return doc -> count[0]++;
+            }
+        });
+        return count[0];
+    }
+}
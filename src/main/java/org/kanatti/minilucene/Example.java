@@ -1,13 +1,28 @@
 package org.kanatti.minilucene;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.kanatti.minilucene.index.Document;
+import org.kanatti.minilucene.index.IndexReader;
+import org.kanatti.minilucene.index.IndexWriter;
+import org.kanatti.minilucene.index.IndexWriterConfig;
+import org.kanatti.minilucene.index.MemoryLeafReader;
 import org.kanatti.minilucene.search.ArrayBitSet;
 import org.kanatti.minilucene.search.ArrayDISI;
 import org.kanatti.minilucene.search.BitSet;
 import org.kanatti.minilucene.search.BitSetDISI;
+import org.kanatti.minilucene.search.BooleanQuery;
 import org.kanatti.minilucene.search.DocIdSetIterator;
+import org.kanatti.minilucene.search.IndexSearcher;
+import org.kanatti.minilucene.search.Query;
+import org.kanatti.minilucene.search.TermQuery;
+import org.kanatti.minilucene.store.Directory;
+import org.kanatti.minilucene.store.MMapDirectory;
 
 public class Example {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         DocIdSetIterator disi = new ArrayDISI(new int[] { 10, 11, 12, 14, 15 });
 
         System.out.println("docId: " + disi.docId());
@@ -29,6 +44,34 @@ public class Example {
         System.out.println("docId: " + disi.nextDoc());
         System.out.println("docId: " + disi.nextDoc());
         System.out.println("docId: " + disi.nextDoc());
+    
+        // End to end: query -> weight -> scorer per leaf -> collector
+        IndexReader reader = new IndexReader(List.of(
+            new MemoryLeafReader.Builder(10)
+                .addPostings("body", "lucene", 1, 3, 5, 7)
+                .addPostings("body", "search", 3, 4, 7)
+                .build(),
+            new MemoryLeafReader.Builder(5)
+                .addPostings("body", "lucene", 0, 2)
+                .addPostings("body", "search", 2)
+                .build()));
+        IndexSearcher searcher = new IndexSearcher(reader);
+
+        Query query = new BooleanQuery.Builder()
+            .add(new TermQuery("body", "lucene"), BooleanQuery.Occur.MUST)
+            .add(new TermQuery("body", "search"), BooleanQuery.Occur.MUST)
+            .build();
+        System.out.println(query + " count: " + searcher.count(query));
+
+        // Same, but indexed to disk with IndexWriter.
+        Directory dir = new MMapDirectory(Files.createTempDirectory("minilucene"));
+        try (IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig())) {
+            writer.addDocument(new Document().addText("body", "Lucene is a search library"));
+            writer.addDocument(new Document().addText("body", "Lucene in Action"));
+            writer.addDocument(new Document().addText("body", "Elasticsearch uses Lucene for search"));
+        }
+        try (IndexReader diskReader = IndexReader.open(dir)) {
+            System.out.println(query + " count on disk: " + new IndexSearcher(diskReader).count(query));
+        }
     }
 }
-
@@ -7,7 +7,7 @@ public class Bitpack {
         // Example 1: Pack 3-bit values
         int[] values1 = {5, 3, 6, 7, 2, 1};
         byte[] packed1 = pack(values1);
-        int bitsPerValue1 = bitsNeeded(max(values1));
+        int bitsPerValue1 = bitsRequired(max(values1));
         int[] unpacked1 = unpack(packed1, values1.length, bitsPerValue1);
 
         System.out.println("Example 1:");
@@ -19,7 +19,7 @@ public class Bitpack {
         // Example 2: Pack 10-bit values
         int[] values2 = {1023, 512, 256, 127, 0};
         byte[] packed2 = pack(values2);
-        int bitsPerValue2 = bitsNeeded(max(values2));
+        int bitsPerValue2 = bitsRequired(max(values2));
         int[] unpacked2 = unpack(packed2, values2.length, bitsPerValue2);
 
         System.out.println("Example 2:");
@@ -29,7 +29,8 @@ public class Bitpack {
     }
 
     public static byte[] pack(int[] values) {
-        int bitsPerValue = bitsNeeded(max(values));
+        // Unsigned, so that values with the top bit set get all 32 bits.
+        int bitsPerValue = bitsRequired(values, values.length);
 
         // Find how many bytes needed in total
         // This is faster than Math.ceil, check CeilDivisionBenchmark.
@@ -96,6 +97,94 @@ public class Bitpack {
         return values;
     }
 
+    // ---- Word based, fixed size blocks ----
+
+    /**
+     * Number of values in a block for {@link #encode128} / {@link #decode128}.
+     */
+    public static final int BLOCK_SIZE = 128;
+
+    /**
+     * A block is split into 4 lanes of 32 values each, value i going to lane i % 4. Each
+     * lane is a plain little-endian bit stream of bitsPerValue bits per value, made of
+     * bitsPerValue 32-bit words. Words of lanes are interleaved in pairs over longs: word j
+     * of lane l sits in packed[2 * j + l / 2], lane 0 and 2 in the low halves and lane 1 and
+     * 3 in the high ones.
+     *
+     * So packed[2 * j, 2 * j + 2) is word j of all 4 lanes, which is exactly one 128-bit
+     * vector of 4 ints, and decoding a position of all lanes at once gives 4 consecutive
+     * values. Without vectors, a long still decodes 2 lanes at a time.
+     */
+    static final int LANES = 4;
+
+    /**
+     * Number of longs a block of 128 values takes: 4 lanes of bitsPerValue ints.
+     */
+    public static int packedLongs(int bitsPerValue) {
+        return LANES * bitsPerValue / 2;
+    }
+
+    /**
+     * Bits needed to hold values up to maxValue, treating it as unsigned.
+     */
+    public static int bitsRequired(int maxValue) {
+        return maxValue == 0 ? 1 : 32 - Integer.numberOfLeadingZeros(maxValue);
+    }
+
+    /**
+     * Bits needed to hold all of values[0, len), treating them as unsigned.
+     */
+    public static int bitsRequired(int[] values, int len) {
+        int or = 0;
+        for (int i = 0; i < len; i++) {
+            or |= values[i];
+        }
+        return bitsRequired(or);
+    }
+
+    /**
+     * Packs 128 values into packed[0, packedLongs(bitsPerValue)).
+     * Values must fit in bitsPerValue bits.
+     */
+    public static void encode128(int[] values, int bitsPerValue, long[] packed) {
+        checkBitsPerValue(bitsPerValue);
+        int numLongs = packedLongs(bitsPerValue);
+        for (int i = 0; i < numLongs; i++) {
+            packed[i] = 0;
+        }
+
+        long mask = (1L << bitsPerValue) - 1;
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            int lane = i % LANES;
+            int bit = (i / LANES) * bitsPerValue;
+            int word = bit >>> 5;
+            int shift = bit & 31;
+            long value = (values[i] & mask) << shift;
+
+            orWord(packed, word, lane, (int) value);
+            // Spills over into the next word of the lane.
+            if (shift + bitsPerValue > 32)
+                orWord(packed, word + 1, lane, (int) (value >>> 32));
+        }
+    }
+
+    private static void orWord(long[] packed, int word, int lane, int bits) {
+        packed[2 * word + (lane >>> 1)] |= (bits & 0xFFFFFFFFL) << ((lane & 1) << 5);
+    }
+
+    /**
+     * Unpacks a block written by {@link #encode128} into values[0, 128).
+     * Uses SIMD when the Vector API is available, see {@link BlockDecoder}.
+     */
+    public static void decode128(long[] packed, int bitsPerValue, int[] values) {
+        BlockDecoder.INSTANCE.decode128(packed, bitsPerValue, values);
+    }
+
+    private static void checkBitsPerValue(int bitsPerValue) {
+        if (bitsPerValue < 1 || bitsPerValue > 32)
+            throw new IllegalArgumentException("bitsPerValue must be in [1, 32]");
+    }
+
     private static int max(int[] ints) {
         int max = ints[0];
         for (int i = 0; i < ints.length; i++) {
@@ -105,8 +194,4 @@ public class Bitpack {
         }
         return max;
     }
-
-    private static int bitsNeeded(int n) {
-        return n == 0 ? 1 : 32 - Integer.numberOfLeadingZeros(n);
-    }
 }
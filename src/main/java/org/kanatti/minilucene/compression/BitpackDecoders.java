@@ -0,0 +1,3814 @@
+package org.kanatti.minilucene.compression;
+
+// This file is generated by gen_BitpackDecoders.py, don't edit it by hand.
+
+/**
+ * Unrolled scalar decoders of {@link Bitpack#BLOCK_SIZE} values, one per bitsPerValue.
+ *
+ * Every long holds a word of 2 lanes, and both are decoded together, SWAR style: shifts
+ * work on the whole long, and masks have a copy in each 32-bit half, so bits of one lane
+ * never leak into the other. Every shift and mask is a constant and every word is read
+ * once, so a decode is a straight run of shifts, ands and ors with no branches.
+ */
+final class BitpackDecoders {
+
+    private BitpackDecoders() {}
+
+    static void decode(long[] packed, int bitsPerValue, int[] values) {
+        switch (bitsPerValue) {
+            case 1 -> decode1(packed, values);
+            case 2 -> decode2(packed, values);
+            case 3 -> decode3(packed, values);
+            case 4 -> decode4(packed, values);
+            case 5 -> decode5(packed, values);
+            case 6 -> decode6(packed, values);
+            case 7 -> decode7(packed, values);
+            case 8 -> decode8(packed, values);
+            case 9 -> decode9(packed, values);
+            case 10 -> decode10(packed, values);
+            case 11 -> decode11(packed, values);
+            case 12 -> decode12(packed, values);
+            case 13 -> decode13(packed, values);
+            case 14 -> decode14(packed, values);
+            case 15 -> decode15(packed, values);
+            case 16 -> decode16(packed, values);
+            case 17 -> decode17(packed, values);
+            case 18 -> decode18(packed, values);
+            case 19 -> decode19(packed, values);
+            case 20 -> decode20(packed, values);
+            case 21 -> decode21(packed, values);
+            case 22 -> decode22(packed, values);
+            case 23 -> decode23(packed, values);
+            case 24 -> decode24(packed, values);
+            case 25 -> decode25(packed, values);
+            case 26 -> decode26(packed, values);
+            case 27 -> decode27(packed, values);
+            case 28 -> decode28(packed, values);
+            case 29 -> decode29(packed, values);
+            case 30 -> decode30(packed, values);
+            case 31 -> decode31(packed, values);
+            case 32 -> decode32(packed, values);
+            default -> throw new IllegalArgumentException("bitsPerValue must be in [1, 32]");
+        }
+    }
+
+    private static void decode1(long[] packed, int[] values) {
+        for (int half = 0; half < 2; half++) {
+            final long w0 = packed[0 + half];
+            final long v0 = w0 & 0x100000001L;
+            values[0 + 2 * half] = (int) v0;
+            values[1 + 2 * half] = (int) (v0 >>> 32);
+            final long v1 = (w0 >>> 1) & 0x100000001L;
+            values[4 + 2 * half] = (int) v1;
+            values[5 + 2 * half] = (int) (v1 >>> 32);
+            final long v2 = (w0 >>> 2) & 0x100000001L;
+            values[8 + 2 * half] = (int) v2;
+            values[9 + 2 * half] = (int) (v2 >>> 32);
+            final long v3 = (w0 >>> 3) & 0x100000001L;
+            values[12 + 2 * half] = (int) v3;
+            values[13 + 2 * half] = (int) (v3 >>> 32);
+            final long v4 = (w0 >>> 4) & 0x100000001L;
+            values[16 + 2 * half] = (int) v4;
+            values[17 + 2 * half] = (int) (v4 >>> 32);
+            final long v5 = (w0 >>> 5) & 0x100000001L;
+            values[20 + 2 * half] = (int) v5;
+            values[21 + 2 * half] = (int) (v5 >>> 32);
+            final long v6 = (w0 >>> 6) & 0x100000001L;
+            values[24 + 2 * half] = (int) v6;
+            values[25 + 2 * half] = (int) (v6 >>> 32);
+            final long v7 = (w0 >>> 7) & 0x100000001L;
+            values[28 + 2 * half] = (int) v7;
+            values[29 + 2 * half] = (int) (v7 >>> 32);
+            final long v8 = (w0 >>> 8) & 0x100000001L;
+            values[32 + 2 * half] = (int) v8;
+            values[33 + 2 * half] = (int) (v8 >>> 32);
+            final long v9 = (w0 >>> 9) & 0x100000001L;
+            values[36 + 2 * half] = (int) v9;
+            values[37 + 2 * half] = (int) (v9 >>> 32);
+            final long v10 = (w0 >>> 10) & 0x100000001L;
+            values[40 + 2 * half] = (int) v10;
+            values[41 + 2 * half] = (int) (v10 >>> 32);
+            final long v11 = (w0 >>> 11) & 0x100000001L;
+            values[44 + 2 * half] = (int) v11;
+            values[45 + 2 * half] = (int) (v11 >>> 32);
+            final long v12 = (w0 >>> 12) & 0x100000001L;
+            values[48 + 2 * half] = (int) v12;
+            values[49 + 2 * half] = (int) (v12 >>> 32);
+            final long v13 = (w0 >>> 13) & 0x100000001L;
+            values[52 + 2 * half] = (int) v13;
+            values[53 + 2 * half] = (int) (v13 >>> 32);
+            final long v14 = (w0 >>> 14) & 0x100000001L;
+            values[56 + 2 * half] = (int) v14;
+            values[57 + 2 * half] = (int) (v14 >>> 32);
+            final long v15 = (w0 >>> 15) & 0x100000001L;
+            values[60 + 2 * half] = (int) v15;
+            values[61 + 2 * half] = (int) (v15 >>> 32);
+            final long v16 = (w0 >>> 16) & 0x100000001L;
+            values[64 + 2 * half] = (int) v16;
+            values[65 + 2 * half] = (int) (v16 >>> 32);
+            final long v17 = (w0 >>> 17) & 0x100000001L;
+            values[68 + 2 * half] = (int) v17;
+            values[69 + 2 * half] = (int) (v17 >>> 32);
+            final long v18 = (w0 >>> 18) & 0x100000001L;
+            values[72 + 2 * half] = (int) v18;
+            values[73 + 2 * half] = (int) (v18 >>> 32);
+            final long v19 = (w0 >>> 19) & 0x100000001L;
+            values[76 + 2 * half] = (int) v19;
+            values[77 + 2 * half] = (int) (v19 >>> 32);
+            final long v20 = (w0 >>> 20) & 0x100000001L;
+            values[80 + 2 * half] = (int) v20;
+            values[81 + 2 * half] = (int) (v20 >>> 32);
+            final long v21 = (w0 >>> 21) & 0x100000001L;
+            values[84 + 2 * half] = (int) v21;
+            values[85 + 2 * half] = (int) (v21 >>> 32);
+            final long v22 = (w0 >>> 22) & 0x100000001L;
+            values[88 + 2 * half] = (int) v22;
+            values[89 + 2 * half] = (int) (v22 >>> 32);
+            final long v23 = (w0 >>> 23) & 0x100000001L;
+            values[92 + 2 * half] = (int) v23;
+            values[93 + 2 * half] = (int) (v23 >>> 32);
+            final long v24 = (w0 >>> 24) & 0x100000001L;
+            values[96 + 2 * half] = (int) v24;
+            values[97 + 2 * half] = (int) (v24 >>> 32);
+            final long v25 = (w0 >>> 25) & 0x100000001L;
+            values[100 + 2 * half] = (int) v25;
+            values[101 + 2 * half] = (int) (v25 >>> 32);
+            final long v26 = (w0 >>> 26) & 0x100000001L;
+            values[104 + 2 * half] = (int) v26;
+            values[105 + 2 * half] = (int) (v26 >>> 32);
+            final long v27 = (w0 >>> 27) & 0x100000001L;
+            values[108 + 2 * half] = (int) v27;
+            values[109 + 2 * half] = (int) (v27 >>> 32);
+            final long v28 = (w0 >>> 28) & 0x100000001L;
+            values[112 + 2 * half] = (int) v28;
+            values[113 + 2 * half] = (int) (v28 >>> 32);
+            final long v29 = (w0 >>> 29) & 0x100000001L;
+            values[116 + 2 * half] = (int) v29;
+            values[117 + 2 * half] = (int) (v29 >>> 32);
+            final long v30 = (w0 >>> 30) & 0x100000001L;
+            values[120 + 2 * half] = (int) v30;
+            values[121 + 2 * half] = (int) (v30 >>> 32);
+            final long v31 = (w0 >>> 31) & 0x100000001L;
+            values[124 + 2 * half] = (int) v31;
+            values[125 + 2 * half] = (int) (v31 >>> 32);
+        }
+    }
+
+    private static void decode2(long[] packed, int[] values) {
+        for (int half = 0; half < 2; half++) {
+            final long w0 = packed[0 + half];
+            final long w1 = packed[2 + half];
+            final long v0 = w0 & 0x300000003L;
+            values[0 + 2 * half] = (int) v0;
+            values[1 + 2 * half] = (int) (v0 >>> 32);
+            final long v1 = (w0 >>> 2) & 0x300000003L;
+            values[4 + 2 * half] = (int) v1;
+            values[5 + 2 * half] = (int) (v1 >>> 32);
+            final long v2 = (w0 >>> 4) & 0x300000003L;
+            values[8 + 2 * half] = (int) v2;
+            values[9 + 2 * half] = (int) (v2 >>> 32);
+            final long v3 = (w0 >>> 6) & 0x300000003L;
+            values[12 + 2 * half] = (int) v3;
+            values[13 + 2 * half] = (int) (v3 >>> 32);
+            final long v4 = (w0 >>> 8) & 0x300000003L;
+            values[16 + 2 * half] = (int) v4;
+            values[17 + 2 * half] = (int) (v4 >>> 32);
+            final long v5 = (w0 >>> 10) & 0x300000003L;
+            values[20 + 2 * half] = (int) v5;
+            values[21 + 2 * half] = (int) (v5 >>> 32);
+            final long v6 = (w0 >>> 12) & 0x300000003L;
+            values[24 + 2 * half] = (int) v6;
+            values[25 + 2 * half] = (int) (v6 >>> 32);
+            final long v7 = (w0 >>> 14) & 0x300000003L;
+            values[28 + 2 * half] = (int) v7;
+            values[29 + 2 * half] = (int) (v7 >>> 32);
+            final long v8 = (w0 >>> 16) & 0x300000003L;
+            values[32 + 2 * half] = (int) v8;
+            values[33 + 2 * half] = (int) (v8 >>> 32);
+            final long v9 = (w0 >>> 18) & 0x300000003L;
+            values[36 + 2 * half] = (int) v9;
+            values[37 + 2 * half] = (int) (v9 >>> 32);
+            final long v10 = (w0 >>> 20) & 0x300000003L;
+            values[40 + 2 * half] = (int) v10;
+            values[41 + 2 * half] = (int) (v10 >>> 32);
+            final long v11 = (w0 >>> 22) & 0x300000003L;
+            values[44 + 2 * half] = (int) v11;
+            values[45 + 2 * half] = (int) (v11 >>> 32);
+            final long v12 = (w0 >>> 24) & 0x300000003L;
+            values[48 + 2 * half] = (int) v12;
+            values[49 + 2 * half] = (int) (v12 >>> 32);
+            final long v13 = (w0 >>> 26) & 0x300000003L;
+            values[52 + 2 * half] = (int) v13;
+            values[53 + 2 * half] = (int) (v13 >>> 32);
+            final long v14 = (w0 >>> 28) & 0x300000003L;
+            values[56 + 2 * half] = (int) v14;
+            values[57 + 2 * half] = (int) (v14 >>> 32);
+            final long v15 = (w0 >>> 30) & 0x300000003L;
+            values[60 + 2 * half] = (int) v15;
+            values[61 + 2 * half] = (int) (v15 >>> 32);
+            final long v16 = w1 & 0x300000003L;
+            values[64 + 2 * half] = (int) v16;
+            values[65 + 2 * half] = (int) (v16 >>> 32);
+            final long v17 = (w1 >>> 2) & 0x300000003L;
+            values[68 + 2 * half] = (int) v17;
+            values[69 + 2 * half] = (int) (v17 >>> 32);
+            final long v18 = (w1 >>> 4) & 0x300000003L;
+            values[72 + 2 * half] = (int) v18;
+            values[73 + 2 * half] = (int) (v18 >>> 32);
+            final long v19 = (w1 >>> 6) & 0x300000003L;
+            values[76 + 2 * half] = (int) v19;
+            values[77 + 2 * half] = (int) (v19 >>> 32);
+            final long v20 = (w1 >>> 8) & 0x300000003L;
+            values[80 + 2 * half] = (int) v20;
+            values[81 + 2 * half] = (int) (v20 >>> 32);
+            final long v21 = (w1 >>> 10) & 0x300000003L;
+            values[84 + 2 * half] = (int) v21;
+            values[85 + 2 * half] = (int) (v21 >>> 32);
+            final long v22 = (w1 >>> 12) & 0x300000003L;
+            values[88 + 2 * half] = (int) v22;
+            values[89 + 2 * half] = (int) (v22 >>> 32);
+            final long v23 = (w1 >>> 14) & 0x300000003L;
+            values[92 + 2 * half] = (int) v23;
+            values[93 + 2 * half] = (int) (v23 >>> 32);
+            final long v24 = (w1 >>> 16) & 0x300000003L;
+            values[96 + 2 * half] = (int) v24;
+            values[97 + 2 * half] = (int) (v24 >>> 32);
+            final long v25 = (w1 >>> 18) & 0x300000003L;
+            values[100 + 2 * half] = (int) v25;
+            values[101 + 2 * half] = (int) (v25 >>> 32);
+            final long v26 = (w1 >>> 20) & 0x300000003L;
+            values[104 + 2 * half] = (int) v26;
+            values[105 + 2 * half] = (int) (v26 >>> 32);
+            final long v27 = (w1 >>> 22) & 0x300000003L;
+            values[108 + 2 * half] = (int) v27;
+            values[109 + 2 * half] = (int) (v27 >>> 32);
+            final long v28 = (w1 >>> 24) & 0x300000003L;
+            values[112 + 2 * half] = (int) v28;
+            values[113 + 2 * half] = (int) (v28 >>> 32);
+            final long v29 = (w1 >>> 26) & 0x300000003L;
+            values[116 + 2 * half] = (int) v29;
+            values[117 + 2 * half] = (int) (v29 >>> 32);
+            final long v30 = (w1 >>> 28) & 0x300000003L;
+            values[120 + 2 * half] = (int) v30;
+            values[121 + 2 * half] = (int) (v30 >>> 32);
+            final long v31 = (w1 >>> 30) & 0x300000003L;
+            values[124 + 2 * half] = (int) v31;
+            values[125 + 2 * half] = (int) (v31 >>> 32);
+        }
+    }
+
+    private static void decode3(long[] packed, int[] values) {
+        for (int half = 0; half < 2; half++) {
+            final long w0 = packed[0 + half];
+            final long w1 = packed[2 + half];
+            final long w2 = packed[4 + half];
+            final long v0 = w0 & 0x700000007L;
+            values[0 + 2 * half] = (int) v0;
+            values[1 + 2 * half] = (int) (v0 >>> 32);
+            final long v1 = (w0 >>> 3) & 0x700000007L;
+            values[4 + 2 * half] = (int) v1;
+            values[5 + 2 * half] = (int) (v1 >>> 32);
+            final long v2 = (w0 >>> 6) & 0x700000007L;
+            values[8 + 2 * half] = (int) v2;
+            values[9 + 2 * half] = (int) (v2 >>> 32);
+            final long v3 = (w0 >>> 9) & 0x700000007L;
+            values[12 + 2 * half] = (int) v3;
+            values[13 + 2 * half] = (int) (v3 >>> 32);
+            final long v4 = (w0 >>> 12) & 0x700000007L;
+            values[16 + 2 * half] = (int) v4;
+            values[17 + 2 * half] = (int) (v4 >>> 32);
+            final long v5 = (w0 >>> 15) & 0x700000007L;
+            values[20 + 2 * half] = (int) v5;
+            values[21 + 2 * half] = (int) (v5 >>> 32);
+            final long v6 = (w0 >>> 18) & 0x700000007L;
+            values[24 + 2 * half] = (int) v6;
+            values[25 + 2 * half] = (int) (v6 >>> 32);
+            final long v7 = (w0 >>> 21) & 0x700000007L;
+            values[28 + 2 * half] = (int) v7;
+            values[29 + 2 * half] = (int) (v7 >>> 32);
+            final long v8 = (w0 >>> 24) & 0x700000007L;
+            values[32 + 2 * half] = (int) v8;
+            values[33 + 2 * half] = (int) (v8 >>> 32);
+            final long v9 = (w0 >>> 27) & 0x700000007L;
+            values[36 + 2 * half] = (int) v9;
+            values[37 + 2 * half] = (int) (v9 >>> 32);
+            final long v10 = ((w0 >>> 30) & 0x300000003L) | ((w1 << 2) & 0x400000004L);
+            values[40 + 2 * half] = (int) v10;
+            values[41 + 2 * half] = (int) (v10 >>> 32);
+            final long v11 = (w1 >>> 1) & 0x700000007L;
+            values[44 + 2 * half] = (int) v11;
+            values[45 + 2 * half] = (int) (v11 >>> 32);
+            final long v12 = (w1 >>> 4) & 0x700000007L;
+            values[48 + 2 * half] = (int) v12;
+            values[49 + 2 * half] = (int) (v12 >>> 32);
+            final long v13 = (w1 >>> 7) & 0x700000007L;
+            values[52 + 2 * half] = (int) v13;
+            values[53 + 2 * half] = (int) (v13 >>> 32);
+            final long v14 = (w1 >>> 10) & 0x700000007L;
+            values[56 + 2 * half] = (int) v14;
+            values[57 + 2 * half] = (int) (v14 >>> 32);
+            final long v15 = (w1 >>> 13) & 0x700000007L;
+            values[60 + 2 * half] = (int) v15;
+            values[61 + 2 * half] = (int) (v15 >>> 32);
+            final long v16 = (w1 >>> 16) & 0x700000007L;
+            values[64 + 2 * half] = (int) v16;
+            values[65 + 2 * half] = (int) (v16 >>> 32);
+            final long v17 = (w1 >>> 19) & 0x700000007L;
+            values[68 + 2 * half] = (int) v17;
+            values[69 + 2 * half] = (int) (v17 >>> 32);
+            final long v18 = (w1 >>> 22) & 0x700000007L;
+            values[72 + 2 * half] = (int) v18;
+            values[73 + 2 * half] = (int) (v18 >>> 32);
+            final long v19 = (w1 >>> 25) & 0x700000007L;
+            values[76 + 2 * half] = (int) v19;
+            values[77 + 2 * half] = (int) (v19 >>> 32);
+            final long v20 = (w1 >>> 28) & 0x700000007L;
+            values[80 + 2 * half] = (int) v20;
+            values[81 + 2 * half] = (int) (v20 >>> 32);
+            final long v21 = ((w1 >>> 31) & 0x100000001L) | ((w2 << 1) & 0x600000006L);
+            values[84 + 2 * half] = (int) v21;
+            values[85 + 2 * half] = (int) (v21 >>> 32);
+            final long v22 = (w2 >>> 2) & 0x700000007L;
+            values[88 + 2 * half] = (int) v22;
+            values[89 + 2 * half] = (int) (v22 >>> 32);
+            final long v23 = (w2 >>> 5) & 0x700000007L;
+            values[92 + 2 * half] = (int) v23;
+            values[93 + 2 * half] = (int) (v23 >>> 32);
+            final long v24 = (w2 >>> 8) & 0x700000007L;
+            values[96 + 2 * half] = (int) v24;
+            values[97 + 2 * half] = (int) (v24 >>> 32);
+            final long v25 = (w2 >>> 11) & 0x700000007L;
+            values[100 + 2 * half] = (int) v25;
+            values[101 + 2 * half] = (int) (v25 >>> 32);
+            final long v26 = (w2 >>> 14) & 0x700000007L;
+            values[104 + 2 * half] = (int) v26;
+            values[105 + 2 * half] = (int) (v26 >>> 32);
+            final long v27 = (w2 >>> 17) & 0x700000007L;
+            values[108 + 2 * half] = (int) v27;
+            values[109 + 2 * half] = (int) (v27 >>> 32);
+            final long v28 = (w2 >>> 20) & 0x700000007L;
+            values[112 + 2 * half] = (int) v28;
+            values[113 + 2 * half] = (int) (v28 >>> 32);
+            final long v29 = (w2 >>> 23) & 0x700000007L;
+            values[116 + 2 * half] = (int) v29;
+            values[117 + 2 * half] = (int) (v29 >>> 32);
+            final long v30 = (w2 >>> 26) & 0x700000007L;
+            values[120 + 2 * half] = (int) v30;
+            values[121 + 2 * half] = (int) (v30 >>> 32);
+            final long v31 = (w2 >>> 29) & 0x700000007L;
+            values[124 + 2 * half] = (int) v31;
+            values[125 + 2 * half] = (int) (v31 >>> 32);
+        }
+    }
+
+    private static void decode4(long[] packed, int[] values) {
+        for (int half = 0; half < 2; half++) {
+            final long w0 = packed[0 + half];
+            final long w1 = packed[2 + half];
+            final long w2 = packed[4 + half];
+            final long w3 = packed[6 + half];
+            final long v0 = w0 & 0xF0000000FL;
+            values[0 + 2 * half] = (int) v0;
+            values[1 + 2 * half] = (int) (v0 >>> 32);
+            final long v1 = (w0 >>> 4) & 0xF0000000FL;
+            values[4 + 2 * half] = (int) v1;
+            values[5 + 2 * half] = (int) (v1 >>> 32);
+            final long v2 = (w0 >>> 8) & 0xF0000000FL;
+            values[8 + 2 * half] = (int) v2;
+            values[9 + 2 * half] = (int) (v2 >>> 32);
+            final long v3 = (w0 >>> 12) & 0xF0000000FL;
+            values[12 + 2 * half] = (int) v3;
+            values[13 + 2 * half] = (int) (v3 >>> 32);
+            final long v4 = (w0 >>> 16) & 0xF0000000FL;
+            values[16 + 2 * half] = (int) v4;
+            values[17 + 2 * half] = (int) (v4 >>> 32);
+            final long v5 = (w0 >>> 20) & 0xF0000000FL;
+            values[20 + 2 * half] = (int) v5;
+            values[21 + 2 * half] = (int) (v5 >>> 32);
+            final long v6 = (w0 >>> 24) & 0xF0000000FL;
+            values[24 + 2 * half] = (int) v6;
+            values[25 + 2 * half] = (int) (v6 >>> 32);
+            final long v7 = (w0 >>> 28) & 0xF0000000FL;
+            values[28 + 2 * half] = (int) v7;
+            values[29 + 2 * half] = (int) (v7 >>> 32);
+            final long v8 = w1 & 0xF0000000FL;
+            values[32 + 2 * half] = (int) v8;
+            values[33 + 2 * half] = (int) (v8 >>> 32);
+            final long v9 = (w1 >>> 4) & 0xF0000000FL;
+            values[36 + 2 * half] = (int) v9;
+            values[37 + 2 * half] = (int) (v9 >>> 32);
+            final long v10 = (w1 >>> 8) & 0xF0000000FL;
+            values[40 + 2 * half] = (int) v10;
+            values[41 + 2 * half] = (int) (v10 >>> 32);
+            final long v11 = (w1 >>> 12) & 0xF0000000FL;
+            values[44 + 2 * half] = (int) v11;
+            values[45 + 2 * half] = (int) (v11 >>> 32);
+            final long v12 = (w1 >>> 16) & 0xF0000000FL;
+            values[48 + 2 * half] = (int) v12;
+            values[49 + 2 * half] = (int) (v12 >>> 32);
+            final long v13 = (w1 >>> 20) & 0xF0000000FL;
+            values[52 + 2 * half] = (int) v13;
+            values[53 + 2 * half] = (int) (v13 >>> 32);
+            final long v14 = (w1 >>> 24) & 0xF0000000FL;
+            values[56 + 2 * half] = (int) v14;
+            values[57 + 2 * half] = (int) (v14 >>> 32);
+            final long v15 = (w1 >>> 28) & 0xF0000000FL;
+            values[60 + 2 * half] = (int) v15;
+            values[61 + 2 * half] = (int) (v15 >>> 32);
+            final long v16 = w2 & 0xF0000000FL;
+            values[64 + 2 * half] = (int) v16;
+            values[65 + 2 * half] = (int) (v16 >>> 32);
+            final long v17 = (w2 >>> 4) & 0xF0000000FL;
+            values[68 + 2 * half] = (int) v17;
+            values[69 + 2 * half] = (int) (v17 >>> 32);
+            final long v18 = (w2 >>> 8) & 0xF0000000FL;
+            values[72 + 2 * half] = (int) v18;
+            values[73 + 2 * half] = (int) (v18 >>> 32);
+            final long v19 = (w2 >>> 12) & 0xF0000000FL;
+            values[76 + 2 * half] = (int) v19;
+            values[77 + 2 * half] = (int) (v19 >>> 32);
+            final long v20 = (w2 >>> 16) & 0xF0000000FL;
+            values[80 + 2 * half] = (int) v20;
+            values[81 + 2 * half] = (int) (v20 >>> 32);
+            final long v21 = (w2 >>> 20) & 0xF0000000FL;
+            values[84 + 2 * half] = (int) v21;
+            values[85 + 2 * half] = (int) (v21 >>> 32);
+            final long v22 = (w2 >>> 24) & 0xF0000000FL;
+            values[88 + 2 * half] = (int) v22;
+            values[89 + 2 * half] = (int) (v22 >>> 32);
+            final long v23 = (w2 >>> 28) & 0xF0000000FL;
+            values[92 + 2 * half] = (int) v23;
+            values[93 + 2 * half] = (int) (v23 >>> 32);
+            final long v24 = w3 & 0xF0000000FL;
+            values[96 + 2 * half] = (int) v24;
+            values[97 + 2 * half] = (int) (v24 >>> 32);
+            final long v25 = (w3 >>> 4) & 0xF0000000FL;
+            values[100 + 2 * half] = (int) v25;
+            values[101 + 2 * half] = (int) (v25 >>> 32);
+            final long v26 = (w3 >>> 8) & 0xF0000000FL;
+            values[104 + 2 * half] = (int) v26;
+            values[105 + 2 * half] = (int) (v26 >>> 32);
+            final long v27 = (w3 >>> 12) & 0xF0000000FL;
+            values[108 + 2 * half] = (int) v27;
+            values[109 + 2 * half] = (int) (v27 >>> 32);
+            final long v28 = (w3 >>> 16) & 0xF0000000FL;
+            values[112 + 2 * half] = (int) v28;
+            values[113 + 2 * half] = (int) (v28 >>> 32);
+            final long v29 = (w3 >>> 20) & 0xF0000000FL;
+            values[116 + 2 * half] = (int) v29;
+            values[117 + 2 * half] = (int) (v29 >>> 32);
+            final long v30 = (w3 >>> 24) & 0xF0000000FL;
+            values[120 + 2 * half] = (int) v30;
+            values[121 + 2 * half] = (int) (v30 >>> 32);
+            final long v31 = (w3 >>> 28) & 0xF0000000FL;
+            values[124 + 2 * half] = (int) v31;
+            values[125 + 2 * half] = (int) (v31 >>> 32);
+        }
+    }
+
+    private static void decode5(long[] packed, int[] values) {
+        for (int half = 0; half < 2; half++) {
+            final long w0 = packed[0 + half];
+            final long w1 = packed[2 + half];
+            final long w2 = packed[4 + half];
+            final long w3 = packed[6 + half];
+            final long w4 = packed[8 + half];
+            final long v0 = w0 & 0x1F0000001FL;
+            values[0 + 2 * half] = (int) v0;
+            values[1 + 2 * half] = (int) (v0 >>> 32);
+            final long v1 = (w0 >>> 5) & 0x1F0000001FL;
+            values[4 + 2 * half] = (int) v1;
+            values[5 + 2 * half] = (int) (v1 >>> 32);
+            final long v2 = (w0 >>> 10) & 0x1F0000001FL;
+            values[8 + 2 * half] = (int) v2;
+            values[9 + 2 * half] = (int) (v2 >>> 32);
+            final long v3 = (w0 >>> 15) & 0x1F0000001FL;
+            values[12 + 2 * half] = (int) v3;
+            values[13 + 2 * half] = (int) (v3 >>> 32);
+            final long v4 = (w0 >>> 20) & 0x1F0000001FL;
+            values[16 + 2 * half] = (int) v4;
+            values[17 + 2 * half] = (int) (v4 >>> 32);
+            final long v5 = (w0 >>> 25) & 0x1F0000001FL;
+            values[20 + 2 * half] = (int) v5;
+            values[21 + 2 * half] = (int) (v5 >>> 32);
+            final long v6 = ((w0 >>> 30) & 0x300000003L) | ((w1 << 2) & 0x1C0000001CL);
+            values[24 + 2 * half] = (int) v6;
+            values[25 + 2 * half] = (int) (v6 >>> 32);
+            final long v7 = (w1 >>> 3) & 0x1F0000001FL;
+            values[28 + 2 * half] = (int) v7;
+            values[29 + 2 * half] = (int) (v7 >>> 32);
+            final long v8 = (w1 >>> 8) & 0x1F0000001FL;
+            values[32 + 2 * half] = (int) v8;
+            values[33 + 2 * half] = (int) (v8 >>> 32);
+            final long v9 = (w1 >>> 13) & 0x1F0000001FL;
+            values[36 + 2 * half] = (int) v9;
+            values[37 + 2 * half] = (int) (v9 >>> 32);
+            final long v10 = (w1 >>> 18) & 0x1F0000001FL;
+            values[40 + 2 * half] = (int) v10;
+            values[41 + 2 * half] = (int) (v10 >>> 32);
+            final long v11 = (w1 >>> 23) & 0x1F0000001FL;
+            values[44 + 2 * half] = (int) v11;
+            values[45 + 2 * half] = (int) (v11 >>> 32);
+            final long v12 = ((w1 >>> 28) & 0xF0000000FL) | ((w2 << 4) & 0x1000000010L);
+            values[48 + 2 * half] = (int) v12;
+            values[49 + 2 * half] = (int) (v12 >>> 32);
+            final long v13 = (w2 >>> 1) & 0x1F0000001FL;
+            values[52 + 2 * half] = (int) v13;
+            values[53 + 2 * half] = (int) (v13 >>> 32);
+            final long v14 = (w2 >>> 6) & 0x1F0000001FL;
+            values[56 + 2 * half] = (int) v14;
+            values[57 + 2 * half] = (int) (v14 >>> 32);
+            final long v15 = (w2 >>> 11) & 0x1F0000001FL;
+            values[60 + 2 * half] = (int) v15;
+            values[61 + 2 * half] = (int) (v15 >>> 32);
+            final long v16 = (w2 >>> 16) & 0x1F0000001FL;
+            values[64 + 2 * half] = (int) v16;
+            values[65 + 2 * half] = (int) (v16 >>> 32);
+            final long v17 = (w2 >>> 21) & 0x1F0000001FL;
+            values[68 + 2 * half] = (int) v17;
+            values[69 + 2 * half] = (int) (v17 >>> 32);
+            final long v18 = (w2 >>> 26) & 0x1F0000001FL;
+            values[72 + 2 * half] = (int) v18;
+            values[73 + 2 * half] = (int) (v18 >>> 32);
+            final long v19 = ((w2 >>> 31) & 0x100000001L) | ((w3 << 1) & 0x1E0000001EL);
+            values[76 + 2 * half] = (int) v19;
+            values[77 + 2 * half] = (int) (v19 >>> 32);
+            final long v20 = (w3 >>> 4) & 0x1F0000001FL;
+            values[80 + 2 * half] = (int) v20;
+            values[81 + 2 * half] = (int) (v20 >>> 32);
+            final long v21 = (w3 >>> 9) & 0x1F0000001FL;
+            values[84 + 2 * half] = (int) v21;
+            values[85 + 2 * half] = (int) (v21 >>> 32);
+            final long v22 = (w3 >>> 14) & 0x1F0000001FL;
+            values[88 + 2 * half] = (int) v22;
+            values[89 + 2 * half] = (int) (v22 >>> 32);
+            final long v23 = (w3 >>> 19) & 0x1F0000001FL;
+            values[92 + 2 * half] = (int) v23;
+            values[93 + 2 * half] = (int) (v23 >>> 32);
+            final long v24 = (w3 >>> 24) & 0x1F0000001FL;
+            values[96 + 2 * half] = (int) v24;
+            values[97 + 2 * half] = (int) (v24 >>> 32);
+            final long v25 = ((w3 >>> 29) & 0x700000007L) | ((w4 << 3) & 0x1800000018L);
+            values[100 + 2 * half] = (int) v25;
+            values[101 + 2 * half] = (int) (v25 >>> 32);
+            final long v26 = (w4 >>> 2) & 0x1F0000001FL;
+            values[104 + 2 * half] = (int) v26;
+            values[105 + 2 * half] = (int) (v26 >>> 32);
+            final long v27 = (w4 >>> 7) & 0x1F0000001FL;
+            values[108 + 2 * half] = (int) v27;
+            values[109 + 2 * half] = (int) (v27 >>> 32);
+            final long v28 = (w4 >>> 12) & 0x1F0000001FL;
+            values[112 + 2 * half] = (int) v28;
+            values[113 + 2 * half] = (int) (v28 >>> 32);
+            final long v29 = (w4 >>> 17) & 0x1F0000001FL;
+            values[116 + 2 * half] = (int) v29;
+            values[117 + 2 * half] = (int) (v29 >>> 32);
+            final long v30 = (w4 >>> 22) & 0x1F0000001FL;
+            values[120 + 2 * half] = (int) v30;
+            values[121 + 2 * half] = (int) (v30 >>> 32);
+            final long v31 = (w4 >>> 27) & 0x1F0000001FL;
+            values[124 + 2 * half] = (int) v31;
+            values[125 + 2 * half] = (int) (v31 >>> 32);
+        }
+    }
+
+    private static void decode6(long[] packed, int[] values) {
+        for (int half = 0; half < 2; half++) {
+            final long w0 = packed[0 + half];
+            final long w1 = packed[2 + half];
+            final long w2 = packed[4 + half];
+            final long w3 = packed[6 + half];
+            final long w4 = packed[8 + half];
+            final long w5 = packed[10 + half];
+            final long v0 = w0 & 0x3F0000003FL;
+            values[0 + 2 * half] = (int) v0;
+            values[1 + 2 * half] = (int) (v0 >>> 32);
+            final long v1 = (w0 >>> 6) & 0x3F0000003FL;
+            values[4 + 2 * half] = (int) v1;
+            values[5 + 2 * half] = (int) (v1 >>> 32);
+            final long v2 = (w0 >>> 12) & 0x3F0000003FL;
+            values[8 + 2 * half] = (int) v2;
+            values[9 + 2 * half] = (int) (v2 >>> 32);
+            final long v3 = (w0 >>> 18) & 0x3F0000003FL;
+            values[12 + 2 * half] = (int) v3;
+            values[13 + 2 * half] = (int) (v3 >>> 32);
+            final long v4 = (w0 >>> 24) & 0x3F0000003FL;
+            values[16 + 2 * half] = (int) v4;
+            values[17 + 2 * half] = (int) (v4 >>> 32);
+            final long v5 = ((w0 >>> 30) & 0x300000003L) | ((w1 << 2) & 0x3C0000003CL);
+            values[20 + 2 * half] = (int) v5;
+            values[21 + 2 * half] = (int) (v5 >>> 32);
+            final long v6 = (w1 >>> 4) & 0x3F0000003FL;
+            values[24 + 2 * half] = (int) v6;
+            values[25 + 2 * half] = (int) (v6 >>> 32);
+            final long v7 = (w1 >>> 10) & 0x3F0000003FL;
+            values[28 + 2 * half] = (int) v7;
+            values[29 + 2 * half] = (int) (v7 >>> 32);
+            final long v8 = (w1 >>> 16) & 0x3F0000003FL;
+            values[32 + 2 * half] = (int) v8;
+            values[33 + 2 * half] = (int) (v8 >>> 32);
+            final long v9 = (w1 >>> 22) & 0x3F0000003FL;
+            values[36 + 2 * half] = (int) v9;
+            values[37 + 2 * half] = (int) (v9 >>> 32);
+            final long v10 = ((w1 >>> 28) & 0xF0000000FL) | ((w2 << 4) & 0x3000000030L);
+            values[40 + 2 * half] = (int) v10;
+            values[41 + 2 * half] = (int) (v10 >>> 32);
+            final long v11 = (w2 >>> 2) & 0x3F0000003FL;
+            values[44 + 2 * half] = (int) v11;
+            values[45 + 2 * half] = (int) (v11 >>> 32);
+            final long v12 = (w2 >>> 8) & 0x3F0000003FL;
+            values[48 + 2 * half] = (int) v12;
+            values[49 + 2 * half] = (int) (v12 >>> 32);
+            final long v13 = (w2 >>> 14) & 0x3F0000003FL;
+            values[52 + 2 * half] = (int) v13;
+            values[53 + 2 * half] = (int) (v13 >>> 32);
+            final long v14 = (w2 >>> 20) & 0x3F0000003FL;
+            values[56 + 2 * half] = (int) v14;
+            values[57 + 2 * half] = (int) (v14 >>> 32);
+            final long v15 = (w2 >>> 26) & 0x3F0000003FL;
+            values[60 + 2 * half] = (int) v15;
+            values[61 + 2 * half] = (int) (v15 >>> 32);
+            final long v16 = w3 & 0x3F0000003FL;
+            values[64 + 2 * half] = (int) v16;
+            values[65 + 2 * half] = (int) (v16 >>> 32);
+            final long v17 = (w3 >>> 6) & 0x3F0000003FL;
+            values[68 + 2 * half] = (int) v17;
+            values[69 + 2 * half] = (int) (v17 >>> 32);
+            final long v18 = (w3 >>> 12) & 0x3F0000003FL;
+            values[72 + 2 * half] = (int) v18;
+            values[73 + 2 * half] = (int) (v18 >>> 32);
+            final long v19 = (w3 >>> 18) & 0x3F0000003FL;
+            values[76 + 2 * half] = (int) v19;
+            values[77 + 2 * half] = (int) (v19 >>> 32);
+            final long v20 = (w3 >>> 24) & 0x3F0000003FL;
+            values[80 + 2 * half] = (int) v20;
+            values[81 + 2 * half] = (int) (v20 >>> 32);
+            final long v21 = ((w3 >>> 30) & 0x300000003L) | ((w4 << 2) & 0x3C0000003CL);
+            values[84 + 2 * half] = (int) v21;
+            values[85 + 2 * half] = (int) (v21 >>> 32);
+            final long v22 = (w4 >>> 4) & 0x3F0000003FL;
+            values[88 + 2 * half] = (int) v22;
+            values[89 + 2 * half] = (int) (v22 >>> 32);
+            final long v23 = (w4 >>> 10) & 0x3F0000003FL;
+            values[92 + 2 * half] = (int) v23;
+            values[93 + 2 * half] = (int) (v23 >>> 32);
+            final long v24 = (w4 >>> 16) & 0x3F0000003FL;
+            values[96 + 2 * half] = (int) v24;
+            values[97 + 2 * half] = (int) (v24 >>> 32);
+            final long v25 = (w4 >>> 22) & 0x3F0000003FL;
+            values[100 + 2 * half] = (int) v25;
+            values[101 + 2 * half] = (int) (v25 >>> 32);
+            final long v26 = ((w4 >>> 28) & 0xF0000000FL) | ((w5 << 4) & 0x3000000030L);
+            values[104 + 2 * half] = (int) v26;
+            values[105 + 2 * half] = (int) (v26 >>> 32);
+            final long v27 = (w5 >>> 2) & 0x3F0000003FL;
+            values[108 + 2 * half] = (int) v27;
+            values[109 + 2 * half] = (int) (v27 >>> 32);
+            final long v28 = (w5 >>> 8) & 0x3F0000003FL;
+            values[112 + 2 * half] = (int) v28;
+            values[113 + 2 * half] = (int) (v28 >>> 32);
+            final long v29 = (w5 >>> 14) & 0x3F0000003FL;
+            values[116 + 2 * half] = (int) v29;
+            values[117 + 2 * half] = (int) (v29 >>> 32);
+            final long v30 = (w5 >>> 20) & 0x3F0000003FL;
+            values[120 + 2 * half] = (int) v30;
+            values[121 + 2 * half] = (int) (v30 >>> 32);
+            final long v31 = (w5 >>> 26) & 0x3F0000003FL;
+            values[124 + 2 * half] = (int) v31;
+            values[125 + 2 * half] = (int) (v31 >>> 32);
+        }
+    }
+
+    private static void decode7(long[] packed, int[] values) {
+        for (int half = 0; half < 2; half++) {
+            final long w0 = packed[0 + half];
+            final long w1 = packed[2 + half];
+            final long w2 = packed[4 + half];
+            final long w3 = packed[6 + half];
+            final long w4 = packed[8 + half];
+            final long w5 = packed[10 + half];
+            final long w6 = packed[12 + half];
+            final long v0 = w0 & 0x7F0000007FL;
+            values[0 + 2 * half] = (int) v0;
+            values[1 + 2 * half] = (int) (v0 >>> 32);
+            final long v1 = (w0 >>> 7) & 0x7F0000007FL;
+            values[4 + 2 * half] = (int) v1;
+            values[5 + 2 * half] = (int) (v1 >>> 32);
+            final long v2 = (w0 >>> 14) & 0x7F0000007FL;
+            values[8 + 2 * half] = (int) v2;
+            values[9 + 2 * half] = (int) (v2 >>> 32);
+            final long v3 = (w0 >>> 21) & 0x7F0000007FL;
+            values[12 + 2 * half] = (int) v3;
+            values[13 + 2 * half] = (int) (v3 >>> 32);
+            final long v4 = ((w0 >>> 28) & 0xF0000000FL) | ((w1 << 4) & 0x7000000070L);
+            values[16 + 2 * half] = (int) v4;
+            values[17 + 2 * half] = (int) (v4 >>> 32);
+            final long v5 = (w1 >>> 3) & 0x7F0000007FL;
+            values[20 + 2 * half] = (int) v5;
+            values[21 + 2 * half] = (int) (v5 >>> 32);
+            final long v6 = (w1 >>> 10) & 0x7F0000007FL;
+            values[24 + 2 * half] = (int) v6;
+            values[25 + 2 * half] = (int) (v6 >>> 32);
+            final long v7 = (w1 >>> 17) & 0x7F0000007FL;
+            values[28 + 2 * half] = (int) v7;
+            values[29 + 2 * half] = (int) (v7 >>> 32);
+            final long v8 = (w1 >>> 24) & 0x7F0000007FL;
+            values[32 + 2 * half] = (int) v8;
+            values[33 + 2 * half] = (int) (v8 >>> 32);
+            final long v9 = ((w1 >>> 31) & 0x100000001L) | ((w2 << 1) & 0x7E0000007EL);
+            values[36 + 2 * half] = (int) v9;
+            values[37 + 2 * half] = (int) (v9 >>> 32);
+            final long v10 = (w2 >>> 6) & 0x7F0000007FL;
+            values[40 + 2 * half] = (int) v10;
+            values[41 + 2 * half] = (int) (v10 >>> 32);
+            final long v11 = (w2 >>> 13) & 0x7F0000007FL;
+            values[44 + 2 * half] = (int) v11;
+            values[45 + 2 * half] = (int) (v11 >>> 32);
+            final long v12 = (w2 >>> 20) & 0x7F0000007FL;
+            values[48 + 2 * half] = (int) v12;
+            values[49 + 2 * half] = (int) (v12 >>> 32);
+            final long v13 = ((w2 >>> 27) & 0x1F0000001FL) | ((w3 << 5) & 0x6000000060L);
+            values[52 + 2 * half] = (int) v13;
+            values[53 + 2 * half] = (int) (v13 >>> 32);
+            final long v14 = (w3 >>> 2) & 0x7F0000007FL;
+            values[56 + 2 * half] = (int) v14;
+            values[57 + 2 * half] = (int) (v14 >>> 32);
+            final long v15 = (w3 >>> 9) & 0x7F0000007FL;
+            values[60 + 2 * half] = (int) v15;
+            values[61 + 2 * half] = (int) (v15 >>> 32);
+            final long v16 = (w3 >>> 16) & 0x7F0000007FL;
+            values[64 + 2 * half] = (int) v16;
+            values[65 + 2 * half] = (int) (v16 >>> 32);
+            final long v17 = (w3 >>> 23) & 0x7F0000007FL;
+            values[68 + 2 * half] = (int) v17;
+            values[69 + 2 * half] = (int) (v17 >>> 32);
+            final long v18 = ((w3 >>> 30) & 0x300000003L) | ((w4 << 2) & 0x7C0000007CL);
+            values[72 + 2 * half] = (int) v18;
+            values[73 + 2 * half] = (int) (v18 >>> 32);
+            final long v19 = (w4 >>> 5) & 0x7F0000007FL;
+            values[76 + 2 * half] = (int) v19;
+            values[77 + 2 * half] = (int) (v19 >>> 32);
+            final long v20 = (w4 >>> 12) & 0x7F0000007FL;
+            values[80 + 2 * half] = (int) v20;
+            values[81 + 2 * half] = (int) (v20 >>> 32);
+            final long v21 = (w4 >>> 19) & 0x7F0000007FL;
+            values[84 + 2 * half] = (int) v21;
+            values[85 + 2 * half] = (int) (v21 >>> 32);
+            final long v22 = ((w4 >>> 26) & 0x3F0000003FL) | ((w5 << 6) & 0x4000000040L);
+            values[88 + 2 * half] = (int) v22;
+            values[89 + 2 * half] = (int) (v22 >>> 32);
+            final long v23 = (w5 >>> 1) & 0x7F0000007FL;
+            values[92 + 2 * half] = (int) v23;
+            values[93 + 2 * half] = (int) (v23 >>> 32);
+            final long v24 = (w5 >>> 8) & 0x7F0000007FL;
+            values[96 + 2 * half] = (int) v24;
+            values[97 + 2 * half] = (int) (v24 >>> 32);
+            final long v25 = (w5 >>> 15) & 0x7F0000007FL;
+            values[100 + 2 * half] = (int) v25;
+            values[101 + 2 * half] = (int) (v25 >>> 32);
+            final long v26 = (w5 >>> 22) & 0x7F0000007FL;
+            values[104 + 2 * half] = (int) v26;
+            values[105 + 2 * half] = (int) (v26 >>> 32);
+            final long v27 = ((w5 >>> 29) & 0x700000007L) | ((w6 << 3) & 0x7800000078L);
+            values[108 + 2 * half] = (int) v27;
+            values[109 + 2 * half] = (int) (v27 >>> 32);
+            final long v28 = (w6 >>> 4) & 0x7F0000007FL;
+            values[112 + 2 * half] = (int) v28;
+            values[113 + 2 * half] = (int) (v28 >>> 32);
+            final long v29 = (w6 >>> 11) & 0x7F0000007FL;
+            values[116 + 2 * half] = (int) v29;
+            values[117 + 2 * half] = (int) (v29 >>> 32);
+            final long v30 = (w6 >>> 18) & 0x7F0000007FL;
+            values[120 + 2 * half] = (int) v30;
+            values[121 + 2 * half] = (int) (v30 >>> 32);
+            final long v31 = (w6 >>> 25) & 0x7F0000007FL;
+            values[124 + 2 * half] = (int) v31;
+            values[125 + 2 * half] = (int) (v31 >>> 32);
+        }
+    }
+
+    private static void decode8(long[] packed, int[] values) {
+        for (int half = 0; half < 2; half++) {
+            final long w0 = packed[0 + half];
+            final long w1 = packed[2 + half];
+            final long w2 = packed[4 + half];
+            final long w3 = packed[6 + half];
+            final long w4 = packed[8 + half];
+            final long w5 = packed[10 + half];
+            final long w6 = packed[12 + half];
+            final long w7 = packed[14 + half];
+            final long v0 = w0 & 0xFF000000FFL;
+            values[0 + 2 * half] = (int) v0;
+            values[1 + 2 * half] = (int) (v0 >>> 32);
+            final long v1 = (w0 >>> 8) & 0xFF000000FFL;
+            values[4 + 2 * half] = (int) v1;
+            values[5 + 2 * half] = (int) (v1 >>> 32);
+            final long v2 = (w0 >>> 16) & 0xFF000000FFL;
+            values[8 + 2 * half] = (int) v2;
+            values[9 + 2 * half] = (int) (v2 >>> 32);
+            final long v3 = (w0 >>> 24) & 0xFF000000FFL;
+            values[12 + 2 * half] = (int) v3;
+            values[13 + 2 * half] = (int) (v3 >>> 32);
+            final long v4 = w1 & 0xFF000000FFL;
+            values[16 + 2 * half] = (int) v4;
+            values[17 + 2 * half] = (int) (v4 >>> 32);
+            final long v5 = (w1 >>> 8) & 0xFF000000FFL;
+            values[20 + 2 * half] = (int) v5;
+            values[21 + 2 * half] = (int) (v5 >>> 32);
+            final long v6 = (w1 >>> 16) & 0xFF000000FFL;
+            values[24 + 2 * half] = (int) v6;
+            values[25 + 2 * half] = (int) (v6 >>> 32);
+            final long v7 = (w1 >>> 24) & 0xFF000000FFL;
+            values[28 + 2 * half] = (int) v7;
+            values[29 + 2 * half] = (int) (v7 >>> 32);
+            final long v8 = w2 & 0xFF000000FFL;
+            values[32 + 2 * half] = (int) v8;
+            values[33 + 2 * half] = (int) (v8 >>> 32);
+            final long v9 = (w2 >>> 8) & 0xFF000000FFL;
+            values[36 + 2 * half] = (int) v9;
+            values[37 + 2 * half] = (int) (v9 >>> 32);
+            final long v10 = (w2 >>> 16) & 0xFF000000FFL;
+            values[40 + 2 * half] = (int) v10;
+            values[41 + 2 * half] = (int) (v10 >>> 32);
+            final long v11 = (w2 >>> 24) & 0xFF000000FFL;
+            values[44 + 2 * half] = (int) v11;
+            values[45 + 2 * half] = (int) (v11 >>> 32);
+            final long v12 = w3 & 0xFF000000FFL;
+            values[48 + 2 * half] = (int) v12;
+            values[49 + 2 * half] = (int) (v12 >>> 32);
+            final long v13 = (w3 >>> 8) & 0xFF000000FFL;
+            values[52 + 2 * half] = (int) v13;
+            values[53 + 2 * half] = (int) (v13 >>> 32);
+            final long v14 = (w3 >>> 16) & 0xFF000000FFL;
+            values[56 + 2 * half] = (int) v14;
+            values[57 + 2 * half] = (int) (v14 >>> 32);
+            final long v15 = (w3 >>> 24) & 0xFF000000FFL;
+            values[60 + 2 * half] = (int) v15;
+            values[61 + 2 * half] = (int) (v15 >>> 32);
+            final long v16 = w4 & 0xFF000000FFL;
+            values[64 + 2 * half] = (int) v16;
+            values[65 + 2 * half] = (int) (v16 >>> 32);
+            final long v17 = (w4 >>> 8) & 0xFF000000FFL;
+            values[68 + 2 * half] = (int) v17;
+            values[69 + 2 * half] = (int) (v17 >>> 32);
+            final long v18 = (w4 >>> 16) & 0xFF000000FFL;
+            values[72 + 2 * half] = (int) v18;
+            values[73 + 2 * half] = (int) (v18 >>> 32);
+            final long v19 = (w4 >>> 24) & 0xFF000000FFL;
+            values[76 + 2 * half] = (int) v19;
+            values[77 + 2 * half] = (int) (v19 >>> 32);
+            final long v20 = w5 & 0xFF000000FFL;
+            values[80 + 2 * half] = (int) v20;
+            values[81 + 2 * half] = (int) (v20 >>> 32);
+            final long v21 = (w5 >>> 8) & 0xFF000000FFL;
+            values[84 + 2 * half] = (int) v21;
+            values[85 + 2 * half] = (int) (v21 >>> 32);
+            final long v22 = (w5 >>> 16) & 0xFF000000FFL;
+            values[88 + 2 * half] = (int) v22;
+            values[89 + 2 * half] = (int) (v22 >>> 32);
+            final long v23 = (w5 >>> 24) & 0xFF000000FFL;
+            values[92 + 2 * half] = (int) v23;
+            values[93 + 2 * half] = (int) (v23 >>> 32);
+            final long v24 = w6 & 0xFF000000FFL;
+            values[96 + 2 * half] = (int) v24;
+            values[97 + 2 * half] = (int) (v24 >>> 32);
+            final long v25 = (w6 >>> 8) & 0xFF000000FFL;
+            values[100 + 2 * half] = (int) v25;
+            values[101 + 2 * half] = (int) (v25 >>> 32);
+            final long v26 = (w6 >>> 16) & 0xFF000000FFL;
+            values[104 + 2 * half] = (int) v26;
+            values[105 + 2 * half] = (int) (v26 >>> 32);
+            final long v27 = (w6 >>> 24) & 0xFF000000FFL;
+            values[108 + 2 * half] = (int) v27;
+            values[109 + 2 * half] = (int) (v27 >>> 32);
+            final long v28 = w7 & 0xFF000000FFL;
+            values[112 + 2 * half] = (int) v28;
+            values[113 + 2 * half] = (int) (v28 >>> 32);
+            final long v29 = (w7 >>> 8) & 0xFF000000FFL;
+            values[116 + 2 * half] = (int) v29;
+            values[117 + 2 * half] = (int) (v29 >>> 32);
+            final long v30 = (w7 >>> 16) & 0xFF000000FFL;
+            values[120 + 2 * half] = (int) v30;
+            values[121 + 2 * half] = (int) (v30 >>> 32);
+            final long v31 = (w7 >>> 24) & 0xFF000000FFL;
+            values[124 + 2 * half] = (int) v31;
+            values[125 + 2 * half] = (int) (v31 >>> 32);
+        }
+    }
+
+    private static void decode9(long[] packed, int[] values) {
+        for (int half = 0; half < 2; half++) {
+            final long w0 = packed[0 + half];
+            final long w1 = packed[2 + half];
+            final long w2 = packed[4 + half];
+            final long w3 = packed[6 + half];
+            final long w4 = packed[8 + half];
+            final long w5 = packed[10 + half];
+            final long w6 = packed[12 + half];
+            final long w7 = packed[14 + half];
+            final long w8 = packed[16 + half];
+            final long v0 = w0 & 0x1FF000001FFL;
+            values[0 + 2 * half] = (int) v0;
+            values[1 + 2 * half] = (int) (v0 >>> 32);
+            final long v1 = (w0 >>> 9) & 0x1FF000001FFL;
+            values[4 + 2 * half] = (int) v1;
+            values[5 + 2 * half] = (int) (v1 >>> 32);
+            final long v2 = (w0 >>> 18) & 0x1FF000001FFL;
+            values[8 + 2 * half] = (int) v2;
+            values[9 + 2 * half] = (int) (v2 >>> 32);
+            final long v3 = ((w0 >>> 27) & 0x1F0000001FL) | ((w1 << 5) & 0x1E0000001E0L);
+            values[12 + 2 * half] = (int) v3;
+            values[13 + 2 * half] = (int) (v3 >>> 32);
+            final long v4 = (w1 >>> 4) & 0x1FF000001FFL;
+            values[16 + 2 * half] = (int) v4;
+            values[17 + 2 * half] = (int) (v4 >>> 32);
+            final long v5 = (w1 >>> 13) & 0x1FF000001FFL;
+            values[20 + 2 * half] = (int) v5;
+            values[21 + 2 * half] = (int) (v5 >>> 32);
+            final long v6 = (w1 >>> 22) & 0x1FF000001FFL;
+            values[24 + 2 * half] = (int) v6;
+            values[25 + 2 * half] = (int) (v6 >>> 32);
+            final long v7 = ((w1 >>> 31) & 0x100000001L) | ((w2 << 1) & 0x1FE000001FEL);
+            values[28 + 2 * half] = (int) v7;
+            values[29 + 2 * half] = (int) (v7 >>> 32);
+            final long v8 = (w2 >>> 8) & 0x1FF000001FFL;
+            values[32 + 2 * half] = (int) v8;
+            values[33 + 2 * half] = (int) (v8 >>> 32);
+            final long v9 = (w2 >>> 17) & 0x1FF000001FFL;
+            values[36 + 2 * half] = (int) v9;
+            values[37 + 2 * half] = (int) (v9 >>> 32);
+            final long v10 = ((w2 >>> 26) & 0x3F0000003FL) | ((w3 << 6) & 0x1C0000001C0L);
+            values[40 + 2 * half] = (int) v10;
+            values[41 + 2 * half] = (int) (v10 >>> 32);
+            final long v11 = (w3 >>> 3) & 0x1FF000001FFL;
+            values[44 + 2 * half] = (int) v11;
+            values[45 + 2 * half] = (int) (v11 >>> 32);
+            final long v12 = (w3 >>> 12) & 0x1FF000001FFL;
+            values[48 + 2 * half] = (int) v12;
+            values[49 + 2 * half] = (int) (v12 >>> 32);
+            final long v13 = (w3 >>> 21) & 0x1FF000001FFL;
+            values[52 + 2 * half] = (int) v13;
+            values[53 + 2 * half] = (int) (v13 >>> 32);
+            final long v14 = ((w3 >>> 30) & 0x300000003L) | ((w4 << 2) & 0x1FC000001FCL);
+            values[56 + 2 * half] = (int) v14;
+            values[57 + 2 * half] = (int) (v14 >>> 32);
+            final long v15 = (w4 >>> 7) & 0x1FF000001FFL;
+            values[60 + 2 * half] = (int) v15;
+            values[61 + 2 * half] = (int) (v15 >>> 32);
+            final long v16 = (w4 >>> 16) & 0x1FF000001FFL;
+            values[64 + 2 * half] = (int) v16;
+            values[65 + 2 * half] = (int) (v16 >>> 32);
+            final long v17 = ((w4 >>> 25) & 0x7F0000007FL) | ((w5 << 7) & 0x18000000180L);
+            values[68 + 2 * half] = (int) v17;
+            values[69 + 2 * half] = (int) (v17 >>> 32);
+            final long v18 = (w5 >>> 2) & 0x1FF000001FFL;
+            values[72 + 2 * half] = (int) v18;
+            values[73 + 2 * half] = (int) (v18 >>> 32);
+            final long v19 = (w5 >>> 11) & 0x1FF000001FFL;
+            values[76 + 2 * half] = (int) v19;
+            values[77 + 2 * half] = (int) (v19 >>> 32);
+            final long v20 = (w5 >>> 20) & 0x1FF000001FFL;
+            values[80 + 2 * half] = (int) v20;
+            values[81 + 2 * half] = (int) (v20 >>> 32);
+            final long v21 = ((w5 >>> 29) & 0x700000007L) | ((w6 << 3) & 0x1F8000001F8L);
+            values[84 + 2 * half] = (int) v21;
+            values[85 + 2 * half] = (int) (v21 >>> 32);
+            final long v22 = (w6 >>> 6) & 0x1FF000001FFL;
+            values[88 + 2 * half] = (int) v22;
+            values[89 + 2 * half] = (int) (v22 >>> 32);
+            final long v23 = (w6 >>> 15) & 0x1FF000001FFL;
+            values[92 + 2 * half] = (int) v23;
+            values[93 + 2 * half] = (int) (v23 >>> 32);
+            final long v24 = ((w6 >>> 24) & 0xFF000000FFL) | ((w7 << 8) & 0x10000000100L);
+            values[96 + 2 * half] = (int) v24;
+            values[97 + 2 * half] = (int) (v24 >>> 32);
+            final long v25 = (w7 >>> 1) & 0x1FF000001FFL;
+            values[100 + 2 * half] = (int) v25;
+            values[101 + 2 * half] = (int) (v25 >>> 32);
+            final long v26 = (w7 >>> 10) & 0x1FF000001FFL;
+            values[104 + 2 * half] = (int) v26;
+            values[105 + 2 * half] = (int) (v26 >>> 32);
+            final long v27 = (w7 >>> 19) & 0x1FF000001FFL;
+            values[108 + 2 * half] = (int) v27;
+            values[109 + 2 * half] = (int) (v27 >>> 32);
+            final long v28 = ((w7 >>> 28) & 0xF0000000FL) | ((w8 << 4) & 0x1F0000001F0L);
+            values[112 + 2 * half] = (int) v28;
+            values[113 + 2 * half] = (int) (v28 >>> 32);
+            final long v29 = (w8 >>> 5) & 0x1FF000001FFL;
+            values[116 + 2 * half] = (int) v29;
+            values[117 + 2 * half] = (int) (v29 >>> 32);
+            final long v30 = (w8 >>> 14) & 0x1FF000001FFL;
+            values[120 + 2 * half] = (int) v30;
+            values[121 + 2 * half] = (int) (v30 >>> 32);
+            final long v31 = (w8 >>> 23) & 0x1FF000001FFL;
+            values[124 + 2 * half] = (int) v31;
+            values[125 + 2 * half] = (int) (v31 >>> 32);
+        }
+    }
+
+    private static void decode10(long[] packed, int[] values) {
+        for (int half = 0; half < 2; half++) {
+            final long w0 = packed[0 + half];
+            final long w1 = packed[2 + half];
+            final long w2 = packed[4 + half];
+            final long w3 = packed[6 + half];
+            final long w4 = packed[8 + half];
+            final long w5 = packed[10 + half];
+            final long w6 = packed[12 + half];
+            final long w7 = packed[14 + half];
+            final long w8 = packed[16 + half];
+            final long w9 = packed[18 + half];
+            final long v0 = w0 & 0x3FF000003FFL;
+            values[0 + 2 * half] = (int) v0;
+            values[1 + 2 * half] = (int) (v0 >>> 32);
+            final long v1 = (w0 >>> 10) & 0x3FF000003FFL;
+            values[4 + 2 * half] = (int) v1;
+            values[5 + 2 * half] = (int) (v1 >>> 32);
+            final long v2 = (w0 >>> 20) & 0x3FF000003FFL;
+            values[8 + 2 * half] = (int) v2;
+            values[9 + 2 * half] = (int) (v2 >>> 32);
+            final long v3 = ((w0 >>> 30) & 0x300000003L) | ((w1 << 2) & 0x3FC000003FCL);
+            values[12 + 2 * half] = (int) v3;
+            values[13 + 2 * half] = (int) (v3 >>> 32);
+            final long v4 = (w1 >>> 8) & 0x3FF000003FFL;
+            values[16 + 2 * half] = (int) v4;
+            values[17 + 2 * half] = (int) (v4 >>> 32);
+            final long v5 = (w1 >>> 18) & 0x3FF000003FFL;
+            values[20 + 2 * half] = (int) v5;
+            values[21 + 2 * half] = (int) (v5 >>> 32);
+            final long v6 = ((w1 >>> 28) & 0xF0000000FL) | ((w2 << 4) & 0x3F0000003F0L);
+            values[24 + 2 * half] = (int) v6;
+            values[25 + 2 * half] = (int) (v6 >>> 32);
+            final long v7 = (w2 >>> 6) & 0x3FF000003FFL;
+            values[28 + 2 * half] = (int) v7;
+            values[29 + 2 * half] = (int) (v7 >>> 32);
+            final long v8 = (w2 >>> 16) & 0x3FF000003FFL;
+            values[32 + 2 * half] = (int) v8;
+            values[33 + 2 * half] = (int) (v8 >>> 32);
+            final long v9 = ((w2 >>> 26) & 0x3F0000003FL) | ((w3 << 6) & 0x3C0000003C0L);
+            values[36 + 2 * half] = (int) v9;
+            values[37 + 2 * half] = (int) (v9 >>> 32);
+            final long v10 = (w3 >>> 4) & 0x3FF000003FFL;
+            values[40 + 2 * half] = (int) v10;
+            values[41 + 2 * half] = (int) (v10 >>> 32);
+            final long v11 = (w3 >>> 14) & 0x3FF000003FFL;
+            values[44 + 2 * half] = (int) v11;
+            values[45 + 2 * half] = (int) (v11 >>> 32);
+            final long v12 = ((w3 >>> 24) & 0xFF000000FFL) | ((w4 << 8) & 0x30000000300L);
+            values[48 + 2 * half] = (int) v12;
+            values[49 + 2 * half] = (int) (v12 >>> 32);
+            final long v13 = (w4 >>> 2) & 0x3FF000003FFL;
+            values[52 + 2 * half] = (int) v13;
+            values[53 + 2 * half] = (int) (v13 >>> 32);
+            final long v14 = (w4 >>> 12) & 0x3FF000003FFL;
+            values[56 + 2 * half] = (int) v14;
+            values[57 + 2 * half] = (int) (v14 >>> 32);
+            final long v15 = (w4 >>> 22) & 0x3FF000003FFL;
+            values[60 + 2 * half] = (int) v15;
+            values[61 + 2 * half] = (int) (v15 >>> 32);
+            final long v16 = w5 & 0x3FF000003FFL;
+            values[64 + 2 * half] = (int) v16;
+            values[65 + 2 * half] = (int) (v16 >>> 32);
+            final long v17 = (w5 >>> 10) & 0x3FF000003FFL;
+            values[68 + 2 * half] = (int) v17;
+            values[69 + 2 * half] = (int) (v17 >>> 32);
+            final long v18 = (w5 >>> 20) & 0x3FF000003FFL;
+            values[72 + 2 * half] = (int) v18;
+            values[73 + 2 * half] = (int) (v18 >>> 32);
+            final long v19 = ((w5 >>> 30) & 0x300000003L) | ((w6 << 2) & 0x3FC000003FCL);
+            values[76 + 2 * half] = (int) v19;
+            values[77 + 2 * half] = (int) (v19 >>> 32);
+            final long v20 = (w6 >>> 8) & 0x3FF000003FFL;
+            values[80 + 2 * half] = (int) v20;
+            values[81 + 2 * half] = (int) (v20 >>> 32);
+            final long v21 = (w6 >>> 18) & 0x3FF000003FFL;
+            values[84 + 2 * half] = (int) v21;
+            values[85 + 2 * half] = (int) (v21 >>> 32);
+            final long v22 = ((w6 >>> 28) & 0xF0000000FL) | ((w7 << 4) & 0x3F0000003F0L);
+            values[88 + 2 * half] = (int) v22;
+            values[89 + 2 * half] = (int) (v22 >>> 32);
+            final long v23 = (w7 >>> 6) & 0x3FF000003FFL;
+            values[92 + 2 * half] = (int) v23;
+            values[93 + 2 * half] = (int) (v23 >>> 32);
+            final long v24 = (w7 >>> 16) & 0x3FF000003FFL;
+            values[96 + 2 * half] = (int) v24;
+            values[97 + 2 * half] = (int) (v24 >>> 32);
+            final long v25 = ((w7 >>> 26) & 0x3F0000003FL) | ((w8 << 6) & 0x3C0000003C0L);
+            values[100 + 2 * half] = (int) v25;
+            values[101 + 2 * half] = (int) (v25 >>> 32);
+            final long v26 = (w8 >>> 4) & 0x3FF000003FFL;
+            values[104 + 2 * half] = (int) v26;
+            values[105 + 2 * half] = (int) (v26 >>> 32);
+            final long v27 = (w8 >>> 14) & 0x3FF000003FFL;
+            values[108 + 2 * half] = (int) v27;
+            values[109 + 2 * half] = (int) (v27 >>> 32);
+            final long v28 = ((w8 >>> 24) & 0xFF000000FFL) | ((w9 << 8) & 0x30000000300L);
+            values[112 + 2 * half] = (int) v28;
+            values[113 + 2 * half] = (int) (v28 >>> 32);
+            final long v29 = (w9 >>> 2) & 0x3FF000003FFL;
+            values[116 + 2 * half] = (int) v29;
+            values[117 + 2 * half] = (int) (v29 >>> 32);
+            final long v30 = (w9 >>> 12) & 0x3FF000003FFL;
+            values[120 + 2 * half] = (int) v30;
+            values[121 + 2 * half] = (int) (v30 >>> 32);
+            final long v31 = (w9 >>> 22) & 0x3FF000003FFL;
+            values[124 + 2 * half] = (int) v31;
+            values[125 + 2 * half] = (int) (v31 >>> 32);
+        }
+    }
+
+    private static void decode11(long[] packed, int[] values) {
+        for (int half = 0; half < 2; half++) {
+            final long w0 = packed[0 + half];
+            final long w1 = packed[2 + half];
+            final long w2 = packed[4 + half];
+            final long w3 = packed[6 + half];
+            final long w4 = packed[8 + half];
+            final long w5 = packed[10 + half];
+            final long w6 = packed[12 + half];
+            final long w7 = packed[14 + half];
+            final long w8 = packed[16 + half];
+            final long w9 = packed[18 + half];
+            final long w10 = packed[20 + half];
+            final long v0 = w0 & 0x7FF000007FFL;
+            values[0 + 2 * half] = (int) v0;
+            values[1 + 2 * half] = (int) (v0 >>> 32);
+            final long v1 = (w0 >>> 11) & 0x7FF000007FFL;
+            values[4 + 2 * half] = (int) v1;
+            values[5 + 2 * half] = (int) (v1 >>> 32);
+            final long v2 = ((w0 >>> 22) & 0x3FF000003FFL) | ((w1 << 10) & 0x40000000400L);
+            values[8 + 2 * half] = (int) v2;
+            values[9 + 2 * half] = (int) (v2 >>> 32);
+            final long v3 = (w1 >>> 1) & 0x7FF000007FFL;
+            values[12 + 2 * half] = (int) v3;
+            values[13 + 2 * half] = (int) (v3 >>> 32);
+            final long v4 = (w1 >>> 12) & 0x7FF000007FFL;
+            values[16 + 2 * half] = (int) v4;
+            values[17 + 2 * half] = (int) (v4 >>> 32);
+            final long v5 = ((w1 >>> 23) & 0x1FF000001FFL) | ((w2 << 9) & 0x60000000600L);
+            values[20 + 2 * half] = (int) v5;
+            values[21 + 2 * half] = (int) (v5 >>> 32);
+            final long v6 = (w2 >>> 2) & 0x7FF000007FFL;
+            values[24 + 2 * half] = (int) v6;
+            values[25 + 2 * half] = (int) (v6 >>> 32);
+            final long v7 = (w2 >>> 13) & 0x7FF000007FFL;
+            values[28 + 2 * half] = (int) v7;
+            values[29 + 2 * half] = (int) (v7 >>> 32);
+            final long v8 = ((w2 >>> 24) & 0xFF000000FFL) | ((w3 << 8) & 0x70000000700L);
+            values[32 + 2 * half] = (int) v8;
+            values[33 + 2 * half] = (int) (v8 >>> 32);
+            final long v9 = (w3 >>> 3) & 0x7FF000007FFL;
+            values[36 + 2 * half] = (int) v9;
+            values[37 + 2 * half] = (int) (v9 >>> 32);
+            final long v10 = (w3 >>> 14) & 0x7FF000007FFL;
+            values[40 + 2 * half] = (int) v10;
+            values[41 + 2 * half] = (int) (v10 >>> 32);
+            final long v11 = ((w3 >>> 25) & 0x7F0000007FL) | ((w4 << 7) & 0x78000000780L);
+            values[44 + 2 * half] = (int) v11;
+            values[45 + 2 * half] = (int) (v11 >>> 32);
+            final long v12 = (w4 >>> 4) & 0x7FF000007FFL;
+            values[48 + 2 * half] = (int) v12;
+            values[49 + 2 * half] = (int) (v12 >>> 32);
+            final long v13 = (w4 >>> 15) & 0x7FF000007FFL;
+            values[52 + 2 * half] = (int) v13;
+            values[53 + 2 * half] = (int) (v13 >>> 32);
+            final long v14 = ((w4 >>> 26) & 0x3F0000003FL) | ((w5 << 6) & 0x7C0000007C0L);
+            values[56 + 2 * half] = (int) v14;
+            values[57 + 2 * half] = (int) (v14 >>> 32);
+            final long v15 = (w5 >>> 5) & 0x7FF000007FFL;
+            values[60 + 2 * half] = (int) v15;
+            values[61 + 2 * half] = (int) (v15 >>> 32);
+            final long v16 = (w5 >>> 16) & 0x7FF000007FFL;
+            values[64 + 2 * half] = (int) v16;
+            values[65 + 2 * half] = (int) (v16 >>> 32);
+            final long v17 = ((w5 >>> 27) & 0x1F0000001FL) | ((w6 << 5) & 0x7E0000007E0L);
+            values[68 + 2 * half] = (int) v17;
+            values[69 + 2 * half] = (int) (v17 >>> 32);
+            final long v18 = (w6 >>> 6) & 0x7FF000007FFL;
+            values[72 + 2 * half] = (int) v18;
+            values[73 + 2 * half] = (int) (v18 >>> 32);
+            final long v19 = (w6 >>> 17) & 0x7FF000007FFL;
+            values[76 + 2 * half] = (int) v19;
+            values[77 + 2 * half] = (int) (v19 >>> 32);
+            final long v20 = ((w6 >>> 28) & 0xF0000000FL) | ((w7 << 4) & 0x7F0000007F0L);
+            values[80 + 2 * half] = (int) v20;
+            values[81 + 2 * half] = (int) (v20 >>> 32);
+            final long v21 = (w7 >>> 7) & 0x7FF000007FFL;
+            values[84 + 2 * half] = (int) v21;
+            values[85 + 2 * half] = (int) (v21 >>> 32);
+            final long v22 = (w7 >>> 18) & 0x7FF000007FFL;
+            values[88 + 2 * half] = (int) v22;
+            values[89 + 2 * half] = (int) (v22 >>> 32);
+            final long v23 = ((w7 >>> 29) & 0x700000007L) | ((w8 << 3) & 0x7F8000007F8L);
+            values[92 + 2 * half] = (int) v23;
+            values[93 + 2 * half] = (int) (v23 >>> 32);
+            final long v24 = (w8 >>> 8) & 0x7FF000007FFL;
+            values[96 + 2 * half] = (int) v24;
+            values[97 + 2 * half] = (int) (v24 >>> 32);
+            final long v25 = (w8 >>> 19) & 0x7FF000007FFL;
+            values[100 + 2 * half] = (int) v25;
+            values[101 + 2 * half] = (int) (v25 >>> 32);
+            final long v26 = ((w8 >>> 30) & 0x300000003L) | ((w9 << 2) & 0x7FC000007FCL);
+            values[104 + 2 * half] = (int) v26;
+            values[105 + 2 * half] = (int) (v26 >>> 32);
+            final long v27 = (w9 >>> 9) & 0x7FF000007FFL;
+            values[108 + 2 * half] = (int) v27;
+            values[109 + 2 * half] = (int) (v27 >>> 32);
+            final long v28 = (w9 >>> 20) & 0x7FF000007FFL;
+            values[112 + 2 * half] = (int) v28;
+            values[113 + 2 * half] = (int) (v28 >>> 32);
+            final long v29 = ((w9 >>> 31) & 0x100000001L) | ((w10 << 1) & 0x7FE000007FEL);
+            values[116 + 2 * half] = (int) v29;
+            values[117 + 2 * half] = (int) (v29 >>> 32);
+            final long v30 = (w10 >>> 10) & 0x7FF000007FFL;
+            values[120 + 2 * half] = (int) v30;
+            values[121 + 2 * half] = (int) (v30 >>> 32);
+            final long v31 = (w10 >>> 21) & 0x7FF000007FFL;
+            values[124 + 2 * half] = (int) v31;
+            values[125 + 2 * half] = (int) (v31 >>> 32);
+        }
+    }
+
+    private static void decode12(long[] packed, int[] values) {
+        for (int half = 0; half < 2; half++) {
+            final long w0 = packed[0 + half];
+            final long w1 = packed[2 + half];
+            final long w2 = packed[4 + half];
+            final long w3 = packed[6 + half];
+            final long w4 = packed[8 + half];
+            final long w5 = packed[10 + half];
+            final long w6 = packed[12 + half];
+            final long w7 = packed[14 + half];
+            final long w8 = packed[16 + half];
+            final long w9 = packed[18 + half];
+            final long w10 = packed[20 + half];
+            final long w11 = packed[22 + half];
+            final long v0 = w0 & 0xFFF00000FFFL;
+            values[0 + 2 * half] = (int) v0;
+            values[1 + 2 * half] = (int) (v0 >>> 32);
+            final long v1 = (w0 >>> 12) & 0xFFF00000FFFL;
+            values[4 + 2 * half] = (int) v1;
+            values[5 + 2 * half] = (int) (v1 >>> 32);
+            final long v2 = ((w0 >>> 24) & 0xFF000000FFL) | ((w1 << 8) & 0xF0000000F00L);
+            values[8 + 2 * half] = (int) v2;
+            values[9 + 2 * half] = (int) (v2 >>> 32);
+            final long v3 = (w1 >>> 4) & 0xFFF00000FFFL;
+            values[12 + 2 * half] = (int) v3;
+            values[13 + 2 * half] = (int) (v3 >>> 32);
+            final long v4 = (w1 >>> 16) & 0xFFF00000FFFL;
+            values[16 + 2 * half] = (int) v4;
+            values[17 + 2 * half] = (int) (v4 >>> 32);
+            final long v5 = ((w1 >>> 28) & 0xF0000000FL) | ((w2 << 4) & 0xFF000000FF0L);
+            values[20 + 2 * half] = (int) v5;
+            values[21 + 2 * half] = (int) (v5 >>> 32);
+            final long v6 = (w2 >>> 8) & 0xFFF00000FFFL;
+            values[24 + 2 * half] = (int) v6;
+            values[25 + 2 * half] = (int) (v6 >>> 32);
+            final long v7 = (w2 >>> 20) & 0xFFF00000FFFL;
+            values[28 + 2 * half] = (int) v7;
+            values[29 + 2 * half] = (int) (v7 >>> 32);
+            final long v8 = w3 & 0xFFF00000FFFL;
+            values[32 + 2 * half] = (int) v8;
+            values[33 + 2 * half] = (int) (v8 >>> 32);
+            final long v9 = (w3 >>> 12) & 0xFFF00000FFFL;
+            values[36 + 2 * half] = (int) v9;
+            values[37 + 2 * half] = (int) (v9 >>> 32);
+            final long v10 = ((w3 >>> 24) & 0xFF000000FFL) | ((w4 << 8) & 0xF0000000F00L);
+            values[40 + 2 * half] = (int) v10;
+            values[41 + 2 * half] = (int) (v10 >>> 32);
+            final long v11 = (w4 >>> 4) & 0xFFF00000FFFL;
+            values[44 + 2 * half] = (int) v11;
+            values[45 + 2 * half] = (int) (v11 >>> 32);
+            final long v12 = (w4 >>> 16) & 0xFFF00000FFFL;
+            values[48 + 2 * half] = (int) v12;
+            values[49 + 2 * half] = (int) (v12 >>> 32);
+            final long v13 = ((w4 >>> 28) & 0xF0000000FL) | ((w5 << 4) & 0xFF000000FF0L);
+            values[52 + 2 * half] = (int) v13;
+            values[53 + 2 * half] = (int) (v13 >>> 32);
+            final long v14 = (w5 >>> 8) & 0xFFF00000FFFL;
+            values[56 + 2 * half] = (int) v14;
+            values[57 + 2 * half] = (int) (v14 >>> 32);
+            final long v15 = (w5 >>> 20) & 0xFFF00000FFFL;
+            values[60 + 2 * half] = (int) v15;
+            values[61 + 2 * half] = (int) (v15 >>> 32);
+            final long v16 = w6 & 0xFFF00000FFFL;
+            values[64 + 2 * half] = (int) v16;
+            values[65 + 2 * half] = (int) (v16 >>> 32);
+            final long v17 = (w6 >>> 12) & 0xFFF00000FFFL;
+            values[68 + 2 * half] = (int) v17;
+            values[69 + 2 * half] = (int) (v17 >>> 32);
+            final long v18 = ((w6 >>> 24) & 0xFF000000FFL) | ((w7 << 8) & 0xF0000000F00L);
+            values[72 + 2 * half] = (int) v18;
+            values[73 + 2 * half] = (int) (v18 >>> 32);
+            final long v19 = (w7 >>> 4) & 0xFFF00000FFFL;
+            values[76 + 2 * half] = (int) v19;
+            values[77 + 2 * half] = (int) (v19 >>> 32);
+            final long v20 = (w7 >>> 16) & 0xFFF00000FFFL;
+            values[80 + 2 * half] = (int) v20;
+            values[81 + 2 * half] = (int) (v20 >>> 32);
+            final long v21 = ((w7 >>> 28) & 0xF0000000FL) | ((w8 << 4) & 0xFF000000FF0L);
+            values[84 + 2 * half] = (int) v21;
+            values[85 + 2 * half] = (int) (v21 >>> 32);
+            final long v22 = (w8 >>> 8) & 0xFFF00000FFFL;
+            values[88 + 2 * half] = (int) v22;
+            values[89 + 2 * half] = (int) (v22 >>> 32);
+            final long v23 = (w8 >>> 20) & 0xFFF00000FFFL;
+            values[92 + 2 * half] = (int) v23;
+            values[93 + 2 * half] = (int) (v23 >>> 32);
+            final long v24 = w9 & 0xFFF00000FFFL;
+            values[96 + 2 * half] = (int) v24;
+            values[97 + 2 * half] = (int) (v24 >>> 32);
+            final long v25 = (w9 >>> 12) & 0xFFF00000FFFL;
+            values[100 + 2 * half] = (int) v25;
+            values[101 + 2 * half] = (int) (v25 >>> 32);
+            final long v26 = ((w9 >>> 24) & 0xFF000000FFL) | ((w10 << 8) & 0xF0000000F00L);
+            values[104 + 2 * half] = (int) v26;
+            values[105 + 2 * half] = (int) (v26 >>> 32);
+            final long v27 = (w10 >>> 4) & 0xFFF00000FFFL;
+            values[108 + 2 * half] = (int) v27;
+            values[109 + 2 * half] = (int) (v27 >>> 32);
+            final long v28 = (w10 >>> 16) & 0xFFF00000FFFL;
+            values[112 + 2 * half] = (int) v28;
+            values[113 + 2 * half] = (int) (v28 >>> 32);
+            final long v29 = ((w10 >>> 28) & 0xF0000000FL) | ((w11 << 4) & 0xFF000000FF0L);
+            values[116 + 2 * half] = (int) v29;
+            values[117 + 2 * half] = (int) (v29 >>> 32);
+            final long v30 = (w11 >>> 8) & 0xFFF00000FFFL;
+            values[120 + 2 * half] = (int) v30;
+            values[121 + 2 * half] = (int) (v30 >>> 32);
+            final long v31 = (w11 >>> 20) & 0xFFF00000FFFL;
+            values[124 + 2 * half] = (int) v31;
+            values[125 + 2 * half] = (int) (v31 >>> 32);
+        }
+    }
+
+    private static void decode13(long[] packed, int[] values) {
+        for (int half = 0; half < 2; half++) {
+            final long w0 = packed[0 + half];
+            final long w1 = packed[2 + half];
+            final long w2 = packed[4 + half];
+            final long w3 = packed[6 + half];
+            final long w4 = packed[8 + half];
+            final long w5 = packed[10 + half];
+            final long w6 = packed[12 + half];
+            final long w7 = packed[14 + half];
+            final long w8 = packed[16 + half];
+            final long w9 = packed[18 + half];
+            final long w10 = packed[20 + half];
+            final long w11 = packed[22 + half];
+            final long w12 = packed[24 + half];
+            final long v0 = w0 & 0x1FFF00001FFFL;
+            values[0 + 2 * half] = (int) v0;
+            values[1 + 2 * half] = (int) (v0 >>> 32);
+            final long v1 = (w0 >>> 13) & 0x1FFF00001FFFL;
+            values[4 + 2 * half] = (int) v1;
+            values[5 + 2 * half] = (int) (v1 >>> 32);
+            final long v2 = ((w0 >>> 26) & 0x3F0000003FL) | ((w1 << 6) & 0x1FC000001FC0L);
+            values[8 + 2 * half] = (int) v2;
+            values[9 + 2 * half] = (int) (v2 >>> 32);
+            final long v3 = (w1 >>> 7) & 0x1FFF00001FFFL;
+            values[12 + 2 * half] = (int) v3;
+            values[13 + 2 * half] = (int) (v3 >>> 32);
+            final long v4 = ((w1 >>> 20) & 0xFFF00000FFFL) | ((w2 << 12) & 0x100000001000L);
+            values[16 + 2 * half] = (int) v4;
+            values[17 + 2 * half] = (int) (v4 >>> 32);
+            final long v5 = (w2 >>> 1) & 0x1FFF00001FFFL;
+            values[20 + 2 * half] = (int) v5;
+            values[21 + 2 * half] = (int) (v5 >>> 32);
+            final long v6 = (w2 >>> 14) & 0x1FFF00001FFFL;
+            values[24 + 2 * half] = (int) v6;
+            values[25 + 2 * half] = (int) (v6 >>> 32);
+            final long v7 = ((w2 >>> 27) & 0x1F0000001FL) | ((w3 << 5) & 0x1FE000001FE0L);
+            values[28 + 2 * half] = (int) v7;
+            values[29 + 2 * half] = (int) (v7 >>> 32);
+            final long v8 = (w3 >>> 8) & 0x1FFF00001FFFL;
+            values[32 + 2 * half] = (int) v8;
+            values[33 + 2 * half] = (int) (v8 >>> 32);
+            final long v9 = ((w3 >>> 21) & 0x7FF000007FFL) | ((w4 << 11) & 0x180000001800L);
+            values[36 + 2 * half] = (int) v9;
+            values[37 + 2 * half] = (int) (v9 >>> 32);
+            final long v10 = (w4 >>> 2) & 0x1FFF00001FFFL;
+            values[40 + 2 * half] = (int) v10;
+            values[41 + 2 * half] = (int) (v10 >>> 32);
+            final long v11 = (w4 >>> 15) & 0x1FFF00001FFFL;
+            values[44 + 2 * half] = (int) v11;
+            values[45 + 2 * half] = (int) (v11 >>> 32);
+            final long v12 = ((w4 >>> 28) & 0xF0000000FL) | ((w5 << 4) & 0x1FF000001FF0L);
+            values[48 + 2 * half] = (int) v12;
+            values[49 + 2 * half] = (int) (v12 >>> 32);
+            final long v13 = (w5 >>> 9) & 0x1FFF00001FFFL;
+            values[52 + 2 * half] = (int) v13;
+            values[53 + 2 * half] = (int) (v13 >>> 32);
+            final long v14 = ((w5 >>> 22) & 0x3FF000003FFL) | ((w6 << 10) & 0x1C0000001C00L);
+            values[56 + 2 * half] = (int) v14;
+            values[57 + 2 * half] = (int) (v14 >>> 32);
+            final long v15 = (w6 >>> 3) & 0x1FFF00001FFFL;
+            values[60 + 2 * half] = (int) v15;
+            values[61 + 2 * half] = (int) (v15 >>> 32);
+            final long v16 = (w6 >>> 16) & 0x1FFF00001FFFL;
+            values[64 + 2 * half] = (int) v16;
+            values[65 + 2 * half] = (int) (v16 >>> 32);
+            final long v17 = ((w6 >>> 29) & 0x700000007L) | ((w7 << 3) & 0x1FF800001FF8L);
+            values[68 + 2 * half] = (int) v17;
+            values[69 + 2 * half] = (int) (v17 >>> 32);
+            final long v18 = (w7 >>> 10) & 0x1FFF00001FFFL;
+            values[72 + 2 * half] = (int) v18;
+            values[73 + 2 * half] = (int) (v18 >>> 32);
+            final long v19 = ((w7 >>> 23) & 0x1FF000001FFL) | ((w8 << 9) & 0x1E0000001E00L);
+            values[76 + 2 * half] = (int) v19;
+            values[77 + 2 * half] = (int) (v19 >>> 32);
+            final long v20 = (w8 >>> 4) & 0x1FFF00001FFFL;
+            values[80 + 2 * half] = (int) v20;
+            values[81 + 2 * half] = (int) (v20 >>> 32);
+            final long v21 = (w8 >>> 17) & 0x1FFF00001FFFL;
+            values[84 + 2 * half] = (int) v21;
+            values[85 + 2 * half] = (int) (v21 >>> 32);
+            final long v22 = ((w8 >>> 30) & 0x300000003L) | ((w9 << 2) & 0x1FFC00001FFCL);
+            values[88 + 2 * half] = (int) v22;
+            values[89 + 2 * half] = (int) (v22 >>> 32);
+            final long v23 = (w9 >>> 11) & 0x1FFF00001FFFL;
+            values[92 + 2 * half] = (int) v23;
+            values[93 + 2 * half] = (int) (v23 >>> 32);
+            final long v24 = ((w9 >>> 24) & 0xFF000000FFL) | ((w10 << 8) & 0x1F0000001F00L);
+            values[96 + 2 * half] = (int) v24;
+            values[97 + 2 * half] = (int) (v24 >>> 32);
+            final long v25 = (w10 >>> 5) & 0x1FFF00001FFFL;
+            values[100 + 2 * half] = (int) v25;
+            values[101 + 2 * half] = (int) (v25 >>> 32);
+            final long v26 = (w10 >>> 18) & 0x1FFF00001FFFL;
+            values[104 + 2 * half] = (int) v26;
+            values[105 + 2 * half] = (int) (v26 >>> 32);
+            final long v27 = ((w10 >>> 31) & 0x100000001L) | ((w11 << 1) & 0x1FFE00001FFEL);
+            values[108 + 2 * half] = (int) v27;
+            values[109 + 2 * half] = (int) (v27 >>> 32);
+            final long v28 = (w11 >>> 12) & 0x1FFF00001FFFL;
+            values[112 + 2 * half] = (int) v28;
+            values[113 + 2 * half] = (int) (v28 >>> 32);
+            final long v29 = ((w11 >>> 25) & 0x7F0000007FL) | ((w12 << 7) & 0x1F8000001F80L);
+            values[116 + 2 * half] = (int) v29;
+            values[117 + 2 * half] = (int) (v29 >>> 32);
+            final long v30 = (w12 >>> 6) & 0x1FFF00001FFFL;
+            values[120 + 2 * half] = (int) v30;
+            values[121 + 2 * half] = (int) (v30 >>> 32);
+            final long v31 = (w12 >>> 19) & 0x1FFF00001FFFL;
+            values[124 + 2 * half] = (int) v31;
+            values[125 + 2 * half] = (int) (v31 >>> 32);
+        }
+    }
+
+    private static void decode14(long[] packed, int[] values) {
+        for (int half = 0; half < 2; half++) {
+            final long w0 = packed[0 + half];
+            final long w1 = packed[2 + half];
+            final long w2 = packed[4 + half];
+            final long w3 = packed[6 + half];
+            final long w4 = packed[8 + half];
+            final long w5 = packed[10 + half];
+            final long w6 = packed[12 + half];
+            final long w7 = packed[14 + half];
+            final long w8 = packed[16 + half];
+            final long w9 = packed[18 + half];
+            final long w10 = packed[20 + half];
+            final long w11 = packed[22 + half];
+            final long w12 = packed[24 + half];
+            final long w13 = packed[26 + half];
+            final long v0 = w0 & 0x3FFF00003FFFL;
+            values[0 + 2 * half] = (int) v0;
+            values[1 + 2 * half] = (int) (v0 >>> 32);
+            final long v1 = (w0 >>> 14) & 0x3FFF00003FFFL;
+            values[4 + 2 * half] = (int) v1;
+            values[5 + 2 * half] = (int) (v1 >>> 32);
+            final long v2 = ((w0 >>> 28) & 0xF0000000FL) | ((w1 << 4) & 0x3FF000003FF0L);
+            values[8 + 2 * half] = (int) v2;
+            values[9 + 2 * half] = (int) (v2 >>> 32);
+            final long v3 = (w1 >>> 10) & 0x3FFF00003FFFL;
+            values[12 + 2 * half] = (int) v3;
+            values[13 + 2 * half] = (int) (v3 >>> 32);
+            final long v4 = ((w1 >>> 24) & 0xFF000000FFL) | ((w2 << 8) & 0x3F0000003F00L);
+            values[16 + 2 * half] = (int) v4;
+            values[17 + 2 * half] = (int) (v4 >>> 32);
+            final long v5 = (w2 >>> 6) & 0x3FFF00003FFFL;
+            values[20 + 2 * half] = (int) v5;
+            values[21 + 2 * half] = (int) (v5 >>> 32);
+            final long v6 = ((w2 >>> 20) & 0xFFF00000FFFL) | ((w3 << 12) & 0x300000003000L);
+            values[24 + 2 * half] = (int) v6;
+            values[25 + 2 * half] = (int) (v6 >>> 32);
+            final long v7 = (w3 >>> 2) & 0x3FFF00003FFFL;
+            values[28 + 2 * half] = (int) v7;
+            values[29 + 2 * half] = (int) (v7 >>> 32);
+            final long v8 = (w3 >>> 16) & 0x3FFF00003FFFL;
+            values[32 + 2 * half] = (int) v8;
+            values[33 + 2 * half] = (int) (v8 >>> 32);
+            final long v9 = ((w3 >>> 30) & 0x300000003L) | ((w4 << 2) & 0x3FFC00003FFCL);
+            values[36 + 2 * half] = (int) v9;
+            values[37 + 2 * half] = (int) (v9 >>> 32);
+            final long v10 = (w4 >>> 12) & 0x3FFF00003FFFL;
+            values[40 + 2 * half] = (int) v10;
+            values[41 + 2 * half] = (int) (v10 >>> 32);
+            final long v11 = ((w4 >>> 26) & 0x3F0000003FL) | ((w5 << 6) & 0x3FC000003FC0L);
+            values[44 + 2 * half] = (int) v11;
+            values[45 + 2 * half] = (int) (v11 >>> 32);
+            final long v12 = (w5 >>> 8) & 0x3FFF00003FFFL;
+            values[48 + 2 * half] = (int) v12;
+            values[49 + 2 * half] = (int) (v12 >>> 32);
+            final long v13 = ((w5 >>> 22) & 0x3FF000003FFL) | ((w6 << 10) & 0x3C0000003C00L);
+            values[52 + 2 * half] = (int) v13;
+            values[53 + 2 * half] = (int) (v13 >>> 32);
+            final long v14 = (w6 >>> 4) & 0x3FFF00003FFFL;
+            values[56 + 2 * half] = (int) v14;
+            values[57 + 2 * half] = (int) (v14 >>> 32);
+            final long v15 = (w6 >>> 18) & 0x3FFF00003FFFL;
+            values[60 + 2 * half] = (int) v15;
+            values[61 + 2 * half] = (int) (v15 >>> 32);
+            final long v16 = w7 & 0x3FFF00003FFFL;
+            values[64 + 2 * half] = (int) v16;
+            values[65 + 2 * half] = (int) (v16 >>> 32);
+            final long v17 = (w7 >>> 14) & 0x3FFF00003FFFL;
+            values[68 + 2 * half] = (int) v17;
+            values[69 + 2 * half] = (int) (v17 >>> 32);
+            final long v18 = ((w7 >>> 28) & 0xF0000000FL) | ((w8 << 4) & 0x3FF000003FF0L);
+            values[72 + 2 * half] = (int) v18;
+            values[73 + 2 * half] = (int) (v18 >>> 32);
+            final long v19 = (w8 >>> 10) & 0x3FFF00003FFFL;
+            values[76 + 2 * half] = (int) v19;
+            values[77 + 2 * half] = (int) (v19 >>> 32);
+            final long v20 = ((w8 >>> 24) & 0xFF000000FFL) | ((w9 << 8) & 0x3F0000003F00L);
+            values[80 + 2 * half] = (int) v20;
+            values[81 + 2 * half] = (int) (v20 >>> 32);
+            final long v21 = (w9 >>> 6) & 0x3FFF00003FFFL;
+            values[84 + 2 * half] = (int) v21;
+            values[85 + 2 * half] = (int) (v21 >>> 32);
+            final long v22 = ((w9 >>> 20) & 0xFFF00000FFFL) | ((w10 << 12) & 0x300000003000L);
+            values[88 + 2 * half] = (int) v22;
+            values[89 + 2 * half] = (int) (v22 >>> 32);
+            final long v23 = (w10 >>> 2) & 0x3FFF00003FFFL;
+            values[92 + 2 * half] = (int) v23;
+            values[93 + 2 * half] = (int) (v23 >>> 32);
+            final long v24 = (w10 >>> 16) & 0x3FFF00003FFFL;
+            values[96 + 2 * half] = (int) v24;
+            values[97 + 2 * half] = (int) (v24 >>> 32);
+            final long v25 = ((w10 >>> 30) & 0x300000003L) | ((w11 << 2) & 0x3FFC00003FFCL);
+            values[100 + 2 * half] = (int) v25;
+            values[101 + 2 * half] = (int) (v25 >>> 32);
+            final long v26 = (w11 >>> 12) & 0x3FFF00003FFFL;
+            values[104 + 2 * half] = (int) v26;
+            values[105 + 2 * half] = (int) (v26 >>> 32);
+            final long v27 = ((w11 >>> 26) & 0x3F0000003FL) | ((w12 << 6) & 0x3FC000003FC0L);
+            values[108 + 2 * half] = (int) v27;
+            values[109 + 2 * half] = (int) (v27 >>> 32);
+            final long v28 = (w12 >>> 8) & 0x3FFF00003FFFL;
+            values[112 + 2 * half] = (int) v28;
+            values[113 + 2 * half] = (int) (v28 >>> 32);
+            final long v29 = ((w12 >>> 22) & 0x3FF000003FFL) | ((w13 << 10) & 0x3C0000003C00L);
+            values[116 + 2 * half] = (int) v29;
+            values[117 + 2 * half] = (int) (v29 >>> 32);
+            final long v30 = (w13 >>> 4) & 0x3FFF00003FFFL;
+            values[120 + 2 * half] = (int) v30;
+            values[121 + 2 * half] = (int) (v30 >>> 32);
+            final long v31 = (w13 >>> 18) & 0x3FFF00003FFFL;
+            values[124 + 2 * half] = (int) v31;
+            values[125 + 2 * half] = (int) (v31 >>> 32);
+        }
+    }
+
+    private static void decode15(long[] packed, int[] values) {
+        for (int half = 0; half < 2; half++) {
+            final long w0 = packed[0 + half];
+            final long w1 = packed[2 + half];
+            final long w2 = packed[4 + half];
+            final long w3 = packed[6 + half];
+            final long w4 = packed[8 + half];
+            final long w5 = packed[10 + half];
+            final long w6 = packed[12 + half];
+            final long w7 = packed[14 + half];
+            final long w8 = packed[16 + half];
+            final long w9 = packed[18 + half];
+            final long w10 = packed[20 + half];
+            final long w11 = packed[22 + half];
+            final long w12 = packed[24 + half];
+            final long w13 = packed[26 + half];
+            final long w14 = packed[28 + half];
+            final long v0 = w0 & 0x7FFF00007FFFL;
+            values[0 + 2 * half] = (int) v0;
+            values[1 + 2 * half] = (int) (v0 >>> 32);
+            final long v1 = (w0 >>> 15) & 0x7FFF00007FFFL;
+            values[4 + 2 * half] = (int) v1;
+            values[5 + 2 * half] = (int) (v1 >>> 32);
+            final long v2 = ((w0 >>> 30) & 0x300000003L) | ((w1 << 2) & 0x7FFC00007FFCL);
+            values[8 + 2 * half] = (int) v2;
+            values[9 + 2 * half] = (int) (v2 >>> 32);
+            final long v3 = (w1 >>> 13) & 0x7FFF00007FFFL;
+            values[12 + 2 * half] = (int) v3;
+            values[13 + 2 * half] = (int) (v3 >>> 32);
+            final long v4 = ((w1 >>> 28) & 0xF0000000FL) | ((w2 << 4) & 0x7FF000007FF0L);
+            values[16 + 2 * half] = (int) v4;
+            values[17 + 2 * half] = (int) (v4 >>> 32);
+            final long v5 = (w2 >>> 11) & 0x7FFF00007FFFL;
+            values[20 + 2 * half] = (int) v5;
+            values[21 + 2 * half] = (int) (v5 >>> 32);
+            final long v6 = ((w2 >>> 26) & 0x3F0000003FL) | ((w3 << 6) & 0x7FC000007FC0L);
+            values[24 + 2 * half] = (int) v6;
+            values[25 + 2 * half] = (int) (v6 >>> 32);
+            final long v7 = (w3 >>> 9) & 0x7FFF00007FFFL;
+            values[28 + 2 * half] = (int) v7;
+            values[29 + 2 * half] = (int) (v7 >>> 32);
+            final long v8 = ((w3 >>> 24) & 0xFF000000FFL) | ((w4 << 8) & 0x7F0000007F00L);
+            values[32 + 2 * half] = (int) v8;
+            values[33 + 2 * half] = (int) (v8 >>> 32);
+            final long v9 = (w4 >>> 7) & 0x7FFF00007FFFL;
+            values[36 + 2 * half] = (int) v9;
+            values[37 + 2 * half] = (int) (v9 >>> 32);
+            final long v10 = ((w4 >>> 22) & 0x3FF000003FFL) | ((w5 << 10) & 0x7C0000007C00L);
+            values[40 + 2 * half] = (int) v10;
+            values[41 + 2 * half] = (int) (v10 >>> 32);
+            final long v11 = (w5 >>> 5) & 0x7FFF00007FFFL;
+            values[44 + 2 * half] = (int) v11;
+            values[45 + 2 * half] = (int) (v11 >>> 32);
+            final long v12 = ((w5 >>> 20) & 0xFFF00000FFFL) | ((w6 << 12) & 0x700000007000L);
+            values[48 + 2 * half] = (int) v12;
+            values[49 + 2 * half] = (int) (v12 >>> 32);
+            final long v13 = (w6 >>> 3) & 0x7FFF00007FFFL;
+            values[52 + 2 * half] = (int) v13;
+            values[53 + 2 * half] = (int) (v13 >>> 32);
+            final long v14 = ((w6 >>> 18) & 0x3FFF00003FFFL) | ((w7 << 14) & 0x400000004000L);
+            values[56 + 2 * half] = (int) v14;
+            values[57 + 2 * half] = (int) (v14 >>> 32);
+            final long v15 = (w7 >>> 1) & 0x7FFF00007FFFL;
+            values[60 + 2 * half] = (int) v15;
+            values[61 + 2 * half] = (int) (v15 >>> 32);
+            final long v16 = (w7 >>> 16) & 0x7FFF00007FFFL;
+            values[64 + 2 * half] = (int) v16;
+            values[65 + 2 * half] = (int) (v16 >>> 32);
+            final long v17 = ((w7 >>> 31) & 0x100000001L) | ((w8 << 1) & 0x7FFE00007FFEL);
+            values[68 + 2 * half] = (int) v17;
+            values[69 + 2 * half] = (int) (v17 >>> 32);
+            final long v18 = (w8 >>> 14) & 0x7FFF00007FFFL;
+            values[72 + 2 * half] = (int) v18;
+            values[73 + 2 * half] = (int) (v18 >>> 32);
+            final long v19 = ((w8 >>> 29) & 0x700000007L) | ((w9 << 3) & 0x7FF800007FF8L);
+            values[76 + 2 * half] = (int) v19;
+            values[77 + 2 * half] = (int) (v19 >>> 32);
+            final long v20 = (w9 >>> 12) & 0x7FFF00007FFFL;
+            values[80 + 2 * half] = (int) v20;
+            values[81 + 2 * half] = (int) (v20 >>> 32);
+            final long v21 = ((w9 >>> 27) & 0x1F0000001FL) | ((w10 << 5) & 0x7FE000007FE0L);
+            values[84 + 2 * half] = (int) v21;
+            values[85 + 2 * half] = (int) (v21 >>> 32);
+            final long v22 = (w10 >>> 10) & 0x7FFF00007FFFL;
+            values[88 + 2 * half] = (int) v22;
+            values[89 + 2 * half] = (int) (v22 >>> 32);
+            final long v23 = ((w10 >>> 25) & 0x7F0000007FL) | ((w11 << 7) & 0x7F8000007F80L);
+            values[92 + 2 * half] = (int) v23;
+            values[93 + 2 * half] = (int) (v23 >>> 32);
+            final long v24 = (w11 >>> 8) & 0x7FFF00007FFFL;
+            values[96 + 2 * half] = (int) v24;
+            values[97 + 2 * half] = (int) (v24 >>> 32);
+            final long v25 = ((w11 >>> 23) & 0x1FF000001FFL) | ((w12 << 9) & 0x7E0000007E00L);
+            values[100 + 2 * half] = (int) v25;
+            values[101 + 2 * half] = (int) (v25 >>> 32);
+            final long v26 = (w12 >>> 6) & 0x7FFF00007FFFL;
+            values[104 + 2 * half] = (int) v26;
+            values[105 + 2 * half] = (int) (v26 >>> 32);
+            final long v27 = ((w12 >>> 21) & 0x7FF000007FFL) | ((w13 << 11) & 0x780000007800L);
+            values[108 + 2 * half] = (int) v27;
+            values[109 + 2 * half] = (int) (v27 >>> 32);
+            final long v28 = (w13 >>> 4) & 0x7FFF00007FFFL;
+            values[112 + 2 * half] = (int) v28;
+            values[113 + 2 * half] = (int) (v28 >>> 32);
+            final long v29 = ((w13 >>> 19) & 0x1FFF00001FFFL) | ((w14 << 13) & 0x600000006000L);
+            values[116 + 2 * half] = (int) v29;
+            values[117 + 2 * half] = (int) (v29 >>> 32);
+            final long v30 = (w14 >>> 2) & 0x7FFF00007FFFL;
+            values[120 + 2 * half] = (int) v30;
+            values[121 + 2 * half] = (int) (v30 >>> 32);
+            final long v31 = (w14 >>> 17) & 0x7FFF00007FFFL;
+            values[124 + 2 * half] = (int) v31;
+            values[125 + 2 * half] = (int) (v31 >>> 32);
+        }
+    }
+
+    private static void decode16(long[] packed, int[] values) {
+        for (int half = 0; half < 2; half++) {
+            final long w0 = packed[0 + half];
+            final long w1 = packed[2 + half];
+            final long w2 = packed[4 + half];
+            final long w3 = packed[6 + half];
+            final long w4 = packed[8 + half];
+            final long w5 = packed[10 + half];
+            final long w6 = packed[12 + half];
+            final long w7 = packed[14 + half];
+            final long w8 = packed[16 + half];
+            final long w9 = packed[18 + half];
+            final long w10 = packed[20 + half];
+            final long w11 = packed[22 + half];
+            final long w12 = packed[24 + half];
+            final long w13 = packed[26 + half];
+            final long w14 = packed[28 + half];
+            final long w15 = packed[30 + half];
+            final long v0 = w0 & 0xFFFF0000FFFFL;
+            values[0 + 2 * half] = (int) v0;
+            values[1 + 2 * half] = (int) (v0 >>> 32);
+            final long v1 = (w0 >>> 16) & 0xFFFF0000FFFFL;
+            values[4 + 2 * half] = (int) v1;
+            values[5 + 2 * half] = (int) (v1 >>> 32);
+            final long v2 = w1 & 0xFFFF0000FFFFL;
+            values[8 + 2 * half] = (int) v2;
+            values[9 + 2 * half] = (int) (v2 >>> 32);
+            final long v3 = (w1 >>> 16) & 0xFFFF0000FFFFL;
+            values[12 + 2 * half] = (int) v3;
+            values[13 + 2 * half] = (int) (v3 >>> 32);
+            final long v4 = w2 & 0xFFFF0000FFFFL;
+            values[16 + 2 * half] = (int) v4;
+            values[17 + 2 * half] = (int) (v4 >>> 32);
+            final long v5 = (w2 >>> 16) & 0xFFFF0000FFFFL;
+            values[20 + 2 * half] = (int) v5;
+            values[21 + 2 * half] = (int) (v5 >>> 32);
+            final long v6 = w3 & 0xFFFF0000FFFFL;
+            values[24 + 2 * half] = (int) v6;
+            values[25 + 2 * half] = (int) (v6 >>> 32);
+            final long v7 = (w3 >>> 16) & 0xFFFF0000FFFFL;
+            values[28 + 2 * half] = (int) v7;
+            values[29 + 2 * half] = (int) (v7 >>> 32);
+            final long v8 = w4 & 0xFFFF0000FFFFL;
+            values[32 + 2 * half] = (int) v8;
+            values[33 + 2 * half] = (int) (v8 >>> 32);
+            final long v9 = (w4 >>> 16) & 0xFFFF0000FFFFL;
+            values[36 + 2 * half] = (int) v9;
+            values[37 + 2 * half] = (int) (v9 >>> 32);
+            final long v10 = w5 & 0xFFFF0000FFFFL;
+            values[40 + 2 * half] = (int) v10;
+            values[41 + 2 * half] = (int) (v10 >>> 32);
+            final long v11 = (w5 >>> 16) & 0xFFFF0000FFFFL;
+            values[44 + 2 * half] = (int) v11;
+            values[45 + 2 * half] = (int) (v11 >>> 32);
+            final long v12 = w6 & 0xFFFF0000FFFFL;
+            values[48 + 2 * half] = (int) v12;
+            values[49 + 2 * half] = (int) (v12 >>> 32);
+            final long v13 = (w6 >>> 16) & 0xFFFF0000FFFFL;
+            values[52 + 2 * half] = (int) v13;
+            values[53 + 2 * half] = (int) (v13 >>> 32);
+            final long v14 = w7 & 0xFFFF0000FFFFL;
+            values[56 + 2 * half] = (int) v14;
+            values[57 + 2 * half] = (int) (v14 >>> 32);
+            final long v15 = (w7 >>> 16) & 0xFFFF0000FFFFL;
+            values[60 + 2 * half] = (int) v15;
+            values[61 + 2 * half] = (int) (v15 >>> 32);
+            final long v16 = w8 & 0xFFFF0000FFFFL;
+            values[64 + 2 * half] = (int) v16;
+            values[65 + 2 * half] = (int) (v16 >>> 32);
+            final long v17 = (w8 >>> 16) & 0xFFFF0000FFFFL;
+            values[68 + 2 * half] = (int) v17;
+            values[69 + 2 * half] = (int) (v17 >>> 32);
+            final long v18 = w9 & 0xFFFF0000FFFFL;
+            values[72 + 2 * half] = (int) v18;
+            values[73 + 2 * half] = (int) (v18 >>> 32);
+            final long v19 = (w9 >>> 16) & 0xFFFF0000FFFFL;
+            values[76 + 2 * half] = (int) v19;
+            values[77 + 2 * half] = (int) (v19 >>> 32);
+            final long v20 = w10 & 0xFFFF0000FFFFL;
+            values[80 + 2 * half] = (int) v20;
+            values[81 + 2 * half] = (int) (v20 >>> 32);
+            final long v21 = (w10 >>> 16) & 0xFFFF0000FFFFL;
+            values[84 + 2 * half] = (int) v21;
+            values[85 + 2 * half] = (int) (v21 >>> 32);
+            final long v22 = w11 & 0xFFFF0000FFFFL;
+            values[88 + 2 * half] = (int) v22;
+            values[89 + 2 * half] = (int) (v22 >>> 32);
+            final long v23 = (w11 >>> 16) & 0xFFFF0000FFFFL;
+            values[92 + 2 * half] = (int) v23;
+            values[93 + 2 * half] = (int) (v23 >>> 32);
+            final long v24 = w12 & 0xFFFF0000FFFFL;
+            values[96 + 2 * half] = (int) v24;
+            values[97 + 2 * half] = (int) (v24 >>> 32);
+            final long v25 = (w12 >>> 16) & 0xFFFF0000FFFFL;
+            values[100 + 2 * half] = (int) v25;
+            values[101 + 2 * half] = (int) (v25 >>> 32);
+            final long v26 = w13 & 0xFFFF0000FFFFL;
+            values[104 + 2 * half] = (int) v26;
+            values[105 + 2 * half] = (int) (v26 >>> 32);
+            final long v27 = (w13 >>> 16) & 0xFFFF0000FFFFL;
+            values[108 + 2 * half] = (int) v27;
+            values[109 + 2 * half] = (int) (v27 >>> 32);
+            final long v28 = w14 & 0xFFFF0000FFFFL;
+            values[112 + 2 * half] = (int) v28;
+            values[113 + 2 * half] = (int) (v28 >>> 32);
+            final long v29 = (w14 >>> 16) & 0xFFFF0000FFFFL;
+            values[116 + 2 * half] = (int) v29;
+            values[117 + 2 * half] = (int) (v29 >>> 32);
+            final long v30 = w15 & 0xFFFF0000FFFFL;
+            values[120 + 2 * half] = (int) v30;
+            values[121 + 2 * half] = (int) (v30 >>> 32);
+            final long v31 = (w15 >>> 16) & 0xFFFF0000FFFFL;
+            values[124 + 2 * half] = (int) v31;
+            values[125 + 2 * half] = (int) (v31 >>> 32);
+        }
+    }
+
+    private static void decode17(long[] packed, int[] values) {
+        for (int half = 0; half < 2; half++) {
+            final long w0 = packed[0 + half];
+            final long w1 = packed[2 + half];
+            final long w2 = packed[4 + half];
+            final long w3 = packed[6 + half];
+            final long w4 = packed[8 + half];
+            final long w5 = packed[10 + half];
+            final long w6 = packed[12 + half];
+            final long w7 = packed[14 + half];
+            final long w8 = packed[16 + half];
+            final long w9 = packed[18 + half];
+            final long w10 = packed[20 + half];
+            final long w11 = packed[22 + half];
+            final long w12 = packed[24 + half];
+            final long w13 = packed[26 + half];
+            final long w14 = packed[28 + half];
+            final long w15 = packed[30 + half];
+            final long w16 = packed[32 + half];
+            final long v0 = w0 & 0x1FFFF0001FFFFL;
+            values[0 + 2 * half] = (int) v0;
+            values[1 + 2 * half] = (int) (v0 >>> 32);
+            final long v1 = ((w0 >>> 17) & 0x7FFF00007FFFL) | ((w1 << 15) & 0x1800000018000L);
+            values[4 + 2 * half] = (int) v1;
+            values[5 + 2 * half] = (int) (v1 >>> 32);
+            final long v2 = (w1 >>> 2) & 0x1FFFF0001FFFFL;
+            values[8 + 2 * half] = (int) v2;
+            values[9 + 2 * half] = (int) (v2 >>> 32);
+            final long v3 = ((w1 >>> 19) & 0x1FFF00001FFFL) | ((w2 << 13) & 0x1E0000001E000L);
+            values[12 + 2 * half] = (int) v3;
+            values[13 + 2 * half] = (int) (v3 >>> 32);
+            final long v4 = (w2 >>> 4) & 0x1FFFF0001FFFFL;
+            values[16 + 2 * half] = (int) v4;
+            values[17 + 2 * half] = (int) (v4 >>> 32);
+            final long v5 = ((w2 >>> 21) & 0x7FF000007FFL) | ((w3 << 11) & 0x1F8000001F800L);
+            values[20 + 2 * half] = (int) v5;
+            values[21 + 2 * half] = (int) (v5 >>> 32);
+            final long v6 = (w3 >>> 6) & 0x1FFFF0001FFFFL;
+            values[24 + 2 * half] = (int) v6;
+            values[25 + 2 * half] = (int) (v6 >>> 32);
+            final long v7 = ((w3 >>> 23) & 0x1FF000001FFL) | ((w4 << 9) & 0x1FE000001FE00L);
+            values[28 + 2 * half] = (int) v7;
+            values[29 + 2 * half] = (int) (v7 >>> 32);
+            final long v8 = (w4 >>> 8) & 0x1FFFF0001FFFFL;
+            values[32 + 2 * half] = (int) v8;
+            values[33 + 2 * half] = (int) (v8 >>> 32);
+            final long v9 = ((w4 >>> 25) & 0x7F0000007FL) | ((w5 << 7) & 0x1FF800001FF80L);
+            values[36 + 2 * half] = (int) v9;
+            values[37 + 2 * half] = (int) (v9 >>> 32);
+            final long v10 = (w5 >>> 10) & 0x1FFFF0001FFFFL;
+            values[40 + 2 * half] = (int) v10;
+            values[41 + 2 * half] = (int) (v10 >>> 32);
+            final long v11 = ((w5 >>> 27) & 0x1F0000001FL) | ((w6 << 5) & 0x1FFE00001FFE0L);
+            values[44 + 2 * half] = (int) v11;
+            values[45 + 2 * half] = (int) (v11 >>> 32);
+            final long v12 = (w6 >>> 12) & 0x1FFFF0001FFFFL;
+            values[48 + 2 * half] = (int) v12;
+            values[49 + 2 * half] = (int) (v12 >>> 32);
+            final long v13 = ((w6 >>> 29) & 0x700000007L) | ((w7 << 3) & 0x1FFF80001FFF8L);
+            values[52 + 2 * half] = (int) v13;
+            values[53 + 2 * half] = (int) (v13 >>> 32);
+            final long v14 = (w7 >>> 14) & 0x1FFFF0001FFFFL;
+            values[56 + 2 * half] = (int) v14;
+            values[57 + 2 * half] = (int) (v14 >>> 32);
+            final long v15 = ((w7 >>> 31) & 0x100000001L) | ((w8 << 1) & 0x1FFFE0001FFFEL);
+            values[60 + 2 * half] = (int) v15;
+            values[61 + 2 * half] = (int) (v15 >>> 32);
+            final long v16 = ((w8 >>> 16) & 0xFFFF0000FFFFL) | ((w9 << 16) & 0x1000000010000L);
+            values[64 + 2 * half] = (int) v16;
+            values[65 + 2 * half] = (int) (v16 >>> 32);
+            final long v17 = (w9 >>> 1) & 0x1FFFF0001FFFFL;
+            values[68 + 2 * half] = (int) v17;
+            values[69 + 2 * half] = (int) (v17 >>> 32);
+            final long v18 = ((w9 >>> 18) & 0x3FFF00003FFFL) | ((w10 << 14) & 0x1C0000001C000L);
+            values[72 + 2 * half] = (int) v18;
+            values[73 + 2 * half] = (int) (v18 >>> 32);
+            final long v19 = (w10 >>> 3) & 0x1FFFF0001FFFFL;
+            values[76 + 2 * half] = (int) v19;
+            values[77 + 2 * half] = (int) (v19 >>> 32);
+            final long v20 = ((w10 >>> 20) & 0xFFF00000FFFL) | ((w11 << 12) & 0x1F0000001F000L);
+            values[80 + 2 * half] = (int) v20;
+            values[81 + 2 * half] = (int) (v20 >>> 32);
+            final long v21 = (w11 >>> 5) & 0x1FFFF0001FFFFL;
+            values[84 + 2 * half] = (int) v21;
+            values[85 + 2 * half] = (int) (v21 >>> 32);
+            final long v22 = ((w11 >>> 22) & 0x3FF000003FFL) | ((w12 << 10) & 0x1FC000001FC00L);
+            values[88 + 2 * half] = (int) v22;
+            values[89 + 2 * half] = (int) (v22 >>> 32);
+            final long v23 = (w12 >>> 7) & 0x1FFFF0001FFFFL;
+            values[92 + 2 * half] = (int) v23;
+            values[93 + 2 * half] = (int) (v23 >>> 32);
+            final long v24 = ((w12 >>> 24) & 0xFF000000FFL) | ((w13 << 8) & 0x1FF000001FF00L);
+            values[96 + 2 * half] = (int) v24;
+            values[97 + 2 * half] = (int) (v24 >>> 32);
+            final long v25 = (w13 >>> 9) & 0x1FFFF0001FFFFL;
+            values[100 + 2 * half] = (int) v25;
+            values[101 + 2 * half] = (int) (v25 >>> 32);
+            final long v26 = ((w13 >>> 26) & 0x3F0000003FL) | ((w14 << 6) & 0x1FFC00001FFC0L);
+            values[104 + 2 * half] = (int) v26;
+            values[105 + 2 * half] = (int) (v26 >>> 32);
+            final long v27 = (w14 >>> 11) & 0x1FFFF0001FFFFL;
+            values[108 + 2 * half] = (int) v27;
+            values[109 + 2 * half] = (int) (v27 >>> 32);
+            final long v28 = ((w14 >>> 28) & 0xF0000000FL) | ((w15 << 4) & 0x1FFF00001FFF0L);
+            values[112 + 2 * half] = (int) v28;
+            values[113 + 2 * half] = (int) (v28 >>> 32);
+            final long v29 = (w15 >>> 13) & 0x1FFFF0001FFFFL;
+            values[116 + 2 * half] = (int) v29;
+            values[117 + 2 * half] = (int) (v29 >>> 32);
+            final long v30 = ((w15 >>> 30) & 0x300000003L) | ((w16 << 2) & 0x1FFFC0001FFFCL);
+            values[120 + 2 * half] = (int) v30;
+            values[121 + 2 * half] = (int) (v30 >>> 32);
+            final long v31 = (w16 >>> 15) & 0x1FFFF0001FFFFL;
+            values[124 + 2 * half] = (int) v31;
+            values[125 + 2 * half] = (int) (v31 >>> 32);
+        }
+    }
+
+    private static void decode18(long[] packed, int[] values) {
+        for (int half = 0; half < 2; half++) {
+            final long w0 = packed[0 + half];
+            final long w1 = packed[2 + half];
+            final long w2 = packed[4 + half];
+            final long w3 = packed[6 + half];
+            final long w4 = packed[8 + half];
+            final long w5 = packed[10 + half];
+            final long w6 = packed[12 + half];
+            final long w7 = packed[14 + half];
+            final long w8 = packed[16 + half];
+            final long w9 = packed[18 + half];
+            final long w10 = packed[20 + half];
+            final long w11 = packed[22 + half];
+            final long w12 = packed[24 + half];
+            final long w13 = packed[26 + half];
+            final long w14 = packed[28 + half];
+            final long w15 = packed[30 + half];
+            final long w16 = packed[32 + half];
+            final long w17 = packed[34 + half];
+            final long v0 = w0 & 0x3FFFF0003FFFFL;
+            values[0 + 2 * half] = (int) v0;
+            values[1 + 2 * half] = (int) (v0 >>> 32);
+            final long v1 = ((w0 >>> 18) & 0x3FFF00003FFFL) | ((w1 << 14) & 0x3C0000003C000L);
+            values[4 + 2 * half] = (int) v1;
+            values[5 + 2 * half] = (int) (v1 >>> 32);
+            final long v2 = (w1 >>> 4) & 0x3FFFF0003FFFFL;
+            values[8 + 2 * half] = (int) v2;
+            values[9 + 2 * half] = (int) (v2 >>> 32);
+            final long v3 = ((w1 >>> 22) & 0x3FF000003FFL) | ((w2 << 10) & 0x3FC000003FC00L);
+            values[12 + 2 * half] = (int) v3;
+            values[13 + 2 * half] = (int) (v3 >>> 32);
+            final long v4 = (w2 >>> 8) & 0x3FFFF0003FFFFL;
+            values[16 + 2 * half] = (int) v4;
+            values[17 + 2 * half] = (int) (v4 >>> 32);
+            final long v5 = ((w2 >>> 26) & 0x3F0000003FL) | ((w3 << 6) & 0x3FFC00003FFC0L);
+            values[20 + 2 * half] = (int) v5;
+            values[21 + 2 * half] = (int) (v5 >>> 32);
+            final long v6 = (w3 >>> 12) & 0x3FFFF0003FFFFL;
+            values[24 + 2 * half] = (int) v6;
+            values[25 + 2 * half] = (int) (v6 >>> 32);
+            final long v7 = ((w3 >>> 30) & 0x300000003L) | ((w4 << 2) & 0x3FFFC0003FFFCL);
+            values[28 + 2 * half] = (int) v7;
+            values[29 + 2 * half] = (int) (v7 >>> 32);
+            final long v8 = ((w4 >>> 16) & 0xFFFF0000FFFFL) | ((w5 << 16) & 0x3000000030000L);
+            values[32 + 2 * half] = (int) v8;
+            values[33 + 2 * half] = (int) (v8 >>> 32);
+            final long v9 = (w5 >>> 2) & 0x3FFFF0003FFFFL;
+            values[36 + 2 * half] = (int) v9;
+            values[37 + 2 * half] = (int) (v9 >>> 32);
+            final long v10 = ((w5 >>> 20) & 0xFFF00000FFFL) | ((w6 << 12) & 0x3F0000003F000L);
+            values[40 + 2 * half] = (int) v10;
+            values[41 + 2 * half] = (int) (v10 >>> 32);
+            final long v11 = (w6 >>> 6) & 0x3FFFF0003FFFFL;
+            values[44 + 2 * half] = (int) v11;
+            values[45 + 2 * half] = (int) (v11 >>> 32);
+            final long v12 = ((w6 >>> 24) & 0xFF000000FFL) | ((w7 << 8) & 0x3FF000003FF00L);
+            values[48 + 2 * half] = (int) v12;
+            values[49 + 2 * half] = (int) (v12 >>> 32);
+            final long v13 = (w7 >>> 10) & 0x3FFFF0003FFFFL;
+            values[52 + 2 * half] = (int) v13;
+            values[53 + 2 * half] = (int) (v13 >>> 32);
+            final long v14 = ((w7 >>> 28) & 0xF0000000FL) | ((w8 << 4) & 0x3FFF00003FFF0L);
+            values[56 + 2 * half] = (int) v14;
+            values[57 + 2 * half] = (int) (v14 >>> 32);
+            final long v15 = (w8 >>> 14) & 0x3FFFF0003FFFFL;
+            values[60 + 2 * half] = (int) v15;
+            values[61 + 2 * half] = (int) (v15 >>> 32);
+            final long v16 = w9 & 0x3FFFF0003FFFFL;
+            values[64 + 2 * half] = (int) v16;
+            values[65 + 2 * half] = (int) (v16 >>> 32);
+            final long v17 = ((w9 >>> 18) & 0x3FFF00003FFFL) | ((w10 << 14) & 0x3C0000003C000L);
+            values[68 + 2 * half] = (int) v17;
+            values[69 + 2 * half] = (int) (v17 >>> 32);
+            final long v18 = (w10 >>> 4) & 0x3FFFF0003FFFFL;
+            values[72 + 2 * half] = (int) v18;
+            values[73 + 2 * half] = (int) (v18 >>> 32);
+            final long v19 = ((w10 >>> 22) & 0x3FF000003FFL) | ((w11 << 10) & 0x3FC000003FC00L);
+            values[76 + 2 * half] = (int) v19;
+            values[77 + 2 * half] = (int) (v19 >>> 32);
+            final long v20 = (w11 >>> 8) & 0x3FFFF0003FFFFL;
+            values[80 + 2 * half] = (int) v20;
+            values[81 + 2 * half] = (int) (v20 >>> 32);
+            final long v21 = ((w11 >>> 26) & 0x3F0000003FL) | ((w12 << 6) & 0x3FFC00003FFC0L);
+            values[84 + 2 * half] = (int) v21;
+            values[85 + 2 * half] = (int) (v21 >>> 32);
+            final long v22 = (w12 >>> 12) & 0x3FFFF0003FFFFL;
+            values[88 + 2 * half] = (int) v22;
+            values[89 + 2 * half] = (int) (v22 >>> 32);
+            final long v23 = ((w12 >>> 30) & 0x300000003L) | ((w13 << 2) & 0x3FFFC0003FFFCL);
+            values[92 + 2 * half] = (int) v23;
+            values[93 + 2 * half] = (int) (v23 >>> 32);
+            final long v24 = ((w13 >>> 16) & 0xFFFF0000FFFFL) | ((w14 << 16) & 0x3000000030000L);
+            values[96 + 2 * half] = (int) v24;
+            values[97 + 2 * half] = (int) (v24 >>> 32);
+            final long v25 = (w14 >>> 2) & 0x3FFFF0003FFFFL;
+            values[100 + 2 * half] = (int) v25;
+            values[101 + 2 * half] = (int) (v25 >>> 32);
+            final long v26 = ((w14 >>> 20) & 0xFFF00000FFFL) | ((w15 << 12) & 0x3F0000003F000L);
+            values[104 + 2 * half] = (int) v26;
+            values[105 + 2 * half] = (int) (v26 >>> 32);
+            final long v27 = (w15 >>> 6) & 0x3FFFF0003FFFFL;
+            values[108 + 2 * half] = (int) v27;
+            values[109 + 2 * half] = (int) (v27 >>> 32);
+            final long v28 = ((w15 >>> 24) & 0xFF000000FFL) | ((w16 << 8) & 0x3FF000003FF00L);
+            values[112 + 2 * half] = (int) v28;
+            values[113 + 2 * half] = (int) (v28 >>> 32);
+            final long v29 = (w16 >>> 10) & 0x3FFFF0003FFFFL;
+            values[116 + 2 * half] = (int) v29;
+            values[117 + 2 * half] = (int) (v29 >>> 32);
+            final long v30 = ((w16 >>> 28) & 0xF0000000FL) | ((w17 << 4) & 0x3FFF00003FFF0L);
+            values[120 + 2 * half] = (int) v30;
+            values[121 + 2 * half] = (int) (v30 >>> 32);
+            final long v31 = (w17 >>> 14) & 0x3FFFF0003FFFFL;
+            values[124 + 2 * half] = (int) v31;
+            values[125 + 2 * half] = (int) (v31 >>> 32);
+        }
+    }
+
+    private static void decode19(long[] packed, int[] values) {
+        for (int half = 0; half < 2; half++) {
+            final long w0 = packed[0 + half];
+            final long w1 = packed[2 + half];
+            final long w2 = packed[4 + half];
+            final long w3 = packed[6 + half];
+            final long w4 = packed[8 + half];
+            final long w5 = packed[10 + half];
+            final long w6 = packed[12 + half];
+            final long w7 = packed[14 + half];
+            final long w8 = packed[16 + half];
+            final long w9 = packed[18 + half];
+            final long w10 = packed[20 + half];
+            final long w11 = packed[22 + half];
+            final long w12 = packed[24 + half];
+            final long w13 = packed[26 + half];
+            final long w14 = packed[28 + half];
+            final long w15 = packed[30 + half];
+            final long w16 = packed[32 + half];
+            final long w17 = packed[34 + half];
+            final long w18 = packed[36 + half];
+            final long v0 = w0 & 0x7FFFF0007FFFFL;
+            values[0 + 2 * half] = (int) v0;
+            values[1 + 2 * half] = (int) (v0 >>> 32);
+            final long v1 = ((w0 >>> 19) & 0x1FFF00001FFFL) | ((w1 << 13) & 0x7E0000007E000L);
+            values[4 + 2 * half] = (int) v1;
+            values[5 + 2 * half] = (int) (v1 >>> 32);
+            final long v2 = (w1 >>> 6) & 0x7FFFF0007FFFFL;
+            values[8 + 2 * half] = (int) v2;
+            values[9 + 2 * half] = (int) (v2 >>> 32);
+            final long v3 = ((w1 >>> 25) & 0x7F0000007FL) | ((w2 << 7) & 0x7FF800007FF80L);
+            values[12 + 2 * half] = (int) v3;
+            values[13 + 2 * half] = (int) (v3 >>> 32);
+            final long v4 = (w2 >>> 12) & 0x7FFFF0007FFFFL;
+            values[16 + 2 * half] = (int) v4;
+            values[17 + 2 * half] = (int) (v4 >>> 32);
+            final long v5 = ((w2 >>> 31) & 0x100000001L) | ((w3 << 1) & 0x7FFFE0007FFFEL);
+            values[20 + 2 * half] = (int) v5;
+            values[21 + 2 * half] = (int) (v5 >>> 32);
+            final long v6 = ((w3 >>> 18) & 0x3FFF00003FFFL) | ((w4 << 14) & 0x7C0000007C000L);
+            values[24 + 2 * half] = (int) v6;
+            values[25 + 2 * half] = (int) (v6 >>> 32);
+            final long v7 = (w4 >>> 5) & 0x7FFFF0007FFFFL;
+            values[28 + 2 * half] = (int) v7;
+            values[29 + 2 * half] = (int) (v7 >>> 32);
+            final long v8 = ((w4 >>> 24) & 0xFF000000FFL) | ((w5 << 8) & 0x7FF000007FF00L);
+            values[32 + 2 * half] = (int) v8;
+            values[33 + 2 * half] = (int) (v8 >>> 32);
+            final long v9 = (w5 >>> 11) & 0x7FFFF0007FFFFL;
+            values[36 + 2 * half] = (int) v9;
+            values[37 + 2 * half] = (int) (v9 >>> 32);
+            final long v10 = ((w5 >>> 30) & 0x300000003L) | ((w6 << 2) & 0x7FFFC0007FFFCL);
+            values[40 + 2 * half] = (int) v10;
+            values[41 + 2 * half] = (int) (v10 >>> 32);
+            final long v11 = ((w6 >>> 17) & 0x7FFF00007FFFL) | ((w7 << 15) & 0x7800000078000L);
+            values[44 + 2 * half] = (int) v11;
+            values[45 + 2 * half] = (int) (v11 >>> 32);
+            final long v12 = (w7 >>> 4) & 0x7FFFF0007FFFFL;
+            values[48 + 2 * half] = (int) v12;
+            values[49 + 2 * half] = (int) (v12 >>> 32);
+            final long v13 = ((w7 >>> 23) & 0x1FF000001FFL) | ((w8 << 9) & 0x7FE000007FE00L);
+            values[52 + 2 * half] = (int) v13;
+            values[53 + 2 * half] = (int) (v13 >>> 32);
+            final long v14 = (w8 >>> 10) & 0x7FFFF0007FFFFL;
+            values[56 + 2 * half] = (int) v14;
+            values[57 + 2 * half] = (int) (v14 >>> 32);
+            final long v15 = ((w8 >>> 29) & 0x700000007L) | ((w9 << 3) & 0x7FFF80007FFF8L);
+            values[60 + 2 * half] = (int) v15;
+            values[61 + 2 * half] = (int) (v15 >>> 32);
+            final long v16 = ((w9 >>> 16) & 0xFFFF0000FFFFL) | ((w10 << 16) & 0x7000000070000L);
+            values[64 + 2 * half] = (int) v16;
+            values[65 + 2 * half] = (int) (v16 >>> 32);
+            final long v17 = (w10 >>> 3) & 0x7FFFF0007FFFFL;
+            values[68 + 2 * half] = (int) v17;
+            values[69 + 2 * half] = (int) (v17 >>> 32);
+            final long v18 = ((w10 >>> 22) & 0x3FF000003FFL) | ((w11 << 10) & 0x7FC000007FC00L);
+            values[72 + 2 * half] = (int) v18;
+            values[73 + 2 * half] = (int) (v18 >>> 32);
+            final long v19 = (w11 >>> 9) & 0x7FFFF0007FFFFL;
+            values[76 + 2 * half] = (int) v19;
+            values[77 + 2 * half] = (int) (v19 >>> 32);
+            final long v20 = ((w11 >>> 28) & 0xF0000000FL) | ((w12 << 4) & 0x7FFF00007FFF0L);
+            values[80 + 2 * half] = (int) v20;
+            values[81 + 2 * half] = (int) (v20 >>> 32);
+            final long v21 = ((w12 >>> 15) & 0x1FFFF0001FFFFL) | ((w13 << 17) & 0x6000000060000L);
+            values[84 + 2 * half] = (int) v21;
+            values[85 + 2 * half] = (int) (v21 >>> 32);
+            final long v22 = (w13 >>> 2) & 0x7FFFF0007FFFFL;
+            values[88 + 2 * half] = (int) v22;
+            values[89 + 2 * half] = (int) (v22 >>> 32);
+            final long v23 = ((w13 >>> 21) & 0x7FF000007FFL) | ((w14 << 11) & 0x7F8000007F800L);
+            values[92 + 2 * half] = (int) v23;
+            values[93 + 2 * half] = (int) (v23 >>> 32);
+            final long v24 = (w14 >>> 8) & 0x7FFFF0007FFFFL;
+            values[96 + 2 * half] = (int) v24;
+            values[97 + 2 * half] = (int) (v24 >>> 32);
+            final long v25 = ((w14 >>> 27) & 0x1F0000001FL) | ((w15 << 5) & 0x7FFE00007FFE0L);
+            values[100 + 2 * half] = (int) v25;
+            values[101 + 2 * half] = (int) (v25 >>> 32);
+            final long v26 = ((w15 >>> 14) & 0x3FFFF0003FFFFL) | ((w16 << 18) & 0x4000000040000L);
+            values[104 + 2 * half] = (int) v26;
+            values[105 + 2 * half] = (int) (v26 >>> 32);
+            final long v27 = (w16 >>> 1) & 0x7FFFF0007FFFFL;
+            values[108 + 2 * half] = (int) v27;
+            values[109 + 2 * half] = (int) (v27 >>> 32);
+            final long v28 = ((w16 >>> 20) & 0xFFF00000FFFL) | ((w17 << 12) & 0x7F0000007F000L);
+            values[112 + 2 * half] = (int) v28;
+            values[113 + 2 * half] = (int) (v28 >>> 32);
+            final long v29 = (w17 >>> 7) & 0x7FFFF0007FFFFL;
+            values[116 + 2 * half] = (int) v29;
+            values[117 + 2 * half] = (int) (v29 >>> 32);
+            final long v30 = ((w17 >>> 26) & 0x3F0000003FL) | ((w18 << 6) & 0x7FFC00007FFC0L);
+            values[120 + 2 * half] = (int) v30;
+            values[121 + 2 * half] = (int) (v30 >>> 32);
+            final long v31 = (w18 >>> 13) & 0x7FFFF0007FFFFL;
+            values[124 + 2 * half] = (int) v31;
+            values[125 + 2 * half] = (int) (v31 >>> 32);
+        }
+    }
+
+    private static void decode20(long[] packed, int[] values) {
+        for (int half = 0; half < 2; half++) {
+            final long w0 = packed[0 + half];
+            final long w1 = packed[2 + half];
+            final long w2 = packed[4 + half];
+            final long w3 = packed[6 + half];
+            final long w4 = packed[8 + half];
+            final long w5 = packed[10 + half];
+            final long w6 = packed[12 + half];
+            final long w7 = packed[14 + half];
+            final long w8 = packed[16 + half];
+            final long w9 = packed[18 + half];
+            final long w10 = packed[20 + half];
+            final long w11 = packed[22 + half];
+            final long w12 = packed[24 + half];
+            final long w13 = packed[26 + half];
+            final long w14 = packed[28 + half];
+            final long w15 = packed[30 + half];
+            final long w16 = packed[32 + half];
+            final long w17 = packed[34 + half];
+            final long w18 = packed[36 + half];
+            final long w19 = packed[38 + half];
+            final long v0 = w0 & 0xFFFFF000FFFFFL;
+            values[0 + 2 * half] = (int) v0;
+            values[1 + 2 * half] = (int) (v0 >>> 32);
+            final long v1 = ((w0 >>> 20) & 0xFFF00000FFFL) | ((w1 << 12) & 0xFF000000FF000L);
+            values[4 + 2 * half] = (int) v1;
+            values[5 + 2 * half] = (int) (v1 >>> 32);
+            final long v2 = (w1 >>> 8) & 0xFFFFF000FFFFFL;
+            values[8 + 2 * half] = (int) v2;
+            values[9 + 2 * half] = (int) (v2 >>> 32);
+            final long v3 = ((w1 >>> 28) & 0xF0000000FL) | ((w2 << 4) & 0xFFFF0000FFFF0L);
+            values[12 + 2 * half] = (int) v3;
+            values[13 + 2 * half] = (int) (v3 >>> 32);
+            final long v4 = ((w2 >>> 16) & 0xFFFF0000FFFFL) | ((w3 << 16) & 0xF0000000F0000L);
+            values[16 + 2 * half] = (int) v4;
+            values[17 + 2 * half] = (int) (v4 >>> 32);
+            final long v5 = (w3 >>> 4) & 0xFFFFF000FFFFFL;
+            values[20 + 2 * half] = (int) v5;
+            values[21 + 2 * half] = (int) (v5 >>> 32);
+            final long v6 = ((w3 >>> 24) & 0xFF000000FFL) | ((w4 << 8) & 0xFFF00000FFF00L);
+            values[24 + 2 * half] = (int) v6;
+            values[25 + 2 * half] = (int) (v6 >>> 32);
+            final long v7 = (w4 >>> 12) & 0xFFFFF000FFFFFL;
+            values[28 + 2 * half] = (int) v7;
+            values[29 + 2 * half] = (int) (v7 >>> 32);
+            final long v8 = w5 & 0xFFFFF000FFFFFL;
+            values[32 + 2 * half] = (int) v8;
+            values[33 + 2 * half] = (int) (v8 >>> 32);
+            final long v9 = ((w5 >>> 20) & 0xFFF00000FFFL) | ((w6 << 12) & 0xFF000000FF000L);
+            values[36 + 2 * half] = (int) v9;
+            values[37 + 2 * half] = (int) (v9 >>> 32);
+            final long v10 = (w6 >>> 8) & 0xFFFFF000FFFFFL;
+            values[40 + 2 * half] = (int) v10;
+            values[41 + 2 * half] = (int) (v10 >>> 32);
+            final long v11 = ((w6 >>> 28) & 0xF0000000FL) | ((w7 << 4) & 0xFFFF0000FFFF0L);
+            values[44 + 2 * half] = (int) v11;
+            values[45 + 2 * half] = (int) (v11 >>> 32);
+            final long v12 = ((w7 >>> 16) & 0xFFFF0000FFFFL) | ((w8 << 16) & 0xF0000000F0000L);
+            values[48 + 2 * half] = (int) v12;
+            values[49 + 2 * half] = (int) (v12 >>> 32);
+            final long v13 = (w8 >>> 4) & 0xFFFFF000FFFFFL;
+            values[52 + 2 * half] = (int) v13;
+            values[53 + 2 * half] = (int) (v13 >>> 32);
+            final long v14 = ((w8 >>> 24) & 0xFF000000FFL) | ((w9 << 8) & 0xFFF00000FFF00L);
+            values[56 + 2 * half] = (int) v14;
+            values[57 + 2 * half] = (int) (v14 >>> 32);
+            final long v15 = (w9 >>> 12) & 0xFFFFF000FFFFFL;
+            values[60 + 2 * half] = (int) v15;
+            values[61 + 2 * half] = (int) (v15 >>> 32);
+            final long v16 = w10 & 0xFFFFF000FFFFFL;
+            values[64 + 2 * half] = (int) v16;
+            values[65 + 2 * half] = (int) (v16 >>> 32);
+            final long v17 = ((w10 >>> 20) & 0xFFF00000FFFL) | ((w11 << 12) & 0xFF000000FF000L);
+            values[68 + 2 * half] = (int) v17;
+            values[69 + 2 * half] = (int) (v17 >>> 32);
+            final long v18 = (w11 >>> 8) & 0xFFFFF000FFFFFL;
+            values[72 + 2 * half] = (int) v18;
+            values[73 + 2 * half] = (int) (v18 >>> 32);
+            final long v19 = ((w11 >>> 28) & 0xF0000000FL) | ((w12 << 4) & 0xFFFF0000FFFF0L);
+            values[76 + 2 * half] = (int) v19;
+            values[77 + 2 * half] = (int) (v19 >>> 32);
+            final long v20 = ((w12 >>> 16) & 0xFFFF0000FFFFL) | ((w13 << 16) & 0xF0000000F0000L);
+            values[80 + 2 * half] = (int) v20;
+            values[81 + 2 * half] = (int) (v20 >>> 32);
+            final long v21 = (w13 >>> 4) & 0xFFFFF000FFFFFL;
+            values[84 + 2 * half] = (int) v21;
+            values[85 + 2 * half] = (int) (v21 >>> 32);
+            final long v22 = ((w13 >>> 24) & 0xFF000000FFL) | ((w14 << 8) & 0xFFF00000FFF00L);
+            values[88 + 2 * half] = (int) v22;
+            values[89 + 2 * half] = (int) (v22 >>> 32);
+            final long v23 = (w14 >>> 12) & 0xFFFFF000FFFFFL;
+            values[92 + 2 * half] = (int) v23;
+            values[93 + 2 * half] = (int) (v23 >>> 32);
+            final long v24 = w15 & 0xFFFFF000FFFFFL;
+            values[96 + 2 * half] = (int) v24;
+            values[97 + 2 * half] = (int) (v24 >>> 32);
+            final long v25 = ((w15 >>> 20) & 0xFFF00000FFFL) | ((w16 << 12) & 0xFF000000FF000L);
+            values[100 + 2 * half] = (int) v25;
+            values[101 + 2 * half] = (int) (v25 >>> 32);
+            final long v26 = (w16 >>> 8) & 0xFFFFF000FFFFFL;
+            values[104 + 2 * half] = (int) v26;
+            values[105 + 2 * half] = (int) (v26 >>> 32);
+            final long v27 = ((w16 >>> 28) & 0xF0000000FL) | ((w17 << 4) & 0xFFFF0000FFFF0L);
+            values[108 + 2 * half] = (int) v27;
+            values[109 + 2 * half] = (int) (v27 >>> 32);
+            final long v28 = ((w17 >>> 16) & 0xFFFF0000FFFFL) | ((w18 << 16) & 0xF0000000F0000L);
+            values[112 + 2 * half] = (int) v28;
+            values[113 + 2 * half] = (int) (v28 >>> 32);
+            final long v29 = (w18 >>> 4) & 0xFFFFF000FFFFFL;
+            values[116 + 2 * half] = (int) v29;
+            values[117 + 2 * half] = (int) (v29 >>> 32);
+            final long v30 = ((w18 >>> 24) & 0xFF000000FFL) | ((w19 << 8) & 0xFFF00000FFF00L);
+            values[120 + 2 * half] = (int) v30;
+            values[121 + 2 * half] = (int) (v30 >>> 32);
+            final long v31 = (w19 >>> 12) & 0xFFFFF000FFFFFL;
+            values[124 + 2 * half] = (int) v31;
+            values[125 + 2 * half] = (int) (v31 >>> 32);
+        }
+    }
+
+    private static void decode21(long[] packed, int[] values) {
+        for (int half = 0; half < 2; half++) {
+            final long w0 = packed[0 + half];
+            final long w1 = packed[2 + half];
+            final long w2 = packed[4 + half];
+            final long w3 = packed[6 + half];
+            final long w4 = packed[8 + half];
+            final long w5 = packed[10 + half];
+            final long w6 = packed[12 + half];
+            final long w7 = packed[14 + half];
+            final long w8 = packed[16 + half];
+            final long w9 = packed[18 + half];
+            final long w10 = packed[20 + half];
+            final long w11 = packed[22 + half];
+            final long w12 = packed[24 + half];
+            final long w13 = packed[26 + half];
+            final long w14 = packed[28 + half];
+            final long w15 = packed[30 + half];
+            final long w16 = packed[32 + half];
+            final long w17 = packed[34 + half];
+            final long w18 = packed[36 + half];
+            final long w19 = packed[38 + half];
+            final long w20 = packed[40 + half];
+            final long v0 = w0 & 0x1FFFFF001FFFFFL;
+            values[0 + 2 * half] = (int) v0;
+            values[1 + 2 * half] = (int) (v0 >>> 32);
+            final long v1 = ((w0 >>> 21) & 0x7FF000007FFL) | ((w1 << 11) & 0x1FF800001FF800L);
+            values[4 + 2 * half] = (int) v1;
+            values[5 + 2 * half] = (int) (v1 >>> 32);
+            final long v2 = (w1 >>> 10) & 0x1FFFFF001FFFFFL;
+            values[8 + 2 * half] = (int) v2;
+            values[9 + 2 * half] = (int) (v2 >>> 32);
+            final long v3 = ((w1 >>> 31) & 0x100000001L) | ((w2 << 1) & 0x1FFFFE001FFFFEL);
+            values[12 + 2 * half] = (int) v3;
+            values[13 + 2 * half] = (int) (v3 >>> 32);
+            final long v4 = ((w2 >>> 20) & 0xFFF00000FFFL) | ((w3 << 12) & 0x1FF000001FF000L);
+            values[16 + 2 * half] = (int) v4;
+            values[17 + 2 * half] = (int) (v4 >>> 32);
+            final long v5 = (w3 >>> 9) & 0x1FFFFF001FFFFFL;
+            values[20 + 2 * half] = (int) v5;
+            values[21 + 2 * half] = (int) (v5 >>> 32);
+            final long v6 = ((w3 >>> 30) & 0x300000003L) | ((w4 << 2) & 0x1FFFFC001FFFFCL);
+            values[24 + 2 * half] = (int) v6;
+            values[25 + 2 * half] = (int) (v6 >>> 32);
+            final long v7 = ((w4 >>> 19) & 0x1FFF00001FFFL) | ((w5 << 13) & 0x1FE000001FE000L);
+            values[28 + 2 * half] = (int) v7;
+            values[29 + 2 * half] = (int) (v7 >>> 32);
+            final long v8 = (w5 >>> 8) & 0x1FFFFF001FFFFFL;
+            values[32 + 2 * half] = (int) v8;
+            values[33 + 2 * half] = (int) (v8 >>> 32);
+            final long v9 = ((w5 >>> 29) & 0x700000007L) | ((w6 << 3) & 0x1FFFF8001FFFF8L);
+            values[36 + 2 * half] = (int) v9;
+            values[37 + 2 * half] = (int) (v9 >>> 32);
+            final long v10 = ((w6 >>> 18) & 0x3FFF00003FFFL) | ((w7 << 14) & 0x1FC000001FC000L);
+            values[40 + 2 * half] = (int) v10;
+            values[41 + 2 * half] = (int) (v10 >>> 32);
+            final long v11 = (w7 >>> 7) & 0x1FFFFF001FFFFFL;
+            values[44 + 2 * half] = (int) v11;
+            values[45 + 2 * half] = (int) (v11 >>> 32);
+            final long v12 = ((w7 >>> 28) & 0xF0000000FL) | ((w8 << 4) & 0x1FFFF0001FFFF0L);
+            values[48 + 2 * half] = (int) v12;
+            values[49 + 2 * half] = (int) (v12 >>> 32);
+            final long v13 = ((w8 >>> 17) & 0x7FFF00007FFFL) | ((w9 << 15) & 0x1F8000001F8000L);
+            values[52 + 2 * half] = (int) v13;
+            values[53 + 2 * half] = (int) (v13 >>> 32);
+            final long v14 = (w9 >>> 6) & 0x1FFFFF001FFFFFL;
+            values[56 + 2 * half] = (int) v14;
+            values[57 + 2 * half] = (int) (v14 >>> 32);
+            final long v15 = ((w9 >>> 27) & 0x1F0000001FL) | ((w10 << 5) & 0x1FFFE0001FFFE0L);
+            values[60 + 2 * half] = (int) v15;
+            values[61 + 2 * half] = (int) (v15 >>> 32);
+            final long v16 = ((w10 >>> 16) & 0xFFFF0000FFFFL) | ((w11 << 16) & 0x1F0000001F0000L);
+            values[64 + 2 * half] = (int) v16;
+            values[65 + 2 * half] = (int) (v16 >>> 32);
+            final long v17 = (w11 >>> 5) & 0x1FFFFF001FFFFFL;
+            values[68 + 2 * half] = (int) v17;
+            values[69 + 2 * half] = (int) (v17 >>> 32);
+            final long v18 = ((w11 >>> 26) & 0x3F0000003FL) | ((w12 << 6) & 0x1FFFC0001FFFC0L);
+            values[72 + 2 * half] = (int) v18;
+            values[73 + 2 * half] = (int) (v18 >>> 32);
+            final long v19 = ((w12 >>> 15) & 0x1FFFF0001FFFFL) | ((w13 << 17) & 0x1E0000001E0000L);
+            values[76 + 2 * half] = (int) v19;
+            values[77 + 2 * half] = (int) (v19 >>> 32);
+            final long v20 = (w13 >>> 4) & 0x1FFFFF001FFFFFL;
+            values[80 + 2 * half] = (int) v20;
+            values[81 + 2 * half] = (int) (v20 >>> 32);
+            final long v21 = ((w13 >>> 25) & 0x7F0000007FL) | ((w14 << 7) & 0x1FFF80001FFF80L);
+            values[84 + 2 * half] = (int) v21;
+            values[85 + 2 * half] = (int) (v21 >>> 32);
+            final long v22 = ((w14 >>> 14) & 0x3FFFF0003FFFFL) | ((w15 << 18) & 0x1C0000001C0000L);
+            values[88 + 2 * half] = (int) v22;
+            values[89 + 2 * half] = (int) (v22 >>> 32);
+            final long v23 = (w15 >>> 3) & 0x1FFFFF001FFFFFL;
+            values[92 + 2 * half] = (int) v23;
+            values[93 + 2 * half] = (int) (v23 >>> 32);
+            final long v24 = ((w15 >>> 24) & 0xFF000000FFL) | ((w16 << 8) & 0x1FFF00001FFF00L);
+            values[96 + 2 * half] = (int) v24;
+            values[97 + 2 * half] = (int) (v24 >>> 32);
+            final long v25 = ((w16 >>> 13) & 0x7FFFF0007FFFFL) | ((w17 << 19) & 0x18000000180000L);
+            values[100 + 2 * half] = (int) v25;
+            values[101 + 2 * half] = (int) (v25 >>> 32);
+            final long v26 = (w17 >>> 2) & 0x1FFFFF001FFFFFL;
+            values[104 + 2 * half] = (int) v26;
+            values[105 + 2 * half] = (int) (v26 >>> 32);
+            final long v27 = ((w17 >>> 23) & 0x1FF000001FFL) | ((w18 << 9) & 0x1FFE00001FFE00L);
+            values[108 + 2 * half] = (int) v27;
+            values[109 + 2 * half] = (int) (v27 >>> 32);
+            final long v28 = ((w18 >>> 12) & 0xFFFFF000FFFFFL) | ((w19 << 20) & 0x10000000100000L);
+            values[112 + 2 * half] = (int) v28;
+            values[113 + 2 * half] = (int) (v28 >>> 32);
+            final long v29 = (w19 >>> 1) & 0x1FFFFF001FFFFFL;
+            values[116 + 2 * half] = (int) v29;
+            values[117 + 2 * half] = (int) (v29 >>> 32);
+            final long v30 = ((w19 >>> 22) & 0x3FF000003FFL) | ((w20 << 10) & 0x1FFC00001FFC00L);
+            values[120 + 2 * half] = (int) v30;
+            values[121 + 2 * half] = (int) (v30 >>> 32);
+            final long v31 = (w20 >>> 11) & 0x1FFFFF001FFFFFL;
+            values[124 + 2 * half] = (int) v31;
+            values[125 + 2 * half] = (int) (v31 >>> 32);
+        }
+    }
+
+    private static void decode22(long[] packed, int[] values) {
+        for (int half = 0; half < 2; half++) {
+            final long w0 = packed[0 + half];
+            final long w1 = packed[2 + half];
+            final long w2 = packed[4 + half];
+            final long w3 = packed[6 + half];
+            final long w4 = packed[8 + half];
+            final long w5 = packed[10 + half];
+            final long w6 = packed[12 + half];
+            final long w7 = packed[14 + half];
+            final long w8 = packed[16 + half];
+            final long w9 = packed[18 + half];
+            final long w10 = packed[20 + half];
+            final long w11 = packed[22 + half];
+            final long w12 = packed[24 + half];
+            final long w13 = packed[26 + half];
+            final long w14 = packed[28 + half];
+            final long w15 = packed[30 + half];
+            final long w16 = packed[32 + half];
+            final long w17 = packed[34 + half];
+            final long w18 = packed[36 + half];
+            final long w19 = packed[38 + half];
+            final long w20 = packed[40 + half];
+            final long w21 = packed[42 + half];
+            final long v0 = w0 & 0x3FFFFF003FFFFFL;
+            values[0 + 2 * half] = (int) v0;
+            values[1 + 2 * half] = (int) (v0 >>> 32);
+            final long v1 = ((w0 >>> 22) & 0x3FF000003FFL) | ((w1 << 10) & 0x3FFC00003FFC00L);
+            values[4 + 2 * half] = (int) v1;
+            values[5 + 2 * half] = (int) (v1 >>> 32);
+            final long v2 = ((w1 >>> 12) & 0xFFFFF000FFFFFL) | ((w2 << 20) & 0x30000000300000L);
+            values[8 + 2 * half] = (int) v2;
+            values[9 + 2 * half] = (int) (v2 >>> 32);
+            final long v3 = (w2 >>> 2) & 0x3FFFFF003FFFFFL;
+            values[12 + 2 * half] = (int) v3;
+            values[13 + 2 * half] = (int) (v3 >>> 32);
+            final long v4 = ((w2 >>> 24) & 0xFF000000FFL) | ((w3 << 8) & 0x3FFF00003FFF00L);
+            values[16 + 2 * half] = (int) v4;
+            values[17 + 2 * half] = (int) (v4 >>> 32);
+            final long v5 = ((w3 >>> 14) & 0x3FFFF0003FFFFL) | ((w4 << 18) & 0x3C0000003C0000L);
+            values[20 + 2 * half] = (int) v5;
+            values[21 + 2 * half] = (int) (v5 >>> 32);
+            final long v6 = (w4 >>> 4) & 0x3FFFFF003FFFFFL;
+            values[24 + 2 * half] = (int) v6;
+            values[25 + 2 * half] = (int) (v6 >>> 32);
+            final long v7 = ((w4 >>> 26) & 0x3F0000003FL) | ((w5 << 6) & 0x3FFFC0003FFFC0L);
+            values[28 + 2 * half] = (int) v7;
+            values[29 + 2 * half] = (int) (v7 >>> 32);
+            final long v8 = ((w5 >>> 16) & 0xFFFF0000FFFFL) | ((w6 << 16) & 0x3F0000003F0000L);
+            values[32 + 2 * half] = (int) v8;
+            values[33 + 2 * half] = (int) (v8 >>> 32);
+            final long v9 = (w6 >>> 6) & 0x3FFFFF003FFFFFL;
+            values[36 + 2 * half] = (int) v9;
+            values[37 + 2 * half] = (int) (v9 >>> 32);
+            final long v10 = ((w6 >>> 28) & 0xF0000000FL) | ((w7 << 4) & 0x3FFFF0003FFFF0L);
+            values[40 + 2 * half] = (int) v10;
+            values[41 + 2 * half] = (int) (v10 >>> 32);
+            final long v11 = ((w7 >>> 18) & 0x3FFF00003FFFL) | ((w8 << 14) & 0x3FC000003FC000L);
+            values[44 + 2 * half] = (int) v11;
+            values[45 + 2 * half] = (int) (v11 >>> 32);
+            final long v12 = (w8 >>> 8) & 0x3FFFFF003FFFFFL;
+            values[48 + 2 * half] = (int) v12;
+            values[49 + 2 * half] = (int) (v12 >>> 32);
+            final long v13 = ((w8 >>> 30) & 0x300000003L) | ((w9 << 2) & 0x3FFFFC003FFFFCL);
+            values[52 + 2 * half] = (int) v13;
+            values[53 + 2 * half] = (int) (v13 >>> 32);
+            final long v14 = ((w9 >>> 20) & 0xFFF00000FFFL) | ((w10 << 12) & 0x3FF000003FF000L);
+            values[56 + 2 * half] = (int) v14;
+            values[57 + 2 * half] = (int) (v14 >>> 32);
+            final long v15 = (w10 >>> 10) & 0x3FFFFF003FFFFFL;
+            values[60 + 2 * half] = (int) v15;
+            values[61 + 2 * half] = (int) (v15 >>> 32);
+            final long v16 = w11 & 0x3FFFFF003FFFFFL;
+            values[64 + 2 * half] = (int) v16;
+            values[65 + 2 * half] = (int) (v16 >>> 32);
+            final long v17 = ((w11 >>> 22) & 0x3FF000003FFL) | ((w12 << 10) & 0x3FFC00003FFC00L);
+            values[68 + 2 * half] = (int) v17;
+            values[69 + 2 * half] = (int) (v17 >>> 32);
+            final long v18 = ((w12 >>> 12) & 0xFFFFF000FFFFFL) | ((w13 << 20) & 0x30000000300000L);
+            values[72 + 2 * half] = (int) v18;
+            values[73 + 2 * half] = (int) (v18 >>> 32);
+            final long v19 = (w13 >>> 2) & 0x3FFFFF003FFFFFL;
+            values[76 + 2 * half] = (int) v19;
+            values[77 + 2 * half] = (int) (v19 >>> 32);
+            final long v20 = ((w13 >>> 24) & 0xFF000000FFL) | ((w14 << 8) & 0x3FFF00003FFF00L);
+            values[80 + 2 * half] = (int) v20;
+            values[81 + 2 * half] = (int) (v20 >>> 32);
+            final long v21 = ((w14 >>> 14) & 0x3FFFF0003FFFFL) | ((w15 << 18) & 0x3C0000003C0000L);
+            values[84 + 2 * half] = (int) v21;
+            values[85 + 2 * half] = (int) (v21 >>> 32);
+            final long v22 = (w15 >>> 4) & 0x3FFFFF003FFFFFL;
+            values[88 + 2 * half] = (int) v22;
+            values[89 + 2 * half] = (int) (v22 >>> 32);
+            final long v23 = ((w15 >>> 26) & 0x3F0000003FL) | ((w16 << 6) & 0x3FFFC0003FFFC0L);
+            values[92 + 2 * half] = (int) v23;
+            values[93 + 2 * half] = (int) (v23 >>> 32);
+            final long v24 = ((w16 >>> 16) & 0xFFFF0000FFFFL) | ((w17 << 16) & 0x3F0000003F0000L);
+            values[96 + 2 * half] = (int) v24;
+            values[97 + 2 * half] = (int) (v24 >>> 32);
+            final long v25 = (w17 >>> 6) & 0x3FFFFF003FFFFFL;
+            values[100 + 2 * half] = (int) v25;
+            values[101 + 2 * half] = (int) (v25 >>> 32);
+            final long v26 = ((w17 >>> 28) & 0xF0000000FL) | ((w18 << 4) & 0x3FFFF0003FFFF0L);
+            values[104 + 2 * half] = (int) v26;
+            values[105 + 2 * half] = (int) (v26 >>> 32);
+            final long v27 = ((w18 >>> 18) & 0x3FFF00003FFFL) | ((w19 << 14) & 0x3FC000003FC000L);
+            values[108 + 2 * half] = (int) v27;
+            values[109 + 2 * half] = (int) (v27 >>> 32);
+            final long v28 = (w19 >>> 8) & 0x3FFFFF003FFFFFL;
+            values[112 + 2 * half] = (int) v28;
+            values[113 + 2 * half] = (int) (v28 >>> 32);
+            final long v29 = ((w19 >>> 30) & 0x300000003L) | ((w20 << 2) & 0x3FFFFC003FFFFCL);
+            values[116 + 2 * half] = (int) v29;
+            values[117 + 2 * half] = (int) (v29 >>> 32);
+            final long v30 = ((w20 >>> 20) & 0xFFF00000FFFL) | ((w21 << 12) & 0x3FF000003FF000L);
+            values[120 + 2 * half] = (int) v30;
+            values[121 + 2 * half] = (int) (v30 >>> 32);
+            final long v31 = (w21 >>> 10) & 0x3FFFFF003FFFFFL;
+            values[124 + 2 * half] = (int) v31;
+            values[125 + 2 * half] = (int) (v31 >>> 32);
+        }
+    }
+
+    private static void decode23(long[] packed, int[] values) {
+        for (int half = 0; half < 2; half++) {
+            final long w0 = packed[0 + half];
+            final long w1 = packed[2 + half];
+            final long w2 = packed[4 + half];
+            final long w3 = packed[6 + half];
+            final long w4 = packed[8 + half];
+            final long w5 = packed[10 + half];
+            final long w6 = packed[12 + half];
+            final long w7 = packed[14 + half];
+            final long w8 = packed[16 + half];
+            final long w9 = packed[18 + half];
+            final long w10 = packed[20 + half];
+            final long w11 = packed[22 + half];
+            final long w12 = packed[24 + half];
+            final long w13 = packed[26 + half];
+            final long w14 = packed[28 + half];
+            final long w15 = packed[30 + half];
+            final long w16 = packed[32 + half];
+            final long w17 = packed[34 + half];
+            final long w18 = packed[36 + half];
+            final long w19 = packed[38 + half];
+            final long w20 = packed[40 + half];
+            final long w21 = packed[42 + half];
+            final long w22 = packed[44 + half];
+            final long v0 = w0 & 0x7FFFFF007FFFFFL;
+            values[0 + 2 * half] = (int) v0;
+            values[1 + 2 * half] = (int) (v0 >>> 32);
+            final long v1 = ((w0 >>> 23) & 0x1FF000001FFL) | ((w1 << 9) & 0x7FFE00007FFE00L);
+            values[4 + 2 * half] = (int) v1;
+            values[5 + 2 * half] = (int) (v1 >>> 32);
+            final long v2 = ((w1 >>> 14) & 0x3FFFF0003FFFFL) | ((w2 << 18) & 0x7C0000007C0000L);
+            values[8 + 2 * half] = (int) v2;
+            values[9 + 2 * half] = (int) (v2 >>> 32);
+            final long v3 = (w2 >>> 5) & 0x7FFFFF007FFFFFL;
+            values[12 + 2 * half] = (int) v3;
+            values[13 + 2 * half] = (int) (v3 >>> 32);
+            final long v4 = ((w2 >>> 28) & 0xF0000000FL) | ((w3 << 4) & 0x7FFFF0007FFFF0L);
+            values[16 + 2 * half] = (int) v4;
+            values[17 + 2 * half] = (int) (v4 >>> 32);
+            final long v5 = ((w3 >>> 19) & 0x1FFF00001FFFL) | ((w4 << 13) & 0x7FE000007FE000L);
+            values[20 + 2 * half] = (int) v5;
+            values[21 + 2 * half] = (int) (v5 >>> 32);
+            final long v6 = ((w4 >>> 10) & 0x3FFFFF003FFFFFL) | ((w5 << 22) & 0x40000000400000L);
+            values[24 + 2 * half] = (int) v6;
+            values[25 + 2 * half] = (int) (v6 >>> 32);
+            final long v7 = (w5 >>> 1) & 0x7FFFFF007FFFFFL;
+            values[28 + 2 * half] = (int) v7;
+            values[29 + 2 * half] = (int) (v7 >>> 32);
+            final long v8 = ((w5 >>> 24) & 0xFF000000FFL) | ((w6 << 8) & 0x7FFF00007FFF00L);
+            values[32 + 2 * half] = (int) v8;
+            values[33 + 2 * half] = (int) (v8 >>> 32);
+            final long v9 = ((w6 >>> 15) & 0x1FFFF0001FFFFL) | ((w7 << 17) & 0x7E0000007E0000L);
+            values[36 + 2 * half] = (int) v9;
+            values[37 + 2 * half] = (int) (v9 >>> 32);
+            final long v10 = (w7 >>> 6) & 0x7FFFFF007FFFFFL;
+            values[40 + 2 * half] = (int) v10;
+            values[41 + 2 * half] = (int) (v10 >>> 32);
+            final long v11 = ((w7 >>> 29) & 0x700000007L) | ((w8 << 3) & 0x7FFFF8007FFFF8L);
+            values[44 + 2 * half] = (int) v11;
+            values[45 + 2 * half] = (int) (v11 >>> 32);
+            final long v12 = ((w8 >>> 20) & 0xFFF00000FFFL) | ((w9 << 12) & 0x7FF000007FF000L);
+            values[48 + 2 * half] = (int) v12;
+            values[49 + 2 * half] = (int) (v12 >>> 32);
+            final long v13 = ((w9 >>> 11) & 0x1FFFFF001FFFFFL) | ((w10 << 21) & 0x60000000600000L);
+            values[52 + 2 * half] = (int) v13;
+            values[53 + 2 * half] = (int) (v13 >>> 32);
+            final long v14 = (w10 >>> 2) & 0x7FFFFF007FFFFFL;
+            values[56 + 2 * half] = (int) v14;
+            values[57 + 2 * half] = (int) (v14 >>> 32);
+            final long v15 = ((w10 >>> 25) & 0x7F0000007FL) | ((w11 << 7) & 0x7FFF80007FFF80L);
+            values[60 + 2 * half] = (int) v15;
+            values[61 + 2 * half] = (int) (v15 >>> 32);
+            final long v16 = ((w11 >>> 16) & 0xFFFF0000FFFFL) | ((w12 << 16) & 0x7F0000007F0000L);
+            values[64 + 2 * half] = (int) v16;
+            values[65 + 2 * half] = (int) (v16 >>> 32);
+            final long v17 = (w12 >>> 7) & 0x7FFFFF007FFFFFL;
+            values[68 + 2 * half] = (int) v17;
+            values[69 + 2 * half] = (int) (v17 >>> 32);
+            final long v18 = ((w12 >>> 30) & 0x300000003L) | ((w13 << 2) & 0x7FFFFC007FFFFCL);
+            values[72 + 2 * half] = (int) v18;
+            values[73 + 2 * half] = (int) (v18 >>> 32);
+            final long v19 = ((w13 >>> 21) & 0x7FF000007FFL) | ((w14 << 11) & 0x7FF800007FF800L);
+            values[76 + 2 * half] = (int) v19;
+            values[77 + 2 * half] = (int) (v19 >>> 32);
+            final long v20 = ((w14 >>> 12) & 0xFFFFF000FFFFFL) | ((w15 << 20) & 0x70000000700000L);
+            values[80 + 2 * half] = (int) v20;
+            values[81 + 2 * half] = (int) (v20 >>> 32);
+            final long v21 = (w15 >>> 3) & 0x7FFFFF007FFFFFL;
+            values[84 + 2 * half] = (int) v21;
+            values[85 + 2 * half] = (int) (v21 >>> 32);
+            final long v22 = ((w15 >>> 26) & 0x3F0000003FL) | ((w16 << 6) & 0x7FFFC0007FFFC0L);
+            values[88 + 2 * half] = (int) v22;
+            values[89 + 2 * half] = (int) (v22 >>> 32);
+            final long v23 = ((w16 >>> 17) & 0x7FFF00007FFFL) | ((w17 << 15) & 0x7F8000007F8000L);
+            values[92 + 2 * half] = (int) v23;
+            values[93 + 2 * half] = (int) (v23 >>> 32);
+            final long v24 = (w17 >>> 8) & 0x7FFFFF007FFFFFL;
+            values[96 + 2 * half] = (int) v24;
+            values[97 + 2 * half] = (int) (v24 >>> 32);
+            final long v25 = ((w17 >>> 31) & 0x100000001L) | ((w18 << 1) & 0x7FFFFE007FFFFEL);
+            values[100 + 2 * half] = (int) v25;
+            values[101 + 2 * half] = (int) (v25 >>> 32);
+            final long v26 = ((w18 >>> 22) & 0x3FF000003FFL) | ((w19 << 10) & 0x7FFC00007FFC00L);
+            values[104 + 2 * half] = (int) v26;
+            values[105 + 2 * half] = (int) (v26 >>> 32);
+            final long v27 = ((w19 >>> 13) & 0x7FFFF0007FFFFL) | ((w20 << 19) & 0x78000000780000L);
+            values[108 + 2 * half] = (int) v27;
+            values[109 + 2 * half] = (int) (v27 >>> 32);
+            final long v28 = (w20 >>> 4) & 0x7FFFFF007FFFFFL;
+            values[112 + 2 * half] = (int) v28;
+            values[113 + 2 * half] = (int) (v28 >>> 32);
+            final long v29 = ((w20 >>> 27) & 0x1F0000001FL) | ((w21 << 5) & 0x7FFFE0007FFFE0L);
+            values[116 + 2 * half] = (int) v29;
+            values[117 + 2 * half] = (int) (v29 >>> 32);
+            final long v30 = ((w21 >>> 18) & 0x3FFF00003FFFL) | ((w22 << 14) & 0x7FC000007FC000L);
+            values[120 + 2 * half] = (int) v30;
+            values[121 + 2 * half] = (int) (v30 >>> 32);
+            final long v31 = (w22 >>> 9) & 0x7FFFFF007FFFFFL;
+            values[124 + 2 * half] = (int) v31;
+            values[125 + 2 * half] = (int) (v31 >>> 32);
+        }
+    }
+
+    private static void decode24(long[] packed, int[] values) {
+        for (int half = 0; half < 2; half++) {
+            final long w0 = packed[0 + half];
+            final long w1 = packed[2 + half];
+            final long w2 = packed[4 + half];
+            final long w3 = packed[6 + half];
+            final long w4 = packed[8 + half];
+            final long w5 = packed[10 + half];
+            final long w6 = packed[12 + half];
+            final long w7 = packed[14 + half];
+            final long w8 = packed[16 + half];
+            final long w9 = packed[18 + half];
+            final long w10 = packed[20 + half];
+            final long w11 = packed[22 + half];
+            final long w12 = packed[24 + half];
+            final long w13 = packed[26 + half];
+            final long w14 = packed[28 + half];
+            final long w15 = packed[30 + half];
+            final long w16 = packed[32 + half];
+            final long w17 = packed[34 + half];
+            final long w18 = packed[36 + half];
+            final long w19 = packed[38 + half];
+            final long w20 = packed[40 + half];
+            final long w21 = packed[42 + half];
+            final long w22 = packed[44 + half];
+            final long w23 = packed[46 + half];
+            final long v0 = w0 & 0xFFFFFF00FFFFFFL;
+            values[0 + 2 * half] = (int) v0;
+            values[1 + 2 * half] = (int) (v0 >>> 32);
+            final long v1 = ((w0 >>> 24) & 0xFF000000FFL) | ((w1 << 8) & 0xFFFF0000FFFF00L);
+            values[4 + 2 * half] = (int) v1;
+            values[5 + 2 * half] = (int) (v1 >>> 32);
+            final long v2 = ((w1 >>> 16) & 0xFFFF0000FFFFL) | ((w2 << 16) & 0xFF000000FF0000L);
+            values[8 + 2 * half] = (int) v2;
+            values[9 + 2 * half] = (int) (v2 >>> 32);
+            final long v3 = (w2 >>> 8) & 0xFFFFFF00FFFFFFL;
+            values[12 + 2 * half] = (int) v3;
+            values[13 + 2 * half] = (int) (v3 >>> 32);
+            final long v4 = w3 & 0xFFFFFF00FFFFFFL;
+            values[16 + 2 * half] = (int) v4;
+            values[17 + 2 * half] = (int) (v4 >>> 32);
+            final long v5 = ((w3 >>> 24) & 0xFF000000FFL) | ((w4 << 8) & 0xFFFF0000FFFF00L);
+            values[20 + 2 * half] = (int) v5;
+            values[21 + 2 * half] = (int) (v5 >>> 32);
+            final long v6 = ((w4 >>> 16) & 0xFFFF0000FFFFL) | ((w5 << 16) & 0xFF000000FF0000L);
+            values[24 + 2 * half] = (int) v6;
+            values[25 + 2 * half] = (int) (v6 >>> 32);
+            final long v7 = (w5 >>> 8) & 0xFFFFFF00FFFFFFL;
+            values[28 + 2 * half] = (int) v7;
+            values[29 + 2 * half] = (int) (v7 >>> 32);
+            final long v8 = w6 & 0xFFFFFF00FFFFFFL;
+            values[32 + 2 * half] = (int) v8;
+            values[33 + 2 * half] = (int) (v8 >>> 32);
+            final long v9 = ((w6 >>> 24) & 0xFF000000FFL) | ((w7 << 8) & 0xFFFF0000FFFF00L);
+            values[36 + 2 * half] = (int) v9;
+            values[37 + 2 * half] = (int) (v9 >>> 32);
+            final long v10 = ((w7 >>> 16) & 0xFFFF0000FFFFL) | ((w8 << 16) & 0xFF000000FF0000L);
+            values[40 + 2 * half] = (int) v10;
+            values[41 + 2 * half] = (int) (v10 >>> 32);
+            final long v11 = (w8 >>> 8) & 0xFFFFFF00FFFFFFL;
+            values[44 + 2 * half] = (int) v11;
+            values[45 + 2 * half] = (int) (v11 >>> 32);
+            final long v12 = w9 & 0xFFFFFF00FFFFFFL;
+            values[48 + 2 * half] = (int) v12;
+            values[49 + 2 * half] = (int) (v12 >>> 32);
+            final long v13 = ((w9 >>> 24) & 0xFF000000FFL) | ((w10 << 8) & 0xFFFF0000FFFF00L);
+            values[52 + 2 * half] = (int) v13;
+            values[53 + 2 * half] = (int) (v13 >>> 32);
+            final long v14 = ((w10 >>> 16) & 0xFFFF0000FFFFL) | ((w11 << 16) & 0xFF000000FF0000L);
+            values[56 + 2 * half] = (int) v14;
+            values[57 + 2 * half] = (int) (v14 >>> 32);
+            final long v15 = (w11 >>> 8) & 0xFFFFFF00FFFFFFL;
+            values[60 + 2 * half] = (int) v15;
+            values[61 + 2 * half] = (int) (v15 >>> 32);
+            final long v16 = w12 & 0xFFFFFF00FFFFFFL;
+            values[64 + 2 * half] = (int) v16;
+            values[65 + 2 * half] = (int) (v16 >>> 32);
+            final long v17 = ((w12 >>> 24) & 0xFF000000FFL) | ((w13 << 8) & 0xFFFF0000FFFF00L);
+            values[68 + 2 * half] = (int) v17;
+            values[69 + 2 * half] = (int) (v17 >>> 32);
+            final long v18 = ((w13 >>> 16) & 0xFFFF0000FFFFL) | ((w14 << 16) & 0xFF000000FF0000L);
+            values[72 + 2 * half] = (int) v18;
+            values[73 + 2 * half] = (int) (v18 >>> 32);
+            final long v19 = (w14 >>> 8) & 0xFFFFFF00FFFFFFL;
+            values[76 + 2 * half] = (int) v19;
+            values[77 + 2 * half] = (int) (v19 >>> 32);
+            final long v20 = w15 & 0xFFFFFF00FFFFFFL;
+            values[80 + 2 * half] = (int) v20;
+            values[81 + 2 * half] = (int) (v20 >>> 32);
+            final long v21 = ((w15 >>> 24) & 0xFF000000FFL) | ((w16 << 8) & 0xFFFF0000FFFF00L);
+            values[84 + 2 * half] = (int) v21;
+            values[85 + 2 * half] = (int) (v21 >>> 32);
+            final long v22 = ((w16 >>> 16) & 0xFFFF0000FFFFL) | ((w17 << 16) & 0xFF000000FF0000L);
+            values[88 + 2 * half] = (int) v22;
+            values[89 + 2 * half] = (int) (v22 >>> 32);
+            final long v23 = (w17 >>> 8) & 0xFFFFFF00FFFFFFL;
+            values[92 + 2 * half] = (int) v23;
+            values[93 + 2 * half] = (int) (v23 >>> 32);
+            final long v24 = w18 & 0xFFFFFF00FFFFFFL;
+            values[96 + 2 * half] = (int) v24;
+            values[97 + 2 * half] = (int) (v24 >>> 32);
+            final long v25 = ((w18 >>> 24) & 0xFF000000FFL) | ((w19 << 8) & 0xFFFF0000FFFF00L);
+            values[100 + 2 * half] = (int) v25;
+            values[101 + 2 * half] = (int) (v25 >>> 32);
+            final long v26 = ((w19 >>> 16) & 0xFFFF0000FFFFL) | ((w20 << 16) & 0xFF000000FF0000L);
+            values[104 + 2 * half] = (int) v26;
+            values[105 + 2 * half] = (int) (v26 >>> 32);
+            final long v27 = (w20 >>> 8) & 0xFFFFFF00FFFFFFL;
+            values[108 + 2 * half] = (int) v27;
+            values[109 + 2 * half] = (int) (v27 >>> 32);
+            final long v28 = w21 & 0xFFFFFF00FFFFFFL;
+            values[112 + 2 * half] = (int) v28;
+            values[113 + 2 * half] = (int) (v28 >>> 32);
+            final long v29 = ((w21 >>> 24) & 0xFF000000FFL) | ((w22 << 8) & 0xFFFF0000FFFF00L);
+            values[116 + 2 * half] = (int) v29;
+            values[117 + 2 * half] = (int) (v29 >>> 32);
+            final long v30 = ((w22 >>> 16) & 0xFFFF0000FFFFL) | ((w23 << 16) & 0xFF000000FF0000L);
+            values[120 + 2 * half] = (int) v30;
+            values[121 + 2 * half] = (int) (v30 >>> 32);
+            final long v31 = (w23 >>> 8) & 0xFFFFFF00FFFFFFL;
+            values[124 + 2 * half] = (int) v31;
+            values[125 + 2 * half] = (int) (v31 >>> 32);
+        }
+    }
+
+    private static void decode25(long[] packed, int[] values) {
+        for (int half = 0; half < 2; half++) {
+            final long w0 = packed[0 + half];
+            final long w1 = packed[2 + half];
+            final long w2 = packed[4 + half];
+            final long w3 = packed[6 + half];
+            final long w4 = packed[8 + half];
+            final long w5 = packed[10 + half];
+            final long w6 = packed[12 + half];
+            final long w7 = packed[14 + half];
+            final long w8 = packed[16 + half];
+            final long w9 = packed[18 + half];
+            final long w10 = packed[20 + half];
+            final long w11 = packed[22 + half];
+            final long w12 = packed[24 + half];
+            final long w13 = packed[26 + half];
+            final long w14 = packed[28 + half];
+            final long w15 = packed[30 + half];
+            final long w16 = packed[32 + half];
+            final long w17 = packed[34 + half];
+            final long w18 = packed[36 + half];
+            final long w19 = packed[38 + half];
+            final long w20 = packed[40 + half];
+            final long w21 = packed[42 + half];
+            final long w22 = packed[44 + half];
+            final long w23 = packed[46 + half];
+            final long w24 = packed[48 + half];
+            final long v0 = w0 & 0x1FFFFFF01FFFFFFL;
+            values[0 + 2 * half] = (int) v0;
+            values[1 + 2 * half] = (int) (v0 >>> 32);
+            final long v1 = ((w0 >>> 25) & 0x7F0000007FL) | ((w1 << 7) & 0x1FFFF8001FFFF80L);
+            values[4 + 2 * half] = (int) v1;
+            values[5 + 2 * half] = (int) (v1 >>> 32);
+            final long v2 = ((w1 >>> 18) & 0x3FFF00003FFFL) | ((w2 << 14) & 0x1FFC00001FFC000L);
+            values[8 + 2 * half] = (int) v2;
+            values[9 + 2 * half] = (int) (v2 >>> 32);
+            final long v3 = ((w2 >>> 11) & 0x1FFFFF001FFFFFL) | ((w3 << 21) & 0x1E0000001E00000L);
+            values[12 + 2 * half] = (int) v3;
+            values[13 + 2 * half] = (int) (v3 >>> 32);
+            final long v4 = (w3 >>> 4) & 0x1FFFFFF01FFFFFFL;
+            values[16 + 2 * half] = (int) v4;
+            values[17 + 2 * half] = (int) (v4 >>> 32);
+            final long v5 = ((w3 >>> 29) & 0x700000007L) | ((w4 << 3) & 0x1FFFFF801FFFFF8L);
+            values[20 + 2 * half] = (int) v5;
+            values[21 + 2 * half] = (int) (v5 >>> 32);
+            final long v6 = ((w4 >>> 22) & 0x3FF000003FFL) | ((w5 << 10) & 0x1FFFC0001FFFC00L);
+            values[24 + 2 * half] = (int) v6;
+            values[25 + 2 * half] = (int) (v6 >>> 32);
+            final long v7 = ((w5 >>> 15) & 0x1FFFF0001FFFFL) | ((w6 << 17) & 0x1FE000001FE0000L);
+            values[28 + 2 * half] = (int) v7;
+            values[29 + 2 * half] = (int) (v7 >>> 32);
+            final long v8 = ((w6 >>> 8) & 0xFFFFFF00FFFFFFL) | ((w7 << 24) & 0x100000001000000L);
+            values[32 + 2 * half] = (int) v8;
+            values[33 + 2 * half] = (int) (v8 >>> 32);
+            final long v9 = (w7 >>> 1) & 0x1FFFFFF01FFFFFFL;
+            values[36 + 2 * half] = (int) v9;
+            values[37 + 2 * half] = (int) (v9 >>> 32);
+            final long v10 = ((w7 >>> 26) & 0x3F0000003FL) | ((w8 << 6) & 0x1FFFFC001FFFFC0L);
+            values[40 + 2 * half] = (int) v10;
+            values[41 + 2 * half] = (int) (v10 >>> 32);
+            final long v11 = ((w8 >>> 19) & 0x1FFF00001FFFL) | ((w9 << 13) & 0x1FFE00001FFE000L);
+            values[44 + 2 * half] = (int) v11;
+            values[45 + 2 * half] = (int) (v11 >>> 32);
+            final long v12 = ((w9 >>> 12) & 0xFFFFF000FFFFFL) | ((w10 << 20) & 0x1F0000001F00000L);
+            values[48 + 2 * half] = (int) v12;
+            values[49 + 2 * half] = (int) (v12 >>> 32);
+            final long v13 = (w10 >>> 5) & 0x1FFFFFF01FFFFFFL;
+            values[52 + 2 * half] = (int) v13;
+            values[53 + 2 * half] = (int) (v13 >>> 32);
+            final long v14 = ((w10 >>> 30) & 0x300000003L) | ((w11 << 2) & 0x1FFFFFC01FFFFFCL);
+            values[56 + 2 * half] = (int) v14;
+            values[57 + 2 * half] = (int) (v14 >>> 32);
+            final long v15 = ((w11 >>> 23) & 0x1FF000001FFL) | ((w12 << 9) & 0x1FFFE0001FFFE00L);
+            values[60 + 2 * half] = (int) v15;
+            values[61 + 2 * half] = (int) (v15 >>> 32);
+            final long v16 = ((w12 >>> 16) & 0xFFFF0000FFFFL) | ((w13 << 16) & 0x1FF000001FF0000L);
+            values[64 + 2 * half] = (int) v16;
+            values[65 + 2 * half] = (int) (v16 >>> 32);
+            final long v17 = ((w13 >>> 9) & 0x7FFFFF007FFFFFL) | ((w14 << 23) & 0x180000001800000L);
+            values[68 + 2 * half] = (int) v17;
+            values[69 + 2 * half] = (int) (v17 >>> 32);
+            final long v18 = (w14 >>> 2) & 0x1FFFFFF01FFFFFFL;
+            values[72 + 2 * half] = (int) v18;
+            values[73 + 2 * half] = (int) (v18 >>> 32);
+            final long v19 = ((w14 >>> 27) & 0x1F0000001FL) | ((w15 << 5) & 0x1FFFFE001FFFFE0L);
+            values[76 + 2 * half] = (int) v19;
+            values[77 + 2 * half] = (int) (v19 >>> 32);
+            final long v20 = ((w15 >>> 20) & 0xFFF00000FFFL) | ((w16 << 12) & 0x1FFF00001FFF000L);
+            values[80 + 2 * half] = (int) v20;
+            values[81 + 2 * half] = (int) (v20 >>> 32);
+            final long v21 = ((w16 >>> 13) & 0x7FFFF0007FFFFL) | ((w17 << 19) & 0x1F8000001F80000L);
+            values[84 + 2 * half] = (int) v21;
+            values[85 + 2 * half] = (int) (v21 >>> 32);
+            final long v22 = (w17 >>> 6) & 0x1FFFFFF01FFFFFFL;
+            values[88 + 2 * half] = (int) v22;
+            values[89 + 2 * half] = (int) (v22 >>> 32);
+            final long v23 = ((w17 >>> 31) & 0x100000001L) | ((w18 << 1) & 0x1FFFFFE01FFFFFEL);
+            values[92 + 2 * half] = (int) v23;
+            values[93 + 2 * half] = (int) (v23 >>> 32);
+            final long v24 = ((w18 >>> 24) & 0xFF000000FFL) | ((w19 << 8) & 0x1FFFF0001FFFF00L);
+            values[96 + 2 * half] = (int) v24;
+            values[97 + 2 * half] = (int) (v24 >>> 32);
+            final long v25 = ((w19 >>> 17) & 0x7FFF00007FFFL) | ((w20 << 15) & 0x1FF800001FF8000L);
+            values[100 + 2 * half] = (int) v25;
+            values[101 + 2 * half] = (int) (v25 >>> 32);
+            final long v26 = ((w20 >>> 10) & 0x3FFFFF003FFFFFL) | ((w21 << 22) & 0x1C0000001C00000L);
+            values[104 + 2 * half] = (int) v26;
+            values[105 + 2 * half] = (int) (v26 >>> 32);
+            final long v27 = (w21 >>> 3) & 0x1FFFFFF01FFFFFFL;
+            values[108 + 2 * half] = (int) v27;
+            values[109 + 2 * half] = (int) (v27 >>> 32);
+            final long v28 = ((w21 >>> 28) & 0xF0000000FL) | ((w22 << 4) & 0x1FFFFF001FFFFF0L);
+            values[112 + 2 * half] = (int) v28;
+            values[113 + 2 * half] = (int) (v28 >>> 32);
+            final long v29 = ((w22 >>> 21) & 0x7FF000007FFL) | ((w23 << 11) & 0x1FFF80001FFF800L);
+            values[116 + 2 * half] = (int) v29;
+            values[117 + 2 * half] = (int) (v29 >>> 32);
+            final long v30 = ((w23 >>> 14) & 0x3FFFF0003FFFFL) | ((w24 << 18) & 0x1FC000001FC0000L);
+            values[120 + 2 * half] = (int) v30;
+            values[121 + 2 * half] = (int) (v30 >>> 32);
+            final long v31 = (w24 >>> 7) & 0x1FFFFFF01FFFFFFL;
+            values[124 + 2 * half] = (int) v31;
+            values[125 + 2 * half] = (int) (v31 >>> 32);
+        }
+    }
+
+    private static void decode26(long[] packed, int[] values) {
+        for (int half = 0; half < 2; half++) {
+            final long w0 = packed[0 + half];
+            final long w1 = packed[2 + half];
+            final long w2 = packed[4 + half];
+            final long w3 = packed[6 + half];
+            final long w4 = packed[8 + half];
+            final long w5 = packed[10 + half];
+            final long w6 = packed[12 + half];
+            final long w7 = packed[14 + half];
+            final long w8 = packed[16 + half];
+            final long w9 = packed[18 + half];
+            final long w10 = packed[20 + half];
+            final long w11 = packed[22 + half];
+            final long w12 = packed[24 + half];
+            final long w13 = packed[26 + half];
+            final long w14 = packed[28 + half];
+            final long w15 = packed[30 + half];
+            final long w16 = packed[32 + half];
+            final long w17 = packed[34 + half];
+            final long w18 = packed[36 + half];
+            final long w19 = packed[38 + half];
+            final long w20 = packed[40 + half];
+            final long w21 = packed[42 + half];
+            final long w22 = packed[44 + half];
+            final long w23 = packed[46 + half];
+            final long w24 = packed[48 + half];
+            final long w25 = packed[50 + half];
+            final long v0 = w0 & 0x3FFFFFF03FFFFFFL;
+            values[0 + 2 * half] = (int) v0;
+            values[1 + 2 * half] = (int) (v0 >>> 32);
+            final long v1 = ((w0 >>> 26) & 0x3F0000003FL) | ((w1 << 6) & 0x3FFFFC003FFFFC0L);
+            values[4 + 2 * half] = (int) v1;
+            values[5 + 2 * half] = (int) (v1 >>> 32);
+            final long v2 = ((w1 >>> 20) & 0xFFF00000FFFL) | ((w2 << 12) & 0x3FFF00003FFF000L);
+            values[8 + 2 * half] = (int) v2;
+            values[9 + 2 * half] = (int) (v2 >>> 32);
+            final long v3 = ((w2 >>> 14) & 0x3FFFF0003FFFFL) | ((w3 << 18) & 0x3FC000003FC0000L);
+            values[12 + 2 * half] = (int) v3;
+            values[13 + 2 * half] = (int) (v3 >>> 32);
+            final long v4 = ((w3 >>> 8) & 0xFFFFFF00FFFFFFL) | ((w4 << 24) & 0x300000003000000L);
+            values[16 + 2 * half] = (int) v4;
+            values[17 + 2 * half] = (int) (v4 >>> 32);
+            final long v5 = (w4 >>> 2) & 0x3FFFFFF03FFFFFFL;
+            values[20 + 2 * half] = (int) v5;
+            values[21 + 2 * half] = (int) (v5 >>> 32);
+            final long v6 = ((w4 >>> 28) & 0xF0000000FL) | ((w5 << 4) & 0x3FFFFF003FFFFF0L);
+            values[24 + 2 * half] = (int) v6;
+            values[25 + 2 * half] = (int) (v6 >>> 32);
+            final long v7 = ((w5 >>> 22) & 0x3FF000003FFL) | ((w6 << 10) & 0x3FFFC0003FFFC00L);
+            values[28 + 2 * half] = (int) v7;
+            values[29 + 2 * half] = (int) (v7 >>> 32);
+            final long v8 = ((w6 >>> 16) & 0xFFFF0000FFFFL) | ((w7 << 16) & 0x3FF000003FF0000L);
+            values[32 + 2 * half] = (int) v8;
+            values[33 + 2 * half] = (int) (v8 >>> 32);
+            final long v9 = ((w7 >>> 10) & 0x3FFFFF003FFFFFL) | ((w8 << 22) & 0x3C0000003C00000L);
+            values[36 + 2 * half] = (int) v9;
+            values[37 + 2 * half] = (int) (v9 >>> 32);
+            final long v10 = (w8 >>> 4) & 0x3FFFFFF03FFFFFFL;
+            values[40 + 2 * half] = (int) v10;
+            values[41 + 2 * half] = (int) (v10 >>> 32);
+            final long v11 = ((w8 >>> 30) & 0x300000003L) | ((w9 << 2) & 0x3FFFFFC03FFFFFCL);
+            values[44 + 2 * half] = (int) v11;
+            values[45 + 2 * half] = (int) (v11 >>> 32);
+            final long v12 = ((w9 >>> 24) & 0xFF000000FFL) | ((w10 << 8) & 0x3FFFF0003FFFF00L);
+            values[48 + 2 * half] = (int) v12;
+            values[49 + 2 * half] = (int) (v12 >>> 32);
+            final long v13 = ((w10 >>> 18) & 0x3FFF00003FFFL) | ((w11 << 14) & 0x3FFC00003FFC000L);
+            values[52 + 2 * half] = (int) v13;
+            values[53 + 2 * half] = (int) (v13 >>> 32);
+            final long v14 = ((w11 >>> 12) & 0xFFFFF000FFFFFL) | ((w12 << 20) & 0x3F0000003F00000L);
+            values[56 + 2 * half] = (int) v14;
+            values[57 + 2 * half] = (int) (v14 >>> 32);
+            final long v15 = (w12 >>> 6) & 0x3FFFFFF03FFFFFFL;
+            values[60 + 2 * half] = (int) v15;
+            values[61 + 2 * half] = (int) (v15 >>> 32);
+            final long v16 = w13 & 0x3FFFFFF03FFFFFFL;
+            values[64 + 2 * half] = (int) v16;
+            values[65 + 2 * half] = (int) (v16 >>> 32);
+            final long v17 = ((w13 >>> 26) & 0x3F0000003FL) | ((w14 << 6) & 0x3FFFFC003FFFFC0L);
+            values[68 + 2 * half] = (int) v17;
+            values[69 + 2 * half] = (int) (v17 >>> 32);
+            final long v18 = ((w14 >>> 20) & 0xFFF00000FFFL) | ((w15 << 12) & 0x3FFF00003FFF000L);
+            values[72 + 2 * half] = (int) v18;
+            values[73 + 2 * half] = (int) (v18 >>> 32);
+            final long v19 = ((w15 >>> 14) & 0x3FFFF0003FFFFL) | ((w16 << 18) & 0x3FC000003FC0000L);
+            values[76 + 2 * half] = (int) v19;
+            values[77 + 2 * half] = (int) (v19 >>> 32);
+            final long v20 = ((w16 >>> 8) & 0xFFFFFF00FFFFFFL) | ((w17 << 24) & 0x300000003000000L);
+            values[80 + 2 * half] = (int) v20;
+            values[81 + 2 * half] = (int) (v20 >>> 32);
+            final long v21 = (w17 >>> 2) & 0x3FFFFFF03FFFFFFL;
+            values[84 + 2 * half] = (int) v21;
+            values[85 + 2 * half] = (int) (v21 >>> 32);
+            final long v22 = ((w17 >>> 28) & 0xF0000000FL) | ((w18 << 4) & 0x3FFFFF003FFFFF0L);
+            values[88 + 2 * half] = (int) v22;
+            values[89 + 2 * half] = (int) (v22 >>> 32);
+            final long v23 = ((w18 >>> 22) & 0x3FF000003FFL) | ((w19 << 10) & 0x3FFFC0003FFFC00L);
+            values[92 + 2 * half] = (int) v23;
+            values[93 + 2 * half] = (int) (v23 >>> 32);
+            final long v24 = ((w19 >>> 16) & 0xFFFF0000FFFFL) | ((w20 << 16) & 0x3FF000003FF0000L);
+            values[96 + 2 * half] = (int) v24;
+            values[97 + 2 * half] = (int) (v24 >>> 32);
+            final long v25 = ((w20 >>> 10) & 0x3FFFFF003FFFFFL) | ((w21 << 22) & 0x3C0000003C00000L);
+            values[100 + 2 * half] = (int) v25;
+            values[101 + 2 * half] = (int) (v25 >>> 32);
+            final long v26 = (w21 >>> 4) & 0x3FFFFFF03FFFFFFL;
+            values[104 + 2 * half] = (int) v26;
+            values[105 + 2 * half] = (int) (v26 >>> 32);
+            final long v27 = ((w21 >>> 30) & 0x300000003L) | ((w22 << 2) & 0x3FFFFFC03FFFFFCL);
+            values[108 + 2 * half] = (int) v27;
+            values[109 + 2 * half] = (int) (v27 >>> 32);
+            final long v28 = ((w22 >>> 24) & 0xFF000000FFL) | ((w23 << 8) & 0x3FFFF0003FFFF00L);
+            values[112 + 2 * half] = (int) v28;
+            values[113 + 2 * half] = (int) (v28 >>> 32);
+            final long v29 = ((w23 >>> 18) & 0x3FFF00003FFFL) | ((w24 << 14) & 0x3FFC00003FFC000L);
+            values[116 + 2 * half] = (int) v29;
+            values[117 + 2 * half] = (int) (v29 >>> 32);
+            final long v30 = ((w24 >>> 12) & 0xFFFFF000FFFFFL) | ((w25 << 20) & 0x3F0000003F00000L);
+            values[120 + 2 * half] = (int) v30;
+            values[121 + 2 * half] = (int) (v30 >>> 32);
+            final long v31 = (w25 >>> 6) & 0x3FFFFFF03FFFFFFL;
+            values[124 + 2 * half] = (int) v31;
+            values[125 + 2 * half] = (int) (v31 >>> 32);
+        }
+    }
+
+    private static void decode27(long[] packed, int[] values) {
+        for (int half = 0; half < 2; half++) {
+            final long w0 = packed[0 + half];
+            final long w1 = packed[2 + half];
+            final long w2 = packed[4 + half];
+            final long w3 = packed[6 + half];
+            final long w4 = packed[8 + half];
+            final long w5 = packed[10 + half];
+            final long w6 = packed[12 + half];
+            final long w7 = packed[14 + half];
+            final long w8 = packed[16 + half];
+            final long w9 = packed[18 + half];
+            final long w10 = packed[20 + half];
+            final long w11 = packed[22 + half];
+            final long w12 = packed[24 + half];
+            final long w13 = packed[26 + half];
+            final long w14 = packed[28 + half];
+            final long w15 = packed[30 + half];
+            final long w16 = packed[32 + half];
+            final long w17 = packed[34 + half];
+            final long w18 = packed[36 + half];
+            final long w19 = packed[38 + half];
+            final long w20 = packed[40 + half];
+            final long w21 = packed[42 + half];
+            final long w22 = packed[44 + half];
+            final long w23 = packed[46 + half];
+            final long w24 = packed[48 + half];
+            final long w25 = packed[50 + half];
+            final long w26 = packed[52 + half];
+            final long v0 = w0 & 0x7FFFFFF07FFFFFFL;
+            values[0 + 2 * half] = (int) v0;
+            values[1 + 2 * half] = (int) (v0 >>> 32);
+            final long v1 = ((w0 >>> 27) & 0x1F0000001FL) | ((w1 << 5) & 0x7FFFFE007FFFFE0L);
+            values[4 + 2 * half] = (int) v1;
+            values[5 + 2 * half] = (int) (v1 >>> 32);
+            final long v2 = ((w1 >>> 22) & 0x3FF000003FFL) | ((w2 << 10) & 0x7FFFC0007FFFC00L);
+            values[8 + 2 * half] = (int) v2;
+            values[9 + 2 * half] = (int) (v2 >>> 32);
+            final long v3 = ((w2 >>> 17) & 0x7FFF00007FFFL) | ((w3 << 15) & 0x7FF800007FF8000L);
+            values[12 + 2 * half] = (int) v3;
+            values[13 + 2 * half] = (int) (v3 >>> 32);
+            final long v4 = ((w3 >>> 12) & 0xFFFFF000FFFFFL) | ((w4 << 20) & 0x7F0000007F00000L);
+            values[16 + 2 * half] = (int) v4;
+            values[17 + 2 * half] = (int) (v4 >>> 32);
+            final long v5 = ((w4 >>> 7) & 0x1FFFFFF01FFFFFFL) | ((w5 << 25) & 0x600000006000000L);
+            values[20 + 2 * half] = (int) v5;
+            values[21 + 2 * half] = (int) (v5 >>> 32);
+            final long v6 = (w5 >>> 2) & 0x7FFFFFF07FFFFFFL;
+            values[24 + 2 * half] = (int) v6;
+            values[25 + 2 * half] = (int) (v6 >>> 32);
+            final long v7 = ((w5 >>> 29) & 0x700000007L) | ((w6 << 3) & 0x7FFFFF807FFFFF8L);
+            values[28 + 2 * half] = (int) v7;
+            values[29 + 2 * half] = (int) (v7 >>> 32);
+            final long v8 = ((w6 >>> 24) & 0xFF000000FFL) | ((w7 << 8) & 0x7FFFF0007FFFF00L);
+            values[32 + 2 * half] = (int) v8;
+            values[33 + 2 * half] = (int) (v8 >>> 32);
+            final long v9 = ((w7 >>> 19) & 0x1FFF00001FFFL) | ((w8 << 13) & 0x7FFE00007FFE000L);
+            values[36 + 2 * half] = (int) v9;
+            values[37 + 2 * half] = (int) (v9 >>> 32);
+            final long v10 = ((w8 >>> 14) & 0x3FFFF0003FFFFL) | ((w9 << 18) & 0x7FC000007FC0000L);
+            values[40 + 2 * half] = (int) v10;
+            values[41 + 2 * half] = (int) (v10 >>> 32);
+            final long v11 = ((w9 >>> 9) & 0x7FFFFF007FFFFFL) | ((w10 << 23) & 0x780000007800000L);
+            values[44 + 2 * half] = (int) v11;
+            values[45 + 2 * half] = (int) (v11 >>> 32);
+            final long v12 = (w10 >>> 4) & 0x7FFFFFF07FFFFFFL;
+            values[48 + 2 * half] = (int) v12;
+            values[49 + 2 * half] = (int) (v12 >>> 32);
+            final long v13 = ((w10 >>> 31) & 0x100000001L) | ((w11 << 1) & 0x7FFFFFE07FFFFFEL);
+            values[52 + 2 * half] = (int) v13;
+            values[53 + 2 * half] = (int) (v13 >>> 32);
+            final long v14 = ((w11 >>> 26) & 0x3F0000003FL) | ((w12 << 6) & 0x7FFFFC007FFFFC0L);
+            values[56 + 2 * half] = (int) v14;
+            values[57 + 2 * half] = (int) (v14 >>> 32);
+            final long v15 = ((w12 >>> 21) & 0x7FF000007FFL) | ((w13 << 11) & 0x7FFF80007FFF800L);
+            values[60 + 2 * half] = (int) v15;
+            values[61 + 2 * half] = (int) (v15 >>> 32);
+            final long v16 = ((w13 >>> 16) & 0xFFFF0000FFFFL) | ((w14 << 16) & 0x7FF000007FF0000L);
+            values[64 + 2 * half] = (int) v16;
+            values[65 + 2 * half] = (int) (v16 >>> 32);
+            final long v17 = ((w14 >>> 11) & 0x1FFFFF001FFFFFL) | ((w15 << 21) & 0x7E0000007E00000L);
+            values[68 + 2 * half] = (int) v17;
+            values[69 + 2 * half] = (int) (v17 >>> 32);
+            final long v18 = ((w15 >>> 6) & 0x3FFFFFF03FFFFFFL) | ((w16 << 26) & 0x400000004000000L);
+            values[72 + 2 * half] = (int) v18;
+            values[73 + 2 * half] = (int) (v18 >>> 32);
+            final long v19 = (w16 >>> 1) & 0x7FFFFFF07FFFFFFL;
+            values[76 + 2 * half] = (int) v19;
+            values[77 + 2 * half] = (int) (v19 >>> 32);
+            final long v20 = ((w16 >>> 28) & 0xF0000000FL) | ((w17 << 4) & 0x7FFFFF007FFFFF0L);
+            values[80 + 2 * half] = (int) v20;
+            values[81 + 2 * half] = (int) (v20 >>> 32);
+            final long v21 = ((w17 >>> 23) & 0x1FF000001FFL) | ((w18 << 9) & 0x7FFFE0007FFFE00L);
+            values[84 + 2 * half] = (int) v21;
+            values[85 + 2 * half] = (int) (v21 >>> 32);
+            final long v22 = ((w18 >>> 18) & 0x3FFF00003FFFL) | ((w19 << 14) & 0x7FFC00007FFC000L);
+            values[88 + 2 * half] = (int) v22;
+            values[89 + 2 * half] = (int) (v22 >>> 32);
+            final long v23 = ((w19 >>> 13) & 0x7FFFF0007FFFFL) | ((w20 << 19) & 0x7F8000007F80000L);
+            values[92 + 2 * half] = (int) v23;
+            values[93 + 2 * half] = (int) (v23 >>> 32);
+            final long v24 = ((w20 >>> 8) & 0xFFFFFF00FFFFFFL) | ((w21 << 24) & 0x700000007000000L);
+            values[96 + 2 * half] = (int) v24;
+            values[97 + 2 * half] = (int) (v24 >>> 32);
+            final long v25 = (w21 >>> 3) & 0x7FFFFFF07FFFFFFL;
+            values[100 + 2 * half] = (int) v25;
+            values[101 + 2 * half] = (int) (v25 >>> 32);
+            final long v26 = ((w21 >>> 30) & 0x300000003L) | ((w22 << 2) & 0x7FFFFFC07FFFFFCL);
+            values[104 + 2 * half] = (int) v26;
+            values[105 + 2 * half] = (int) (v26 >>> 32);
+            final long v27 = ((w22 >>> 25) & 0x7F0000007FL) | ((w23 << 7) & 0x7FFFF8007FFFF80L);
+            values[108 + 2 * half] = (int) v27;
+            values[109 + 2 * half] = (int) (v27 >>> 32);
+            final long v28 = ((w23 >>> 20) & 0xFFF00000FFFL) | ((w24 << 12) & 0x7FFF00007FFF000L);
+            values[112 + 2 * half] = (int) v28;
+            values[113 + 2 * half] = (int) (v28 >>> 32);
+            final long v29 = ((w24 >>> 15) & 0x1FFFF0001FFFFL) | ((w25 << 17) & 0x7FE000007FE0000L);
+            values[116 + 2 * half] = (int) v29;
+            values[117 + 2 * half] = (int) (v29 >>> 32);
+            final long v30 = ((w25 >>> 10) & 0x3FFFFF003FFFFFL) | ((w26 << 22) & 0x7C0000007C00000L);
+            values[120 + 2 * half] = (int) v30;
+            values[121 + 2 * half] = (int) (v30 >>> 32);
+            final long v31 = (w26 >>> 5) & 0x7FFFFFF07FFFFFFL;
+            values[124 + 2 * half] = (int) v31;
+            values[125 + 2 * half] = (int) (v31 >>> 32);
+        }
+    }
+
+    private static void decode28(long[] packed, int[] values) {
+        for (int half = 0; half < 2; half++) {
+            final long w0 = packed[0 + half];
+            final long w1 = packed[2 + half];
+            final long w2 = packed[4 + half];
+            final long w3 = packed[6 + half];
+            final long w4 = packed[8 + half];
+            final long w5 = packed[10 + half];
+            final long w6 = packed[12 + half];
+            final long w7 = packed[14 + half];
+            final long w8 = packed[16 + half];
+            final long w9 = packed[18 + half];
+            final long w10 = packed[20 + half];
+            final long w11 = packed[22 + half];
+            final long w12 = packed[24 + half];
+            final long w13 = packed[26 + half];
+            final long w14 = packed[28 + half];
+            final long w15 = packed[30 + half];
+            final long w16 = packed[32 + half];
+            final long w17 = packed[34 + half];
+            final long w18 = packed[36 + half];
+            final long w19 = packed[38 + half];
+            final long w20 = packed[40 + half];
+            final long w21 = packed[42 + half];
+            final long w22 = packed[44 + half];
+            final long w23 = packed[46 + half];
+            final long w24 = packed[48 + half];
+            final long w25 = packed[50 + half];
+            final long w26 = packed[52 + half];
+            final long w27 = packed[54 + half];
+            final long v0 = w0 & 0xFFFFFFF0FFFFFFFL;
+            values[0 + 2 * half] = (int) v0;
+            values[1 + 2 * half] = (int) (v0 >>> 32);
+            final long v1 = ((w0 >>> 28) & 0xF0000000FL) | ((w1 << 4) & 0xFFFFFF00FFFFFF0L);
+            values[4 + 2 * half] = (int) v1;
+            values[5 + 2 * half] = (int) (v1 >>> 32);
+            final long v2 = ((w1 >>> 24) & 0xFF000000FFL) | ((w2 << 8) & 0xFFFFF000FFFFF00L);
+            values[8 + 2 * half] = (int) v2;
+            values[9 + 2 * half] = (int) (v2 >>> 32);
+            final long v3 = ((w2 >>> 20) & 0xFFF00000FFFL) | ((w3 << 12) & 0xFFFF0000FFFF000L);
+            values[12 + 2 * half] = (int) v3;
+            values[13 + 2 * half] = (int) (v3 >>> 32);
+            final long v4 = ((w3 >>> 16) & 0xFFFF0000FFFFL) | ((w4 << 16) & 0xFFF00000FFF0000L);
+            values[16 + 2 * half] = (int) v4;
+            values[17 + 2 * half] = (int) (v4 >>> 32);
+            final long v5 = ((w4 >>> 12) & 0xFFFFF000FFFFFL) | ((w5 << 20) & 0xFF000000FF00000L);
+            values[20 + 2 * half] = (int) v5;
+            values[21 + 2 * half] = (int) (v5 >>> 32);
+            final long v6 = ((w5 >>> 8) & 0xFFFFFF00FFFFFFL) | ((w6 << 24) & 0xF0000000F000000L);
+            values[24 + 2 * half] = (int) v6;
+            values[25 + 2 * half] = (int) (v6 >>> 32);
+            final long v7 = (w6 >>> 4) & 0xFFFFFFF0FFFFFFFL;
+            values[28 + 2 * half] = (int) v7;
+            values[29 + 2 * half] = (int) (v7 >>> 32);
+            final long v8 = w7 & 0xFFFFFFF0FFFFFFFL;
+            values[32 + 2 * half] = (int) v8;
+            values[33 + 2 * half] = (int) (v8 >>> 32);
+            final long v9 = ((w7 >>> 28) & 0xF0000000FL) | ((w8 << 4) & 0xFFFFFF00FFFFFF0L);
+            values[36 + 2 * half] = (int) v9;
+            values[37 + 2 * half] = (int) (v9 >>> 32);
+            final long v10 = ((w8 >>> 24) & 0xFF000000FFL) | ((w9 << 8) & 0xFFFFF000FFFFF00L);
+            values[40 + 2 * half] = (int) v10;
+            values[41 + 2 * half] = (int) (v10 >>> 32);
+            final long v11 = ((w9 >>> 20) & 0xFFF00000FFFL) | ((w10 << 12) & 0xFFFF0000FFFF000L);
+            values[44 + 2 * half] = (int) v11;
+            values[45 + 2 * half] = (int) (v11 >>> 32);
+            final long v12 = ((w10 >>> 16) & 0xFFFF0000FFFFL) | ((w11 << 16) & 0xFFF00000FFF0000L);
+            values[48 + 2 * half] = (int) v12;
+            values[49 + 2 * half] = (int) (v12 >>> 32);
+            final long v13 = ((w11 >>> 12) & 0xFFFFF000FFFFFL) | ((w12 << 20) & 0xFF000000FF00000L);
+            values[52 + 2 * half] = (int) v13;
+            values[53 + 2 * half] = (int) (v13 >>> 32);
+            final long v14 = ((w12 >>> 8) & 0xFFFFFF00FFFFFFL) | ((w13 << 24) & 0xF0000000F000000L);
+            values[56 + 2 * half] = (int) v14;
+            values[57 + 2 * half] = (int) (v14 >>> 32);
+            final long v15 = (w13 >>> 4) & 0xFFFFFFF0FFFFFFFL;
+            values[60 + 2 * half] = (int) v15;
+            values[61 + 2 * half] = (int) (v15 >>> 32);
+            final long v16 = w14 & 0xFFFFFFF0FFFFFFFL;
+            values[64 + 2 * half] = (int) v16;
+            values[65 + 2 * half] = (int) (v16 >>> 32);
+            final long v17 = ((w14 >>> 28) & 0xF0000000FL) | ((w15 << 4) & 0xFFFFFF00FFFFFF0L);
+            values[68 + 2 * half] = (int) v17;
+            values[69 + 2 * half] = (int) (v17 >>> 32);
+            final long v18 = ((w15 >>> 24) & 0xFF000000FFL) | ((w16 << 8) & 0xFFFFF000FFFFF00L);
+            values[72 + 2 * half] = (int) v18;
+            values[73 + 2 * half] = (int) (v18 >>> 32);
+            final long v19 = ((w16 >>> 20) & 0xFFF00000FFFL) | ((w17 << 12) & 0xFFFF0000FFFF000L);
+            values[76 + 2 * half] = (int) v19;
+            values[77 + 2 * half] = (int) (v19 >>> 32);
+            final long v20 = ((w17 >>> 16) & 0xFFFF0000FFFFL) | ((w18 << 16) & 0xFFF00000FFF0000L);
+            values[80 + 2 * half] = (int) v20;
+            values[81 + 2 * half] = (int) (v20 >>> 32);
+            final long v21 = ((w18 >>> 12) & 0xFFFFF000FFFFFL) | ((w19 << 20) & 0xFF000000FF00000L);
+            values[84 + 2 * half] = (int) v21;
+            values[85 + 2 * half] = (int) (v21 >>> 32);
+            final long v22 = ((w19 >>> 8) & 0xFFFFFF00FFFFFFL) | ((w20 << 24) & 0xF0000000F000000L);
+            values[88 + 2 * half] = (int) v22;
+            values[89 + 2 * half] = (int) (v22 >>> 32);
+            final long v23 = (w20 >>> 4) & 0xFFFFFFF0FFFFFFFL;
+            values[92 + 2 * half] = (int) v23;
+            values[93 + 2 * half] = (int) (v23 >>> 32);
+            final long v24 = w21 & 0xFFFFFFF0FFFFFFFL;
+            values[96 + 2 * half] = (int) v24;
+            values[97 + 2 * half] = (int) (v24 >>> 32);
+            final long v25 = ((w21 >>> 28) & 0xF0000000FL) | ((w22 << 4) & 0xFFFFFF00FFFFFF0L);
+            values[100 + 2 * half] = (int) v25;
+            values[101 + 2 * half] = (int) (v25 >>> 32);
+            final long v26 = ((w22 >>> 24) & 0xFF000000FFL) | ((w23 << 8) & 0xFFFFF000FFFFF00L);
+            values[104 + 2 * half] = (int) v26;
+            values[105 + 2 * half] = (int) (v26 >>> 32);
+            final long v27 = ((w23 >>> 20) & 0xFFF00000FFFL) | ((w24 << 12) & 0xFFFF0000FFFF000L);
+            values[108 + 2 * half] = (int) v27;
+            values[109 + 2 * half] = (int) (v27 >>> 32);
+            final long v28 = ((w24 >>> 16) & 0xFFFF0000FFFFL) | ((w25 << 16) & 0xFFF00000FFF0000L);
+            values[112 + 2 * half] = (int) v28;
+            values[113 + 2 * half] = (int) (v28 >>> 32);
+            final long v29 = ((w25 >>> 12) & 0xFFFFF000FFFFFL) | ((w26 << 20) & 0xFF000000FF00000L);
+            values[116 + 2 * half] = (int) v29;
+            values[117 + 2 * half] = (int) (v29 >>> 32);
+            final long v30 = ((w26 >>> 8) & 0xFFFFFF00FFFFFFL) | ((w27 << 24) & 0xF0000000F000000L);
+            values[120 + 2 * half] = (int) v30;
+            values[121 + 2 * half] = (int) (v30 >>> 32);
+            final long v31 = (w27 >>> 4) & 0xFFFFFFF0FFFFFFFL;
+            values[124 + 2 * half] = (int) v31;
+            values[125 + 2 * half] = (int) (v31 >>> 32);
+        }
+    }
+
+    private static void decode29(long[] packed, int[] values) {
+        for (int half = 0; half < 2; half++) {
+            final long w0 = packed[0 + half];
+            final long w1 = packed[2 + half];
+            final long w2 = packed[4 + half];
+            final long w3 = packed[6 + half];
+            final long w4 = packed[8 + half];
+            final long w5 = packed[10 + half];
+            final long w6 = packed[12 + half];
+            final long w7 = packed[14 + half];
+            final long w8 = packed[16 + half];
+            final long w9 = packed[18 + half];
+            final long w10 = packed[20 + half];
+            final long w11 = packed[22 + half];
+            final long w12 = packed[24 + half];
+            final long w13 = packed[26 + half];
+            final long w14 = packed[28 + half];
+            final long w15 = packed[30 + half];
+            final long w16 = packed[32 + half];
+            final long w17 = packed[34 + half];
+            final long w18 = packed[36 + half];
+            final long w19 = packed[38 + half];
+            final long w20 = packed[40 + half];
+            final long w21 = packed[42 + half];
+            final long w22 = packed[44 + half];
+            final long w23 = packed[46 + half];
+            final long w24 = packed[48 + half];
+            final long w25 = packed[50 + half];
+            final long w26 = packed[52 + half];
+            final long w27 = packed[54 + half];
+            final long w28 = packed[56 + half];
+            final long v0 = w0 & 0x1FFFFFFF1FFFFFFFL;
+            values[0 + 2 * half] = (int) v0;
+            values[1 + 2 * half] = (int) (v0 >>> 32);
+            final long v1 = ((w0 >>> 29) & 0x700000007L) | ((w1 << 3) & 0x1FFFFFF81FFFFFF8L);
+            values[4 + 2 * half] = (int) v1;
+            values[5 + 2 * half] = (int) (v1 >>> 32);
+            final long v2 = ((w1 >>> 26) & 0x3F0000003FL) | ((w2 << 6) & 0x1FFFFFC01FFFFFC0L);
+            values[8 + 2 * half] = (int) v2;
+            values[9 + 2 * half] = (int) (v2 >>> 32);
+            final long v3 = ((w2 >>> 23) & 0x1FF000001FFL) | ((w3 << 9) & 0x1FFFFE001FFFFE00L);
+            values[12 + 2 * half] = (int) v3;
+            values[13 + 2 * half] = (int) (v3 >>> 32);
+            final long v4 = ((w3 >>> 20) & 0xFFF00000FFFL) | ((w4 << 12) & 0x1FFFF0001FFFF000L);
+            values[16 + 2 * half] = (int) v4;
+            values[17 + 2 * half] = (int) (v4 >>> 32);
+            final long v5 = ((w4 >>> 17) & 0x7FFF00007FFFL) | ((w5 << 15) & 0x1FFF80001FFF8000L);
+            values[20 + 2 * half] = (int) v5;
+            values[21 + 2 * half] = (int) (v5 >>> 32);
+            final long v6 = ((w5 >>> 14) & 0x3FFFF0003FFFFL) | ((w6 << 18) & 0x1FFC00001FFC0000L);
+            values[24 + 2 * half] = (int) v6;
+            values[25 + 2 * half] = (int) (v6 >>> 32);
+            final long v7 = ((w6 >>> 11) & 0x1FFFFF001FFFFFL) | ((w7 << 21) & 0x1FE000001FE00000L);
+            values[28 + 2 * half] = (int) v7;
+            values[29 + 2 * half] = (int) (v7 >>> 32);
+            final long v8 = ((w7 >>> 8) & 0xFFFFFF00FFFFFFL) | ((w8 << 24) & 0x1F0000001F000000L);
+            values[32 + 2 * half] = (int) v8;
+            values[33 + 2 * half] = (int) (v8 >>> 32);
+            final long v9 = ((w8 >>> 5) & 0x7FFFFFF07FFFFFFL) | ((w9 << 27) & 0x1800000018000000L);
+            values[36 + 2 * half] = (int) v9;
+            values[37 + 2 * half] = (int) (v9 >>> 32);
+            final long v10 = (w9 >>> 2) & 0x1FFFFFFF1FFFFFFFL;
+            values[40 + 2 * half] = (int) v10;
+            values[41 + 2 * half] = (int) (v10 >>> 32);
+            final long v11 = ((w9 >>> 31) & 0x100000001L) | ((w10 << 1) & 0x1FFFFFFE1FFFFFFEL);
+            values[44 + 2 * half] = (int) v11;
+            values[45 + 2 * half] = (int) (v11 >>> 32);
+            final long v12 = ((w10 >>> 28) & 0xF0000000FL) | ((w11 << 4) & 0x1FFFFFF01FFFFFF0L);
+            values[48 + 2 * half] = (int) v12;
+            values[49 + 2 * half] = (int) (v12 >>> 32);
+            final long v13 = ((w11 >>> 25) & 0x7F0000007FL) | ((w12 << 7) & 0x1FFFFF801FFFFF80L);
+            values[52 + 2 * half] = (int) v13;
+            values[53 + 2 * half] = (int) (v13 >>> 32);
+            final long v14 = ((w12 >>> 22) & 0x3FF000003FFL) | ((w13 << 10) & 0x1FFFFC001FFFFC00L);
+            values[56 + 2 * half] = (int) v14;
+            values[57 + 2 * half] = (int) (v14 >>> 32);
+            final long v15 = ((w13 >>> 19) & 0x1FFF00001FFFL) | ((w14 << 13) & 0x1FFFE0001FFFE000L);
+            values[60 + 2 * half] = (int) v15;
+            values[61 + 2 * half] = (int) (v15 >>> 32);
+            final long v16 = ((w14 >>> 16) & 0xFFFF0000FFFFL) | ((w15 << 16) & 0x1FFF00001FFF0000L);
+            values[64 + 2 * half] = (int) v16;
+            values[65 + 2 * half] = (int) (v16 >>> 32);
+            final long v17 = ((w15 >>> 13) & 0x7FFFF0007FFFFL) | ((w16 << 19) & 0x1FF800001FF80000L);
+            values[68 + 2 * half] = (int) v17;
+            values[69 + 2 * half] = (int) (v17 >>> 32);
+            final long v18 = ((w16 >>> 10) & 0x3FFFFF003FFFFFL) | ((w17 << 22) & 0x1FC000001FC00000L);
+            values[72 + 2 * half] = (int) v18;
+            values[73 + 2 * half] = (int) (v18 >>> 32);
+            final long v19 = ((w17 >>> 7) & 0x1FFFFFF01FFFFFFL) | ((w18 << 25) & 0x1E0000001E000000L);
+            values[76 + 2 * half] = (int) v19;
+            values[77 + 2 * half] = (int) (v19 >>> 32);
+            final long v20 = ((w18 >>> 4) & 0xFFFFFFF0FFFFFFFL) | ((w19 << 28) & 0x1000000010000000L);
+            values[80 + 2 * half] = (int) v20;
+            values[81 + 2 * half] = (int) (v20 >>> 32);
+            final long v21 = (w19 >>> 1) & 0x1FFFFFFF1FFFFFFFL;
+            values[84 + 2 * half] = (int) v21;
+            values[85 + 2 * half] = (int) (v21 >>> 32);
+            final long v22 = ((w19 >>> 30) & 0x300000003L) | ((w20 << 2) & 0x1FFFFFFC1FFFFFFCL);
+            values[88 + 2 * half] = (int) v22;
+            values[89 + 2 * half] = (int) (v22 >>> 32);
+            final long v23 = ((w20 >>> 27) & 0x1F0000001FL) | ((w21 << 5) & 0x1FFFFFE01FFFFFE0L);
+            values[92 + 2 * half] = (int) v23;
+            values[93 + 2 * half] = (int) (v23 >>> 32);
+            final long v24 = ((w21 >>> 24) & 0xFF000000FFL) | ((w22 << 8) & 0x1FFFFF001FFFFF00L);
+            values[96 + 2 * half] = (int) v24;
+            values[97 + 2 * half] = (int) (v24 >>> 32);
+            final long v25 = ((w22 >>> 21) & 0x7FF000007FFL) | ((w23 << 11) & 0x1FFFF8001FFFF800L);
+            values[100 + 2 * half] = (int) v25;
+            values[101 + 2 * half] = (int) (v25 >>> 32);
+            final long v26 = ((w23 >>> 18) & 0x3FFF00003FFFL) | ((w24 << 14) & 0x1FFFC0001FFFC000L);
+            values[104 + 2 * half] = (int) v26;
+            values[105 + 2 * half] = (int) (v26 >>> 32);
+            final long v27 = ((w24 >>> 15) & 0x1FFFF0001FFFFL) | ((w25 << 17) & 0x1FFE00001FFE0000L);
+            values[108 + 2 * half] = (int) v27;
+            values[109 + 2 * half] = (int) (v27 >>> 32);
+            final long v28 = ((w25 >>> 12) & 0xFFFFF000FFFFFL) | ((w26 << 20) & 0x1FF000001FF00000L);
+            values[112 + 2 * half] = (int) v28;
+            values[113 + 2 * half] = (int) (v28 >>> 32);
+            final long v29 = ((w26 >>> 9) & 0x7FFFFF007FFFFFL) | ((w27 << 23) & 0x1F8000001F800000L);
+            values[116 + 2 * half] = (int) v29;
+            values[117 + 2 * half] = (int) (v29 >>> 32);
+            final long v30 = ((w27 >>> 6) & 0x3FFFFFF03FFFFFFL) | ((w28 << 26) & 0x1C0000001C000000L);
+            values[120 + 2 * half] = (int) v30;
+            values[121 + 2 * half] = (int) (v30 >>> 32);
+            final long v31 = (w28 >>> 3) & 0x1FFFFFFF1FFFFFFFL;
+            values[124 + 2 * half] = (int) v31;
+            values[125 + 2 * half] = (int) (v31 >>> 32);
+        }
+    }
+
+    private static void decode30(long[] packed, int[] values) {
+        for (int half = 0; half < 2; half++) {
+            final long w0 = packed[0 + half];
+            final long w1 = packed[2 + half];
+            final long w2 = packed[4 + half];
+            final long w3 = packed[6 + half];
+            final long w4 = packed[8 + half];
+            final long w5 = packed[10 + half];
+            final long w6 = packed[12 + half];
+            final long w7 = packed[14 + half];
+            final long w8 = packed[16 + half];
+            final long w9 = packed[18 + half];
+            final long w10 = packed[20 + half];
+            final long w11 = packed[22 + half];
+            final long w12 = packed[24 + half];
+            final long w13 = packed[26 + half];
+            final long w14 = packed[28 + half];
+            final long w15 = packed[30 + half];
+            final long w16 = packed[32 + half];
+            final long w17 = packed[34 + half];
+            final long w18 = packed[36 + half];
+            final long w19 = packed[38 + half];
+            final long w20 = packed[40 + half];
+            final long w21 = packed[42 + half];
+            final long w22 = packed[44 + half];
+            final long w23 = packed[46 + half];
+            final long w24 = packed[48 + half];
+            final long w25 = packed[50 + half];
+            final long w26 = packed[52 + half];
+            final long w27 = packed[54 + half];
+            final long w28 = packed[56 + half];
+            final long w29 = packed[58 + half];
+            final long v0 = w0 & 0x3FFFFFFF3FFFFFFFL;
+            values[0 + 2 * half] = (int) v0;
+            values[1 + 2 * half] = (int) (v0 >>> 32);
+            final long v1 = ((w0 >>> 30) & 0x300000003L) | ((w1 << 2) & 0x3FFFFFFC3FFFFFFCL);
+            values[4 + 2 * half] = (int) v1;
+            values[5 + 2 * half] = (int) (v1 >>> 32);
+            final long v2 = ((w1 >>> 28) & 0xF0000000FL) | ((w2 << 4) & 0x3FFFFFF03FFFFFF0L);
+            values[8 + 2 * half] = (int) v2;
+            values[9 + 2 * half] = (int) (v2 >>> 32);
+            final long v3 = ((w2 >>> 26) & 0x3F0000003FL) | ((w3 << 6) & 0x3FFFFFC03FFFFFC0L);
+            values[12 + 2 * half] = (int) v3;
+            values[13 + 2 * half] = (int) (v3 >>> 32);
+            final long v4 = ((w3 >>> 24) & 0xFF000000FFL) | ((w4 << 8) & 0x3FFFFF003FFFFF00L);
+            values[16 + 2 * half] = (int) v4;
+            values[17 + 2 * half] = (int) (v4 >>> 32);
+            final long v5 = ((w4 >>> 22) & 0x3FF000003FFL) | ((w5 << 10) & 0x3FFFFC003FFFFC00L);
+            values[20 + 2 * half] = (int) v5;
+            values[21 + 2 * half] = (int) (v5 >>> 32);
+            final long v6 = ((w5 >>> 20) & 0xFFF00000FFFL) | ((w6 << 12) & 0x3FFFF0003FFFF000L);
+            values[24 + 2 * half] = (int) v6;
+            values[25 + 2 * half] = (int) (v6 >>> 32);
+            final long v7 = ((w6 >>> 18) & 0x3FFF00003FFFL) | ((w7 << 14) & 0x3FFFC0003FFFC000L);
+            values[28 + 2 * half] = (int) v7;
+            values[29 + 2 * half] = (int) (v7 >>> 32);
+            final long v8 = ((w7 >>> 16) & 0xFFFF0000FFFFL) | ((w8 << 16) & 0x3FFF00003FFF0000L);
+            values[32 + 2 * half] = (int) v8;
+            values[33 + 2 * half] = (int) (v8 >>> 32);
+            final long v9 = ((w8 >>> 14) & 0x3FFFF0003FFFFL) | ((w9 << 18) & 0x3FFC00003FFC0000L);
+            values[36 + 2 * half] = (int) v9;
+            values[37 + 2 * half] = (int) (v9 >>> 32);
+            final long v10 = ((w9 >>> 12) & 0xFFFFF000FFFFFL) | ((w10 << 20) & 0x3FF000003FF00000L);
+            values[40 + 2 * half] = (int) v10;
+            values[41 + 2 * half] = (int) (v10 >>> 32);
+            final long v11 = ((w10 >>> 10) & 0x3FFFFF003FFFFFL) | ((w11 << 22) & 0x3FC000003FC00000L);
+            values[44 + 2 * half] = (int) v11;
+            values[45 + 2 * half] = (int) (v11 >>> 32);
+            final long v12 = ((w11 >>> 8) & 0xFFFFFF00FFFFFFL) | ((w12 << 24) & 0x3F0000003F000000L);
+            values[48 + 2 * half] = (int) v12;
+            values[49 + 2 * half] = (int) (v12 >>> 32);
+            final long v13 = ((w12 >>> 6) & 0x3FFFFFF03FFFFFFL) | ((w13 << 26) & 0x3C0000003C000000L);
+            values[52 + 2 * half] = (int) v13;
+            values[53 + 2 * half] = (int) (v13 >>> 32);
+            final long v14 = ((w13 >>> 4) & 0xFFFFFFF0FFFFFFFL) | ((w14 << 28) & 0x3000000030000000L);
+            values[56 + 2 * half] = (int) v14;
+            values[57 + 2 * half] = (int) (v14 >>> 32);
+            final long v15 = (w14 >>> 2) & 0x3FFFFFFF3FFFFFFFL;
+            values[60 + 2 * half] = (int) v15;
+            values[61 + 2 * half] = (int) (v15 >>> 32);
+            final long v16 = w15 & 0x3FFFFFFF3FFFFFFFL;
+            values[64 + 2 * half] = (int) v16;
+            values[65 + 2 * half] = (int) (v16 >>> 32);
+            final long v17 = ((w15 >>> 30) & 0x300000003L) | ((w16 << 2) & 0x3FFFFFFC3FFFFFFCL);
+            values[68 + 2 * half] = (int) v17;
+            values[69 + 2 * half] = (int) (v17 >>> 32);
+            final long v18 = ((w16 >>> 28) & 0xF0000000FL) | ((w17 << 4) & 0x3FFFFFF03FFFFFF0L);
+            values[72 + 2 * half] = (int) v18;
+            values[73 + 2 * half] = (int) (v18 >>> 32);
+            final long v19 = ((w17 >>> 26) & 0x3F0000003FL) | ((w18 << 6) & 0x3FFFFFC03FFFFFC0L);
+            values[76 + 2 * half] = (int) v19;
+            values[77 + 2 * half] = (int) (v19 >>> 32);
+            final long v20 = ((w18 >>> 24) & 0xFF000000FFL) | ((w19 << 8) & 0x3FFFFF003FFFFF00L);
+            values[80 + 2 * half] = (int) v20;
+            values[81 + 2 * half] = (int) (v20 >>> 32);
+            final long v21 = ((w19 >>> 22) & 0x3FF000003FFL) | ((w20 << 10) & 0x3FFFFC003FFFFC00L);
+            values[84 + 2 * half] = (int) v21;
+            values[85 + 2 * half] = (int) (v21 >>> 32);
+            final long v22 = ((w20 >>> 20) & 0xFFF00000FFFL) | ((w21 << 12) & 0x3FFFF0003FFFF000L);
+            values[88 + 2 * half] = (int) v22;
+            values[89 + 2 * half] = (int) (v22 >>> 32);
+            final long v23 = ((w21 >>> 18) & 0x3FFF00003FFFL) | ((w22 << 14) & 0x3FFFC0003FFFC000L);
+            values[92 + 2 * half] = (int) v23;
+            values[93 + 2 * half] = (int) (v23 >>> 32);
+            final long v24 = ((w22 >>> 16) & 0xFFFF0000FFFFL) | ((w23 << 16) & 0x3FFF00003FFF0000L);
+            values[96 + 2 * half] = (int) v24;
+            values[97 + 2 * half] = (int) (v24 >>> 32);
+            final long v25 = ((w23 >>> 14) & 0x3FFFF0003FFFFL) | ((w24 << 18) & 0x3FFC00003FFC0000L);
+            values[100 + 2 * half] = (int) v25;
+            values[101 + 2 * half] = (int) (v25 >>> 32);
+            final long v26 = ((w24 >>> 12) & 0xFFFFF000FFFFFL) | ((w25 << 20) & 0x3FF000003FF00000L);
+            values[104 + 2 * half] = (int) v26;
+            values[105 + 2 * half] = (int) (v26 >>> 32);
+            final long v27 = ((w25 >>> 10) & 0x3FFFFF003FFFFFL) | ((w26 << 22) & 0x3FC000003FC00000L);
+            values[108 + 2 * half] = (int) v27;
+            values[109 + 2 * half] = (int) (v27 >>> 32);
+            final long v28 = ((w26 >>> 8) & 0xFFFFFF00FFFFFFL) | ((w27 << 24) & 0x3F0000003F000000L);
+            values[112 + 2 * half] = (int) v28;
+            values[113 + 2 * half] = (int) (v28 >>> 32);
+            final long v29 = ((w27 >>> 6) & 0x3FFFFFF03FFFFFFL) | ((w28 << 26) & 0x3C0000003C000000L);
+            values[116 + 2 * half] = (int) v29;
+            values[117 + 2 * half] = (int) (v29 >>> 32);
+            final long v30 = ((w28 >>> 4) & 0xFFFFFFF0FFFFFFFL) | ((w29 << 28) & 0x3000000030000000L);
+            values[120 + 2 * half] = (int) v30;
+            values[121 + 2 * half] = (int) (v30 >>> 32);
+            final long v31 = (w29 >>> 2) & 0x3FFFFFFF3FFFFFFFL;
+            values[124 + 2 * half] = (int) v31;
+            values[125 + 2 * half] = (int) (v31 >>> 32);
+        }
+    }
+
+    private static void decode31(long[] packed, int[] values) {
+        for (int half = 0; half < 2; half++) {
+            final long w0 = packed[0 + half];
+            final long w1 = packed[2 + half];
+            final long w2 = packed[4 + half];
+            final long w3 = packed[6 + half];
+            final long w4 = packed[8 + half];
+            final long w5 = packed[10 + half];
+            final long w6 = packed[12 + half];
+            final long w7 = packed[14 + half];
+            final long w8 = packed[16 + half];
+            final long w9 = packed[18 + half];
+            final long w10 = packed[20 + half];
+            final long w11 = packed[22 + half];
+            final long w12 = packed[24 + half];
+            final long w13 = packed[26 + half];
+            final long w14 = packed[28 + half];
+            final long w15 = packed[30 + half];
+            final long w16 = packed[32 + half];
+            final long w17 = packed[34 + half];
+            final long w18 = packed[36 + half];
+            final long w19 = packed[38 + half];
+            final long w20 = packed[40 + half];
+            final long w21 = packed[42 + half];
+            final long w22 = packed[44 + half];
+            final long w23 = packed[46 + half];
+            final long w24 = packed[48 + half];
+            final long w25 = packed[50 + half];
+            final long w26 = packed[52 + half];
+            final long w27 = packed[54 + half];
+            final long w28 = packed[56 + half];
+            final long w29 = packed[58 + half];
+            final long w30 = packed[60 + half];
+            final long v0 = w0 & 0x7FFFFFFF7FFFFFFFL;
+            values[0 + 2 * half] = (int) v0;
+            values[1 + 2 * half] = (int) (v0 >>> 32);
+            final long v1 = ((w0 >>> 31) & 0x100000001L) | ((w1 << 1) & 0x7FFFFFFE7FFFFFFEL);
+            values[4 + 2 * half] = (int) v1;
+            values[5 + 2 * half] = (int) (v1 >>> 32);
+            final long v2 = ((w1 >>> 30) & 0x300000003L) | ((w2 << 2) & 0x7FFFFFFC7FFFFFFCL);
+            values[8 + 2 * half] = (int) v2;
+            values[9 + 2 * half] = (int) (v2 >>> 32);
+            final long v3 = ((w2 >>> 29) & 0x700000007L) | ((w3 << 3) & 0x7FFFFFF87FFFFFF8L);
+            values[12 + 2 * half] = (int) v3;
+            values[13 + 2 * half] = (int) (v3 >>> 32);
+            final long v4 = ((w3 >>> 28) & 0xF0000000FL) | ((w4 << 4) & 0x7FFFFFF07FFFFFF0L);
+            values[16 + 2 * half] = (int) v4;
+            values[17 + 2 * half] = (int) (v4 >>> 32);
+            final long v5 = ((w4 >>> 27) & 0x1F0000001FL) | ((w5 << 5) & 0x7FFFFFE07FFFFFE0L);
+            values[20 + 2 * half] = (int) v5;
+            values[21 + 2 * half] = (int) (v5 >>> 32);
+            final long v6 = ((w5 >>> 26) & 0x3F0000003FL) | ((w6 << 6) & 0x7FFFFFC07FFFFFC0L);
+            values[24 + 2 * half] = (int) v6;
+            values[25 + 2 * half] = (int) (v6 >>> 32);
+            final long v7 = ((w6 >>> 25) & 0x7F0000007FL) | ((w7 << 7) & 0x7FFFFF807FFFFF80L);
+            values[28 + 2 * half] = (int) v7;
+            values[29 + 2 * half] = (int) (v7 >>> 32);
+            final long v8 = ((w7 >>> 24) & 0xFF000000FFL) | ((w8 << 8) & 0x7FFFFF007FFFFF00L);
+            values[32 + 2 * half] = (int) v8;
+            values[33 + 2 * half] = (int) (v8 >>> 32);
+            final long v9 = ((w8 >>> 23) & 0x1FF000001FFL) | ((w9 << 9) & 0x7FFFFE007FFFFE00L);
+            values[36 + 2 * half] = (int) v9;
+            values[37 + 2 * half] = (int) (v9 >>> 32);
+            final long v10 = ((w9 >>> 22) & 0x3FF000003FFL) | ((w10 << 10) & 0x7FFFFC007FFFFC00L);
+            values[40 + 2 * half] = (int) v10;
+            values[41 + 2 * half] = (int) (v10 >>> 32);
+            final long v11 = ((w10 >>> 21) & 0x7FF000007FFL) | ((w11 << 11) & 0x7FFFF8007FFFF800L);
+            values[44 + 2 * half] = (int) v11;
+            values[45 + 2 * half] = (int) (v11 >>> 32);
+            final long v12 = ((w11 >>> 20) & 0xFFF00000FFFL) | ((w12 << 12) & 0x7FFFF0007FFFF000L);
+            values[48 + 2 * half] = (int) v12;
+            values[49 + 2 * half] = (int) (v12 >>> 32);
+            final long v13 = ((w12 >>> 19) & 0x1FFF00001FFFL) | ((w13 << 13) & 0x7FFFE0007FFFE000L);
+            values[52 + 2 * half] = (int) v13;
+            values[53 + 2 * half] = (int) (v13 >>> 32);
+            final long v14 = ((w13 >>> 18) & 0x3FFF00003FFFL) | ((w14 << 14) & 0x7FFFC0007FFFC000L);
+            values[56 + 2 * half] = (int) v14;
+            values[57 + 2 * half] = (int) (v14 >>> 32);
+            final long v15 = ((w14 >>> 17) & 0x7FFF00007FFFL) | ((w15 << 15) & 0x7FFF80007FFF8000L);
+            values[60 + 2 * half] = (int) v15;
+            values[61 + 2 * half] = (int) (v15 >>> 32);
+            final long v16 = ((w15 >>> 16) & 0xFFFF0000FFFFL) | ((w16 << 16) & 0x7FFF00007FFF0000L);
+            values[64 + 2 * half] = (int) v16;
+            values[65 + 2 * half] = (int) (v16 >>> 32);
+            final long v17 = ((w16 >>> 15) & 0x1FFFF0001FFFFL) | ((w17 << 17) & 0x7FFE00007FFE0000L);
+            values[68 + 2 * half] = (int) v17;
+            values[69 + 2 * half] = (int) (v17 >>> 32);
+            final long v18 = ((w17 >>> 14) & 0x3FFFF0003FFFFL) | ((w18 << 18) & 0x7FFC00007FFC0000L);
+            values[72 + 2 * half] = (int) v18;
+            values[73 + 2 * half] = (int) (v18 >>> 32);
+            final long v19 = ((w18 >>> 13) & 0x7FFFF0007FFFFL) | ((w19 << 19) & 0x7FF800007FF80000L);
+            values[76 + 2 * half] = (int) v19;
+            values[77 + 2 * half] = (int) (v19 >>> 32);
+            final long v20 = ((w19 >>> 12) & 0xFFFFF000FFFFFL) | ((w20 << 20) & 0x7FF000007FF00000L);
+            values[80 + 2 * half] = (int) v20;
+            values[81 + 2 * half] = (int) (v20 >>> 32);
+            final long v21 = ((w20 >>> 11) & 0x1FFFFF001FFFFFL) | ((w21 << 21) & 0x7FE000007FE00000L);
+            values[84 + 2 * half] = (int) v21;
+            values[85 + 2 * half] = (int) (v21 >>> 32);
+            final long v22 = ((w21 >>> 10) & 0x3FFFFF003FFFFFL) | ((w22 << 22) & 0x7FC000007FC00000L);
+            values[88 + 2 * half] = (int) v22;
+            values[89 + 2 * half] = (int) (v22 >>> 32);
+            final long v23 = ((w22 >>> 9) & 0x7FFFFF007FFFFFL) | ((w23 << 23) & 0x7F8000007F800000L);
+            values[92 + 2 * half] = (int) v23;
+            values[93 + 2 * half] = (int) (v23 >>> 32);
+            final long v24 = ((w23 >>> 8) & 0xFFFFFF00FFFFFFL) | ((w24 << 24) & 0x7F0000007F000000L);
+            values[96 + 2 * half] = (int) v24;
+            values[97 + 2 * half] = (int) (v24 >>> 32);
+            final long v25 = ((w24 >>> 7) & 0x1FFFFFF01FFFFFFL) | ((w25 << 25) & 0x7E0000007E000000L);
+            values[100 + 2 * half] = (int) v25;
+            values[101 + 2 * half] = (int) (v25 >>> 32);
+            final long v26 = ((w25 >>> 6) & 0x3FFFFFF03FFFFFFL) | ((w26 << 26) & 0x7C0000007C000000L);
+            values[104 + 2 * half] = (int) v26;
+            values[105 + 2 * half] = (int) (v26 >>> 32);
+            final long v27 = ((w26 >>> 5) & 0x7FFFFFF07FFFFFFL) | ((w27 << 27) & 0x7800000078000000L);
+            values[108 + 2 * half] = (int) v27;
+            values[109 + 2 * half] = (int) (v27 >>> 32);
+            final long v28 = ((w27 >>> 4) & 0xFFFFFFF0FFFFFFFL) | ((w28 << 28) & 0x7000000070000000L);
+            values[112 + 2 * half] = (int) v28;
+            values[113 + 2 * half] = (int) (v28 >>> 32);
+            final long v29 = ((w28 >>> 3) & 0x1FFFFFFF1FFFFFFFL) | ((w29 << 29) & 0x6000000060000000L);
+            values[116 + 2 * half] = (int) v29;
+            values[117 + 2 * half] = (int) (v29 >>> 32);
+            final long v30 = ((w29 >>> 2) & 0x3FFFFFFF3FFFFFFFL) | ((w30 << 30) & 0x4000000040000000L);
+            values[120 + 2 * half] = (int) v30;
+            values[121 + 2 * half] = (int) (v30 >>> 32);
+            final long v31 = (w30 >>> 1) & 0x7FFFFFFF7FFFFFFFL;
+            values[124 + 2 * half] = (int) v31;
+            values[125 + 2 * half] = (int) (v31 >>> 32);
+        }
+    }
+
+    private static void decode32(long[] packed, int[] values) {
+        for (int half = 0; half < 2; half++) {
+            final long w0 = packed[0 + half];
+            final long w1 = packed[2 + half];
+            final long w2 = packed[4 + half];
+            final long w3 = packed[6 + half];
+            final long w4 = packed[8 + half];
+            final long w5 = packed[10 + half];
+            final long w6 = packed[12 + half];
+            final long w7 = packed[14 + half];
+            final long w8 = packed[16 + half];
+            final long w9 = packed[18 + half];
+            final long w10 = packed[20 + half];
+            final long w11 = packed[22 + half];
+            final long w12 = packed[24 + half];
+            final long w13 = packed[26 + half];
+            final long w14 = packed[28 + half];
+            final long w15 = packed[30 + half];
+            final long w16 = packed[32 + half];
+            final long w17 = packed[34 + half];
+            final long w18 = packed[36 + half];
+            final long w19 = packed[38 + half];
+            final long w20 = packed[40 + half];
+            final long w21 = packed[42 + half];
+            final long w22 = packed[44 + half];
+            final long w23 = packed[46 + half];
+            final long w24 = packed[48 + half];
+            final long w25 = packed[50 + half];
+            final long w26 = packed[52 + half];
+            final long w27 = packed[54 + half];
+            final long w28 = packed[56 + half];
+            final long w29 = packed[58 + half];
+            final long w30 = packed[60 + half];
+            final long w31 = packed[62 + half];
+            final long v0 = w0;
+            values[0 + 2 * half] = (int) v0;
+            values[1 + 2 * half] = (int) (v0 >>> 32);
+            final long v1 = w1;
+            values[4 + 2 * half] = (int) v1;
+            values[5 + 2 * half] = (int) (v1 >>> 32);
+            final long v2 = w2;
+            values[8 + 2 * half] = (int) v2;
+            values[9 + 2 * half] = (int) (v2 >>> 32);
+            final long v3 = w3;
+            values[12 + 2 * half] = (int) v3;
+            values[13 + 2 * half] = (int) (v3 >>> 32);
+            final long v4 = w4;
+            values[16 + 2 * half] = (int) v4;
+            values[17 + 2 * half] = (int) (v4 >>> 32);
+            final long v5 = w5;
+            values[20 + 2 * half] = (int) v5;
+            values[21 + 2 * half] = (int) (v5 >>> 32);
+            final long v6 = w6;
+            values[24 + 2 * half] = (int) v6;
+            values[25 + 2 * half] = (int) (v6 >>> 32);
+            final long v7 = w7;
+            values[28 + 2 * half] = (int) v7;
+            values[29 + 2 * half] = (int) (v7 >>> 32);
+            final long v8 = w8;
+            values[32 + 2 * half] = (int) v8;
+            values[33 + 2 * half] = (int) (v8 >>> 32);
+            final long v9 = w9;
+            values[36 + 2 * half] = (int) v9;
+            values[37 + 2 * half] = (int) (v9 >>> 32);
+            final long v10 = w10;
+            values[40 + 2 * half] = (int) v10;
+            values[41 + 2 * half] = (int) (v10 >>> 32);
+            final long v11 = w11;
+            values[44 + 2 * half] = (int) v11;
+            values[45 + 2 * half] = (int) (v11 >>> 32);
+            final long v12 = w12;
+            values[48 + 2 * half] = (int) v12;
+            values[49 + 2 * half] = (int) (v12 >>> 32);
+            final long v13 = w13;
+            values[52 + 2 * half] = (int) v13;
+            values[53 + 2 * half] = (int) (v13 >>> 32);
+            final long v14 = w14;
+            values[56 + 2 * half] = (int) v14;
+            values[57 + 2 * half] = (int) (v14 >>> 32);
+            final long v15 = w15;
+            values[60 + 2 * half] = (int) v15;
+            values[61 + 2 * half] = (int) (v15 >>> 32);
+            final long v16 = w16;
+            values[64 + 2 * half] = (int) v16;
+            values[65 + 2 * half] = (int) (v16 >>> 32);
+            final long v17 = w17;
+            values[68 + 2 * half] = (int) v17;
+            values[69 + 2 * half] = (int) (v17 >>> 32);
+            final long v18 = w18;
+            values[72 + 2 * half] = (int) v18;
+            values[73 + 2 * half] = (int) (v18 >>> 32);
+            final long v19 = w19;
+            values[76 + 2 * half] = (int) v19;
+            values[77 + 2 * half] = (int) (v19 >>> 32);
+            final long v20 = w20;
+            values[80 + 2 * half] = (int) v20;
+            values[81 + 2 * half] = (int) (v20 >>> 32);
+            final long v21 = w21;
+            values[84 + 2 * half] = (int) v21;
+            values[85 + 2 * half] = (int) (v21 >>> 32);
+            final long v22 = w22;
+            values[88 + 2 * half] = (int) v22;
+            values[89 + 2 * half] = (int) (v22 >>> 32);
+            final long v23 = w23;
+            values[92 + 2 * half] = (int) v23;
+            values[93 + 2 * half] = (int) (v23 >>> 32);
+            final long v24 = w24;
+            values[96 + 2 * half] = (int) v24;
+            values[97 + 2 * half] = (int) (v24 >>> 32);
+            final long v25 = w25;
+            values[100 + 2 * half] = (int) v25;
+            values[101 + 2 * half] = (int) (v25 >>> 32);
+            final long v26 = w26;
+            values[104 + 2 * half] = (int) v26;
+            values[105 + 2 * half] = (int) (v26 >>> 32);
+            final long v27 = w27;
+            values[108 + 2 * half] = (int) v27;
+            values[109 + 2 * half] = (int) (v27 >>> 32);
+            final long v28 = w28;
+            values[112 + 2 * half] = (int) v28;
+            values[113 + 2 * half] = (int) (v28 >>> 32);
+            final long v29 = w29;
+            values[116 + 2 * half] = (int) v29;
+            values[117 + 2 * half] = (int) (v29 >>> 32);
+            final long v30 = w30;
+            values[120 + 2 * half] = (int) v30;
+            values[121 + 2 * half] = (int) (v30 >>> 32);
+            final long v31 = w31;
+            values[124 + 2 * half] = (int) v31;
+            values[125 + 2 * half] = (int) (v31 >>> 32);
+        }
+    }
+}
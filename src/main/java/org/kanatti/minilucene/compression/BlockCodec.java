@@ -0,0 +1,71 @@
+package org.kanatti.minilucene.compression;
+
+import org.kanatti.minilucene.store.DataInput;
+import org.kanatti.minilucene.store.DataOutput;
+
+/**
+ * Writes blocks of up to 128 ints with whichever codec suits them, behind a byte saying
+ * which one it was.
+ *
+ * Full blocks always use {@link PFor}, it's compact and its decode is vectorized. What's
+ * left at the end of a list, which for most terms is the whole list as they have fewer
+ * than 128 postings, gets the smaller of {@link VByte} and {@link GroupVarint}. Packing
+ * those into a 128 block would pad them out, and PFor's header alone is more than a
+ * couple of vInts.
+ *
+ * Instances hold scratch buffers, so they are cheap to reuse but not thread-safe.
+ */
+public class BlockCodec {
+
+    public enum Type {
+        PFOR,
+        VBYTE,
+        GROUP_VARINT
+    }
+
+    private static final Type[] TYPES = Type.values();
+
+    private final PFor pfor = new PFor();
+    private final GroupVarint groupVarint = new GroupVarint();
+
+    /**
+     * Codec that would be used for values[0, len).
+     */
+    public static Type pick(int[] values, int len) {
+        if (len == PFor.BLOCK_SIZE)
+            return Type.PFOR;
+        // Group varint decodes faster, so it wins ties.
+        int vbyte = VByte.encodedSize(values, 0, len);
+        int groupVarint = GroupVarint.encodedSize(values, 0, len);
+        return vbyte < groupVarint ? Type.VBYTE : Type.GROUP_VARINT;
+    }
+
+    /**
+     * Writes values[0, len), len being at most 128. Returns the codec it picked.
+     */
+    public Type write(int[] values, int len, DataOutput out) {
+        if (len > PFor.BLOCK_SIZE)
+            throw new IllegalArgumentException("Blocks have at most " + PFor.BLOCK_SIZE + " values, got " + len);
+
+        Type type = pick(values, len);
+        out.writeByte((byte) type.ordinal());
+        switch (type) {
+            case PFOR -> pfor.encode(values, out);
+            case VBYTE -> VByte.encode(values, 0, len, out);
+            case GROUP_VARINT -> GroupVarint.encode(values, 0, len, out);
+        }
+        return type;
+    }
+
+    /**
+     * Reads a block written by {@link #write}, the caller knowing its len.
+     */
+    public void read(DataInput in, int[] values, int len) {
+        Type type = TYPES[in.readByte()];
+        switch (type) {
+            case PFOR -> pfor.decode(in, values);
+            case VBYTE -> VByte.decode(in, values, 0, len);
+            case GROUP_VARINT -> groupVarint.decode(in, values, 0, len);
+        }
+    }
+}
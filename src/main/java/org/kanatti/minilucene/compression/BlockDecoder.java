@@ -0,0 +1,55 @@
+package org.kanatti.minilucene.compression;
+
+/**
+ * Decodes {@link Bitpack} blocks, the hot loop of reading postings. There is a scalar
+ * implementation, and one on the Vector API (jdk.incubator.vector) that gets picked at
+ * runtime when that module is around.
+ *
+ * The vector one needs the JVM to be started with --add-modules jdk.incubator.vector,
+ * else we silently stay on scalar. Setting -Dminilucene.vectorization=false forces scalar.
+ */
+public interface BlockDecoder {
+
+    /**
+     * Best implementation available on this JVM.
+     */
+    BlockDecoder INSTANCE = lookup();
+
+    /**
+     * Same as {@link Bitpack#decode128}.
+     */
+    void decode128(long[] packed, int bitsPerValue, int[] values);
+
+    static BlockDecoder scalar() {
+        return ScalarBlockDecoder.INSTANCE;
+    }
+
+    /**
+     * The Vector API implementation, mostly for benchmarks to compare against scalar.
+     *
+     * @throws UnsupportedOperationException if the Vector API isn't usable here.
+     */
+    static BlockDecoder vectorized() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty())
+            throw new UnsupportedOperationException("jdk.incubator.vector isn't enabled, run with --add-modules jdk.incubator.vector");
+
+        try {
+            // Loaded reflectively so that nothing touches Vector API classes without the module.
+            return (BlockDecoder) Class.forName("org.kanatti.minilucene.compression.VectorBlockDecoder")
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            throw new UnsupportedOperationException("Vector API isn't usable", e);
+        }
+    }
+
+    private static BlockDecoder lookup() {
+        if (!Boolean.parseBoolean(System.getProperty("minilucene.vectorization", "true")))
+            return scalar();
+        try {
+            return vectorized();
+        } catch (UnsupportedOperationException e) {
+            return scalar();
+        }
+    }
+}
@@ -14,19 +14,107 @@ public class Delta {
 
     public static int[] encode(int[] input) {
         int[] deltas = new int[input.length];
-        deltas[0] = input[0];
-        for (int i = 1; i < input.length; i++) {
-            deltas[i] = input[i] - input[i - 1];
-        }
+        encode(input, 0, deltas, 0, input.length, 0);
         return deltas;
     }
 
     public static int[] decode(int[] deltas) {
         int[] input = new int[deltas.length];
-        input[0] = deltas[0];
-        for (int i = 1; i < deltas.length; i++) {
-            input[i] = input[i-1] + deltas[i];
-        }
+        decode(deltas, 0, input, 0, deltas.length, 0);
         return input;
     }
+
+    // The ones below don't allocate, they are what hot loops should use.
+
+    /**
+     * Writes gaps of values[offset, offset + len) into deltas[deltasOffset, ...). The first
+     * gap is from base, like the last value of the previous block.
+     */
+    public static void encode(int[] values, int offset, int[] deltas, int deltasOffset, int len, int base) {
+        int prev = base;
+        for (int i = 0; i < len; i++) {
+            int value = values[offset + i];
+            deltas[deltasOffset + i] = value - prev;
+            prev = value;
+        }
+    }
+
+    /**
+     * Reverse of encode, writes running sums of deltas[offset, offset + len) into
+     * values[valuesOffset, ...).
+     */
+    public static void decode(int[] deltas, int offset, int[] values, int valuesOffset, int len, int base) {
+        int sum = base;
+        for (int i = 0; i < len; i++) {
+            sum += deltas[offset + i];
+            values[valuesOffset + i] = sum;
+        }
+    }
+
+    /**
+     * In-place encode, going backwards so every value is still there when its successor
+     * needs it.
+     */
+    public static void encodeInPlace(int[] values, int offset, int len, int base) {
+        for (int i = offset + len - 1; i > offset; i--) {
+            values[i] -= values[i - 1];
+        }
+        if (len > 0)
+            values[offset] -= base;
+    }
+
+    public static void prefixSum(int[] values, int len, int base) {
+        prefixSum(values, 0, len, base);
+    }
+
+    /**
+     * In-place decode: replaces values[offset, offset + len) with their running sum, starting
+     * from base.
+     *
+     * This stays a plain loop on purpose. Every sum depends on the previous one, but that is
+     * one add per value, and tricks to shorten the chain (summing pairs first) or a Vector API
+     * log-step scan both came out slower than this on 128-value blocks.
+     */
+    public static void prefixSum(int[] values, int offset, int len, int base) {
+        int sum = base;
+        for (int i = offset, end = offset + len; i < end; i++) {
+            sum += values[i];
+            values[i] = sum;
+        }
+    }
+
+    // Same for longs, used by numeric doc values.
+
+    public static void encode(long[] values, int offset, long[] deltas, int deltasOffset, int len, long base) {
+        long prev = base;
+        for (int i = 0; i < len; i++) {
+            long value = values[offset + i];
+            deltas[deltasOffset + i] = value - prev;
+            prev = value;
+        }
+    }
+
+    public static void decode(long[] deltas, int offset, long[] values, int valuesOffset, int len, long base) {
+        long sum = base;
+        for (int i = 0; i < len; i++) {
+            sum += deltas[offset + i];
+            values[valuesOffset + i] = sum;
+        }
+    }
+
+    public static void encodeInPlace(long[] values, int offset, int len, long base) {
+        for (int i = offset + len - 1; i > offset; i--) {
+            values[i] -= values[i - 1];
+        }
+        if (len > 0)
+            values[offset] -= base;
+    }
+
+    public static void prefixSum(long[] values, int offset, int len, long base) {
+        long sum = base;
+        for (int i = offset, end = offset + len; i < end; i++) {
+            sum += values[i];
+            values[i] = sum;
+        }
+    }
 }
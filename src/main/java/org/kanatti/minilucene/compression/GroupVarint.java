@@ -0,0 +1,68 @@
+package org.kanatti.minilucene.compression;
+
+import org.kanatti.minilucene.store.DataInput;
+import org.kanatti.minilucene.store.DataOutput;
+import org.kanatti.minilucene.util.GroupVarintUtil;
+
+/**
+ * Group varint: values go in groups of 4, behind a tag byte with 2 bits per value for its
+ * byte length (1-4), followed by the values' little-endian bytes.
+ *
+ * Unlike VByte, decoding never looks at individual bytes. The tag indexes a table with the
+ * offset and mask of each value in the group, so a group is one copy of its bytes and 4
+ * int loads, masks and no branches (see {@link GroupVarintUtil}). It's the scalar flavor
+ * of the SIMD version, where the table holds byte shuffle masks instead. Inputs backed by
+ * memory skip the copy, see {@link DataInput#readGroupVarints}.
+ *
+ * A tail of less than 4 values is written as vInts.
+ *
+ * Instances hold a scratch buffer, so they are cheap to reuse but not thread-safe.
+ */
+public class GroupVarint {
+    private final byte[] scratch = new byte[GroupVarintUtil.MAX_GROUP_BYTES];
+
+    public static void encode(int[] values, int offset, int len, DataOutput out) {
+        int i = 0;
+        for (; i + 4 <= len; i += 4) {
+            int tag = 0;
+            for (int j = 0; j < 4; j++) {
+                tag |= (byteSize(values[offset + i + j]) - 1) << (j << 1);
+            }
+            out.writeByte((byte) tag);
+            for (int j = 0; j < 4; j++) {
+                int value = values[offset + i + j];
+                for (int b = GroupVarintUtil.byteLength(tag, j); b > 0; b--) {
+                    out.writeByte((byte) value);
+                    value >>>= 8;
+                }
+            }
+        }
+        VByte.encode(values, offset + i, len - i, out);
+    }
+
+    public void decode(DataInput in, int[] values, int offset, int len) {
+        int i = in.readGroupVarints(values, offset, len & ~3);
+        for (; i + 4 <= len; i += 4) {
+            scratch[0] = in.readByte();
+            in.readBytes(scratch, 1, GroupVarintUtil.valuesLength(scratch[0]));
+            GroupVarintUtil.decodeGroup(scratch, 0, values, offset + i);
+        }
+        VByte.decode(in, values, offset + i, len - i);
+    }
+
+    public static int encodedSize(int[] values, int offset, int len) {
+        int size = 0;
+        int i = 0;
+        for (; i + 4 <= len; i += 4) {
+            size += 1;
+            for (int j = 0; j < 4; j++) {
+                size += byteSize(values[offset + i + j]);
+            }
+        }
+        return size + VByte.encodedSize(values, offset + i, len - i);
+    }
+
+    private static int byteSize(int value) {
+        return 1 + (31 - Integer.numberOfLeadingZeros(value | 1)) / 8;
+    }
+}
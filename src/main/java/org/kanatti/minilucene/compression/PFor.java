@@ -0,0 +1,169 @@
+package org.kanatti.minilucene.compression;
+
+import java.util.Arrays;
+
+import org.kanatti.minilucene.store.ByteArrayDataInput;
+import org.kanatti.minilucene.store.ByteArrayDataOutput;
+import org.kanatti.minilucene.store.DataInput;
+import org.kanatti.minilucene.store.DataOutput;
+
+/**
+ * Patched frame of reference (PFOR) codec for blocks of 128 ints, which is how postings
+ * get stored.
+ *
+ * Plain bitpacking has to use the width of the biggest value, so one outlier makes the
+ * whole block wide. Here the width is picked per block, and values that don't fit are
+ * exceptions: their low bits go in the packed block like everyone else, and their high
+ * bits are stored after it as patches, that get OR-ed back in after unpacking.
+ *
+ * The width is the one giving the smallest block. An extra bit costs 16 bytes for the
+ * whole block while an exception costs ~2, so this lands on a high percentile of value
+ * widths, leaving the top few percent of values as exceptions.
+ *
+ * Doc ids are delta-encoded first (see {@link #encodeDocs}), so what gets packed are gaps
+ * between docs, which are small for frequent terms.
+ *
+ * Block format:
+ *   byte    bitsPerValue, or 0 if all values are the same
+ *   if 0:   vInt value
+ *   else:   byte numExceptions
+ *           packedLongs(bitsPerValue) longs, see Bitpack.encode128
+ *           numExceptions x (byte index, vInt highBits)
+ *
+ * Instances hold scratch buffers, so they are cheap to reuse but not thread-safe.
+ */
+public class PFor {
+    public static final int BLOCK_SIZE = Bitpack.BLOCK_SIZE;
+
+    private final int[] deltas = new int[BLOCK_SIZE];
+    private final long[] packed = new long[Bitpack.packedLongs(32)];
+    // widthCounts[w] is how many values need exactly w bits.
+    private final int[] widthCounts = new int[33];
+
+    public static void main(String[] args) {
+        // Frequent term: gaps of 1-3, except one big jump.
+        int[] docs = new int[BLOCK_SIZE];
+        int doc = 0;
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            doc += i == 64 ? 100_000 : 1 + (i % 3);
+            docs[i] = doc;
+        }
+
+        int[] gaps = Delta.encode(docs);
+        System.out.println("Bitpack of gaps: " + Bitpack.pack(gaps).length + " bytes");
+
+        PFor pfor = new PFor();
+        ByteArrayDataOutput out = new ByteArrayDataOutput();
+        pfor.encodeDocs(docs, 0, out);
+        System.out.println("PFor:            " + out.size() + " bytes");
+
+        int[] decoded = new int[BLOCK_SIZE];
+        pfor.decodeDocs(new ByteArrayDataInput(out.toByteArray()), 0, decoded);
+        System.out.println("Match: " + Arrays.equals(docs, decoded));
+    }
+
+    /**
+     * Writes docs[0, 128), which must be increasing, as gaps from the previous doc.
+     * base is the last doc of the previous block, 0 for the first block.
+     */
+    public void encodeDocs(int[] docs, int base, DataOutput out) {
+        Delta.encode(docs, 0, deltas, 0, BLOCK_SIZE, base);
+        encode(deltas, out);
+    }
+
+    /**
+     * Reads a block written by {@link #encodeDocs} with the same base.
+     */
+    public void decodeDocs(DataInput in, int base, int[] docs) {
+        decode(in, docs);
+        Delta.prefixSum(docs, BLOCK_SIZE, base);
+    }
+
+    /**
+     * Writes values[0, 128) as is, for things that aren't increasing like term freqs.
+     * Values are treated as unsigned.
+     */
+    public void encode(int[] values, DataOutput out) {
+        Arrays.fill(widthCounts, 0);
+        boolean allEqual = true;
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            widthCounts[Bitpack.bitsRequired(values[i])]++;
+            allEqual &= values[i] == values[0];
+        }
+
+        // Runs of consecutive docs, or all freqs of 1.
+        if (allEqual) {
+            out.writeByte((byte) 0);
+            out.writeVInt(values[0]);
+            return;
+        }
+
+        int bitsPerValue = bestBitsPerValue(widthCounts);
+        int numExceptions = 0;
+        for (int w = bitsPerValue + 1; w <= 32; w++) {
+            numExceptions += widthCounts[w];
+        }
+
+        out.writeByte((byte) bitsPerValue);
+        out.writeByte((byte) numExceptions);
+        // Only the low bitsPerValue bits of every value make it in.
+        Bitpack.encode128(values, bitsPerValue, packed);
+        out.writeLongs(packed, 0, Bitpack.packedLongs(bitsPerValue));
+
+        if (numExceptions > 0) {
+            for (int i = 0; i < BLOCK_SIZE; i++) {
+                int high = values[i] >>> bitsPerValue;
+                if (high != 0) {
+                    out.writeByte((byte) i);
+                    out.writeVInt(high);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads a block written by {@link #encode} into values[0, 128).
+     */
+    public void decode(DataInput in, int[] values) {
+        int bitsPerValue = in.readByte() & 0xFF;
+        if (bitsPerValue == 0) {
+            Arrays.fill(values, 0, BLOCK_SIZE, in.readVInt());
+            return;
+        }
+
+        int numExceptions = in.readByte() & 0xFF;
+        in.readLongs(packed, 0, Bitpack.packedLongs(bitsPerValue));
+        Bitpack.decode128(packed, bitsPerValue, values);
+
+        for (int i = 0; i < numExceptions; i++) {
+            int index = in.readByte() & 0xFF;
+            values[index] |= in.readVInt() << bitsPerValue;
+        }
+    }
+
+    /**
+     * Width giving the smallest block, preferring fewer exceptions on ties since every
+     * patch is extra work at decode time.
+     */
+    static int bestBitsPerValue(int[] widthCounts) {
+        int maxWidth = 32;
+        while (widthCounts[maxWidth] == 0) {
+            maxWidth--;
+        }
+
+        int best = maxWidth;
+        long bestSize = Long.MAX_VALUE;
+        for (int bits = maxWidth; bits >= 1; bits--) {
+            long size = (long) Bitpack.packedLongs(bits) * Long.BYTES;
+            for (int w = bits + 1; w <= maxWidth; w++) {
+                // index byte + vInt of the high bits
+                size += widthCounts[w] * (1 + (w - bits + 6) / 7);
+            }
+            if (size < bestSize) {
+                bestSize = size;
+                best = bits;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,16 @@
+package org.kanatti.minilucene.compression;
+
+/**
+ * Plain java {@link BlockDecoder}, used when the Vector API isn't available.
+ */
+final class ScalarBlockDecoder implements BlockDecoder {
+    static final ScalarBlockDecoder INSTANCE = new ScalarBlockDecoder();
+
+    private ScalarBlockDecoder() {}
+
+    @Override
+    public void decode128(long[] packed, int bitsPerValue, int[] values) {
+        BitpackDecoders.decode(packed, bitsPerValue, values);
+    }
+
+}
@@ -0,0 +1,38 @@
+package org.kanatti.minilucene.compression;
+
+import org.kanatti.minilucene.store.DataInput;
+import org.kanatti.minilucene.store.DataOutput;
+
+/**
+ * Variable-byte codec: every value is a vInt, 7 bits per byte. No block structure at all,
+ * so it's the smallest thing for a handful of values, but decoding branches on every byte.
+ */
+public class VByte {
+
+    private VByte() {}
+
+    public static void encode(int[] values, int offset, int len, DataOutput out) {
+        for (int i = 0; i < len; i++) {
+            out.writeVInt(values[offset + i]);
+        }
+    }
+
+    public static void decode(DataInput in, int[] values, int offset, int len) {
+        for (int i = 0; i < len; i++) {
+            values[offset + i] = in.readVInt();
+        }
+    }
+
+    public static int encodedSize(int[] values, int offset, int len) {
+        int size = 0;
+        for (int i = 0; i < len; i++) {
+            size += vIntSize(values[offset + i]);
+        }
+        return size;
+    }
+
+    static int vIntSize(int value) {
+        // 1 byte per started 7 bits, and a 0 still takes one.
+        return 1 + (31 - Integer.numberOfLeadingZeros(value | 1)) / 7;
+    }
+}
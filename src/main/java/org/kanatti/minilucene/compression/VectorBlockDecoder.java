@@ -0,0 +1,61 @@
+package org.kanatti.minilucene.compression;
+
+import java.nio.ByteOrder;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link BlockDecoder} on the Vector API. Only ever loaded through
+ * {@link BlockDecoder#vectorized()}, as it can't even be linked without jdk.incubator.vector.
+ */
+final class VectorBlockDecoder implements BlockDecoder {
+    // Word j of the 4 lanes of a Bitpack block, read as 2 longs.
+    private static final VectorSpecies<Long> WORDS = LongVector.SPECIES_128;
+
+    VectorBlockDecoder() {
+        // Without real vector registers the API falls back to java code, which is way slower than scalar.
+        if (IntVector.SPECIES_PREFERRED.vectorBitSize() < 128)
+            throw new UnsupportedOperationException("No 128-bit vectors on this CPU");
+        // Lanes are read as ints out of longs.
+        if (ByteOrder.nativeOrder() != ByteOrder.LITTLE_ENDIAN)
+            throw new UnsupportedOperationException("Needs a little-endian platform");
+    }
+
+    /**
+     * All 4 lanes are decoded together: a vector holds word j of every lane, so each value
+     * position is a vector shift and mask, and gives 4 consecutive values.
+     */
+    @Override
+    public void decode128(long[] packed, int bitsPerValue, int[] values) {
+        if (bitsPerValue < 1 || bitsPerValue > 32)
+            throw new IllegalArgumentException("bitsPerValue must be in [1, 32]");
+
+        int mask = (int) ((1L << bitsPerValue) - 1);
+        int wordIndex = 0;
+        IntVector word = loadWord(packed, 0);
+        int shift = 0;
+
+        for (int p = 0; p < Bitpack.BLOCK_SIZE / Bitpack.LANES; p++) {
+            IntVector v = word.lanewise(VectorOperators.LSHR, shift);
+            shift += bitsPerValue;
+            if (shift >= 32) {
+                shift -= 32;
+                wordIndex++;
+                if (wordIndex < bitsPerValue) {
+                    word = loadWord(packed, wordIndex);
+                    // Value straddles words, low bits of the next word are its top bits.
+                    if (shift > 0)
+                        v = v.or(word.lanewise(VectorOperators.LSHL, bitsPerValue - shift));
+                }
+            }
+            v.and(mask).intoArray(values, Bitpack.LANES * p);
+        }
+    }
+
+    private static IntVector loadWord(long[] packed, int wordIndex) {
+        return LongVector.fromArray(WORDS, packed, 2 * wordIndex).reinterpretAsInts();
+    }
+}
@@ -0,0 +1,83 @@
+#!/usr/bin/env python3
+"""
+Generates BitpackDecoders.java, unrolled decoders of 128-value blocks for every
+bitsPerValue from 1 to 32. See Bitpack.LANES for the block layout.
+
+Usage: python3 gen_BitpackDecoders.py > BitpackDecoders.java
+"""
+
+BLOCK_SIZE = 128
+LANES = 4
+VALUES_PER_LANE = BLOCK_SIZE // LANES
+
+HEADER = """package org.kanatti.minilucene.compression;
+
+// This file is generated by gen_BitpackDecoders.py, don't edit it by hand.
+
+/**
+ * Unrolled scalar decoders of {@link Bitpack#BLOCK_SIZE} values, one per bitsPerValue.
+ *
+ * Every long holds a word of 2 lanes, and both are decoded together, SWAR style: shifts
+ * work on the whole long, and masks have a copy in each 32-bit half, so bits of one lane
+ * never leak into the other. Every shift and mask is a constant and every word is read
+ * once, so a decode is a straight run of shifts, ands and ors with no branches.
+ */
+final class BitpackDecoders {
+
+    private BitpackDecoders() {}
+
+    static void decode(long[] packed, int bitsPerValue, int[] values) {
+        switch (bitsPerValue) {
+"""
+
+
+def pair(m):
+    """Mask m repeated in both 32-bit halves."""
+    return "0x%XL" % (m | (m << 32))
+
+
+def gen_decoder(bpv):
+    mask = (1 << bpv) - 1
+    lines = []
+    lines.append("    private static void decode%d(long[] packed, int[] values) {" % bpv)
+    # half 0 has lanes 0 and 1, half 1 has lanes 2 and 3.
+    lines.append("        for (int half = 0; half < 2; half++) {")
+    for w in range(bpv):
+        lines.append("            final long w%d = packed[%d + half];" % (w, w * 2))
+    for p in range(VALUES_PER_LANE):
+        bit = p * bpv
+        word = bit >> 5
+        shift = bit & 31
+        if shift + bpv <= 32:
+            expr = "w%d" % word if shift == 0 else "(w%d >>> %d)" % (word, shift)
+            if bpv < 32:
+                expr = "%s & %s" % (expr, pair(mask))
+        else:
+            # Value straddles two words: low bits from this one, the rest from the next.
+            low = (1 << (32 - shift)) - 1
+            expr = "((w%d >>> %d) & %s) | ((w%d << %d) & %s)" % (
+                word, shift, pair(low), word + 1, 32 - shift, pair(mask & ~low))
+        lines.append("            final long v%d = %s;" % (p, expr))
+        lines.append("            values[%d + 2 * half] = (int) v%d;" % (p * LANES, p))
+        lines.append("            values[%d + 2 * half] = (int) (v%d >>> 32);" % (p * LANES + 1, p))
+    lines.append("        }")
+    lines.append("    }")
+    return "\n".join(lines)
+
+
+def main():
+    out = [HEADER.rstrip("\n")]
+    for bpv in range(1, 33):
+        out.append("            case %d -> decode%d(packed, values);" % (bpv, bpv))
+    out.append('            default -> throw new IllegalArgumentException("bitsPerValue must be in [1, 32]");')
+    out.append("        }")
+    out.append("    }")
+    for bpv in range(1, 33):
+        out.append("")
+        out.append(gen_decoder(bpv))
+    out.append("}")
+    print("\n".join(out))
+
+
+if __name__ == "__main__":
+    main()
@@ -0,0 +1,111 @@
+package org.kanatti.minilucene.index;
+
+import java.util.Arrays;
+
+import org.kanatti.minilucene.store.ByteArrayDataOutput;
+import org.kanatti.minilucene.store.IndexOutput;
+
+/**
+ * Writes the terms dictionary of a segment: terms in .tim, grouped into blocks of
+ * BLOCK_SIZE, and a sparse index over the blocks in .tip.
+ *
+ * A term shares a prefix with the one before it, so only the suffix is stored. The first
+ * term of a block has no prefix, so a block can be read on its own. A block is:
+ *   vInt    numTerms
+ *   then for every term:
+ *   vInt    prefix length, shared with previous term
+ *   vInt    suffix length, then suffix bytes
+ *   vInt    docFreq
+ *   vLong   postings start - previous term's (0 for the first term)
+ *   vLong   skip data start - postings start, only if the postings have skip data
+ *
+ * The .tip has, for every field: its name, vInt numTerms, vInt numBlocks, and per block
+ * its first term (vInt length, bytes) and vLong block start - previous block's. Readers
+ * load that into heap, that's 1/BLOCK_SIZE of the terms, and scan at most one block to
+ * find a term.
+ */
+final class BlockTermsWriter {
+    static final int BLOCK_SIZE = 32;
+
+    private final IndexOutput termsOut;
+    private final IndexOutput indexOut;
+    private final ByteArrayDataOutput blockOut = new ByteArrayDataOutput(1024);
+    private final ByteArrayDataOutput fieldIndexOut = new ByteArrayDataOutput(1024);
+
+    private byte[] lastTerm = new byte[64];
+    private int lastTermLength;
+    private long lastPostingsFP;
+    private int blockTerms;
+
+    private int numTerms;
+    private int numBlocks;
+    private long lastBlockFP;
+
+    BlockTermsWriter(IndexOutput termsOut, IndexOutput indexOut) {
+        this.termsOut = termsOut;
+        this.indexOut = indexOut;
+    }
+
+    void startField() {
+        fieldIndexOut.reset();
+        numTerms = 0;
+        numBlocks = 0;
+        lastBlockFP = 0;
+        blockTerms = 0;
+    }
+
+    /**
+     * Terms must come in sorted order. skipOffset is -1 when the postings have no skip data.
+     */
+    void addTerm(byte[] bytes, int offset, int length, int docFreq, long postingsFP, long skipOffset) {
+        int prefix = 0;
+        if (blockTerms == 0) {
+            // Blocks get written as soon as they fill up, so this is where the new one starts.
+            long blockFP = termsOut.getFilePointer();
+            fieldIndexOut.writeVInt(length);
+            fieldIndexOut.writeBytes(bytes, offset, length);
+            fieldIndexOut.writeVLong(blockFP - lastBlockFP);
+            lastBlockFP = blockFP;
+            lastPostingsFP = 0;
+            numBlocks++;
+        } else {
+            prefix = Arrays.mismatch(lastTerm, 0, lastTermLength, bytes, offset, offset + length);
+            if (prefix < 0 || prefix == length)
+                throw new IllegalArgumentException("Terms must be sorted and unique");
+        }
+
+        blockOut.writeVInt(prefix);
+        blockOut.writeVInt(length - prefix);
+        blockOut.writeBytes(bytes, offset + prefix, length - prefix);
+        blockOut.writeVInt(docFreq);
+        blockOut.writeVLong(postingsFP - lastPostingsFP);
+        lastPostingsFP = postingsFP;
+        if (skipOffset >= 0)
+            blockOut.writeVLong(skipOffset);
+
+        if (length > lastTerm.length)
+            lastTerm = Arrays.copyOf(lastTerm, Math.max(length, lastTerm.length << 1));
+        System.arraycopy(bytes, offset + prefix, lastTerm, prefix, length - prefix);
+        lastTermLength = length;
+        numTerms++;
+
+        if (++blockTerms == BLOCK_SIZE)
+            flushBlock();
+    }
+
+    void finishField(String field) {
+        if (blockTerms > 0)
+            flushBlock();
+        indexOut.writeString(field);
+        indexOut.writeVInt(numTerms);
+        indexOut.writeVInt(numBlocks);
+        fieldIndexOut.writeTo(indexOut);
+    }
+
+    private void flushBlock() {
+        termsOut.writeVInt(blockTerms);
+        blockOut.writeTo(termsOut);
+        blockOut.reset();
+        blockTerms = 0;
+    }
+}
@@ -0,0 +1,14 @@
+package org.kanatti.minilucene.index;
+
+import java.io.IOException;
+
+/**
+ * An index file isn't what we expect it to be, like a wrong header or version.
+ */
+public class CorruptIndexException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    public CorruptIndexException(String message, String resource) {
+        super(message + " (resource: " + resource + ")");
+    }
+}
@@ -0,0 +1,76 @@
+package org.kanatti.minilucene.index;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.kanatti.minilucene.store.Directory;
+import org.kanatti.minilucene.store.IndexInput;
+
+/**
+ * Reads numeric doc values written by {@link DocValuesWriter}. Only per field metadata is
+ * loaded, values and skip index are read from .dvd through clones of its input.
+ */
+final class DocValuesReader implements Closeable {
+    /**
+     * Per field metadata from .dvm, docsFP being -1 if every doc has a value.
+     */
+    record FieldMeta(int docCount, long minValue, long maxValue, long docsFP, long offsetsFP, long skipFP,
+            int numSkipLevels) {}
+
+    private final int maxDoc;
+    private final Map<String, FieldMeta> fields;
+    private final IndexInput data;
+
+    private DocValuesReader(int maxDoc, Map<String, FieldMeta> fields, IndexInput data) {
+        this.maxDoc = maxDoc;
+        this.fields = fields;
+        this.data = data;
+    }
+
+    /**
+     * Reader of the segment's doc values, or null if it has none.
+     */
+    static DocValuesReader open(Directory dir, String segment, int maxDoc) throws IOException {
+        String metaFile = SegmentFormat.fileName(segment, SegmentFormat.DOC_VALUES_META_EXTENSION);
+        if (!dir.fileExists(metaFile))
+            return null;
+
+        Map<String, FieldMeta> fields = new HashMap<>();
+        try (IndexInput meta = dir.openInput(metaFile)) {
+            SegmentFormat.checkHeader(meta, SegmentFormat.DOC_VALUES_META_CODEC, metaFile);
+            int numFields = meta.readVInt();
+            for (int i = 0; i < numFields; i++) {
+                String field = meta.readString();
+                fields.put(field, new FieldMeta(meta.readVInt(), meta.readLong(), meta.readLong(), meta.readLong(),
+                    meta.readLong(), meta.readLong(), meta.readVInt()));
+            }
+        }
+
+        String dataFile = SegmentFormat.fileName(segment, SegmentFormat.DOC_VALUES_EXTENSION);
+        IndexInput data = dir.openInput(dataFile);
+        try {
+            SegmentFormat.checkHeader(data, SegmentFormat.DOC_VALUES_CODEC, dataFile);
+        } catch (IOException | RuntimeException e) {
+            data.close();
+            throw e;
+        }
+        return new DocValuesReader(maxDoc, fields, data);
+    }
+
+    NumericDocValues numeric(String field) {
+        FieldMeta meta = fields.get(field);
+        return meta == null ? null : new SegmentNumericDocValues(data, meta, maxDoc);
+    }
+
+    DocValuesSkipper skipper(String field) {
+        FieldMeta meta = fields.get(field);
+        return meta == null ? null : new SegmentDocValuesSkipper(data, meta, maxDoc);
+    }
+
+    @Override
+    public void close() throws IOException {
+        data.close();
+    }
+}
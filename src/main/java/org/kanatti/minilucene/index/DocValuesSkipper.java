@@ -0,0 +1,59 @@
+package org.kanatti.minilucene.index;
+
+/**
+ * Skip index over numeric doc values: min and max value, and number of docs with a value,
+ * of doc id intervals, at a few levels of coarseness. Level 0 intervals are the finest,
+ * every level above covers several intervals of the one below.
+ *
+ * This is what lets a range filter decide for a whole interval at once: if its values are
+ * all out of range, skip it, if all in range, every doc with a value in it matches.
+ */
+public abstract class DocValuesSkipper {
+    /**
+     * Moves to the intervals holding target, or if those have no values, to the next
+     * ones that do. minDocID(0) is NO_MORE_DOCS once there are none left.
+     */
+    public abstract void advance(int target);
+
+    public abstract int numLevels();
+
+    /**
+     * First doc of the current interval at level, -1 before the first advance and
+     * NO_MORE_DOCS once exhausted.
+     */
+    public abstract int minDocID(int level);
+
+    /**
+     * Last doc of the current interval at level.
+     */
+    public abstract int maxDocID(int level);
+
+    public abstract long minValue(int level);
+
+    public abstract long maxValue(int level);
+
+    /**
+     * Sum of values within the current interval at level, wrapping around on overflow.
+     */
+    public abstract long sum(int level);
+
+    /**
+     * Docs with a value within the current interval at level.
+     */
+    public abstract int docCount(int level);
+
+    /**
+     * Min value across the segment.
+     */
+    public abstract long minValue();
+
+    /**
+     * Max value across the segment.
+     */
+    public abstract long maxValue();
+
+    /**
+     * Docs with a value across the segment.
+     */
+    public abstract int docCount();
+}
@@ -0,0 +1,226 @@
+package org.kanatti.minilucene.index;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.kanatti.minilucene.compression.Bitpack;
+import org.kanatti.minilucene.store.Directory;
+import org.kanatti.minilucene.store.IndexOutput;
+
+/**
+ * Writes numeric doc values of a segment, column by column: .dvm has per field metadata
+ * that readers load, .dvd the values themselves.
+ *
+ * In .dvd, every field is:
+ *   docs      if not every doc has a value, a bitset of the ones that do, maxDoc bits as longs
+ *   blocks    values by doc, 128 docs per block: long min, byte bitsPerValue, and then the
+ *             values - min, Bitpacked. bitsPerValue 0 means all values are min, and 64 that
+ *             they didn't fit 32 bits and are plain longs. Docs without a value get
+ *             whatever is cheapest.
+ *   offsets   long per block, where it starts, so a doc's value is one seek away
+ *   skip      the skip index, see below
+ *
+ * The skip index has min value, max value, sum of values and doc count (as long, long,
+ * long, int) of every interval of SKIP_INTERVAL docs, which is level 0. Level 1
+ * intervals are made of SKIP_LEVEL_FACTOR level 0 ones, and so on, up to
+ * MAX_SKIP_LEVELS. Intervals are by doc id, so the one holding a doc is known without
+ * searching, and entries are fixed size. A range filter can tell from them if a whole
+ * interval matches or not, see {@link DocValuesSkipper}, and aggregations over an
+ * interval that fully matches don't have to read its values. Sums wrap around on
+ * overflow, same as adding up values would.
+ *
+ * In .dvm, every field is: name, vInt docCount, long min, long max, and longs pointing
+ * to where its docs (-1 if there are none), offsets and skip index start, and vInt
+ * number of skip levels. Fields without values are left out.
+ */
+final class DocValuesWriter {
+    static final int BLOCK_SIZE = Bitpack.BLOCK_SIZE;
+    static final int BLOCK_SHIFT = 7;
+    static final int SKIP_INTERVAL_SHIFT = 12;
+    static final int SKIP_LEVEL_SHIFT = 3;
+    static final int MAX_SKIP_LEVELS = 4;
+    static final int SKIP_ENTRY_BYTES = 3 * Long.BYTES + Integer.BYTES;
+    static final int RAW_LONGS = 64;
+
+    private final int[] ints = new int[BLOCK_SIZE];
+    private final long[] longs = new long[BLOCK_SIZE];
+    private final long[] packed = new long[Bitpack.packedLongs(32)];
+
+    /**
+     * Writes the fields and returns the file names, or nothing if there are no fields.
+     */
+    List<String> write(Directory dir, String segment, int maxDoc, Map<String, NumericDocValuesBuffer> fields)
+            throws IOException {
+        List<String> fieldNames = new ArrayList<>();
+        for (Map.Entry<String, NumericDocValuesBuffer> field : fields.entrySet()) {
+            if (field.getValue().size() > 0)
+                fieldNames.add(field.getKey());
+        }
+        if (fieldNames.isEmpty())
+            return List.of();
+        fieldNames.sort(null);
+
+        String metaFile = SegmentFormat.fileName(segment, SegmentFormat.DOC_VALUES_META_EXTENSION);
+        String dataFile = SegmentFormat.fileName(segment, SegmentFormat.DOC_VALUES_EXTENSION);
+        try (IndexOutput meta = dir.createOutput(metaFile); IndexOutput data = dir.createOutput(dataFile)) {
+            SegmentFormat.writeHeader(meta, SegmentFormat.DOC_VALUES_META_CODEC);
+            SegmentFormat.writeHeader(data, SegmentFormat.DOC_VALUES_CODEC);
+            meta.writeVInt(fieldNames.size());
+            for (String field : fieldNames) {
+                meta.writeString(field);
+                writeField(fields.get(field), maxDoc, meta, data);
+            }
+        }
+        return List.of(metaFile, dataFile);
+    }
+
+    static int numSkipLevels(int maxDoc) {
+        int levels = 1;
+        while (levels < MAX_SKIP_LEVELS && numIntervals(maxDoc, levels - 1) > 1) {
+            levels++;
+        }
+        return levels;
+    }
+
+    static int skipShift(int level) {
+        return SKIP_INTERVAL_SHIFT + level * SKIP_LEVEL_SHIFT;
+    }
+
+    static int numIntervals(int maxDoc, int level) {
+        return (int) (((long) maxDoc + (1L << skipShift(level)) - 1) >>> skipShift(level));
+    }
+
+    private void writeField(NumericDocValuesBuffer buffer, int maxDoc, IndexOutput meta, IndexOutput data) {
+        int size = buffer.size();
+        int[] docs = buffer.docs();
+        long[] values = buffer.values();
+
+        long docsFP = -1;
+        if (size < maxDoc) {
+            docsFP = data.getFilePointer();
+            long word = 0;
+            int wordIndex = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = docs[i];
+                while (wordIndex < doc >>> 6) {
+                    data.writeLong(word);
+                    word = 0;
+                    wordIndex++;
+                }
+                word |= 1L << doc;
+            }
+            for (int numWords = (maxDoc + 63) >>> 6; wordIndex < numWords; wordIndex++) {
+                data.writeLong(word);
+                word = 0;
+            }
+        }
+
+        int numLevels = numSkipLevels(maxDoc);
+        long[][] skipMins = new long[numLevels][];
+        long[][] skipMaxs = new long[numLevels][];
+        long[][] skipSums = new long[numLevels][];
+        int[][] skipCounts = new int[numLevels][];
+        for (int level = 0; level < numLevels; level++) {
+            int numIntervals = numIntervals(maxDoc, level);
+            skipMins[level] = new long[numIntervals];
+            skipMaxs[level] = new long[numIntervals];
+            skipSums[level] = new long[numIntervals];
+            skipCounts[level] = new int[numIntervals];
+            Arrays.fill(skipMins[level], Long.MAX_VALUE);
+            Arrays.fill(skipMaxs[level], Long.MIN_VALUE);
+        }
+
+        int numBlocks = (maxDoc + BLOCK_SIZE - 1) >>> BLOCK_SHIFT;
+        long[] offsets = new long[numBlocks];
+        long fieldMin = Long.MAX_VALUE, fieldMax = Long.MIN_VALUE;
+        int upto = 0;
+        for (int block = 0; block < numBlocks; block++) {
+            int start = block << BLOCK_SHIFT;
+            int end = Math.min(maxDoc, start + BLOCK_SIZE);
+            int from = upto;
+            long min = Long.MAX_VALUE, max = Long.MIN_VALUE;
+            for (; upto < size && docs[upto] < end; upto++) {
+                long value = values[upto];
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+
+                int interval = docs[upto] >>> SKIP_INTERVAL_SHIFT;
+                skipMins[0][interval] = Math.min(skipMins[0][interval], value);
+                skipMaxs[0][interval] = Math.max(skipMaxs[0][interval], value);
+                skipSums[0][interval] += value;
+                skipCounts[0][interval]++;
+            }
+            fieldMin = Math.min(fieldMin, min);
+            fieldMax = Math.max(fieldMax, max);
+
+            offsets[block] = data.getFilePointer();
+            writeBlock(docs, values, from, upto, start, min, max, data);
+        }
+
+        long offsetsFP = data.getFilePointer();
+        data.writeLongs(offsets, 0, numBlocks);
+
+        for (int level = 1; level < numLevels; level++) {
+            for (int i = 0; i < skipCounts[level - 1].length; i++) {
+                int parent = i >>> SKIP_LEVEL_SHIFT;
+                skipMins[level][parent] = Math.min(skipMins[level][parent], skipMins[level - 1][i]);
+                skipMaxs[level][parent] = Math.max(skipMaxs[level][parent], skipMaxs[level - 1][i]);
+                skipSums[level][parent] += skipSums[level - 1][i];
+                skipCounts[level][parent] += skipCounts[level - 1][i];
+            }
+        }
+        long skipFP = data.getFilePointer();
+        for (int level = 0; level < numLevels; level++) {
+            for (int i = 0; i < skipCounts[level].length; i++) {
+                data.writeLong(skipMins[level][i]);
+                data.writeLong(skipMaxs[level][i]);
+                data.writeLong(skipSums[level][i]);
+                data.writeInt(skipCounts[level][i]);
+            }
+        }
+
+        meta.writeVInt(size);
+        meta.writeLong(fieldMin);
+        meta.writeLong(fieldMax);
+        meta.writeLong(docsFP);
+        meta.writeLong(offsetsFP);
+        meta.writeLong(skipFP);
+        meta.writeVInt(numLevels);
+    }
+
+    /**
+     * Writes values[from, to), whose docs are in [start, start + BLOCK_SIZE).
+     */
+    private void writeBlock(int[] docs, long[] values, int from, int to, int start, long min, long max,
+            IndexOutput data) {
+        if (from == to || min == max) {
+            data.writeLong(from == to ? 0 : min);
+            data.writeByte((byte) 0);
+            return;
+        }
+
+        data.writeLong(min);
+        long range = max - min;
+        // Compared unsigned, as max - min may overflow.
+        if (Long.compareUnsigned(range, 0xFFFFFFFFL) <= 0) {
+            int bitsPerValue = 64 - Long.numberOfLeadingZeros(range);
+            Arrays.fill(ints, 0);
+            for (int i = from; i < to; i++) {
+                ints[docs[i] - start] = (int) (values[i] - min);
+            }
+            Bitpack.encode128(ints, bitsPerValue, packed);
+            data.writeByte((byte) bitsPerValue);
+            data.writeLongs(packed, 0, Bitpack.packedLongs(bitsPerValue));
+        } else {
+            Arrays.fill(longs, 0);
+            for (int i = from; i < to; i++) {
+                longs[docs[i] - start] = values[i];
+            }
+            data.writeByte((byte) RAW_LONGS);
+            data.writeLongs(longs, 0, BLOCK_SIZE);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.kanatti.minilucene.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A bag of fields to add to an {@link IndexWriter}.
+ */
+public class Document {
+    /**
+     * tokenized fields get split into lowercased words, see {@link Tokenizer}.
+     * Others are indexed as a single term, as is.
+     */
+    record Field(String name, String value, boolean tokenized) {}
+
+    /**
+     * Numeric doc value, stored by doc rather than inverted, see {@link NumericDocValues}.
+     */
+    record LongField(String name, long value) {}
+
+    private final List<Field> fields = new ArrayList<>();
+    private final List<LongField> longFields = new ArrayList<>();
+
+    /**
+     * Full text, searchable by its words.
+     */
+    public Document addText(String name, String text) {
+        fields.add(new Field(name, text, true));
+        return this;
+    }
+
+    /**
+     * Exact value like an id or a tag, searchable only as a whole.
+     */
+    public Document addKeyword(String name, String value) {
+        fields.add(new Field(name, value, false));
+        return this;
+    }
+
+    /**
+     * Number like a timestamp or a price, for sorting, range filters and aggregations.
+     * It's not searchable by terms, and a doc has at most one value per field.
+     */
+    public Document addLong(String name, long value) {
+        for (LongField field : longFields) {
+            if (field.name().equals(name))
+                throw new IllegalArgumentException("Doc already has a value for " + name);
+        }
+        longFields.add(new LongField(name, value));
+        return this;
+    }
+
+    List<Field> fields() {
+        return Collections.unmodifiableList(fields);
+    }
+
+    List<LongField> longFields() {
+        return Collections.unmodifiableList(longFields);
+    }
+}
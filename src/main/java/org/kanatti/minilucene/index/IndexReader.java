@@ -1,5 +1,94 @@
 package org.kanatti.minilucene.index;
 
-public class IndexReader {
-    
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.kanatti.minilucene.store.Directory;
+
+/**
+ * Top level reader, which is just a list of leaves (segments).
+ * Search happens leaf by leaf, see IndexSearcher.
+ */
+public class IndexReader implements Closeable {
+    private final List<LeafReaderContext> leaves;
+    private final int maxDoc;
+
+    public IndexReader(List<? extends LeafReader> leafReaders) {
+        List<LeafReaderContext> leaves = new ArrayList<>(leafReaders.size());
+        int docBase = 0;
+        for (LeafReader leafReader : leafReaders) {
+            leaves.add(new LeafReaderContext(leafReader, leaves.size(), docBase));
+            docBase += leafReader.maxDoc();
+        }
+        this.leaves = Collections.unmodifiableList(leaves);
+        this.maxDoc = docBase;
+    }
+
+    /**
+     * Opens the segments of the last commit in dir.
+     */
+    public static IndexReader open(Directory dir) throws IOException {
+        List<SegmentReader> readers = new ArrayList<>();
+        try {
+            for (String segment : SegmentInfos.read(dir).segments()) {
+                readers.add(SegmentReader.open(dir, segment));
+            }
+        } catch (IOException | RuntimeException e) {
+            // Failing to close doesn't hide why opening failed.
+            for (SegmentReader reader : readers) {
+                try {
+                    reader.close();
+                } catch (IOException | RuntimeException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+            }
+            throw e;
+        }
+        return new IndexReader(readers);
+    }
+
+    public List<LeafReaderContext> leaves() {
+        return leaves;
+    }
+
+    public int maxDoc() {
+        return maxDoc;
+    }
+
+    /**
+     * Number of docs containing the term, across all leaves.
+     */
+    public int docFreq(String field, String term) {
+        int docFreq = 0;
+        for (LeafReaderContext leaf : leaves) {
+            docFreq += leaf.reader().docFreq(field, term);
+        }
+        return docFreq;
+    }
+
+    /**
+     * Closes every leaf, even if some fail to. Throws the first failure, with the others
+     * suppressed.
+     */
+    @Override
+    public void close() throws IOException {
+        Throwable first = null;
+        for (LeafReaderContext leaf : leaves) {
+            try {
+                leaf.reader().close();
+            } catch (IOException | RuntimeException e) {
+                if (first == null)
+                    first = e;
+                else
+                    first.addSuppressed(e);
+            }
+        }
+        if (first instanceof IOException e)
+            throw e;
+        if (first instanceof RuntimeException e)
+            throw e;
+    }
 }
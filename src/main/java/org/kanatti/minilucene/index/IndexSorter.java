@@ -0,0 +1,84 @@
+package org.kanatti.minilucene.index;
+
+import java.util.List;
+import java.util.Map;
+
+import org.kanatti.minilucene.search.Sort;
+import org.kanatti.minilucene.search.SortField;
+
+/**
+ * Works out the order of a segment's docs under an index sort, from the buffered doc
+ * values of its sort fields. Sorting is stable, so docs with equal values keep the order
+ * they were added in.
+ */
+final class IndexSorter {
+    private IndexSorter() {}
+
+    /**
+     * oldToNew[doc] is the doc's id in the sorted segment, or null if docs are sorted
+     * already, which is common for data added in time order.
+     */
+    static int[] sort(int maxDoc, Sort sort, Map<String, NumericDocValuesBuffer> docValues) {
+        // Values of doc d are values[d * numFields ..], like Sort#compare wants them.
+        List<SortField> fields = sort.fields();
+        int numFields = fields.size();
+        long[] values = new long[maxDoc * numFields];
+        for (int f = 0; f < numFields; f++) {
+            SortField field = fields.get(f);
+            for (int doc = 0; doc < maxDoc; doc++) {
+                values[doc * numFields + f] = field.missingValue();
+            }
+            NumericDocValuesBuffer buffer = docValues.get(field.field());
+            if (buffer == null)
+                continue;
+            int[] docs = buffer.docs();
+            long[] fieldValues = buffer.values();
+            for (int i = 0; i < buffer.size(); i++) {
+                values[docs[i] * numFields + f] = fieldValues[i];
+            }
+        }
+
+        boolean sorted = true;
+        for (int doc = 1; doc < maxDoc && sorted; doc++) {
+            sorted = sort.compare(values, (doc - 1) * numFields, values, doc * numFields) <= 0;
+        }
+        if (sorted)
+            return null;
+
+        int[] newToOld = new int[maxDoc];
+        for (int doc = 0; doc < maxDoc; doc++) {
+            newToOld[doc] = doc;
+        }
+        mergeSort(newToOld, new int[maxDoc], 0, maxDoc, sort, values, numFields);
+
+        int[] oldToNew = new int[maxDoc];
+        for (int doc = 0; doc < maxDoc; doc++) {
+            oldToNew[newToOld[doc]] = doc;
+        }
+        return oldToNew;
+    }
+
+    /**
+     * Stable sort of docs[from, to), using tmp as scratch.
+     */
+    private static void mergeSort(int[] docs, int[] tmp, int from, int to, Sort sort, long[] values, int numFields) {
+        if (to - from <= 1)
+            return;
+        int mid = (from + to) >>> 1;
+        mergeSort(docs, tmp, from, mid, sort, values, numFields);
+        mergeSort(docs, tmp, mid, to, sort, values, numFields);
+        // Halves already in order.
+        if (sort.compare(values, docs[mid - 1] * numFields, values, docs[mid] * numFields) <= 0)
+            return;
+
+        System.arraycopy(docs, from, tmp, from, to - from);
+        int i = from, j = mid;
+        for (int k = from; k < to; k++) {
+            // Left wins ties, that's what keeps it stable.
+            if (j >= to || (i < mid && sort.compare(values, tmp[i] * numFields, values, tmp[j] * numFields) <= 0))
+                docs[k] = tmp[i++];
+            else
+                docs[k] = tmp[j++];
+        }
+    }
+}
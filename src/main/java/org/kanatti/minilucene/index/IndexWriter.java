@@ -0,0 +1,135 @@
+package org.kanatti.minilucene.index;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.kanatti.minilucene.store.Directory;
+
+/**
+ * Adds documents to an index in a {@link Directory}.
+ *
+ * Docs get inverted into in-memory postings, a {@link TermsHash} per field, and their
+ * numeric doc values buffered by field. Once those take more heap than {@link IndexWriterConfig#setRAMBufferSizeMB}, or on flush(), they
+ * are written out as a new immutable segment, and the buffer starts over. Segments are
+ * never modified afterwards. With an index sort, docs of a segment are renumbered in
+ * sort order as it's written.
+ *
+ * New segments become visible to {@link IndexReader#open} only on commit(), which
+ * atomically replaces the list of segments.
+ *
+ * Not thread-safe.
+ */
+public class IndexWriter implements Closeable {
+    private final Directory dir;
+    private final IndexWriterConfig config;
+    private final SegmentInfos segmentInfos;
+    private final SegmentWriter segmentWriter = new SegmentWriter();
+    private final Tokenizer tokenizer = new Tokenizer();
+
+    // Buffered docs, numbered from 0 within the segment being built.
+    private final Map<String, TermsHash> fields = new HashMap<>();
+    private final Map<String, NumericDocValuesBuffer> docValues = new HashMap<>();
+    private int numDocs;
+    private long ramBytesUsed;
+
+    // Files of flushed but not yet committed segments, to sync on commit.
+    private final List<String> pendingFiles = new ArrayList<>();
+    private boolean closed;
+
+    public IndexWriter(Directory dir, IndexWriterConfig config) throws IOException {
+        this.dir = dir;
+        this.config = config;
+        // Appends to what's there.
+        this.segmentInfos = SegmentInfos.read(dir);
+    }
+
+    public void addDocument(Document doc) throws IOException {
+        ensureOpen();
+        int docId = numDocs++;
+        for (Document.Field field : doc.fields()) {
+            TermsHash terms = fields.get(field.name());
+            if (terms == null) {
+                terms = new TermsHash();
+                fields.put(field.name(), terms);
+                ramBytesUsed += terms.ramBytesUsed();
+            }
+
+            long before = terms.ramBytesUsed();
+            if (field.tokenized()) {
+                tokenizer.reset(field.value());
+                while (tokenizer.next()) {
+                    terms.add(tokenizer.bytes(), tokenizer.length(), docId);
+                }
+            } else {
+                byte[] bytes = field.value().getBytes(StandardCharsets.UTF_8);
+                terms.add(bytes, bytes.length, docId);
+            }
+            ramBytesUsed += terms.ramBytesUsed() - before;
+        }
+        for (Document.LongField field : doc.longFields()) {
+            NumericDocValuesBuffer values = docValues.computeIfAbsent(field.name(), f -> new NumericDocValuesBuffer());
+            long before = values.ramBytesUsed();
+            values.add(docId, field.value());
+            ramBytesUsed += values.ramBytesUsed() - before;
+        }
+
+        if (ramBytesUsed >= config.ramBufferSizeBytes())
+            flush();
+    }
+
+    /**
+     * Heap taken by buffered postings and doc values.
+     */
+    public long ramBytesUsed() {
+        return ramBytesUsed;
+    }
+
+    /**
+     * Writes buffered docs as a new segment. It's not visible to readers until commit.
+     */
+    public void flush() throws IOException {
+        ensureOpen();
+        if (numDocs == 0)
+            return;
+
+        String segment = segmentInfos.newSegmentName();
+        pendingFiles.addAll(segmentWriter.write(dir, segment, numDocs, fields, docValues, config.getIndexSort()));
+        segmentInfos.add(segment);
+
+        fields.clear();
+        docValues.clear();
+        numDocs = 0;
+        ramBytesUsed = 0;
+    }
+
+    /**
+     * Flushes, and makes all segments flushed so far visible to newly opened readers.
+     */
+    public void commit() throws IOException {
+        flush();
+        dir.sync(pendingFiles);
+        segmentInfos.commit(dir);
+        pendingFiles.clear();
+    }
+
+    /**
+     * Commits and closes.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed)
+            return;
+        commit();
+        closed = true;
+    }
+
+    private void ensureOpen() {
+        if (closed)
+            throw new IllegalStateException("IndexWriter is closed");
+    }
+}
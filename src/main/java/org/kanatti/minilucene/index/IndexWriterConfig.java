@@ -0,0 +1,48 @@
+package org.kanatti.minilucene.index;
+
+import org.kanatti.minilucene.search.Sort;
+
+/**
+ * Settings of an {@link IndexWriter}.
+ */
+public class IndexWriterConfig {
+    public static final double DEFAULT_RAM_BUFFER_SIZE_MB = 16;
+
+    private double ramBufferSizeMB = DEFAULT_RAM_BUFFER_SIZE_MB;
+    private Sort indexSort;
+
+    /**
+     * Buffered docs get flushed to a new segment once their postings take this much heap.
+     * Bigger means fewer, bigger segments.
+     */
+    public IndexWriterConfig setRAMBufferSizeMB(double ramBufferSizeMB) {
+        if (ramBufferSizeMB <= 0)
+            throw new IllegalArgumentException("ramBufferSizeMB must be > 0");
+        this.ramBufferSizeMB = ramBufferSizeMB;
+        return this;
+    }
+
+    public double getRAMBufferSizeMB() {
+        return ramBufferSizeMB;
+    }
+
+    /**
+     * Sorts docs of every new segment by numeric doc values at flush, instead of keeping
+     * them in the order they were added. Doc-ids within a segment then follow the sort,
+     * which is recorded in the segment, so that searches sorting the same way can stop
+     * early (see {@link org.kanatti.minilucene.search.TopFieldCollector}), and ranges on
+     * the first sort field end up in few skip index intervals. Null (the default) for none.
+     */
+    public IndexWriterConfig setIndexSort(Sort indexSort) {
+        this.indexSort = indexSort;
+        return this;
+    }
+
+    public Sort getIndexSort() {
+        return indexSort;
+    }
+
+    long ramBufferSizeBytes() {
+        return (long) (ramBufferSizeMB * 1024 * 1024);
+    }
+}
@@ -0,0 +1,97 @@
+package org.kanatti.minilucene.index;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.kanatti.minilucene.search.Sort;
+
+/**
+ * Reads a single segment of the index. Doc-ids are local to the leaf, from 0 to maxDoc - 1.
+ */
+public abstract class LeafReader implements Closeable {
+    /**
+     * Told when a reader gets closed, so that whatever is cached for it can be dropped.
+     */
+    @FunctionalInterface
+    public interface ClosedListener {
+        void onClose(LeafReader reader);
+    }
+
+    private final List<ClosedListener> closedListeners = new CopyOnWriteArrayList<>();
+    private boolean closed;
+
+    public abstract int maxDoc();
+
+    /**
+     * Number of docs containing the term.
+     */
+    public abstract int docFreq(String field, String term);
+
+    /**
+     * Postings of the term, or null if term doesn't exist in this leaf.
+     */
+    public abstract PostingsEnum postings(String field, String term);
+
+    /**
+     * Terms of the field, or null if it has none. Default is null, for readers that can
+     * only look terms up by String.
+     */
+    public TermsEnum terms(String field) {
+        return null;
+    }
+
+    /**
+     * Numeric doc values of the field, or null if no doc has one.
+     */
+    public NumericDocValues getNumericDocValues(String field) {
+        return null;
+    }
+
+    /**
+     * Skip index over the field's numeric doc values, or null if there is none.
+     */
+    public DocValuesSkipper getDocValuesSkipper(String field) {
+        return null;
+    }
+
+    /**
+     * Sort that docs of this leaf are in, or null if they're in the order they were added.
+     */
+    public Sort getIndexSort() {
+        return null;
+    }
+
+    /**
+     * Registers listener to be called once this reader is closed.
+     */
+    public void addClosedListener(ClosedListener listener) {
+        closedListeners.add(listener);
+    }
+
+    /**
+     * Releases files held open (see {@link #doClose()}) and then calls closed listeners,
+     * even if that failed. Only the first call does anything.
+     */
+    @Override
+    public final void close() throws IOException {
+        synchronized (this) {
+            if (closed)
+                return;
+            closed = true;
+        }
+        try {
+            doClose();
+        } finally {
+            for (ClosedListener listener : closedListeners) {
+                listener.onClose(this);
+            }
+        }
+    }
+
+    /**
+     * Releases files held open, if any.
+     */
+    protected void doClose() throws IOException {}
+}
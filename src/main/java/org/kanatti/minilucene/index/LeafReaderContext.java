@@ -0,0 +1,32 @@
+package org.kanatti.minilucene.index;
+
+/**
+ * A leaf along with where it sits in the top level {@link IndexReader}.
+ * Global doc-id of a leaf doc is docBase + doc.
+ */
+public class LeafReaderContext {
+    private final LeafReader reader;
+    private final int ord;
+    private final int docBase;
+
+    public LeafReaderContext(LeafReader reader, int ord, int docBase) {
+        this.reader = reader;
+        this.ord = ord;
+        this.docBase = docBase;
+    }
+
+    public LeafReader reader() {
+        return reader;
+    }
+
+    /**
+     * Position of this leaf in {@link IndexReader#leaves()}.
+     */
+    public int ord() {
+        return ord;
+    }
+
+    public int docBase() {
+        return docBase;
+    }
+}
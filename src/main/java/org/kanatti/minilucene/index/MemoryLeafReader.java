@@ -0,0 +1,169 @@
+package org.kanatti.minilucene.index;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.kanatti.minilucene.search.ArrayDISI;
+
+/**
+ * A {@link LeafReader} whose postings are plain arrays in heap.
+ * Handy for trying out queries without writing an index.
+ */
+public class MemoryLeafReader extends LeafReader {
+    /**
+     * Block size used for block-level max freqs, same as lucene's postings blocks.
+     */
+    static final int BLOCK_SIZE = 128;
+
+    private final int maxDoc;
+    private final Map<String, Map<String, Postings>> fields;
+
+    private MemoryLeafReader(int maxDoc, Map<String, Map<String, Postings>> fields) {
+        this.maxDoc = maxDoc;
+        this.fields = fields;
+    }
+
+    @Override
+    public int maxDoc() {
+        return maxDoc;
+    }
+
+    @Override
+    public int docFreq(String field, String term) {
+        Postings postings = getPostings(field, term);
+        return postings == null ? 0 : postings.docs.length;
+    }
+
+    @Override
+    public PostingsEnum postings(String field, String term) {
+        Postings postings = getPostings(field, term);
+        return postings == null ? null : new ArrayPostingsEnum(postings);
+    }
+
+    private Postings getPostings(String field, String term) {
+        Map<String, Postings> terms = fields.get(field);
+        return terms == null ? null : terms.get(term);
+    }
+
+    /**
+     * blockMaxFreqs[i] is the max freq among docs[i * BLOCK_SIZE, (i + 1) * BLOCK_SIZE).
+     */
+    private record Postings(int[] docs, int[] freqs, int[] blockMaxFreqs) {
+        static Postings of(int[] docs, int[] freqs) {
+            int[] blockMaxFreqs = new int[(docs.length + BLOCK_SIZE - 1) / BLOCK_SIZE];
+            for (int i = 0; i < freqs.length; i++) {
+                int block = i / BLOCK_SIZE;
+                blockMaxFreqs[block] = Math.max(blockMaxFreqs[block], freqs[i]);
+            }
+            return new Postings(docs, freqs, blockMaxFreqs);
+        }
+    }
+
+    private static class ArrayPostingsEnum implements PostingsEnum {
+        private final ArrayDISI disi;
+        private final Postings postings;
+        private int shallowBlock;
+
+        ArrayPostingsEnum(Postings postings) {
+            this.disi = new ArrayDISI(postings.docs);
+            this.postings = postings;
+        }
+
+        @Override
+        public int freq() {
+            return postings.freqs[disi.index()];
+        }
+
+        @Override
+        public int advanceShallow(int target) {
+            int[] docs = postings.docs;
+            // Binary search for first doc >= target, its block is the one we want.
+            int lo = 0, hi = docs.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (docs[mid] < target)
+                    lo = mid + 1;
+                else
+                    hi = mid;
+            }
+            if (lo == docs.length) {
+                shallowBlock = postings.blockMaxFreqs.length;
+                return NO_MORE_DOCS;
+            }
+            shallowBlock = lo / BLOCK_SIZE;
+            return docs[Math.min(docs.length, (shallowBlock + 1) * BLOCK_SIZE) - 1];
+        }
+
+        @Override
+        public int maxFreq(int upTo) {
+            int[] docs = postings.docs;
+            int maxFreq = 0;
+            for (int block = shallowBlock; block < postings.blockMaxFreqs.length; block++) {
+                // Stop at first block starting after upTo.
+                if (docs[block * BLOCK_SIZE] > upTo)
+                    break;
+                maxFreq = Math.max(maxFreq, postings.blockMaxFreqs[block]);
+            }
+            return maxFreq;
+        }
+
+        @Override
+        public int docId() {
+            return disi.docId();
+        }
+
+        @Override
+        public int nextDoc() {
+            return disi.nextDoc();
+        }
+
+        @Override
+        public int advance(int target) {
+            return disi.advance(target);
+        }
+
+        @Override
+        public long cost() {
+            return disi.cost();
+        }
+    }
+
+    public static class Builder {
+        private final int maxDoc;
+        private final Map<String, Map<String, Postings>> fields = new HashMap<>();
+
+        public Builder(int maxDoc) {
+            this.maxDoc = maxDoc;
+        }
+
+        /**
+         * Adds a term that occurs once in each of the docs.
+         */
+        public Builder addPostings(String field, String term, int... docs) {
+            int[] freqs = new int[docs.length];
+            Arrays.fill(freqs, 1);
+            return addPostings(field, term, docs, freqs);
+        }
+
+        /**
+         * Docs must be sorted, and freqs[i] is term frequency in docs[i].
+         */
+        public Builder addPostings(String field, String term, int[] docs, int[] freqs) {
+            if (docs.length != freqs.length)
+                throw new IllegalArgumentException("docs and freqs must have same length");
+            for (int i = 0; i < docs.length; i++) {
+                if (docs[i] < 0 || docs[i] >= maxDoc)
+                    throw new IllegalArgumentException("Out of range");
+                if (i > 0 && docs[i] <= docs[i - 1])
+                    throw new IllegalArgumentException("Docs must be sorted");
+            }
+            fields.computeIfAbsent(field, f -> new HashMap<>()).put(term, Postings.of(docs, freqs));
+            return this;
+        }
+
+        public MemoryLeafReader build() {
+            return new MemoryLeafReader(maxDoc, fields);
+        }
+    }
+}
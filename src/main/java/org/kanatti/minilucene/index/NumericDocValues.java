@@ -0,0 +1,33 @@
+package org.kanatti.minilucene.index;
+
+import org.kanatti.minilucene.search.DocIdSetIterator;
+
+/**
+ * Per doc numeric values of a field. Iterating gives the docs that have a value.
+ */
+public interface NumericDocValues extends DocIdSetIterator {
+    /**
+     * Moves to target, which must be >= current doc, and returns whether it has a value.
+     * Unlike advance(), this always lands on target.
+     */
+    boolean advanceExact(int target);
+
+    /**
+     * Value of the current doc, which must have one.
+     */
+    long longValue();
+
+    /**
+     * Batch version of advanceExact + longValue: puts values of the docs that have one
+     * into values, in order, and returns how many there were. Docs must be increasing
+     * and >= current doc, and the iterator is left on the last one.
+     */
+    default int longValues(int[] docs, int count, long[] values) {
+        int n = 0;
+        for (int i = 0; i < count; i++) {
+            if (advanceExact(docs[i]))
+                values[n++] = longValue();
+        }
+        return n;
+    }
+}
@@ -0,0 +1,60 @@
+package org.kanatti.minilucene.index;
+
+import java.util.Arrays;
+
+/**
+ * Buffers numeric doc values of a field for {@link IndexWriter}, as parallel arrays of
+ * docs (in increasing order) and their values.
+ */
+final class NumericDocValuesBuffer {
+    private int[] docs = new int[64];
+    private long[] values = new long[64];
+    private int size;
+
+    void add(int doc, long value) {
+        if (size > 0 && docs[size - 1] >= doc)
+            throw new IllegalArgumentException("Only one value per doc, and docs in order: " + doc);
+        if (size == docs.length) {
+            docs = Arrays.copyOf(docs, size + (size >> 1));
+            values = Arrays.copyOf(values, docs.length);
+        }
+        docs[size] = doc;
+        values[size] = value;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int[] docs() {
+        return docs;
+    }
+
+    long[] values() {
+        return values;
+    }
+
+    /**
+     * Copy of this buffer with docs renumbered by oldToNew, so in the new order.
+     */
+    NumericDocValuesBuffer sort(int[] oldToNew) {
+        long[] valueOf = new long[oldToNew.length];
+        boolean[] hasValue = new boolean[oldToNew.length];
+        for (int i = 0; i < size; i++) {
+            int doc = oldToNew[docs[i]];
+            valueOf[doc] = values[i];
+            hasValue[doc] = true;
+        }
+        NumericDocValuesBuffer sorted = new NumericDocValuesBuffer();
+        for (int doc = 0; doc < oldToNew.length; doc++) {
+            if (hasValue[doc])
+                sorted.add(doc, valueOf[doc]);
+        }
+        return sorted;
+    }
+
+    long ramBytesUsed() {
+        return (long) docs.length * (Integer.BYTES + Long.BYTES);
+    }
+}
@@ -0,0 +1,29 @@
+package org.kanatti.minilucene.index;
+
+import org.kanatti.minilucene.search.DocIdSetIterator;
+
+/**
+ * Iterates docs of a term, along with how many times the term occurs in each doc.
+ */
+public interface PostingsEnum extends DocIdSetIterator {
+    /**
+     * Term frequency in current doc.
+     */
+    int freq();
+
+    /**
+     * Moves block-level info (not the iterator itself) to the block containing target,
+     * and returns the last doc of that block. Default is one block spanning everything.
+     */
+    default int advanceShallow(int target) {
+        return NO_MORE_DOCS;
+    }
+
+    /**
+     * Upper bound of freq across docs from the current shallow block up to upTo.
+     * This is what lets scorers tell a whole block can't be competitive.
+     */
+    default int maxFreq(int upTo) {
+        return Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,138 @@
+package org.kanatti.minilucene.index;
+
+import java.util.Arrays;
+
+import org.kanatti.minilucene.search.DocIdSetIterator;
+import org.kanatti.minilucene.store.IndexInput;
+
+/**
+ * {@link DocValuesSkipper} over the skip index written by {@link DocValuesWriter}.
+ * Intervals are by doc id, so the one holding a doc is read directly, and intervals
+ * without values are skipped at the highest level that is empty.
+ */
+final class SegmentDocValuesSkipper extends DocValuesSkipper {
+    private final IndexInput in;
+    private final DocValuesReader.FieldMeta meta;
+    private final int maxDoc;
+    private final long[] levelFPs;
+
+    // Current interval of every level.
+    private final int[] intervals;
+    private final long[] minValues;
+    private final long[] maxValues;
+    private final long[] sums;
+    private final int[] docCounts;
+    private boolean started;
+    private boolean exhausted;
+
+    SegmentDocValuesSkipper(IndexInput data, DocValuesReader.FieldMeta meta, int maxDoc) {
+        this.in = data.clone();
+        this.meta = meta;
+        this.maxDoc = maxDoc;
+        int numLevels = meta.numSkipLevels();
+        this.levelFPs = new long[numLevels];
+        long fp = meta.skipFP();
+        for (int level = 0; level < numLevels; level++) {
+            levelFPs[level] = fp;
+            fp += (long) DocValuesWriter.numIntervals(maxDoc, level) * DocValuesWriter.SKIP_ENTRY_BYTES;
+        }
+        this.intervals = new int[numLevels];
+        this.minValues = new long[numLevels];
+        this.maxValues = new long[numLevels];
+        this.sums = new long[numLevels];
+        this.docCounts = new int[numLevels];
+        Arrays.fill(intervals, -1);
+    }
+
+    @Override
+    public void advance(int target) {
+        started = true;
+        nextTarget:
+        while (target < maxDoc) {
+            // Top down, so that a big empty range gets skipped at once.
+            for (int level = intervals.length - 1; level >= 0; level--) {
+                int shift = DocValuesWriter.skipShift(level);
+                load(level, target >>> shift);
+                if (docCounts[level] == 0) {
+                    long next = (long) (intervals[level] + 1) << shift;
+                    if (next >= maxDoc)
+                        break nextTarget;
+                    target = (int) next;
+                    continue nextTarget;
+                }
+            }
+            return;
+        }
+        exhausted = true;
+    }
+
+    private void load(int level, int interval) {
+        if (intervals[level] == interval)
+            return;
+        in.seek(levelFPs[level] + (long) interval * DocValuesWriter.SKIP_ENTRY_BYTES);
+        minValues[level] = in.readLong();
+        maxValues[level] = in.readLong();
+        sums[level] = in.readLong();
+        docCounts[level] = in.readInt();
+        intervals[level] = interval;
+    }
+
+    @Override
+    public int numLevels() {
+        return intervals.length;
+    }
+
+    @Override
+    public int minDocID(int level) {
+        if (!started)
+            return -1;
+        if (exhausted)
+            return DocIdSetIterator.NO_MORE_DOCS;
+        return intervals[level] << DocValuesWriter.skipShift(level);
+    }
+
+    @Override
+    public int maxDocID(int level) {
+        if (!started)
+            return -1;
+        if (exhausted)
+            return DocIdSetIterator.NO_MORE_DOCS;
+        long end = (long) (intervals[level] + 1) << DocValuesWriter.skipShift(level);
+        return (int) Math.min(maxDoc, end) - 1;
+    }
+
+    @Override
+    public long minValue(int level) {
+        return minValues[level];
+    }
+
+    @Override
+    public long maxValue(int level) {
+        return maxValues[level];
+    }
+
+    @Override
+    public long sum(int level) {
+        return sums[level];
+    }
+
+    @Override
+    public int docCount(int level) {
+        return docCounts[level];
+    }
+
+    @Override
+    public long minValue() {
+        return meta.minValue();
+    }
+
+    @Override
+    public long maxValue() {
+        return meta.maxValue();
+    }
+
+    @Override
+    public int docCount() {
+        return meta.docCount();
+    }
+}
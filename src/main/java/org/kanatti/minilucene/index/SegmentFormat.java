@@ -0,0 +1,73 @@
+package org.kanatti.minilucene.index;
+
+import org.kanatti.minilucene.store.DataInput;
+import org.kanatti.minilucene.store.DataOutput;
+
+/**
+ * File names and headers of the index format.
+ *
+ * A commit is the "segments" file, listing the segments. Every segment is a few files
+ * named after it:
+ * - _N.si: segment info: vInt maxDoc, and the index sort as vInt number of sort fields,
+ *   then per field its name and a byte, 1 if reversed.
+ * - _N.tim: terms dictionary, every field's terms in sorted order with their docFreq and
+ *   where their postings start in .doc, in prefix-compressed blocks.
+ * - _N.tip: terms index, first term of every .tim block, see {@link BlockTermsWriter}.
+ * - _N.doc: postings, see {@link SegmentWriter}.
+ * - _N.dvm, _N.dvd: numeric doc values, metadata and data, see {@link DocValuesWriter}.
+ *   Only there if some doc has one.
+ *
+ * Every file starts with a header: a magic int, the kind of file, and a format version.
+ * There's a single version for all files, see {@link #VERSION}.
+ */
+final class SegmentFormat {
+    static final String SEGMENTS = "segments";
+    static final String PENDING_SEGMENTS = "segments.tmp";
+
+    static final String INFO_EXTENSION = "si";
+    static final String TERMS_EXTENSION = "tim";
+    static final String TERMS_INDEX_EXTENSION = "tip";
+    static final String POSTINGS_EXTENSION = "doc";
+    static final String DOC_VALUES_META_EXTENSION = "dvm";
+    static final String DOC_VALUES_EXTENSION = "dvd";
+
+    static final String SEGMENTS_CODEC = "Segments";
+    static final String INFO_CODEC = "SegmentInfo";
+    static final String TERMS_CODEC = "Terms";
+    static final String TERMS_INDEX_CODEC = "TermsIndex";
+    static final String POSTINGS_CODEC = "Postings";
+    static final String DOC_VALUES_META_CODEC = "DocValuesMeta";
+    static final String DOC_VALUES_CODEC = "DocValues";
+
+    // Bumped on every change to a file's layout, older files are then rejected by
+    // checkHeader instead of being misread.
+    // 1: index sort fields in .si.
+    // 2: sum of values in doc values skip entries, in .dvd.
+    static final int VERSION = 2;
+
+    private static final int MAGIC = 0x6d6c7563;
+
+    private SegmentFormat() {}
+
+    static String fileName(String segment, String extension) {
+        return segment + "." + extension;
+    }
+
+    static void writeHeader(DataOutput out, String codec) {
+        out.writeInt(MAGIC);
+        out.writeString(codec);
+        out.writeVInt(VERSION);
+    }
+
+    static void checkHeader(DataInput in, String codec, String resource) throws CorruptIndexException {
+        int magic = in.readInt();
+        if (magic != MAGIC)
+            throw new CorruptIndexException("Bad magic " + Integer.toHexString(magic), resource);
+        String actualCodec = in.readString();
+        if (!actualCodec.equals(codec))
+            throw new CorruptIndexException("Expected " + codec + " but got " + actualCodec, resource);
+        int version = in.readVInt();
+        if (version != VERSION)
+            throw new CorruptIndexException("Unsupported version " + version, resource);
+    }
+}
@@ -0,0 +1,65 @@
+package org.kanatti.minilucene.index;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.kanatti.minilucene.store.Directory;
+import org.kanatti.minilucene.store.IndexInput;
+import org.kanatti.minilucene.store.IndexOutput;
+
+/**
+ * The list of segments of a commit, stored in the "segments" file.
+ *
+ * A commit is written to a temp file and then renamed over the old one, so readers see
+ * either the old or the new list, never half of one.
+ */
+final class SegmentInfos {
+    // Number of the next segment to create, so names never get reused.
+    private int counter;
+    private final List<String> segments = new ArrayList<>();
+
+    static SegmentInfos read(Directory dir) throws IOException {
+        SegmentInfos infos = new SegmentInfos();
+        if (!dir.fileExists(SegmentFormat.SEGMENTS))
+            return infos;
+
+        try (IndexInput in = dir.openInput(SegmentFormat.SEGMENTS)) {
+            SegmentFormat.checkHeader(in, SegmentFormat.SEGMENTS_CODEC, SegmentFormat.SEGMENTS);
+            infos.counter = in.readVInt();
+            int numSegments = in.readVInt();
+            for (int i = 0; i < numSegments; i++) {
+                infos.segments.add(in.readString());
+            }
+        }
+        return infos;
+    }
+
+    void commit(Directory dir) throws IOException {
+        if (dir.fileExists(SegmentFormat.PENDING_SEGMENTS))
+            dir.deleteFile(SegmentFormat.PENDING_SEGMENTS);
+
+        try (IndexOutput out = dir.createOutput(SegmentFormat.PENDING_SEGMENTS)) {
+            SegmentFormat.writeHeader(out, SegmentFormat.SEGMENTS_CODEC);
+            out.writeVInt(counter);
+            out.writeVInt(segments.size());
+            for (String segment : segments) {
+                out.writeString(segment);
+            }
+        }
+        dir.sync(List.of(SegmentFormat.PENDING_SEGMENTS));
+        dir.rename(SegmentFormat.PENDING_SEGMENTS, SegmentFormat.SEGMENTS);
+    }
+
+    String newSegmentName() {
+        return "_" + Integer.toString(counter++, Character.MAX_RADIX);
+    }
+
+    void add(String segment) {
+        segments.add(segment);
+    }
+
+    List<String> segments() {
+        return segments;
+    }
+}
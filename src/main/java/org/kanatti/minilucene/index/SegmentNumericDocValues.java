@@ -0,0 +1,134 @@
+package org.kanatti.minilucene.index;
+
+import java.util.Arrays;
+
+import org.kanatti.minilucene.compression.Bitpack;
+import org.kanatti.minilucene.compression.BlockDecoder;
+import org.kanatti.minilucene.store.IndexInput;
+
+/**
+ * {@link NumericDocValues} of a field written by {@link DocValuesWriter}. Values are
+ * decoded a block of 128 docs at a time, the block being found through the offsets.
+ */
+final class SegmentNumericDocValues implements NumericDocValues {
+    private static final int BLOCK_SIZE = DocValuesWriter.BLOCK_SIZE;
+    private static final int BLOCK_SHIFT = DocValuesWriter.BLOCK_SHIFT;
+
+    private final IndexInput in;
+    private final DocValuesReader.FieldMeta meta;
+    private final int maxDoc;
+    private final boolean dense;
+    private int doc = NOT_STARTED;
+
+    // Decoded block
+    private final long[] values = new long[BLOCK_SIZE];
+    private final int[] ints = new int[BLOCK_SIZE];
+    private final long[] packed = new long[Bitpack.packedLongs(32)];
+    private int block = -1;
+
+    // Word of the docs bitset last read, for sparse fields.
+    private int wordIndex = -1;
+    private long word;
+
+    SegmentNumericDocValues(IndexInput data, DocValuesReader.FieldMeta meta, int maxDoc) {
+        this.in = data.clone();
+        this.meta = meta;
+        this.maxDoc = maxDoc;
+        this.dense = meta.docsFP() < 0;
+    }
+
+    @Override
+    public int docId() {
+        return doc;
+    }
+
+    @Override
+    public int nextDoc() {
+        if (doc == NO_MORE_DOCS)
+            return NO_MORE_DOCS;
+        return advance(doc + 1);
+    }
+
+    @Override
+    public int advance(int target) {
+        if (target >= maxDoc)
+            return doc = NO_MORE_DOCS;
+        if (dense)
+            return doc = target;
+
+        int i = target >>> 6;
+        long bits = word(i) >>> target;
+        if (bits != 0)
+            return doc = target + Long.numberOfTrailingZeros(bits);
+        for (int numWords = (maxDoc + 63) >>> 6; ++i < numWords; ) {
+            bits = word(i);
+            if (bits != 0)
+                return doc = (i << 6) + Long.numberOfTrailingZeros(bits);
+        }
+        return doc = NO_MORE_DOCS;
+    }
+
+    @Override
+    public boolean advanceExact(int target) {
+        doc = target;
+        return dense || (word(target >>> 6) & (1L << target)) != 0;
+    }
+
+    private long word(int i) {
+        if (i != wordIndex) {
+            in.seek(meta.docsFP() + (long) i * Long.BYTES);
+            word = in.readLong();
+            wordIndex = i;
+        }
+        return word;
+    }
+
+    @Override
+    public long longValue() {
+        int b = doc >>> BLOCK_SHIFT;
+        if (b != block)
+            loadBlock(b);
+        return values[doc & (BLOCK_SIZE - 1)];
+    }
+
+    @Override
+    public int longValues(int[] docs, int count, long[] values) {
+        int n = 0;
+        for (int i = 0; i < count; i++) {
+            int d = docs[i];
+            if (!dense && (word(d >>> 6) & (1L << d)) == 0)
+                continue;
+            int b = d >>> BLOCK_SHIFT;
+            if (b != block)
+                loadBlock(b);
+            values[n++] = this.values[d & (BLOCK_SIZE - 1)];
+        }
+        if (count > 0)
+            doc = docs[count - 1];
+        return n;
+    }
+
+    private void loadBlock(int b) {
+        in.seek(meta.offsetsFP() + (long) b * Long.BYTES);
+        in.seek(in.readLong());
+        long min = in.readLong();
+        int bitsPerValue = in.readByte();
+        if (bitsPerValue == 0) {
+            Arrays.fill(values, min);
+        } else if (bitsPerValue == DocValuesWriter.RAW_LONGS) {
+            in.readLongs(values, 0, BLOCK_SIZE);
+        } else {
+            in.readLongs(packed, 0, Bitpack.packedLongs(bitsPerValue));
+            BlockDecoder.INSTANCE.decode128(packed, bitsPerValue, ints);
+            for (int i = 0; i < BLOCK_SIZE; i++) {
+                values[i] = min + (ints[i] & 0xFFFFFFFFL);
+            }
+        }
+        block = b;
+    }
+
+    @Override
+    public long cost() {
+        return meta.docCount();
+    }
+}
@@ -0,0 +1,222 @@
+package org.kanatti.minilucene.index;
+
+import org.kanatti.minilucene.compression.BlockCodec;
+import org.kanatti.minilucene.compression.Delta;
+import org.kanatti.minilucene.store.IndexInput;
+
+/**
+ * Iterates postings of a term written by {@link SegmentWriter}, decoding a block of 128
+ * docs at a time. advance() skips over blocks ending before target by their header, without
+ * decoding them.
+ *
+ * Block-max info (advanceShallow/maxFreq) comes from a second cursor over the same
+ * headers, so looking ahead doesn't move the iterator itself.
+ *
+ * Long postings also have skip data, which both cursors use to jump straight to the right
+ * group of SKIP_INTERVAL blocks when a target is further away than that.
+ */
+final class SegmentPostingsEnum implements PostingsEnum {
+    private static final int BLOCK_SIZE = SegmentWriter.BLOCK_SIZE;
+
+    private final IndexInput in;
+    private final IndexInput postingsIn;
+    private final long postingsFP;
+    private final int docFreq;
+    private final long skipOffset;
+    // Created on first use, as most advances are short.
+    private SkipReader skipReader;
+    private final BlockCodec codec = new BlockCodec();
+
+    private final int[] docs = new int[BLOCK_SIZE];
+    private final int[] freqs = new int[BLOCK_SIZE];
+    // Docs of blocks not loaded yet.
+    private int docsLeft;
+    // Last doc of the loaded block, or of the last skipped one.
+    private int blockLastDoc = -1;
+    private int blockLength;
+    private int pos;
+    private int doc = NOT_STARTED;
+
+    // Shallow cursor: header of the block it's on, and where that block's data starts.
+    private final IndexInput shallowIn;
+    private boolean shallowStarted;
+    private long shallowFP;
+    private long shallowDataFP;
+    private int shallowPrevLastDoc = -1;
+    private int shallowLastDoc;
+    private int shallowMaxFreq;
+    private int shallowNumBytes;
+    // Docs in blocks after the shallow one.
+    private int shallowDocsAfter;
+
+    /**
+     * skipOffset is where skip data starts relative to postingsFP, -1 if there is none.
+     */
+    SegmentPostingsEnum(IndexInput postingsIn, long postingsFP, int docFreq, long skipOffset) {
+        this.in = postingsIn.clone();
+        this.in.seek(postingsFP);
+        this.postingsIn = postingsIn;
+        this.postingsFP = postingsFP;
+        this.docFreq = docFreq;
+        this.skipOffset = skipOffset;
+        this.docsLeft = docFreq;
+
+        this.shallowIn = postingsIn.clone();
+        this.shallowFP = postingsFP;
+    }
+
+    @Override
+    public int docId() {
+        return doc;
+    }
+
+    @Override
+    public int freq() {
+        return freqs[pos];
+    }
+
+    @Override
+    public int nextDoc() {
+        if (doc == NO_MORE_DOCS)
+            return NO_MORE_DOCS;
+        if (++pos < blockLength)
+            return doc = docs[pos];
+        return doc = loadBlock(doc + 1) ? docs[pos] : NO_MORE_DOCS;
+    }
+
+    @Override
+    public int advance(int target) {
+        if (doc == NO_MORE_DOCS)
+            return NO_MORE_DOCS;
+        if (target > blockLastDoc || blockLength == 0) {
+            if (!loadBlock(target))
+                return doc = NO_MORE_DOCS;
+        }
+        // Block's last doc is >= target, so this stops within it.
+        while (docs[pos] < target) {
+            pos++;
+        }
+        return doc = docs[pos];
+    }
+
+    /**
+     * Moves to the first block whose last doc is >= target and decodes it.
+     */
+    private boolean loadBlock(int target) {
+        if (docsLeft > SkipReader.SKIP_INTERVAL * BLOCK_SIZE && skipOffset >= 0) {
+            // Blocks read so far are all full.
+            int block = skipTo((docFreq - docsLeft) / BLOCK_SIZE, target);
+            if (block >= 0) {
+                in.seek(postingsFP + skipReader.blockOffset());
+                blockLastDoc = skipReader.lastDocBefore();
+                docsLeft = docFreq - block * BLOCK_SIZE;
+            }
+        }
+
+        while (docsLeft > 0) {
+            int lastDoc = blockLastDoc + in.readVInt();
+            int maxFreq = in.readVInt();
+            int numBytes = in.readVInt();
+            int length = Math.min(BLOCK_SIZE, docsLeft);
+            docsLeft -= length;
+
+            if (lastDoc < target) {
+                in.skipBytes(numBytes);
+                blockLastDoc = lastDoc;
+                continue;
+            }
+
+            codec.read(in, docs, length);
+            Delta.prefixSum(docs, 0, length, blockLastDoc);
+            codec.read(in, freqs, length);
+            blockLastDoc = lastDoc;
+            blockLength = length;
+            pos = 0;
+            return true;
+        }
+        blockLength = 0;
+        return false;
+    }
+
+    @Override
+    public int advanceShallow(int target) {
+        if (!shallowStarted) {
+            shallowStarted = true;
+            shallowDocsAfter = docFreq - Math.min(BLOCK_SIZE, docFreq);
+            readShallowHeader();
+        }
+        if (shallowLastDoc < target && shallowDocsAfter > SkipReader.SKIP_INTERVAL * BLOCK_SIZE && skipOffset >= 0) {
+            int nextBlock = (docFreq - shallowDocsAfter) / BLOCK_SIZE;
+            int block = skipTo(nextBlock, target);
+            if (block >= 0) {
+                shallowFP = postingsFP + skipReader.blockOffset();
+                shallowPrevLastDoc = skipReader.lastDocBefore();
+                shallowDocsAfter = Math.max(0, docFreq - (block + 1) * BLOCK_SIZE);
+                readShallowHeader();
+            }
+        }
+        while (shallowLastDoc < target && shallowDocsAfter > 0) {
+            nextShallowBlock();
+        }
+        return shallowLastDoc < target ? NO_MORE_DOCS : shallowLastDoc;
+    }
+
+    /**
+     * Block that target can't be before, if it's more than skipping headers one by one
+     * from fromBlock would get to. -1 if not.
+     */
+    private int skipTo(int fromBlock, int target) {
+        if (skipReader == null)
+            skipReader = new SkipReader(postingsIn, postingsFP + skipOffset, (docFreq + BLOCK_SIZE - 1) / BLOCK_SIZE);
+        return skipReader.skip(fromBlock, target);
+    }
+
+    @Override
+    public int maxFreq(int upTo) {
+        if (!shallowStarted)
+            advanceShallow(0);
+
+        int result = shallowMaxFreq;
+        if (shallowLastDoc >= upTo || shallowDocsAfter == 0)
+            return result;
+
+        // Peek at following blocks that start before upTo, then come back.
+        long fp = shallowFP, dataFP = shallowDataFP;
+        int prevLastDoc = shallowPrevLastDoc, lastDoc = shallowLastDoc, maxFreq = shallowMaxFreq;
+        int numBytes = shallowNumBytes, docsAfter = shallowDocsAfter;
+
+        while (shallowLastDoc < upTo && shallowDocsAfter > 0) {
+            nextShallowBlock();
+            result = Math.max(result, shallowMaxFreq);
+        }
+
+        shallowFP = fp;
+        shallowDataFP = dataFP;
+        shallowPrevLastDoc = prevLastDoc;
+        shallowLastDoc = lastDoc;
+        shallowMaxFreq = maxFreq;
+        shallowNumBytes = numBytes;
+        shallowDocsAfter = docsAfter;
+        return result;
+    }
+
+    private void nextShallowBlock() {
+        shallowFP = shallowDataFP + shallowNumBytes;
+        shallowPrevLastDoc = shallowLastDoc;
+        shallowDocsAfter -= Math.min(BLOCK_SIZE, shallowDocsAfter);
+        readShallowHeader();
+    }
+
+    private void readShallowHeader() {
+        shallowIn.seek(shallowFP);
+        shallowLastDoc = shallowPrevLastDoc + shallowIn.readVInt();
+        shallowMaxFreq = shallowIn.readVInt();
+        shallowNumBytes = shallowIn.readVInt();
+        shallowDataFP = shallowIn.getFilePointer();
+    }
+
+    @Override
+    public long cost() {
+        return docFreq;
+    }
+}
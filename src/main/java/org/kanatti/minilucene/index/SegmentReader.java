@@ -0,0 +1,153 @@
+package org.kanatti.minilucene.index;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.kanatti.minilucene.search.Sort;
+import org.kanatti.minilucene.search.SortField;
+import org.kanatti.minilucene.store.Directory;
+import org.kanatti.minilucene.store.IndexInput;
+import org.kanatti.minilucene.util.BytesRef;
+
+/**
+ * {@link LeafReader} over a segment written by {@link IndexWriter}.
+ *
+ * Only the terms index (first term of every terms block) and doc values metadata are
+ * loaded into heap. Terms blocks, postings and doc values stay on disk, and are read
+ * through clones of the inputs, straight from the page cache with
+ * {@link org.kanatti.minilucene.store.MMapDirectory}.
+ */
+public class SegmentReader extends LeafReader {
+    private final String name;
+    private final int maxDoc;
+    // Null if docs aren't sorted.
+    private final Sort indexSort;
+    private final Map<String, TermsIndex> fields;
+    private final IndexInput termsIn;
+    private final IndexInput postingsIn;
+    // Null if no doc has doc values.
+    private final DocValuesReader docValues;
+
+    private SegmentReader(String name, int maxDoc, Sort indexSort, Map<String, TermsIndex> fields,
+            IndexInput termsIn, IndexInput postingsIn, DocValuesReader docValues) {
+        this.name = name;
+        this.maxDoc = maxDoc;
+        this.indexSort = indexSort;
+        this.fields = fields;
+        this.termsIn = termsIn;
+        this.postingsIn = postingsIn;
+        this.docValues = docValues;
+    }
+
+    public static SegmentReader open(Directory dir, String segment) throws IOException {
+        int maxDoc;
+        Sort indexSort = null;
+        String infoFile = SegmentFormat.fileName(segment, SegmentFormat.INFO_EXTENSION);
+        try (IndexInput in = dir.openInput(infoFile)) {
+            SegmentFormat.checkHeader(in, SegmentFormat.INFO_CODEC, infoFile);
+            maxDoc = in.readVInt();
+            int numSortFields = in.readVInt();
+            if (numSortFields > 0) {
+                SortField[] sortFields = new SortField[numSortFields];
+                for (int i = 0; i < numSortFields; i++) {
+                    sortFields[i] = new SortField(in.readString(), in.readByte() == 1);
+                }
+                indexSort = new Sort(sortFields);
+            }
+        }
+
+        Map<String, TermsIndex> fields = new HashMap<>();
+        String termsIndexFile = SegmentFormat.fileName(segment, SegmentFormat.TERMS_INDEX_EXTENSION);
+        try (IndexInput in = dir.openInput(termsIndexFile)) {
+            SegmentFormat.checkHeader(in, SegmentFormat.TERMS_INDEX_CODEC, termsIndexFile);
+            int numFields = in.readVInt();
+            for (int i = 0; i < numFields; i++) {
+                String field = in.readString();
+                fields.put(field, TermsIndex.read(in));
+            }
+        }
+
+        List<Closeable> inputs = new ArrayList<>(2);
+        try {
+            String termsFile = SegmentFormat.fileName(segment, SegmentFormat.TERMS_EXTENSION);
+            IndexInput termsIn = dir.openInput(termsFile);
+            inputs.add(termsIn);
+            SegmentFormat.checkHeader(termsIn, SegmentFormat.TERMS_CODEC, termsFile);
+
+            String postingsFile = SegmentFormat.fileName(segment, SegmentFormat.POSTINGS_EXTENSION);
+            IndexInput postingsIn = dir.openInput(postingsFile);
+            inputs.add(postingsIn);
+            SegmentFormat.checkHeader(postingsIn, SegmentFormat.POSTINGS_CODEC, postingsFile);
+
+            DocValuesReader docValues = DocValuesReader.open(dir, segment, maxDoc);
+            return new SegmentReader(segment, maxDoc, indexSort, fields, termsIn, postingsIn, docValues);
+        } catch (IOException | RuntimeException e) {
+            for (Closeable in : inputs) {
+                in.close();
+            }
+            throw e;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int maxDoc() {
+        return maxDoc;
+    }
+
+    @Override
+    public Sort getIndexSort() {
+        return indexSort;
+    }
+
+    @Override
+    public TermsEnum terms(String field) {
+        TermsIndex index = fields.get(field);
+        return index == null ? null : new SegmentTermsEnum(index, termsIn, postingsIn);
+    }
+
+    @Override
+    public int docFreq(String field, String term) {
+        TermsEnum terms = terms(field);
+        if (terms == null || !terms.seekExact(new BytesRef(term)))
+            return 0;
+        return terms.docFreq();
+    }
+
+    @Override
+    public PostingsEnum postings(String field, String term) {
+        TermsEnum terms = terms(field);
+        if (terms == null || !terms.seekExact(new BytesRef(term)))
+            return null;
+        return terms.postings();
+    }
+
+    @Override
+    public NumericDocValues getNumericDocValues(String field) {
+        return docValues == null ? null : docValues.numeric(field);
+    }
+
+    @Override
+    public DocValuesSkipper getDocValuesSkipper(String field) {
+        return docValues == null ? null : docValues.skipper(field);
+    }
+
+    @Override
+    protected void doClose() throws IOException {
+        try (termsIn; postingsIn; docValues) {
+            // Closes all, even if one fails.
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SegmentReader(" + name + ", maxDoc=" + maxDoc + ")";
+    }
+}
@@ -0,0 +1,168 @@
+package org.kanatti.minilucene.index;
+
+import java.util.Arrays;
+
+import org.kanatti.minilucene.store.IndexInput;
+import org.kanatti.minilucene.util.BytesRef;
+
+/**
+ * {@link TermsEnum} over a field's blocks in .tim, see {@link BlockTermsWriter}.
+ *
+ * Seeks find the block in the {@link TermsIndex}, then scan it, decoding terms one by one
+ * into the same buffer. Seeking forward within the current block goes on from the current
+ * term instead of starting the block over, so sorted lookups are cheap.
+ */
+final class SegmentTermsEnum extends TermsEnum {
+    private final TermsIndex index;
+    private final IndexInput in;
+    private final IndexInput postingsIn;
+
+    private final BytesRef term = new BytesRef(new byte[64]);
+    private int block = -1;
+    private int leftInBlock;
+    // Whether term & co are a term: false before the first one, after the last one, and
+    // after a seekExact that didn't find its term.
+    private boolean positioned;
+    private boolean ended;
+    private int docFreq;
+    private long postingsFP;
+    private long skipOffset;
+
+    SegmentTermsEnum(TermsIndex index, IndexInput termsIn, IndexInput postingsIn) {
+        this.index = index;
+        this.in = termsIn.clone();
+        this.postingsIn = postingsIn;
+        this.term.length = 0;
+    }
+
+    @Override
+    public boolean seekExact(BytesRef target) {
+        int b = index.floorBlock(target);
+        if (b < 0) {
+            positioned = false;
+            return false;
+        }
+        if (scanTo(b, target) == 0)
+            return true;
+        positioned = false;
+        return false;
+    }
+
+    @Override
+    public SeekStatus seekCeil(BytesRef target) {
+        int b = index.floorBlock(target);
+        if (b < 0) {
+            // Before the first term.
+            loadBlock(0);
+            nextInBlock();
+            return SeekStatus.NOT_FOUND;
+        }
+        int cmp = scanTo(b, target);
+        if (cmp == 0)
+            return SeekStatus.FOUND;
+        if (cmp > 0)
+            return SeekStatus.NOT_FOUND;
+        // Target is after every term of block b, so ceil is the first term of the next one.
+        if (b + 1 == index.numBlocks()) {
+            positioned = false;
+            ended = true;
+            return SeekStatus.END;
+        }
+        loadBlock(b + 1);
+        nextInBlock();
+        return SeekStatus.NOT_FOUND;
+    }
+
+    /**
+     * Moves to the first term >= target within block b, and returns how it compares to
+     * target, or -1 if the block has none.
+     */
+    private int scanTo(int b, BytesRef target) {
+        if (positioned && b == block) {
+            int cmp = term.compareTo(target);
+            if (cmp == 0)
+                return 0;
+            if (cmp > 0)
+                loadBlock(b);
+        } else {
+            loadBlock(b);
+        }
+
+        while (nextInBlock()) {
+            int cmp = term.compareTo(target);
+            if (cmp >= 0)
+                return cmp;
+        }
+        return -1;
+    }
+
+    @Override
+    public BytesRef next() {
+        if (ended)
+            return null;
+        if (!positioned) {
+            if (block != -1)
+                throw new IllegalStateException("Not positioned, seekExact didn't find the term");
+            loadBlock(0);
+        }
+        if (nextInBlock())
+            return term;
+        if (block + 1 == index.numBlocks()) {
+            positioned = false;
+            ended = true;
+            return null;
+        }
+        loadBlock(block + 1);
+        nextInBlock();
+        return term;
+    }
+
+    private void loadBlock(int b) {
+        in.seek(index.blockFPs()[b]);
+        block = b;
+        ended = false;
+        leftInBlock = in.readVInt();
+        postingsFP = 0;
+        positioned = false;
+    }
+
+    private boolean nextInBlock() {
+        if (leftInBlock == 0)
+            return false;
+        int prefix = in.readVInt();
+        int suffix = in.readVInt();
+        if (prefix + suffix > term.bytes.length)
+            term.bytes = Arrays.copyOf(term.bytes, Math.max(prefix + suffix, term.bytes.length << 1));
+        in.readBytes(term.bytes, prefix, suffix);
+        term.length = prefix + suffix;
+        docFreq = in.readVInt();
+        postingsFP += in.readVLong();
+        skipOffset = SkipReader.hasSkipData(docFreq) ? in.readVLong() : -1;
+        leftInBlock--;
+        positioned = true;
+        return true;
+    }
+
+    @Override
+    public BytesRef term() {
+        checkPositioned();
+        return term;
+    }
+
+    @Override
+    public int docFreq() {
+        checkPositioned();
+        return docFreq;
+    }
+
+    @Override
+    public PostingsEnum postings() {
+        checkPositioned();
+        return new SegmentPostingsEnum(postingsIn, postingsFP, docFreq, skipOffset);
+    }
+
+    private void checkPositioned() {
+        if (!positioned)
+            throw new IllegalStateException("Not positioned on a term");
+    }
+}
@@ -0,0 +1,208 @@
+package org.kanatti.minilucene.index;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.kanatti.minilucene.compression.BlockCodec;
+import org.kanatti.minilucene.compression.Delta;
+import org.kanatti.minilucene.compression.PFor;
+import org.kanatti.minilucene.search.Sort;
+import org.kanatti.minilucene.search.SortField;
+import org.kanatti.minilucene.store.ByteArrayDataOutput;
+import org.kanatti.minilucene.store.Directory;
+import org.kanatti.minilucene.store.IndexOutput;
+
+/**
+ * Writes buffered postings of an {@link IndexWriter} as a new segment, see
+ * {@link SegmentFormat} for its files.
+ *
+ * Postings of a term are split into blocks of 128 docs, the last one taking whatever is
+ * left. Every block is:
+ *   vInt    lastDoc - previous block's lastDoc (-1 for the first block)
+ *   vInt    maxFreq
+ *   vInt    numBytes of what follows
+ *   docs    gaps from the previous doc, written by BlockCodec
+ *   freqs   written by BlockCodec
+ *
+ * Full blocks end up as PFor (Delta + Bitpack with patches), so they decode with SIMD.
+ * The header lets a reader skip a block without decoding it, and gives block-max freqs
+ * for dynamic pruning.
+ *
+ * Terms with more than SKIP_INTERVAL blocks get skip data after their blocks, so that
+ * advance() doesn't have to go through every header in between. Level 0 has an entry for
+ * every SKIP_INTERVAL-th block, level 1 for every SKIP_INTERVAL^2-th, and so on. Levels
+ * are written top first, every entry being:
+ *   int     last doc of the block before
+ *   long    where the block starts, relative to the term's postings start
+ * See {@link SkipReader}.
+ *
+ * With an index sort, docs are renumbered in sort order (see {@link IndexSorter}) before
+ * anything is written, and postings of every term re-sorted by their new doc-ids.
+ */
+final class SegmentWriter {
+    static final int BLOCK_SIZE = PFor.BLOCK_SIZE;
+
+    private final DocValuesWriter docValuesWriter = new DocValuesWriter();
+    private final BlockCodec codec = new BlockCodec();
+    private final ByteArrayDataOutput blockOut = new ByteArrayDataOutput(1024);
+    private final int[] docs = new int[BLOCK_SIZE];
+    private final int[] deltas = new int[BLOCK_SIZE];
+    private final int[] freqs = new int[BLOCK_SIZE];
+    // Level 0 skip entries of the current term, higher levels are a subset of them.
+    private int[] skipDocs = new int[16];
+    private long[] skipOffsets = new long[16];
+    // Scratch for renumbering postings under an index sort.
+    private long[] packedPostings = new long[0];
+    private int[] sortedPostings = new int[0];
+
+    /**
+     * Writes the segment and returns its file names.
+     */
+    List<String> write(Directory dir, String segment, int maxDoc, Map<String, TermsHash> fields,
+            Map<String, NumericDocValuesBuffer> docValues, Sort indexSort) throws IOException {
+        int[] oldToNew = indexSort == null ? null : IndexSorter.sort(maxDoc, indexSort, docValues);
+        if (oldToNew != null) {
+            Map<String, NumericDocValuesBuffer> sortedValues = new HashMap<>();
+            for (Map.Entry<String, NumericDocValuesBuffer> field : docValues.entrySet()) {
+                sortedValues.put(field.getKey(), field.getValue().sort(oldToNew));
+            }
+            docValues = sortedValues;
+        }
+
+        String infoFile = SegmentFormat.fileName(segment, SegmentFormat.INFO_EXTENSION);
+        String termsFile = SegmentFormat.fileName(segment, SegmentFormat.TERMS_EXTENSION);
+        String termsIndexFile = SegmentFormat.fileName(segment, SegmentFormat.TERMS_INDEX_EXTENSION);
+        String postingsFile = SegmentFormat.fileName(segment, SegmentFormat.POSTINGS_EXTENSION);
+
+        try (IndexOutput out = dir.createOutput(infoFile)) {
+            SegmentFormat.writeHeader(out, SegmentFormat.INFO_CODEC);
+            out.writeVInt(maxDoc);
+            List<SortField> sortFields = indexSort == null ? List.of() : indexSort.fields();
+            out.writeVInt(sortFields.size());
+            for (SortField sortField : sortFields) {
+                out.writeString(sortField.field());
+                out.writeByte((byte) (sortField.reverse() ? 1 : 0));
+            }
+        }
+
+        try (IndexOutput termsOut = dir.createOutput(termsFile);
+                IndexOutput termsIndexOut = dir.createOutput(termsIndexFile);
+                IndexOutput postingsOut = dir.createOutput(postingsFile)) {
+            SegmentFormat.writeHeader(termsOut, SegmentFormat.TERMS_CODEC);
+            SegmentFormat.writeHeader(termsIndexOut, SegmentFormat.TERMS_INDEX_CODEC);
+            SegmentFormat.writeHeader(postingsOut, SegmentFormat.POSTINGS_CODEC);
+
+            // Sorted so that readers can rely on the order. Fields without terms are left out.
+            List<String> fieldNames = new ArrayList<>();
+            for (Map.Entry<String, TermsHash> field : fields.entrySet()) {
+                if (field.getValue().numTerms() > 0)
+                    fieldNames.add(field.getKey());
+            }
+            fieldNames.sort(null);
+
+            BlockTermsWriter termsWriter = new BlockTermsWriter(termsOut, termsIndexOut);
+            termsIndexOut.writeVInt(fieldNames.size());
+            for (String field : fieldNames) {
+                writeField(field, fields.get(field), termsWriter, postingsOut, oldToNew);
+            }
+        }
+
+        List<String> files = new ArrayList<>(List.of(infoFile, termsFile, termsIndexFile, postingsFile));
+        files.addAll(docValuesWriter.write(dir, segment, maxDoc, docValues));
+        return files;
+    }
+
+    private void writeField(String field, TermsHash terms, BlockTermsWriter termsWriter, IndexOutput postingsOut,
+            int[] oldToNew) {
+        termsWriter.startField();
+        byte[] termBytes = terms.termBytes();
+        for (int id : terms.sortedTermIds()) {
+            long postingsFP = postingsOut.getFilePointer();
+            int[] pairs = terms.postings(id);
+            if (oldToNew != null)
+                pairs = sortPostings(pairs, terms.docFreq(id), oldToNew);
+            long skipOffset = writePostings(pairs, terms.docFreq(id), postingsOut);
+            termsWriter.addTerm(termBytes, terms.termStart(id), terms.termLength(id), terms.docFreq(id), postingsFP,
+                skipOffset);
+        }
+        termsWriter.finishField(field);
+    }
+
+    /**
+     * (doc, freq) pairs renumbered by oldToNew, back in doc order. Reuses a scratch array.
+     */
+    private int[] sortPostings(int[] pairs, int docFreq, int[] oldToNew) {
+        if (packedPostings.length < docFreq) {
+            packedPostings = new long[docFreq];
+            sortedPostings = new int[2 * docFreq];
+        }
+        // New doc in the upper half, so sorting the longs sorts by doc.
+        for (int i = 0; i < docFreq; i++) {
+            packedPostings[i] = (long) oldToNew[pairs[2 * i]] << 32 | pairs[2 * i + 1];
+        }
+        Arrays.sort(packedPostings, 0, docFreq);
+        for (int i = 0; i < docFreq; i++) {
+            sortedPostings[2 * i] = (int) (packedPostings[i] >>> 32);
+            sortedPostings[2 * i + 1] = (int) packedPostings[i];
+        }
+        return sortedPostings;
+    }
+
+    /**
+     * Returns where skip data starts relative to the postings start, or -1 if there is none.
+     */
+    private long writePostings(int[] pairs, int docFreq, IndexOutput out) {
+        long postingsFP = out.getFilePointer();
+        int numSkips = 0;
+        int lastDoc = -1;
+        for (int start = 0, block = 0; start < docFreq; start += BLOCK_SIZE, block++) {
+            if (block > 0 && block % SkipReader.SKIP_INTERVAL == 0) {
+                if (numSkips == skipDocs.length) {
+                    skipDocs = Arrays.copyOf(skipDocs, numSkips << 1);
+                    skipOffsets = Arrays.copyOf(skipOffsets, numSkips << 1);
+                }
+                skipDocs[numSkips] = lastDoc;
+                skipOffsets[numSkips] = out.getFilePointer() - postingsFP;
+                numSkips++;
+            }
+
+            int len = Math.min(BLOCK_SIZE, docFreq - start);
+            int maxFreq = 0;
+            for (int i = 0; i < len; i++) {
+                docs[i] = pairs[2 * (start + i)];
+                freqs[i] = pairs[2 * (start + i) + 1];
+                maxFreq = Math.max(maxFreq, freqs[i]);
+            }
+            Delta.encode(docs, 0, deltas, 0, len, lastDoc);
+
+            blockOut.reset();
+            codec.write(deltas, len, blockOut);
+            codec.write(freqs, len, blockOut);
+
+            out.writeVInt(docs[len - 1] - lastDoc);
+            out.writeVInt(maxFreq);
+            out.writeVInt(blockOut.size());
+            blockOut.writeTo(out);
+            lastDoc = docs[len - 1];
+        }
+        if (numSkips == 0)
+            return -1;
+
+        long skipOffset = out.getFilePointer() - postingsFP;
+        int numBlocks = (docFreq + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        for (int level = SkipReader.numLevels(numBlocks) - 1; level >= 0; level--) {
+            // Level entry i is the block (i + 1) * SKIP_INTERVAL^(level+1), level 0 entry
+            // (i + 1) * SKIP_INTERVAL^level - 1.
+            int stride = 1 << (SkipReader.SKIP_SHIFT * level);
+            for (int i = stride - 1; i < numSkips; i += stride) {
+                out.writeInt(skipDocs[i]);
+                out.writeLong(skipOffsets[i]);
+            }
+        }
+        return skipOffset;
+    }
+}
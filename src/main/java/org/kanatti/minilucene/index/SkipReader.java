@@ -0,0 +1,124 @@
+package org.kanatti.minilucene.index;
+
+import org.kanatti.minilucene.store.IndexInput;
+
+/**
+ * Reads the skip data of a term's postings, see {@link SegmentWriter}.
+ *
+ * Entries are fixed size, so entry i of a level is read directly. Level l has an entry
+ * for every block that is a multiple of SKIP_INTERVAL^(l+1), so starting from the top,
+ * every level narrows the search down to at most SKIP_INTERVAL entries of the level below:
+ * finding a block takes O(log n) reads instead of going through every block header.
+ */
+final class SkipReader {
+    static final int SKIP_SHIFT = 3;
+    // Blocks between level 0 entries, and how many entries of a level are under one of the level above.
+    static final int SKIP_INTERVAL = 1 << SKIP_SHIFT;
+    static final int ENTRY_BYTES = Integer.BYTES + Long.BYTES;
+
+    private final IndexInput in;
+    private final int[] levelCounts;
+    private final long[] levelFPs;
+
+    // Last level 0 entry read by the up-front check in skip(), which mostly hits the same one.
+    private int cachedEntry = -1;
+    private int cachedLastDoc;
+
+    // Result of the last skip().
+    private int lastDocBefore;
+    private long blockOffset;
+
+    SkipReader(IndexInput postingsIn, long skipFP, int numBlocks) {
+        this.in = postingsIn.clone();
+        int numLevels = numLevels(numBlocks);
+        this.levelCounts = new int[numLevels];
+        this.levelFPs = new long[numLevels];
+        // Written top level first.
+        long fp = skipFP;
+        for (int level = numLevels - 1; level >= 0; level--) {
+            levelCounts[level] = numEntries(numBlocks, level);
+            levelFPs[level] = fp;
+            fp += (long) levelCounts[level] * ENTRY_BYTES;
+        }
+    }
+
+    /**
+     * Blocks with a skip entry at level, the ones that are multiples of SKIP_INTERVAL^(level+1),
+     * except block 0 which is where postings start anyway.
+     */
+    static int numEntries(int numBlocks, int level) {
+        return (numBlocks - 1) >>> (SKIP_SHIFT * (level + 1));
+    }
+
+    /**
+     * Whether postings of that many docs have skip data: at least one block past the first
+     * SKIP_INTERVAL ones.
+     */
+    static boolean hasSkipData(int docFreq) {
+        return docFreq > SKIP_INTERVAL * SegmentWriter.BLOCK_SIZE;
+    }
+
+    static int numLevels(int numBlocks) {
+        int levels = 0;
+        while (numEntries(numBlocks, levels) > 0) {
+            levels++;
+        }
+        return levels;
+    }
+
+    /**
+     * Finds the last block after fromBlock whose previous block ends before target, so
+     * target can't be in any block before it. Returns -1 if there is no such block that
+     * has a skip entry, otherwise see lastDocBefore() and blockOffset().
+     */
+    int skip(int fromBlock, int target) {
+        // Most advances land before the next level 0 entry, don't walk down the levels for those.
+        int next = fromBlock >>> SKIP_SHIFT;
+        if (next >= levelCounts[0] || level0LastDoc(next) >= target)
+            return -1;
+
+        int block = -1;
+        int from = 0;
+        for (int level = levelCounts.length - 1; level >= 0; level--) {
+            int shift = SKIP_SHIFT * (level + 1);
+            // Entries up to fromBlock are no use, they'd only take us backwards.
+            int i = Math.max(from, fromBlock >>> shift);
+            while (i < levelCounts[level]) {
+                in.seek(levelFPs[level] + (long) i * ENTRY_BYTES);
+                int lastDoc = in.readInt();
+                if (lastDoc >= target)
+                    break;
+                block = (i + 1) << shift;
+                lastDocBefore = lastDoc;
+                blockOffset = in.readLong();
+                i++;
+            }
+            // Entries of the level below between the last one we passed and the one that stopped us.
+            from = i << SKIP_SHIFT;
+        }
+        return block;
+    }
+
+    private int level0LastDoc(int i) {
+        if (i != cachedEntry) {
+            in.seek(levelFPs[0] + (long) i * ENTRY_BYTES);
+            cachedLastDoc = in.readInt();
+            cachedEntry = i;
+        }
+        return cachedLastDoc;
+    }
+
+    /**
+     * Last doc of the block before the one skip() returned.
+     */
+    int lastDocBefore() {
+        return lastDocBefore;
+    }
+
+    /**
+     * Where the block skip() returned starts, relative to the start of the postings.
+     */
+    long blockOffset() {
+        return blockOffset;
+    }
+}
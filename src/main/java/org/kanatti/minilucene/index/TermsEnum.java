@@ -0,0 +1,52 @@
+package org.kanatti.minilucene.index;
+
+import org.kanatti.minilucene.util.BytesRef;
+
+/**
+ * Iterates terms of a field in sorted (unsigned byte) order, and can seek to a term.
+ *
+ * Unpositioned when created: call next() or one of the seeks first. Everything is bytes,
+ * no Strings get created along the way.
+ */
+public abstract class TermsEnum {
+
+    public enum SeekStatus {
+        /** On the term that was seeked. */
+        FOUND,
+        /** Term isn't there, on the smallest term after it. */
+        NOT_FOUND,
+        /** Term isn't there, and nothing comes after it. */
+        END
+    }
+
+    /**
+     * Moves to the term if it exists. If it doesn't, the enum is left unpositioned.
+     */
+    public abstract boolean seekExact(BytesRef term);
+
+    /**
+     * Moves to the term, or the smallest one after it.
+     */
+    public abstract SeekStatus seekCeil(BytesRef term);
+
+    /**
+     * Moves to the next term and returns it, or null when there are no more.
+     */
+    public abstract BytesRef next();
+
+    /**
+     * Current term. The BytesRef is reused, so it only holds until the enum moves, use
+     * {@link BytesRef#deepCopy()} to keep it.
+     */
+    public abstract BytesRef term();
+
+    /**
+     * Number of docs containing the current term.
+     */
+    public abstract int docFreq();
+
+    /**
+     * Postings of the current term.
+     */
+    public abstract PostingsEnum postings();
+}
@@ -0,0 +1,243 @@
+package org.kanatti.minilucene.index;
+
+import java.util.Arrays;
+
+/**
+ * In-memory postings of one field, while docs are being added to an {@link IndexWriter}.
+ *
+ * Everything is in primitive arrays indexed by a term id, handed out in order of first
+ * occurrence:
+ * - term bytes are appended to one big byte array, termStarts[id] being where each starts.
+ * - an open addressing table of term ids, keyed by term bytes, finds the id of a term.
+ * - postings[id] holds (doc, freq) pairs, growing as needed.
+ *
+ * So no String, boxed Integer or List per term or per posting.
+ */
+final class TermsHash {
+    // Estimated heap overhead of an array object.
+    private static final int ARRAY_HEADER_BYTES = 16;
+
+    private byte[] termBytes = new byte[1024];
+    private int termBytesUsed;
+    // termStarts[numTerms] is the end of the last term.
+    private int[] termStarts = new int[17];
+
+    private int[][] postings = new int[16][];
+    private int[] postingsUpto = new int[16];
+
+    // Term ids, -1 for empty slots.
+    private int[] table = new int[32];
+    private int numTerms;
+
+    private long ramBytesUsed;
+
+    TermsHash() {
+        Arrays.fill(table, -1);
+        ramBytesUsed = termBytes.length + 4L * (termStarts.length + postingsUpto.length + table.length)
+                + 8L * postings.length;
+    }
+
+    /**
+     * Records an occurrence of the term bytes[0, len) in doc. Docs must come in
+     * increasing order, and all occurrences in a doc one after the other.
+     */
+    void add(byte[] bytes, int len, int doc) {
+        int hash = hash(bytes, len);
+        int mask = table.length - 1;
+        int slot = hash & mask;
+        int id;
+        while ((id = table[slot]) != -1) {
+            if (equals(id, bytes, len))
+                break;
+            slot = (slot + 1) & mask;
+        }
+        if (id == -1) {
+            id = newTerm(bytes, len);
+            table[slot] = id;
+            if (numTerms * 2 > table.length)
+                rehash();
+        }
+        addPosting(id, doc);
+    }
+
+    private void addPosting(int id, int doc) {
+        int[] p = postings[id];
+        int upto = postingsUpto[id];
+        // Same doc as last time, just bump the freq.
+        if (upto > 0 && p[upto - 2] == doc) {
+            p[upto - 1]++;
+            return;
+        }
+        if (upto == p.length) {
+            // Grows by ~1.5x, staying even as entries are pairs.
+            int newLength = p.length + ((p.length >> 1) & ~1) + 2;
+            ramBytesUsed += 4L * (newLength - p.length);
+            p = postings[id] = Arrays.copyOf(p, newLength);
+        }
+        p[upto] = doc;
+        p[upto + 1] = 1;
+        postingsUpto[id] = upto + 2;
+    }
+
+    private int newTerm(byte[] bytes, int len) {
+        if (termBytesUsed + len > termBytes.length) {
+            int newLength = Math.max(termBytesUsed + len, termBytes.length << 1);
+            ramBytesUsed += newLength - termBytes.length;
+            termBytes = Arrays.copyOf(termBytes, newLength);
+        }
+        if (numTerms == postings.length) {
+            int newCapacity = postings.length << 1;
+            // A start, a postings reference and an upto per term.
+            ramBytesUsed += 16L * (newCapacity - postings.length);
+            termStarts = Arrays.copyOf(termStarts, newCapacity + 1);
+            postings = Arrays.copyOf(postings, newCapacity);
+            postingsUpto = Arrays.copyOf(postingsUpto, newCapacity);
+        }
+
+        int id = numTerms++;
+        System.arraycopy(bytes, 0, termBytes, termBytesUsed, len);
+        termStarts[id] = termBytesUsed;
+        termBytesUsed += len;
+        termStarts[numTerms] = termBytesUsed;
+
+        postings[id] = new int[4];
+        ramBytesUsed += ARRAY_HEADER_BYTES + 4 * 4;
+        return id;
+    }
+
+    private void rehash() {
+        int[] newTable = new int[table.length << 1];
+        Arrays.fill(newTable, -1);
+        int mask = newTable.length - 1;
+        for (int id = 0; id < numTerms; id++) {
+            int start = termStarts[id];
+            int slot = hash(termBytes, start, termStarts[id + 1] - start) & mask;
+            while (newTable[slot] != -1) {
+                slot = (slot + 1) & mask;
+            }
+            newTable[slot] = id;
+        }
+        ramBytesUsed += 4L * (newTable.length - table.length);
+        table = newTable;
+    }
+
+    private boolean equals(int id, byte[] bytes, int len) {
+        int start = termStarts[id];
+        return Arrays.equals(termBytes, start, termStarts[id + 1], bytes, 0, len);
+    }
+
+    private static int hash(byte[] bytes, int len) {
+        return hash(bytes, 0, len);
+    }
+
+    private static int hash(byte[] bytes, int offset, int len) {
+        int h = 0;
+        for (int i = offset; i < offset + len; i++) {
+            h = 31 * h + bytes[i];
+        }
+        // Spread the bits, as the table only looks at the low ones (murmur3 finalizer).
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    int numTerms() {
+        return numTerms;
+    }
+
+    long ramBytesUsed() {
+        return ramBytesUsed;
+    }
+
+    byte[] termBytes() {
+        return termBytes;
+    }
+
+    int termStart(int id) {
+        return termStarts[id];
+    }
+
+    int termLength(int id) {
+        return termStarts[id + 1] - termStarts[id];
+    }
+
+    /**
+     * (doc, freq) pairs of the term, in postings(id)[0, 2 * docFreq(id)).
+     */
+    int[] postings(int id) {
+        return postings[id];
+    }
+
+    int docFreq(int id) {
+        return postingsUpto[id] >> 1;
+    }
+
+    /**
+     * Term ids in unsigned byte order of their terms, which is the order the term
+     * dictionary is written in.
+     */
+    int[] sortedTermIds() {
+        int[] ids = new int[numTerms];
+        for (int i = 0; i < numTerms; i++) {
+            ids[i] = i;
+        }
+        sort(ids, 0, numTerms - 1);
+        return ids;
+    }
+
+    // Quicksort on ids, comparing term bytes. Avoids boxing ids for Arrays.sort with a comparator.
+    private void sort(int[] ids, int lo, int hi) {
+        while (hi - lo > 16) {
+            int mid = (lo + hi) >>> 1;
+            // Median of three as pivot.
+            if (compare(ids[mid], ids[lo]) < 0)
+                swap(ids, mid, lo);
+            if (compare(ids[hi], ids[lo]) < 0)
+                swap(ids, hi, lo);
+            if (compare(ids[hi], ids[mid]) < 0)
+                swap(ids, hi, mid);
+            int pivot = ids[mid];
+
+            int i = lo, j = hi;
+            while (i <= j) {
+                while (compare(ids[i], pivot) < 0)
+                    i++;
+                while (compare(ids[j], pivot) > 0)
+                    j--;
+                if (i <= j)
+                    swap(ids, i++, j--);
+            }
+            // Recurse into the smaller side, loop on the bigger one.
+            if (j - lo < hi - i) {
+                sort(ids, lo, j);
+                lo = i;
+            } else {
+                sort(ids, i, hi);
+                hi = j;
+            }
+        }
+
+        for (int i = lo + 1; i <= hi; i++) {
+            int id = ids[i];
+            int j = i - 1;
+            while (j >= lo && compare(ids[j], id) > 0) {
+                ids[j + 1] = ids[j];
+                j--;
+            }
+            ids[j + 1] = id;
+        }
+    }
+
+    private int compare(int a, int b) {
+        return Arrays.compareUnsigned(termBytes, termStarts[a], termStarts[a + 1], termBytes, termStarts[b], termStarts[b + 1]);
+    }
+
+    private static void swap(int[] ids, int i, int j) {
+        int tmp = ids[i];
+        ids[i] = ids[j];
+        ids[j] = tmp;
+    }
+}
@@ -0,0 +1,58 @@
+package org.kanatti.minilucene.index;
+
+import java.util.Arrays;
+
+import org.kanatti.minilucene.store.DataInput;
+import org.kanatti.minilucene.util.BytesRef;
+
+/**
+ * In-heap index of a field's term blocks, see {@link BlockTermsWriter}: first term of
+ * block i is firstTerms[starts[i], starts[i + 1]), and the block starts at blockFPs[i]
+ * in .tim.
+ */
+record TermsIndex(int numTerms, byte[] firstTerms, int[] starts, long[] blockFPs) {
+
+    static TermsIndex read(DataInput in) {
+        int numTerms = in.readVInt();
+        int numBlocks = in.readVInt();
+        int[] starts = new int[numBlocks + 1];
+        long[] blockFPs = new long[numBlocks];
+        byte[] firstTerms = new byte[64];
+
+        long blockFP = 0;
+        for (int i = 0; i < numBlocks; i++) {
+            int length = in.readVInt();
+            if (starts[i] + length > firstTerms.length)
+                firstTerms = Arrays.copyOf(firstTerms, Math.max(starts[i] + length, firstTerms.length << 1));
+            in.readBytes(firstTerms, starts[i], length);
+            starts[i + 1] = starts[i] + length;
+            blockFP += in.readVLong();
+            blockFPs[i] = blockFP;
+        }
+        return new TermsIndex(numTerms, Arrays.copyOf(firstTerms, starts[numBlocks]), starts, blockFPs);
+    }
+
+    int numBlocks() {
+        return blockFPs.length;
+    }
+
+    /**
+     * Last block whose first term is <= term, the only one that may hold it. -1 if term
+     * comes before every term of the field.
+     */
+    int floorBlock(BytesRef term) {
+        int lo = 0, hi = blockFPs.length - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int cmp = Arrays.compareUnsigned(firstTerms, starts[mid], starts[mid + 1],
+                term.bytes, term.offset, term.offset + term.length);
+            if (cmp < 0)
+                lo = mid + 1;
+            else if (cmp > 0)
+                hi = mid - 1;
+            else
+                return mid;
+        }
+        return hi;
+    }
+}
@@ -0,0 +1,74 @@
+package org.kanatti.minilucene.index;
+
+import java.util.Arrays;
+
+/**
+ * Splits text into lowercased runs of letters and digits, and hands out every token as
+ * UTF-8 bytes in a reused buffer. So indexing doesn't create a String per token.
+ *
+ * Usage: reset(text), then while (next()) read bytes()[0, length()).
+ */
+final class Tokenizer {
+    private byte[] bytes = new byte[64];
+    private int length;
+
+    private String text;
+    private int pos;
+
+    void reset(String text) {
+        this.text = text;
+        this.pos = 0;
+    }
+
+    boolean next() {
+        int end = text.length();
+        // Skip separators.
+        while (pos < end) {
+            int cp = text.codePointAt(pos);
+            if (Character.isLetterOrDigit(cp))
+                break;
+            pos += Character.charCount(cp);
+        }
+        if (pos == end)
+            return false;
+
+        length = 0;
+        while (pos < end) {
+            int cp = text.codePointAt(pos);
+            if (!Character.isLetterOrDigit(cp))
+                break;
+            append(Character.toLowerCase(cp));
+            pos += Character.charCount(cp);
+        }
+        return true;
+    }
+
+    byte[] bytes() {
+        return bytes;
+    }
+
+    int length() {
+        return length;
+    }
+
+    private void append(int cp) {
+        if (length + 4 > bytes.length)
+            bytes = Arrays.copyOf(bytes, bytes.length << 1);
+
+        if (cp < 0x80) {
+            bytes[length++] = (byte) cp;
+        } else if (cp < 0x800) {
+            bytes[length++] = (byte) (0xC0 | (cp >> 6));
+            bytes[length++] = (byte) (0x80 | (cp & 0x3F));
+        } else if (cp < 0x10000) {
+            bytes[length++] = (byte) (0xE0 | (cp >> 12));
+            bytes[length++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+            bytes[length++] = (byte) (0x80 | (cp & 0x3F));
+        } else {
+            bytes[length++] = (byte) (0xF0 | (cp >> 18));
+            bytes[length++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+            bytes[length++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+            bytes[length++] = (byte) (0x80 | (cp & 0x3F));
+        }
+    }
+}
@@ -20,6 +20,13 @@ public class ArrayDISI implements DocIdSetIterator {
         return docIds[idx];
     }
 
+    /**
+     * Position of current doc in the array, useful to look up parallel arrays like freqs.
+     */
+    public int index() {
+        return idx;
+    }
+
     @Override
     public int nextDoc() {
         idx = idx + 1;
@@ -28,16 +35,50 @@ public class ArrayDISI implements DocIdSetIterator {
         return docIds[idx];
     }
 
+    /**
+     * Gallops forward from current position (1, 2, 4, 8.. steps) until it overshoots target,
+     * then binary searches inside the last window. So cost is O(log distance) instead of
+     * O(distance), which matters when a rare term leads a conjunction over a common one.
+     */
     @Override
     public int advance(int target) {
-        if (idx >= docIds.length)
+        int from = idx + 1;
+        if (from >= docIds.length) {
+            idx = docIds.length;
             return NO_MORE_DOCS;
+        }
 
-        int doc;
-        do {
-            doc = nextDoc();
-        } while (doc < target);
-        return doc;
+        // lo is always < target, hi is the probe.
+        int lo = from - 1;
+        int hi = from;
+        int step = 1;
+        while (hi < docIds.length && docIds[hi] < target) {
+            lo = hi;
+            step <<= 1;
+            hi = from + step - 1;
+        }
+        if (hi >= docIds.length)
+            hi = docIds.length - 1;
+
+        // First doc >= target is in (lo, hi], if any.
+        if (docIds[hi] < target) {
+            idx = docIds.length;
+            return NO_MORE_DOCS;
+        }
+        while (lo + 1 < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (docIds[mid] < target)
+                lo = mid;
+            else
+                hi = mid;
+        }
+
+        idx = hi;
+        return docIds[idx];
     }
 
+    @Override
+    public long cost() {
+        return docIds.length;
+    }
 }
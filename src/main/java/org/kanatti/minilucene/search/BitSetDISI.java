@@ -6,10 +6,20 @@ package org.kanatti.minilucene.search;
  */
 public class BitSetDISI implements DocIdSetIterator {
     private final BitSet bitset;
+    private final long cost;
     private int doc = NOT_STARTED;
 
+    /**
+     * Uses length of bitset as cost, which is an upper bound.
+     * Pass the actual cost if you know it, like {@link FixedBitSet#cardinality()}.
+     */
     public BitSetDISI(BitSet bitset) {
+        this(bitset, bitset.length());
+    }
+
+    public BitSetDISI(BitSet bitset, long cost) {
         this.bitset = bitset;
+        this.cost = cost;
     }
 
     @Override
@@ -23,18 +33,29 @@ public class BitSetDISI implements DocIdSetIterator {
 
     @Override
     public int nextDoc() {
+        if (doc == NO_MORE_DOCS)
+            return NO_MORE_DOCS;
         return advance(doc + 1);
     }
 
     @Override
     public int advance(int target) {
-        if (target >= bitset.length())
+        if (target >= bitset.length()) {
+            doc = NO_MORE_DOCS;
             return NO_MORE_DOCS;
+        }
         int next = bitset.nextSetBit(target);
-        if (next == -1)
+        if (next == -1) {
+            doc = NO_MORE_DOCS;
             return NO_MORE_DOCS;
+        }
         doc = next;
         return doc;
     }
 
+    @Override
+    public long cost() {
+        return cost;
+    }
+
 }
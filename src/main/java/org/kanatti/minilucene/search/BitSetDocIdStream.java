@@ -0,0 +1,39 @@
+package org.kanatti.minilucene.search;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Docs set in a window of words, offset by base. So bit i of words[j] is doc base + j * 64 + i.
+ */
+public final class BitSetDocIdStream extends DocIdStream {
+    private final long[] words;
+    private final int numWords;
+    private final int base;
+
+    public BitSetDocIdStream(long[] words, int numWords, int base) {
+        this.words = words;
+        this.numWords = numWords;
+        this.base = base;
+    }
+
+    @Override
+    public void forEach(IntConsumer consumer) {
+        for (int i = 0; i < numWords; i++) {
+            long word = words[i];
+            while (word != 0) {
+                consumer.accept(base + (i << 6) + Long.numberOfTrailingZeros(word));
+                // Clear lowest set bit.
+                word &= word - 1;
+            }
+        }
+    }
+
+    @Override
+    public int count() {
+        int count = 0;
+        for (int i = 0; i < numWords; i++) {
+            count += Long.bitCount(words[i]);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,226 @@
+package org.kanatti.minilucene.search;
+
+import java.util.List;
+
+/**
+ * Disjunction for {@link ScoreMode#TOP_SCORES}, that skips docs which can't make it
+ * into the top hits. This is the block-max MaxScore flavor of dynamic pruning, which is
+ * what lucene uses for top-k disjunctions these days (instead of block-max WAND).
+ *
+ * Doc space is walked in windows, a window ending where the first sub-scorer's current
+ * block ends (see {@link Scorer#advanceShallow(int)}). Within a window every clause has a
+ * max score from its block max. Clauses are sorted by that max, and the lowest ones whose
+ * maxes add up to less than min competitive score are "non-essential": a doc matching
+ * only those can't be competitive. So only "essential" clauses propose candidates, and
+ * non-essential ones are only advanced to candidates to complete their scores.
+ *
+ * If no clause is essential, the whole window is skipped without looking at any doc.
+ */
+public class BlockMaxDisjunctionScorer extends Scorer {
+    /**
+     * Sums of max scores can round differently than the actual score sum, so bounds are
+     * padded by this factor to never skip a doc that would have been competitive.
+     */
+    static final double ROUNDING_SLACK = 1 + 1e-6;
+
+    private final Scorer[] scorers;
+    private final DocIdSetIterator[] iterators;
+    private final long cost;
+
+    // Per window state
+    private final float[] maxScores;
+    // Scorer indexes sorted by maxScores, ascending.
+    private final int[] order;
+    // order[0, firstEssential) are non-essential.
+    private int firstEssential;
+    private double nonEssentialMaxSum;
+    private int upTo = -1;
+
+    private float minCompetitiveScore;
+    private int doc = DocIdSetIterator.NOT_STARTED;
+    private float score;
+
+    private final DocIdSetIterator disi = new DocIdSetIterator() {
+        @Override
+        public int docId() {
+            return doc;
+        }
+
+        @Override
+        public int nextDoc() {
+            return advance(doc + 1);
+        }
+
+        @Override
+        public int advance(int target) {
+            if (doc == NO_MORE_DOCS)
+                return NO_MORE_DOCS;
+            doc = doAdvance(target);
+            return doc;
+        }
+
+        @Override
+        public long cost() {
+            return cost;
+        }
+    };
+
+    public BlockMaxDisjunctionScorer(List<Scorer> scorers) {
+        this.scorers = scorers.toArray(new Scorer[0]);
+        this.iterators = new DocIdSetIterator[this.scorers.length];
+        long cost = 0;
+        for (int i = 0; i < iterators.length; i++) {
+            iterators[i] = this.scorers[i].iterator();
+            cost += iterators[i].cost();
+        }
+        this.cost = cost;
+        this.maxScores = new float[this.scorers.length];
+        this.order = new int[this.scorers.length];
+    }
+
+    @Override
+    public DocIdSetIterator iterator() {
+        return disi;
+    }
+
+    @Override
+    public float score() {
+        return score;
+    }
+
+    @Override
+    public void setMinCompetitiveScore(float minScore) {
+        this.minCompetitiveScore = minScore;
+        // Higher bar can turn more clauses non-essential right away.
+        if (upTo >= 0)
+            partition();
+    }
+
+    private int doAdvance(int target) {
+        int candidateFrom = target;
+        while (true) {
+            if (candidateFrom > upTo) {
+                updateWindow(candidateFrom);
+                if (firstEssential == scorers.length) {
+                    // Nothing in this window can compete, skip all of it.
+                    if (upTo == DocIdSetIterator.NO_MORE_DOCS)
+                        return DocIdSetIterator.NO_MORE_DOCS;
+                    candidateFrom = upTo + 1;
+                    continue;
+                }
+            }
+
+            // Smallest doc >= candidateFrom among essential clauses.
+            int candidate = DocIdSetIterator.NO_MORE_DOCS;
+            for (int i = firstEssential; i < order.length; i++) {
+                DocIdSetIterator it = iterators[order[i]];
+                int d = it.docId();
+                if (d < candidateFrom)
+                    d = it.advance(candidateFrom);
+                if (d < candidate)
+                    candidate = d;
+            }
+
+            if (candidate > upTo || candidate == DocIdSetIterator.NO_MORE_DOCS) {
+                // Essential clauses are done with this window, move to the next one.
+                if (upTo == DocIdSetIterator.NO_MORE_DOCS)
+                    return DocIdSetIterator.NO_MORE_DOCS;
+                candidateFrom = upTo + 1;
+                continue;
+            }
+
+            double sum = 0;
+            for (int i = firstEssential; i < order.length; i++) {
+                if (iterators[order[i]].docId() == candidate)
+                    sum += scorers[order[i]].score();
+            }
+
+            // Add non-essential ones, biggest first, giving up once even their maxes can't help.
+            double remainingMax = nonEssentialMaxSum;
+            for (int i = firstEssential - 1; i >= 0; i--) {
+                if ((sum + remainingMax) * ROUNDING_SLACK < minCompetitiveScore)
+                    break;
+                int s = order[i];
+                remainingMax -= maxScores[s];
+                DocIdSetIterator it = iterators[s];
+                int d = it.docId();
+                if (d < candidate)
+                    d = it.advance(candidate);
+                if (d == candidate)
+                    sum += scorers[s].score();
+            }
+
+            if (sum * ROUNDING_SLACK < minCompetitiveScore) {
+                candidateFrom = candidate + 1;
+                continue;
+            }
+
+            score = (float) sum;
+            return candidate;
+        }
+    }
+
+    /**
+     * Sets up a new window starting at target: where it ends, and max score of every clause in it.
+     */
+    private void updateWindow(int target) {
+        int windowEnd = DocIdSetIterator.NO_MORE_DOCS;
+        for (int i = 0; i < scorers.length; i++) {
+            if (iterators[i].docId() == DocIdSetIterator.NO_MORE_DOCS)
+                continue;
+            windowEnd = Math.min(windowEnd, scorers[i].advanceShallow(target));
+        }
+        upTo = windowEnd;
+
+        for (int i = 0; i < scorers.length; i++) {
+            boolean exhausted = iterators[i].docId() == DocIdSetIterator.NO_MORE_DOCS;
+            maxScores[i] = exhausted ? 0 : scorers[i].getMaxScore(upTo);
+        }
+        partition();
+    }
+
+    /**
+     * Sorts clauses by max score, and finds the first essential one.
+     */
+    private void partition() {
+        // Clause counts are small (a handful of terms), so insertion sort is fine.
+        for (int i = 0; i < order.length; i++) {
+            int s = i;
+            int j = i - 1;
+            while (j >= 0 && maxScores[order[j]] > maxScores[s]) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = s;
+        }
+
+        double sum = 0;
+        firstEssential = 0;
+        while (firstEssential < order.length) {
+            double next = sum + maxScores[order[firstEssential]];
+            if (next * ROUNDING_SLACK >= minCompetitiveScore)
+                break;
+            sum = next;
+            firstEssential++;
+        }
+        nonEssentialMaxSum = sum;
+    }
+
+    @Override
+    public int advanceShallow(int target) {
+        int windowEnd = DocIdSetIterator.NO_MORE_DOCS;
+        for (Scorer scorer : scorers) {
+            windowEnd = Math.min(windowEnd, scorer.advanceShallow(target));
+        }
+        return windowEnd;
+    }
+
+    @Override
+    public float getMaxScore(int upTo) {
+        double sum = 0;
+        for (Scorer scorer : scorers) {
+            sum += scorer.getMaxScore(upTo);
+        }
+        return (float) (sum * ROUNDING_SLACK);
+    }
+}
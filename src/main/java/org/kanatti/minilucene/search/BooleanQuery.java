@@ -0,0 +1,191 @@
+package org.kanatti.minilucene.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.kanatti.minilucene.index.LeafReaderContext;
+
+/**
+ * Combines other queries.
+ *
+ * - Only SHOULD clauses: docs matching any of them (OR).
+ * - Some MUST clauses: docs matching all of the MUST ones (AND), SHOULD ones only add to the score.
+ *
+ * Score is the sum of scores of matching clauses.
+ */
+public class BooleanQuery extends Query {
+    public enum Occur {
+        MUST, SHOULD
+    }
+
+    public record Clause(Query query, Occur occur) {}
+
+    private final List<Clause> clauses;
+    // Computed once, clauses can be deep.
+    private final int hash;
+
+    private BooleanQuery(List<Clause> clauses) {
+        this.clauses = Collections.unmodifiableList(clauses);
+        this.hash = 31 * classHash() + clauses.hashCode();
+    }
+
+    public List<Clause> clauses() {
+        return clauses;
+    }
+
+    @Override
+    public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode) {
+        List<Weight> weights = new ArrayList<>(clauses.size());
+        for (Clause clause : clauses) {
+            weights.add(searcher.createWeight(clause.query(), scoreMode));
+        }
+        return new BooleanWeight(this, scoreMode, weights);
+    }
+
+    /**
+     * Clause order matters, (+a +b) and (+b +a) are different queries.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (!sameClassAs(other))
+            return false;
+        BooleanQuery that = (BooleanQuery) other;
+        return hash == that.hash && clauses.equals(that.clauses);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (Clause clause : clauses) {
+            if (sb.length() > 0)
+                sb.append(' ');
+            sb.append(clause.occur() == Occur.MUST ? "+" : "").append(clause.query());
+        }
+        return "(" + sb + ")";
+    }
+
+    public static class Builder {
+        private final List<Clause> clauses = new ArrayList<>();
+
+        public Builder add(Query query, Occur occur) {
+            clauses.add(new Clause(query, occur));
+            return this;
+        }
+
+        public BooleanQuery build() {
+            if (clauses.isEmpty())
+                throw new IllegalArgumentException("Need at least one clause");
+            return new BooleanQuery(new ArrayList<>(clauses));
+        }
+    }
+
+    private static class BooleanWeight extends Weight {
+        private final List<Weight> weights;
+        // Optional clauses next to required ones only matter for scores, so without scores
+        // their scorers aren't even created. With a query cache, that would build and cache
+        // a doc set for nothing.
+        private final boolean skipOptional;
+
+        BooleanWeight(BooleanQuery query, ScoreMode scoreMode, List<Weight> weights) {
+            super(query, scoreMode);
+            this.weights = weights;
+            boolean hasRequired = false;
+            for (Clause clause : query.clauses) {
+                hasRequired |= clause.occur() == Occur.MUST;
+            }
+            this.skipOptional = hasRequired && !scoreMode.needsScores();
+        }
+
+        @Override
+        public Scorer scorer(LeafReaderContext context) {
+            List<Scorer> required = new ArrayList<>();
+            List<Scorer> optional = new ArrayList<>();
+            if (!subScorers(context, required, optional))
+                return null;
+
+            boolean needsScores = getScoreMode().needsScores();
+            if (!required.isEmpty()) {
+                // Without scores, optional is empty here, see skipOptional.
+                if (required.size() == 1 && optional.isEmpty())
+                    return required.get(0);
+                return new ConjunctionScorer(required, optional);
+            }
+            if (optional.isEmpty())
+                return null;
+            if (optional.size() == 1)
+                return optional.get(0);
+            if (!needsScores) {
+                // Without scores, the disjunction is free to use its windowed path.
+                DisjunctionDISI disi = new DisjunctionDISI(iterators(optional), context.reader().maxDoc());
+                return new ConstantScoreScorer(disi, 1f);
+            }
+            if (getScoreMode() == ScoreMode.TOP_SCORES)
+                return new BlockMaxDisjunctionScorer(optional);
+            return new DisjunctionScorer(optional);
+        }
+
+        /**
+         * A dense disjunction that doesn't need scores pushes each of its windows
+         * as a bitset stream, instead of going doc by doc.
+         */
+        @Override
+        public BulkScorer bulkScorer(LeafReaderContext context) {
+            Scorer scorer = scorer(context);
+            if (scorer == null)
+                return null;
+            if (scorer.iterator() instanceof DisjunctionDISI disi && disi.isWindowed()) {
+                return new BulkScorer() {
+                    @Override
+                    public void score(LeafCollector collector) {
+                        for (DocIdStream window = disi.nextWindow(); window != null; window = disi.nextWindow()) {
+                            collector.collect(window);
+                        }
+                    }
+
+                    @Override
+                    public long cost() {
+                        return disi.cost();
+                    }
+                };
+            }
+            return new DefaultBulkScorer(scorer, getScoreMode());
+        }
+
+        /**
+         * Splits sub-scorers into required and optional.
+         * Returns false if a required clause has no match, so nothing can match.
+         */
+        private boolean subScorers(LeafReaderContext context, List<Scorer> required, List<Scorer> optional) {
+            List<Clause> clauses = ((BooleanQuery) getQuery()).clauses;
+
+            for (int i = 0; i < clauses.size(); i++) {
+                if (skipOptional && clauses.get(i).occur() != Occur.MUST)
+                    continue;
+                Scorer scorer = weights.get(i).scorer(context);
+                if (clauses.get(i).occur() == Occur.MUST) {
+                    // A required clause with no match means nothing matches.
+                    if (scorer == null)
+                        return false;
+                    required.add(scorer);
+                } else if (scorer != null) {
+                    optional.add(scorer);
+                }
+            }
+            return true;
+        }
+
+        private static List<DocIdSetIterator> iterators(List<Scorer> scorers) {
+            List<DocIdSetIterator> iterators = new ArrayList<>(scorers.size());
+            for (Scorer scorer : scorers) {
+                iterators.add(scorer.iterator());
+            }
+            return iterators;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.kanatti.minilucene.search;
+
+/**
+ * Scores a whole range of docs into a {@link LeafCollector} in one call, instead of the
+ * searcher pulling one doc at a time out of a {@link Scorer}. This gives queries room to
+ * push docs in blocks (see {@link LeafCollector#collect(int[], int)} and
+ * {@link LeafCollector#collect(DocIdStream)}) rather than through a virtual call per doc.
+ */
+public abstract class BulkScorer {
+    /**
+     * Collects all matching docs of the leaf.
+     */
+    public abstract void score(LeafCollector collector);
+
+    /**
+     * Estimate of number of matching docs.
+     */
+    public abstract long cost();
+}
@@ -0,0 +1,15 @@
+package org.kanatti.minilucene.search;
+
+/**
+ * Thrown by a {@link LeafCollector} (or Collector#getLeafCollector) that doesn't need any
+ * more docs of the current leaf. {@link IndexSearcher} catches it and moves on to the
+ * next leaf.
+ */
+public class CollectionTerminatedException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public CollectionTerminatedException() {
+        // Control flow, no need for a stack trace.
+        super(null, null, false, false);
+    }
+}
@@ -1,5 +1,7 @@
 package org.kanatti.minilucene.search;
 
+import org.kanatti.minilucene.index.LeafReaderContext;
+
 /**
  * Collects results (which are just docIds) from a search phase.
  * Collector is a like a sink that collects docIds and builds something out of it,
@@ -11,5 +13,12 @@ public interface Collector {
      * So each leafcollector can collect into the parent state.
      * See {@link TotalHitCountCollector} for example
      */
-    LeafCollector getLeafCollector();
+    LeafCollector getLeafCollector(LeafReaderContext context);
+
+    /**
+     * Whether this collector looks at scores. Defaults to assuming it does.
+     */
+    default ScoreMode scoreMode() {
+        return ScoreMode.COMPLETE;
+    }
 }
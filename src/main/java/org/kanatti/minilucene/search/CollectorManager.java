@@ -0,0 +1,15 @@
+package org.kanatti.minilucene.search;
+
+import java.util.Collection;
+
+/**
+ * Lets a search run in parallel, without collectors having to be thread-safe.
+ *
+ * Each slice of leaves gets its own collector from {@link #newCollector()}, used by a single
+ * thread, and once all slices are done their results are merged with {@link #reduce}.
+ */
+public interface CollectorManager<C extends Collector, R> {
+    C newCollector();
+
+    R reduce(Collection<C> collectors);
+}
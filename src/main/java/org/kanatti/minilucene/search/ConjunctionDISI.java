@@ -0,0 +1,73 @@
+package org.kanatti.minilucene.search;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Intersection (AND) of multiple {@link DocIdSetIterator}s, see docs/conjunction-disi.png.
+ *
+ * Iterators are sorted by cost, and the cheapest one leads. Lead proposes a doc and
+ * others are advanced to it. If some iterator lands beyond it, lead is advanced to that
+ * doc instead and we start over. This leapfrogging means we only ever look at roughly
+ * as many docs as the rarest iterator has, never materializing any of them.
+ */
+public class ConjunctionDISI implements DocIdSetIterator {
+    private final DocIdSetIterator lead;
+    private final DocIdSetIterator[] others;
+
+    public ConjunctionDISI(List<? extends DocIdSetIterator> iterators) {
+        if (iterators.isEmpty())
+            throw new IllegalArgumentException("Need at least one iterator");
+
+        DocIdSetIterator[] sorted = iterators.toArray(new DocIdSetIterator[0]);
+        Arrays.sort(sorted, Comparator.comparingLong(DocIdSetIterator::cost));
+        this.lead = sorted[0];
+        this.others = Arrays.copyOfRange(sorted, 1, sorted.length);
+    }
+
+    @Override
+    public int docId() {
+        return lead.docId();
+    }
+
+    @Override
+    public int nextDoc() {
+        return doNext(lead.nextDoc());
+    }
+
+    @Override
+    public int advance(int target) {
+        return doNext(lead.advance(target));
+    }
+
+    /**
+     * Keep going until all iterators agree on a doc.
+     */
+    private int doNext(int doc) {
+        advanceHead:
+        while (doc != NO_MORE_DOCS) {
+            for (DocIdSetIterator other : others) {
+                // Other might already be on or beyond doc from a previous round.
+                int otherDoc = other.docId();
+                if (otherDoc < doc)
+                    otherDoc = other.advance(doc);
+                if (otherDoc > doc) {
+                    // Doc doesn't match, next candidate is where other landed.
+                    doc = lead.advance(otherDoc);
+                    continue advanceHead;
+                }
+            }
+            return doc;
+        }
+        return NO_MORE_DOCS;
+    }
+
+    /**
+     * A conjunction can't match more docs than its cheapest iterator.
+     */
+    @Override
+    public long cost() {
+        return lead.cost();
+    }
+}
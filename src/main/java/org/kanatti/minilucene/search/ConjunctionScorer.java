@@ -0,0 +1,48 @@
+package org.kanatti.minilucene.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Matches docs matching all required scorers, via {@link ConjunctionDISI}.
+ * Optional scorers don't affect matching, they only add to the score of docs they match.
+ */
+public class ConjunctionScorer extends Scorer {
+    private final Scorer[] required;
+    private final Scorer[] optional;
+    private final ConjunctionDISI disi;
+
+    public ConjunctionScorer(List<Scorer> required, List<Scorer> optional) {
+        this.required = required.toArray(new Scorer[0]);
+        this.optional = optional.toArray(new Scorer[0]);
+
+        List<DocIdSetIterator> iterators = new ArrayList<>(required.size());
+        for (Scorer scorer : required) {
+            iterators.add(scorer.iterator());
+        }
+        this.disi = new ConjunctionDISI(iterators);
+    }
+
+    @Override
+    public DocIdSetIterator iterator() {
+        return disi;
+    }
+
+    @Override
+    public float score() {
+        int doc = disi.docId();
+        float score = 0;
+        for (Scorer scorer : required) {
+            score += scorer.score();
+        }
+        // Optional ones are only advanced lazily, when a doc is scored.
+        for (Scorer scorer : optional) {
+            DocIdSetIterator it = scorer.iterator();
+            if (it.docId() < doc)
+                it.advance(doc);
+            if (it.docId() == doc)
+                score += scorer.score();
+        }
+        return score;
+    }
+}
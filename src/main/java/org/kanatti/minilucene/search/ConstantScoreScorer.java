@@ -0,0 +1,29 @@
+package org.kanatti.minilucene.search;
+
+/**
+ * Gives every doc of an iterator the same score.
+ */
+public class ConstantScoreScorer extends Scorer {
+    private final DocIdSetIterator disi;
+    private final float score;
+
+    public ConstantScoreScorer(DocIdSetIterator disi, float score) {
+        this.disi = disi;
+        this.score = score;
+    }
+
+    @Override
+    public DocIdSetIterator iterator() {
+        return disi;
+    }
+
+    @Override
+    public float score() {
+        return score;
+    }
+
+    @Override
+    public float getMaxScore(int upTo) {
+        return score;
+    }
+}
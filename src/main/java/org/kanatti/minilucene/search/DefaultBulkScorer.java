@@ -0,0 +1,51 @@
+package org.kanatti.minilucene.search;
+
+/**
+ * {@link BulkScorer} on top of a {@link Scorer}.
+ *
+ * When scores are needed, collector has to be able to ask the scorer for current doc's
+ * score, so docs are collected one by one. Otherwise docs are buffered and pushed
+ * BLOCK_SIZE at a time.
+ */
+public class DefaultBulkScorer extends BulkScorer {
+    static final int BLOCK_SIZE = 128;
+
+    private final Scorer scorer;
+    private final boolean needsScores;
+    private final int[] buffer;
+
+    public DefaultBulkScorer(Scorer scorer, ScoreMode scoreMode) {
+        this.scorer = scorer;
+        this.needsScores = scoreMode.needsScores();
+        this.buffer = needsScores ? null : new int[BLOCK_SIZE];
+    }
+
+    @Override
+    public void score(LeafCollector collector) {
+        collector.setScorer(scorer);
+        DocIdSetIterator disi = scorer.iterator();
+
+        if (needsScores) {
+            for (int doc = disi.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = disi.nextDoc()) {
+                collector.collect(doc);
+            }
+            return;
+        }
+
+        int count = 0;
+        for (int doc = disi.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = disi.nextDoc()) {
+            buffer[count++] = doc;
+            if (count == BLOCK_SIZE) {
+                collector.collect(buffer, count);
+                count = 0;
+            }
+        }
+        if (count > 0)
+            collector.collect(buffer, count);
+    }
+
+    @Override
+    public long cost() {
+        return scorer.iterator().cost();
+    }
+}
@@ -0,0 +1,233 @@
+package org.kanatti.minilucene.search;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Union (OR) of multiple {@link DocIdSetIterator}s.
+ *
+ * By default sub-iterators are kept in a min-heap keyed by their current doc, so moving
+ * to next doc only touches the iterators that are on the current doc, at O(log n) each.
+ * Heap is two parallel int arrays (doc, sub index), so nothing gets boxed.
+ *
+ * When clauses are dense, it switches to a windowed bulk path instead (like lucene's
+ * BooleanScorer): every sub-iterator dumps all its docs within the next WINDOW_SIZE docs
+ * into a small bitset, and we iterate that bitset. That is O(1) per matching doc instead
+ * of a heap update, which wins when there are many clauses, like expanded prefix terms.
+ */
+public class DisjunctionDISI implements DocIdSetIterator {
+    static final int WINDOW_SHIFT = 12;
+    static final int WINDOW_SIZE = 1 << WINDOW_SHIFT;
+    static final int WINDOW_WORDS = WINDOW_SIZE >>> 6;
+
+    private final DocIdSetIterator[] subs;
+    private final long cost;
+    private final boolean windowed;
+
+    // Heap path
+    private final int[] heapDocs;
+    private final int[] heapSubs;
+
+    // Windowed path
+    private final long[] window;
+    private int windowBase;
+    private int windowEnd;
+
+    private int doc = NOT_STARTED;
+
+    /**
+     * Always uses the heap.
+     */
+    public DisjunctionDISI(List<? extends DocIdSetIterator> iterators) {
+        this(iterators, -1);
+    }
+
+    /**
+     * Picks the windowed path if sub-iterators are expected to be dense within maxDoc.
+     */
+    public DisjunctionDISI(List<? extends DocIdSetIterator> iterators, int maxDoc) {
+        if (iterators.isEmpty())
+            throw new IllegalArgumentException("Need at least one iterator");
+
+        this.subs = iterators.toArray(new DocIdSetIterator[0]);
+        long cost = 0;
+        for (DocIdSetIterator sub : subs) {
+            cost += sub.cost();
+        }
+        this.cost = cost;
+        this.windowed = maxDoc > 0 && isDense(cost, subs.length, maxDoc);
+
+        if (windowed) {
+            heapDocs = null;
+            heapSubs = null;
+            window = new long[WINDOW_WORDS];
+        } else {
+            heapDocs = new int[subs.length];
+            heapSubs = new int[subs.length];
+            for (int i = 0; i < subs.length; i++) {
+                heapDocs[i] = subs[i].docId();
+                heapSubs[i] = i;
+            }
+            for (int i = (subs.length >>> 1) - 1; i >= 0; i--) {
+                siftDown(i);
+            }
+            window = null;
+        }
+    }
+
+    /**
+     * A window costs a scan over its WINDOW_WORDS words plus a check on each clause,
+     * so it pays off once an average window has at least that many matches.
+     */
+    static boolean isDense(long cost, int numClauses, int maxDoc) {
+        double matchesPerWindow = (double) cost * WINDOW_SIZE / maxDoc;
+        return numClauses > 1 && matchesPerWindow >= WINDOW_WORDS + numClauses;
+    }
+
+    /**
+     * Whether the windowed bulk path was picked.
+     */
+    public boolean isWindowed() {
+        return windowed;
+    }
+
+    @Override
+    public int docId() {
+        return doc;
+    }
+
+    @Override
+    public int nextDoc() {
+        if (doc == NO_MORE_DOCS)
+            return NO_MORE_DOCS;
+        return advance(doc + 1);
+    }
+
+    @Override
+    public int advance(int target) {
+        if (doc == NO_MORE_DOCS)
+            return NO_MORE_DOCS;
+        doc = windowed ? advanceWindowed(target) : advanceHeap(target);
+        return doc;
+    }
+
+    @Override
+    public long cost() {
+        return cost;
+    }
+
+    // ---- Heap path ----
+
+    private int advanceHeap(int target) {
+        // Only the top is looked at, others are somewhere >= top.
+        while (heapDocs[0] < target) {
+            heapDocs[0] = subs[heapSubs[0]].advance(target);
+            siftDown(0);
+        }
+        return heapDocs[0];
+    }
+
+    private void siftDown(int i) {
+        int size = heapDocs.length;
+        int doc = heapDocs[i];
+        int sub = heapSubs[i];
+
+        int child = 2 * i + 1;
+        while (child < size) {
+            // Pick the smaller child.
+            if (child + 1 < size && heapDocs[child + 1] < heapDocs[child])
+                child++;
+            if (heapDocs[child] >= doc)
+                break;
+            heapDocs[i] = heapDocs[child];
+            heapSubs[i] = heapSubs[child];
+            i = child;
+            child = 2 * i + 1;
+        }
+
+        heapDocs[i] = doc;
+        heapSubs[i] = sub;
+    }
+
+    // ---- Windowed path ----
+
+    /**
+     * Bulk version of the windowed path: moves to the next window and returns its docs as
+     * a stream, or null once exhausted. Afterwards docId() is at the end of the window,
+     * so this is meant to be used on its own, not mixed with nextDoc/advance.
+     */
+    public DocIdStream nextWindow() {
+        if (!windowed)
+            throw new IllegalStateException("Not using the windowed path");
+        if (doc == NO_MORE_DOCS)
+            return null;
+
+        if (fillWindow(doc + 1) == NO_MORE_DOCS) {
+            doc = NO_MORE_DOCS;
+            return null;
+        }
+        doc = windowEnd - 1;
+        return new BitSetDocIdStream(window, WINDOW_WORDS, windowBase);
+    }
+
+    private int advanceWindowed(int target) {
+        if (target < windowEnd) {
+            int next = nextSetBitInWindow(target - windowBase);
+            if (next != -1)
+                return windowBase + next;
+            // Window exhausted, continue from its end.
+            target = windowEnd;
+        }
+
+        if (fillWindow(target) == NO_MORE_DOCS)
+            return NO_MORE_DOCS;
+        // Window starts at min doc, so its first bit is always set.
+        return windowBase;
+    }
+
+    /**
+     * Moves every sub-iterator to >= target and collects all their docs in
+     * [min, min + WINDOW_SIZE) into the window, where min is the smallest doc among them.
+     */
+    private int fillWindow(int target) {
+        int min = NO_MORE_DOCS;
+        for (DocIdSetIterator sub : subs) {
+            int subDoc = sub.docId();
+            if (subDoc < target)
+                subDoc = sub.advance(target);
+            if (subDoc < min)
+                min = subDoc;
+        }
+        if (min == NO_MORE_DOCS)
+            return NO_MORE_DOCS;
+
+        Arrays.fill(window, 0L);
+        windowBase = min;
+        // Avoid overflow near NO_MORE_DOCS.
+        windowEnd = (int) Math.min((long) min + WINDOW_SIZE, NO_MORE_DOCS);
+
+        for (DocIdSetIterator sub : subs) {
+            int subDoc = sub.docId();
+            while (subDoc < windowEnd) {
+                int bit = subDoc - windowBase;
+                window[bit >>> 6] |= 1L << bit;
+                subDoc = sub.nextDoc();
+            }
+        }
+        return min;
+    }
+
+    private int nextSetBitInWindow(int from) {
+        int wordIndex = from >>> 6;
+        long word = window[wordIndex] >>> from;
+        if (word != 0)
+            return from + Long.numberOfTrailingZeros(word);
+
+        while (++wordIndex < WINDOW_WORDS) {
+            word = window[wordIndex];
+            if (word != 0)
+                return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,41 @@
+package org.kanatti.minilucene.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Matches docs matching any of the scorers, via {@link DisjunctionDISI}.
+ *
+ * Uses the heap path of the DISI, since that only moves sub-iterators up to
+ * the current doc, so the ones sitting on it can be asked for their score.
+ */
+public class DisjunctionScorer extends Scorer {
+    private final Scorer[] scorers;
+    private final DisjunctionDISI disi;
+
+    public DisjunctionScorer(List<Scorer> scorers) {
+        this.scorers = scorers.toArray(new Scorer[0]);
+
+        List<DocIdSetIterator> iterators = new ArrayList<>(scorers.size());
+        for (Scorer scorer : scorers) {
+            iterators.add(scorer.iterator());
+        }
+        this.disi = new DisjunctionDISI(iterators);
+    }
+
+    @Override
+    public DocIdSetIterator iterator() {
+        return disi;
+    }
+
+    @Override
+    public float score() {
+        int doc = disi.docId();
+        float score = 0;
+        for (Scorer scorer : scorers) {
+            if (scorer.docId() == doc)
+                score += scorer.score();
+        }
+        return score;
+    }
+}
@@ -0,0 +1,138 @@
+package org.kanatti.minilucene.search;
+
+import java.util.Arrays;
+
+/**
+ * Docs of a leaf held in memory, which can be iterated any number of times, see
+ * {@link LRUQueryCache}.
+ *
+ * {@link Builder} picks whichever of a sorted int[] (4 bytes per doc) or a
+ * {@link FixedBitSet} (maxDoc / 8 bytes) is smaller, so sparse sets stay small and dense
+ * ones don't cost more than 1 bit per doc.
+ */
+public abstract class DocIdSet {
+    public abstract DocIdSetIterator iterator();
+
+    public abstract int cardinality();
+
+    /**
+     * Approximate heap usage in bytes.
+     */
+    public abstract long ramBytesUsed();
+
+    /**
+     * Pushes every doc into collector in bulk. Docs pushed as an array are shared, so the
+     * collector must not modify them.
+     */
+    abstract void collect(LeafCollector collector);
+
+    /**
+     * Collects docs in increasing order, starting as an array and switching to a bitset
+     * once that is smaller.
+     */
+    public static final class Builder {
+        private static final int[] EMPTY = new int[0];
+
+        private final int maxDoc;
+        // Past this many docs, the array would take more than the bitset.
+        private final int maxArrayLength;
+        private int[] docs = EMPTY;
+        private FixedBitSet bits;
+        private int count;
+
+        public Builder(int maxDoc) {
+            this.maxDoc = maxDoc;
+            this.maxArrayLength = FixedBitSet.bits2words(maxDoc) * 2;
+        }
+
+        public void add(int doc) {
+            if (bits == null) {
+                if (count == docs.length) {
+                    if (count == maxArrayLength) {
+                        toBitSet();
+                        add(doc);
+                        return;
+                    }
+                    docs = Arrays.copyOf(docs, Math.min(maxArrayLength, Math.max(16, count + (count >> 1))));
+                }
+                docs[count++] = doc;
+                return;
+            }
+            bits.set(doc);
+            count++;
+        }
+
+        private void toBitSet() {
+            bits = new FixedBitSet(maxDoc);
+            for (int i = 0; i < count; i++) {
+                bits.set(docs[i]);
+            }
+            docs = null;
+        }
+
+        public DocIdSet build() {
+            if (bits != null)
+                return new BitDocIdSet(bits, count);
+            return new ArrayDocIdSet(count == docs.length ? docs : Arrays.copyOf(docs, count));
+        }
+    }
+
+    private static final class ArrayDocIdSet extends DocIdSet {
+        private final int[] docs;
+
+        ArrayDocIdSet(int[] docs) {
+            this.docs = docs;
+        }
+
+        @Override
+        public DocIdSetIterator iterator() {
+            return new ArrayDISI(docs);
+        }
+
+        @Override
+        public int cardinality() {
+            return docs.length;
+        }
+
+        @Override
+        public long ramBytesUsed() {
+            return 16 + 16 + 4L * docs.length;
+        }
+
+        @Override
+        void collect(LeafCollector collector) {
+            if (docs.length > 0)
+                collector.collect(docs, docs.length);
+        }
+    }
+
+    private static final class BitDocIdSet extends DocIdSet {
+        private final FixedBitSet bits;
+        private final int cardinality;
+
+        BitDocIdSet(FixedBitSet bits, int cardinality) {
+            this.bits = bits;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        public DocIdSetIterator iterator() {
+            return new BitSetDISI(bits, cardinality);
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public long ramBytesUsed() {
+            return 16 + 16 + 16 + 8L * bits.getBits().length;
+        }
+
+        @Override
+        void collect(LeafCollector collector) {
+            collector.collect(new BitSetDocIdStream(bits.getBits(), bits.getBits().length, 0));
+        }
+    }
+}
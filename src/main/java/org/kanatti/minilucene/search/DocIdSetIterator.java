@@ -28,4 +28,10 @@ public interface DocIdSetIterator {
      * Advances to first doc with docId >= target
      */
     int advance(int target);
+
+    /**
+     * Estimate of how many docs this iterator will return. Doesn't have to be exact,
+     * it is used to order iterators, like picking the cheapest one to lead a conjunction.
+     */
+    long cost();
 }
@@ -0,0 +1,26 @@
+package org.kanatti.minilucene.search;
+
+import java.util.function.IntConsumer;
+
+/**
+ * A batch of doc-ids handed to a {@link LeafCollector} in one call, like lucene 10's DocIdStream.
+ * Streams that know their size cheaply, like a range or a bitset, can count without iterating,
+ * which is all a counting collector needs.
+ *
+ * A stream is only valid during the collect call, and can be consumed only once.
+ */
+public abstract class DocIdStream {
+    /**
+     * Calls consumer with each doc, in increasing order.
+     */
+    public abstract void forEach(IntConsumer consumer);
+
+    /**
+     * Number of docs in the stream.
+     */
+    public int count() {
+        int[] count = new int[1];
+        forEach(doc -> count[0]++);
+        return count[0];
+    }
+}
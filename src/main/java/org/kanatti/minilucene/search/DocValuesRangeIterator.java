@@ -0,0 +1,180 @@
+package org.kanatti.minilucene.search;
+
+import org.kanatti.minilucene.index.DocValuesSkipper;
+import org.kanatti.minilucene.index.NumericDocValues;
+
+/**
+ * Docs whose numeric doc value is in [min, max], driven by the field's skip index.
+ *
+ * Doc space is walked interval by interval, and every interval is first classified from
+ * its min and max value:
+ * - NO: no value in range, the whole interval is skipped without reading any value.
+ * - YES: every value is in range, so every doc with a value matches, without reading any.
+ * - MAYBE: values are read and checked doc by doc.
+ *
+ * A YES or NO is taken at the highest level that agrees, so long runs of them (think
+ * time ranges over index-sorted data) take one decision. Only levels whose interval
+ * starts at or after the target are climbed to, so the current interval never covers docs
+ * that were already passed, and its stats in the skip index are all about docs to come.
+ */
+public class DocValuesRangeIterator implements DocIdSetIterator {
+
+    public enum Match {
+        YES, NO, MAYBE
+    }
+
+    private final NumericDocValues values;
+    // Null if there is no skip index, then everything is MAYBE.
+    private final DocValuesSkipper skipper;
+    private final long min;
+    private final long max;
+    private final int maxDoc;
+
+    // Current interval: [intervalStart, upTo] at level of the skipper, and how it matches.
+    private int intervalStart = -1;
+    private int upTo = -1;
+    private int level;
+    private Match match;
+    private boolean dense;
+    private int doc = NOT_STARTED;
+
+    public DocValuesRangeIterator(NumericDocValues values, DocValuesSkipper skipper, long min, long max, int maxDoc) {
+        this.values = values;
+        this.skipper = skipper;
+        this.min = min;
+        this.max = max;
+        this.maxDoc = maxDoc;
+    }
+
+    /**
+     * How the interval of the current doc matches, YES or MAYBE while on a doc.
+     */
+    public Match match() {
+        return match;
+    }
+
+    /**
+     * First doc of the current interval.
+     */
+    public int intervalStart() {
+        return intervalStart;
+    }
+
+    /**
+     * Last doc of the current interval.
+     */
+    public int upTo() {
+        return upTo;
+    }
+
+    /**
+     * Skipper level of the current interval, for its stats.
+     */
+    public int level() {
+        return level;
+    }
+
+    @Override
+    public int docId() {
+        return doc;
+    }
+
+    @Override
+    public int nextDoc() {
+        if (doc == NO_MORE_DOCS)
+            return NO_MORE_DOCS;
+        return advance(doc + 1);
+    }
+
+    @Override
+    public int advance(int target) {
+        if (doc == NO_MORE_DOCS)
+            return NO_MORE_DOCS;
+        return doc = doAdvance(target);
+    }
+
+    private int doAdvance(int target) {
+        while (target < maxDoc) {
+            if (target > upTo) {
+                target = nextInterval(target);
+                if (target == NO_MORE_DOCS)
+                    return NO_MORE_DOCS;
+            }
+
+            switch (match) {
+                case NO -> {
+                    target = upTo + 1;
+                    continue;
+                }
+                case YES -> {
+                    if (dense)
+                        return target;
+                    int d = valuesDoc(target);
+                    if (d <= upTo)
+                        return d;
+                }
+                case MAYBE -> {
+                    for (int d = valuesDoc(target); d <= upTo; d = values.nextDoc()) {
+                        long value = values.longValue();
+                        if (value >= min && value <= max)
+                            return d;
+                    }
+                }
+            }
+            target = upTo + 1;
+        }
+        return NO_MORE_DOCS;
+    }
+
+    private int valuesDoc(int target) {
+        int d = values.docId();
+        return d < target ? values.advance(target) : d;
+    }
+
+    /**
+     * Moves to the interval holding target, or the next one with values, and returns
+     * where to go on from.
+     */
+    private int nextInterval(int target) {
+        if (skipper == null) {
+            intervalStart = 0;
+            upTo = maxDoc - 1;
+            match = Match.MAYBE;
+            return target;
+        }
+
+        skipper.advance(target);
+        if (skipper.minDocID(0) == NO_MORE_DOCS)
+            return NO_MORE_DOCS;
+        // Skipper may have moved past intervals without values.
+        target = Math.max(target, skipper.minDocID(0));
+
+        level = 0;
+        match = match(0);
+        if (match != Match.MAYBE) {
+            // Climb while the coarser interval is just as clear.
+            while (level + 1 < skipper.numLevels() && skipper.minDocID(level + 1) >= target
+                    && match(level + 1) == match) {
+                level++;
+            }
+        }
+        intervalStart = skipper.minDocID(level);
+        upTo = skipper.maxDocID(level);
+        dense = skipper.docCount(level) == upTo - intervalStart + 1;
+        return target;
+    }
+
+    private Match match(int level) {
+        long intervalMin = skipper.minValue(level), intervalMax = skipper.maxValue(level);
+        if (intervalMax < min || intervalMin > max)
+            return Match.NO;
+        if (intervalMin >= min && intervalMax <= max)
+            return Match.YES;
+        return Match.MAYBE;
+    }
+
+    @Override
+    public long cost() {
+        return values.cost();
+    }
+}
@@ -0,0 +1,206 @@
+package org.kanatti.minilucene.search;
+
+import org.kanatti.minilucene.index.DocValuesSkipper;
+import org.kanatti.minilucene.index.LeafReader;
+import org.kanatti.minilucene.index.LeafReaderContext;
+import org.kanatti.minilucene.index.NumericDocValues;
+
+/**
+ * Matches docs whose numeric doc value of a field (see Document#addLong) is in
+ * [lowerValue, upperValue], with a constant score of 1. See {@link DocValuesRangeIterator}
+ * for how the skip index avoids reading most values.
+ */
+public class DocValuesRangeQuery extends Query {
+    private final String field;
+    private final long lowerValue;
+    private final long upperValue;
+
+    public DocValuesRangeQuery(String field, long lowerValue, long upperValue) {
+        this.field = field;
+        this.lowerValue = lowerValue;
+        this.upperValue = upperValue;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public long getLowerValue() {
+        return lowerValue;
+    }
+
+    public long getUpperValue() {
+        return upperValue;
+    }
+
+    @Override
+    public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode) {
+        return new RangeWeight(this, scoreMode);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!sameClassAs(other))
+            return false;
+        DocValuesRangeQuery that = (DocValuesRangeQuery) other;
+        return field.equals(that.field) && lowerValue == that.lowerValue && upperValue == that.upperValue;
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 31 * classHash() + field.hashCode();
+        h = 31 * h + Long.hashCode(lowerValue);
+        return 31 * h + Long.hashCode(upperValue);
+    }
+
+    @Override
+    public String toString() {
+        return field + ":[" + lowerValue + " TO " + upperValue + "]";
+    }
+
+    private static class RangeWeight extends Weight {
+        RangeWeight(DocValuesRangeQuery query, ScoreMode scoreMode) {
+            super(query, scoreMode);
+        }
+
+        @Override
+        public Scorer scorer(LeafReaderContext context) {
+            DocValuesRangeQuery query = (DocValuesRangeQuery) getQuery();
+            LeafReader reader = context.reader();
+            NumericDocValues values = reader.getNumericDocValues(query.field);
+            DocValuesSkipper skipper = reader.getDocValuesSkipper(query.field);
+            if (!canMatch(query, values, skipper))
+                return null;
+            return new ConstantScoreScorer(
+                new DocValuesRangeIterator(values, skipper, query.lowerValue, query.upperValue, reader.maxDoc()), 1f);
+        }
+
+        @Override
+        public BulkScorer bulkScorer(LeafReaderContext context) {
+            DocValuesRangeQuery query = (DocValuesRangeQuery) getQuery();
+            LeafReader reader = context.reader();
+            NumericDocValues values = reader.getNumericDocValues(query.field);
+            DocValuesSkipper skipper = reader.getDocValuesSkipper(query.field);
+            if (getScoreMode().needsScores() || skipper == null)
+                return super.bulkScorer(context);
+            if (!canMatch(query, values, skipper))
+                return null;
+            DocValuesRangeIterator iterator =
+                new DocValuesRangeIterator(values, skipper, query.lowerValue, query.upperValue, reader.maxDoc());
+            return new RangeBulkScorer(query, iterator, skipper, values);
+        }
+
+        @Override
+        public int count(LeafReaderContext context) {
+            DocValuesRangeQuery query = (DocValuesRangeQuery) getQuery();
+            LeafReader reader = context.reader();
+            NumericDocValues values = reader.getNumericDocValues(query.field);
+            DocValuesSkipper skipper = reader.getDocValuesSkipper(query.field);
+            if (!canMatch(query, values, skipper))
+                return 0;
+            // Every value of the leaf in range.
+            if (skipper != null && skipper.minValue() >= query.lowerValue && skipper.maxValue() <= query.upperValue)
+                return skipper.docCount();
+            return -1;
+        }
+
+        private static boolean canMatch(DocValuesRangeQuery query, NumericDocValues values, DocValuesSkipper skipper) {
+            if (query.lowerValue > query.upperValue || values == null)
+                return false;
+            // Whole leaf out of range.
+            return skipper == null || (skipper.maxValue() >= query.lowerValue && skipper.minValue() <= query.upperValue);
+        }
+    }
+
+    /**
+     * Pushes every YES interval of the iterator as one {@link SkipIntervalDocIdStream},
+     * carrying its stats from the skip index. Docs of MAYBE intervals are buffered and
+     * pushed in blocks, like {@link DefaultBulkScorer}. When every doc of a MAYBE interval
+     * has a value, values line up with doc ids, so they are fetched and checked a block at a
+     * time instead of through the iterator.
+     *
+     * A counting collector takes a YES interval's doc count in one go, so over index-sorted
+     * data, where only the intervals at both ends of the range are MAYBE, counting is
+     * O(number of intervals) rather than O(number of hits).
+     */
+    private static class RangeBulkScorer extends BulkScorer {
+        private final String field;
+        private final long lowerValue;
+        private final long upperValue;
+        private final DocValuesRangeIterator iterator;
+        private final DocValuesSkipper skipper;
+        private final NumericDocValues values;
+        private final int[] buffer = new int[DefaultBulkScorer.BLOCK_SIZE];
+        private final int[] batchDocs = new int[DefaultBulkScorer.BLOCK_SIZE];
+        private final long[] batchValues = new long[DefaultBulkScorer.BLOCK_SIZE];
+
+        RangeBulkScorer(DocValuesRangeQuery query, DocValuesRangeIterator iterator, DocValuesSkipper skipper,
+                NumericDocValues values) {
+            this.field = query.field;
+            this.lowerValue = query.lowerValue;
+            this.upperValue = query.upperValue;
+            this.iterator = iterator;
+            this.skipper = skipper;
+            this.values = values;
+        }
+
+        @Override
+        public void score(LeafCollector collector) {
+            int count = 0;
+            int from = 0;
+            for (int doc = iterator.advance(from); doc != DocIdSetIterator.NO_MORE_DOCS; doc = iterator.advance(from)) {
+                int level = iterator.level();
+                int intervalStart = iterator.intervalStart(), upTo = iterator.upTo();
+                // Interval starting after the last doc pushed is whole, so are its stats.
+                if (iterator.match() == DocValuesRangeIterator.Match.YES && intervalStart >= from) {
+                    if (count > 0) {
+                        collector.collect(buffer, count);
+                        count = 0;
+                    }
+                    collector.collect(new SkipIntervalDocIdStream(field, intervalStart, upTo + 1,
+                        skipper.docCount(level), skipper.minValue(level), skipper.maxValue(level), skipper.sum(level),
+                        values));
+                    from = upTo + 1;
+                    continue;
+                }
+
+                if (iterator.match() == DocValuesRangeIterator.Match.MAYBE
+                        && skipper.docCount(level) == upTo - intervalStart + 1) {
+                    for (int start = doc; start <= upTo; start += batchDocs.length) {
+                        int n = Math.min(batchDocs.length, upTo - start + 1);
+                        for (int i = 0; i < n; i++) {
+                            batchDocs[i] = start + i;
+                        }
+                        values.longValues(batchDocs, n, batchValues);
+                        for (int i = 0; i < n; i++) {
+                            long value = batchValues[i];
+                            if (value >= lowerValue && value <= upperValue) {
+                                buffer[count++] = start + i;
+                                if (count == buffer.length) {
+                                    collector.collect(buffer, count);
+                                    count = 0;
+                                }
+                            }
+                        }
+                    }
+                    from = upTo + 1;
+                    continue;
+                }
+
+                buffer[count++] = doc;
+                if (count == buffer.length) {
+                    collector.collect(buffer, count);
+                    count = 0;
+                }
+                from = doc + 1;
+            }
+            if (count > 0)
+                collector.collect(buffer, count);
+        }
+
+        @Override
+        public long cost() {
+            return iterator.cost();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package org.kanatti.minilucene.search;
+
+/**
+ * A {@link BitSet} backed by a long[], 64 docs per word.
+ * Similar to lucene's FixedBitSet. Uses 1 bit per doc instead of 1 byte in
+ * {@link ArrayBitSet}, and nextSetBit skips whole empty words at a time.
+ */
+public class FixedBitSet implements BitSet {
+    private final long[] bits;
+    private final int numBits;
+
+    public FixedBitSet(int numBits) {
+        this.numBits = numBits;
+        this.bits = new long[bits2words(numBits)];
+    }
+
+    /**
+     * Number of longs needed to hold numBits.
+     */
+    public static int bits2words(int numBits) {
+        // Same as (numBits + 63) / 64, but without overflow for large numBits.
+        return ((numBits - 1) >> 6) + 1;
+    }
+
+    @Override
+    public void set(int i) {
+        if (i < 0 || i >= numBits)
+            throw new IllegalArgumentException("Out of range");
+        // Shifts on long only use the lower 6 bits, so no need for i % 64.
+        bits[i >> 6] |= 1L << i;
+    }
+
+    public void clear(int i) {
+        if (i < 0 || i >= numBits)
+            throw new IllegalArgumentException("Out of range");
+        bits[i >> 6] &= ~(1L << i);
+    }
+
+    @Override
+    public boolean get(int i) {
+        if (i < 0 || i >= numBits)
+            throw new IllegalArgumentException("Out of range");
+        return (bits[i >> 6] & (1L << i)) != 0;
+    }
+
+    @Override
+    public int nextSetBit(int from) {
+        if (from < 0 || from >= numBits)
+            throw new IllegalArgumentException("Out of range");
+
+        int wordIndex = from >> 6;
+        // Drop the bits below `from` in the first word.
+        long word = bits[wordIndex] >>> from;
+        if (word != 0)
+            return from + Long.numberOfTrailingZeros(word);
+
+        // Skip whole empty words.
+        while (++wordIndex < bits.length) {
+            word = bits[wordIndex];
+            if (word != 0)
+                return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int length() {
+        return numBits;
+    }
+
+    /**
+     * Number of set bits.
+     */
+    public int cardinality() {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * this = this OR other
+     */
+    public void or(FixedBitSet other) {
+        checkSameLength(other);
+        for (int i = 0; i < bits.length; i++) {
+            bits[i] |= other.bits[i];
+        }
+    }
+
+    /**
+     * this = this AND other
+     */
+    public void and(FixedBitSet other) {
+        checkSameLength(other);
+        for (int i = 0; i < bits.length; i++) {
+            bits[i] &= other.bits[i];
+        }
+    }
+
+    /**
+     * this = this AND NOT other
+     */
+    public void andNot(FixedBitSet other) {
+        checkSameLength(other);
+        for (int i = 0; i < bits.length; i++) {
+            bits[i] &= ~other.bits[i];
+        }
+    }
+
+    /**
+     * this = this XOR other
+     */
+    public void xor(FixedBitSet other) {
+        checkSameLength(other);
+        for (int i = 0; i < bits.length; i++) {
+            bits[i] ^= other.bits[i];
+        }
+    }
+
+    /**
+     * The backing words. Bits beyond {@link #length()} are always zero.
+     */
+    public long[] getBits() {
+        return bits;
+    }
+
+    private void checkSameLength(FixedBitSet other) {
+        if (other.numBits != numBits)
+            throw new IllegalArgumentException("BitSets must have same length");
+    }
+}
@@ -0,0 +1,140 @@
+package org.kanatti.minilucene.search;
+
+import java.util.Collection;
+
+import org.kanatti.minilucene.index.DocValuesSkipper;
+import org.kanatti.minilucene.index.LeafReaderContext;
+import org.kanatti.minilucene.index.NumericDocValues;
+import org.kanatti.minilucene.util.LongLongHashMap;
+
+/**
+ * Counts matching docs per value of a numeric doc values field. Docs without a value
+ * aren't counted.
+ *
+ * Counts go into a {@link LongLongHashMap}, so nothing gets boxed per doc. When the
+ * segment's values (known from its skip index) span less than MAX_DENSE_RANGE, like
+ * years, they're counted into a plain array indexed by value - min instead, which is
+ * just an increment per doc. The array is kept across leaves as long as their values
+ * fit, and moved into the map when they don't or when results are asked for.
+ *
+ * Not thread-safe, use {@link #createManager(String)} to search in parallel.
+ */
+public class HistogramCollector implements Collector {
+    static final int MAX_DENSE_RANGE = 4096;
+
+    private final String field;
+    private final LongLongHashMap counts = new LongLongHashMap();
+    // denseCounts[i] is the count of value denseMin + i, null when not counting densely.
+    private long[] denseCounts;
+    private long denseMin;
+    private long totalCount;
+
+    public HistogramCollector(String field) {
+        this.field = field;
+    }
+
+    @Override
+    public ScoreMode scoreMode() {
+        return ScoreMode.COMPLETE_NO_SCORES;
+    }
+
+    @Override
+    public LeafCollector getLeafCollector(LeafReaderContext context) {
+        NumericDocValues values = context.reader().getNumericDocValues(field);
+        if (values == null)
+            return doc -> {};
+
+        DocValuesSkipper skipper = context.reader().getDocValuesSkipper(field);
+        if (skipper != null && fitDense(skipper.minValue(), skipper.maxValue())) {
+            long[] dense = denseCounts;
+            long base = denseMin;
+            return doc -> {
+                if (values.advanceExact(doc)) {
+                    dense[(int) (values.longValue() - base)]++;
+                    totalCount++;
+                }
+            };
+        }
+
+        return doc -> {
+            if (values.advanceExact(doc)) {
+                counts.addTo(values.longValue(), 1);
+                totalCount++;
+            }
+        };
+    }
+
+    /**
+     * Makes the dense array cover [min, max] if that can be done within MAX_DENSE_RANGE,
+     * growing it or starting a new one.
+     */
+    private boolean fitDense(long min, long max) {
+        // Unsigned, max - min may overflow.
+        if (Long.compareUnsigned(max - min, MAX_DENSE_RANGE) >= 0)
+            return false;
+
+        if (denseCounts != null) {
+            long newMin = Math.min(denseMin, min);
+            long newMax = Math.max(denseMin + denseCounts.length - 1, max);
+            if (Long.compareUnsigned(newMax - newMin, MAX_DENSE_RANGE) < 0) {
+                if (newMin != denseMin || newMax - newMin + 1 != denseCounts.length) {
+                    long[] grown = new long[(int) (newMax - newMin + 1)];
+                    System.arraycopy(denseCounts, 0, grown, (int) (denseMin - newMin), denseCounts.length);
+                    denseCounts = grown;
+                    denseMin = newMin;
+                }
+                return true;
+            }
+            flushDense();
+        }
+        denseCounts = new long[(int) (max - min + 1)];
+        denseMin = min;
+        return true;
+    }
+
+    private void flushDense() {
+        if (denseCounts == null)
+            return;
+        for (int i = 0; i < denseCounts.length; i++) {
+            if (denseCounts[i] != 0)
+                counts.addTo(denseMin + i, denseCounts[i]);
+        }
+        denseCounts = null;
+    }
+
+    /**
+     * Count per value.
+     */
+    public LongLongHashMap getHistogram() {
+        flushDense();
+        return counts;
+    }
+
+    /**
+     * Number of docs counted, all values together.
+     */
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Histograms per slice, added up into one.
+     */
+    public static CollectorManager<HistogramCollector, LongLongHashMap> createManager(String field) {
+        return new CollectorManager<>() {
+            @Override
+            public HistogramCollector newCollector() {
+                return new HistogramCollector(field);
+            }
+
+            @Override
+            public LongLongHashMap reduce(Collection<HistogramCollector> collectors) {
+                LongLongHashMap merged = new LongLongHashMap();
+                for (HistogramCollector collector : collectors) {
+                    merged.addAll(collector.getHistogram());
+                }
+                return merged;
+            }
+        };
+    }
+}
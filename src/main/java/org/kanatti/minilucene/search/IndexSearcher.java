@@ -1,5 +1,207 @@
 package org.kanatti.minilucene.search;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+import org.kanatti.minilucene.index.IndexReader;
+import org.kanatti.minilucene.index.LeafReaderContext;
+
+/**
+ * Runs queries against an {@link IndexReader}.
+ *
+ * Query is turned into a {@link Weight} once, then for each leaf the weight gives a
+ * {@link BulkScorer}, which pushes every matching doc into the collector's
+ * {@link LeafCollector} for that leaf.
+ *
+ * With a {@link LRUQueryCache} set, weights that don't need scores (and those of their
+ * clauses) go through it, so filters that keep coming back are read from memory.
+ *
+ * Searching with a {@link CollectorManager} runs slices of leaves concurrently on the
+ * executor, each slice with its own collector. Searching with a plain {@link Collector}
+ * always runs on the calling thread, since collectors are not thread-safe.
+ */
 public class IndexSearcher {
-    
+    // Same as lucene: a slice is either one big leaf or up to 5 small ones adding up to 250K docs.
+    static final int MAX_DOCS_PER_SLICE = 250_000;
+    static final int MAX_LEAVES_PER_SLICE = 5;
+
+    /**
+     * Starts a virtual thread per task. Slices mostly wait on page cache and the
+     * JVM spreads virtual threads across carriers, so there is no pool to size.
+     */
+    public static final Executor VIRTUAL_THREAD_EXECUTOR = Thread::startVirtualThread;
+
+    private final IndexReader reader;
+    private final Executor executor;
+    private final List<List<LeafReaderContext>> slices;
+    private LRUQueryCache queryCache;
+    private QueryCachingPolicy queryCachingPolicy = new UsageTrackingQueryCachingPolicy();
+
+    /**
+     * Searches slices on virtual threads.
+     */
+    public IndexSearcher(IndexReader reader) {
+        this(reader, VIRTUAL_THREAD_EXECUTOR);
+    }
+
+    /**
+     * Searches slices on the executor, or all on the calling thread if executor is null.
+     */
+    public IndexSearcher(IndexReader reader, Executor executor) {
+        this.reader = reader;
+        this.executor = executor;
+        this.slices = slices(reader.leaves());
+    }
+
+    public IndexReader getIndexReader() {
+        return reader;
+    }
+
+    /**
+     * Cache for matches of queries that don't need scores, null (the default) for none.
+     * Can be shared across searchers.
+     */
+    public void setQueryCache(LRUQueryCache queryCache) {
+        this.queryCache = queryCache;
+    }
+
+    public LRUQueryCache getQueryCache() {
+        return queryCache;
+    }
+
+    public void setQueryCachingPolicy(QueryCachingPolicy queryCachingPolicy) {
+        this.queryCachingPolicy = queryCachingPolicy;
+    }
+
+    public QueryCachingPolicy getQueryCachingPolicy() {
+        return queryCachingPolicy;
+    }
+
+    /**
+     * Weight of query, going through the query cache if there is one and scores aren't
+     * needed. Queries should create weights of their sub-queries with this.
+     */
+    public Weight createWeight(Query query, ScoreMode scoreMode) {
+        Weight weight = query.createWeight(this, scoreMode);
+        if (queryCache != null && !scoreMode.needsScores())
+            weight = queryCache.doCache(weight, queryCachingPolicy);
+        return weight;
+    }
+
+    public void search(Query query, Collector collector) {
+        Weight weight = createWeight(query, collector.scoreMode());
+        search(reader.leaves(), weight, collector);
+    }
+
+    public <C extends Collector, R> R search(Query query, CollectorManager<C, R> manager) {
+        C firstCollector = manager.newCollector();
+        // Weight is created once and shared across slices, so it has to be thread-safe.
+        Weight weight = createWeight(query, firstCollector.scoreMode());
+        return search(weight, manager, firstCollector);
+    }
+
+    private <C extends Collector, R> R search(Weight weight, CollectorManager<C, R> manager, C firstCollector) {
+        if (executor == null || slices.size() <= 1) {
+            search(reader.leaves(), weight, firstCollector);
+            return manager.reduce(List.of(firstCollector));
+        }
+
+        List<C> collectors = new ArrayList<>(slices.size());
+        List<FutureTask<C>> tasks = new ArrayList<>(slices.size());
+        for (List<LeafReaderContext> slice : slices) {
+            C collector = collectors.isEmpty() ? firstCollector : manager.newCollector();
+            collectors.add(collector);
+            FutureTask<C> task = new FutureTask<>(() -> {
+                search(slice, weight, collector);
+                return collector;
+            });
+            tasks.add(task);
+            executor.execute(task);
+        }
+
+        for (FutureTask<C> task : tasks) {
+            try {
+                task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException re)
+                    throw re;
+                if (e.getCause() instanceof Error err)
+                    throw err;
+                throw new RuntimeException(e.getCause());
+            }
+        }
+        return manager.reduce(collectors);
+    }
+
+    /**
+     * Number of docs matching the query. If every leaf's count is known from
+     * {@link Weight#count}, nothing gets iterated.
+     */
+    public int count(Query query) {
+        TotalHitCountCollectorManager manager = new TotalHitCountCollectorManager();
+        TotalHitCountCollector firstCollector = manager.newCollector();
+        Weight weight = createWeight(query, firstCollector.scoreMode());
+
+        int count = 0;
+        for (LeafReaderContext leaf : reader.leaves()) {
+            int leafCount = weight.count(leaf);
+            if (leafCount < 0)
+                return search(weight, manager, firstCollector);
+            count += leafCount;
+        }
+        return count;
+    }
+
+    List<List<LeafReaderContext>> getSlices() {
+        return slices;
+    }
+
+    private void search(List<LeafReaderContext> leaves, Weight weight, Collector collector) {
+        for (LeafReaderContext leaf : leaves) {
+            BulkScorer scorer = weight.bulkScorer(leaf);
+            if (scorer == null)
+                continue;
+            try {
+                scorer.score(collector.getLeafCollector(leaf));
+            } catch (CollectionTerminatedException e) {
+                // Collector is done with this leaf.
+            }
+        }
+    }
+
+    /**
+     * Groups leaves into slices, biggest leaves first. A big leaf gets a slice of its own,
+     * small ones are packed together so we don't pay for a task per tiny leaf.
+     */
+    static List<List<LeafReaderContext>> slices(List<LeafReaderContext> leaves) {
+        List<LeafReaderContext> sorted = new ArrayList<>(leaves);
+        sorted.sort(Comparator.comparingInt((LeafReaderContext leaf) -> leaf.reader().maxDoc()).reversed());
+
+        List<List<LeafReaderContext>> slices = new ArrayList<>();
+        List<LeafReaderContext> current = null;
+        long currentDocs = 0;
+        for (LeafReaderContext leaf : sorted) {
+            int maxDoc = leaf.reader().maxDoc();
+            if (maxDoc >= MAX_DOCS_PER_SLICE) {
+                slices.add(List.of(leaf));
+                continue;
+            }
+            if (current == null || currentDocs + maxDoc > MAX_DOCS_PER_SLICE
+                    || current.size() >= MAX_LEAVES_PER_SLICE) {
+                current = new ArrayList<>();
+                slices.add(current);
+                currentDocs = 0;
+            }
+            current.add(leaf);
+            currentDocs += maxDoc;
+        }
+        return slices;
+    }
 }
@@ -0,0 +1,306 @@
+package org.kanatti.minilucene.search;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.kanatti.minilucene.index.LeafReader;
+import org.kanatti.minilucene.index.LeafReaderContext;
+
+/**
+ * Caches matching docs of queries per leaf, so that filters run over and over (think
+ * dashboards) are read from memory instead of being evaluated again. Like lucene's
+ * LRUQueryCache, see {@link IndexSearcher#setQueryCache}.
+ *
+ * Entries are keyed by (query, leaf reader) and hold a {@link DocIdSet}. Only weights that
+ * don't need scores are cached, as sets have no scores. Which queries get cached is up to
+ * a {@link QueryCachingPolicy}.
+ *
+ * Memory is bounded by maxRamBytesUsed, counting sets plus an estimate per query and
+ * per entry. When over, the least recently used query is evicted, with its entries in
+ * every leaf. Sets are built outside the lock, so a slow query doesn't block lookups of
+ * other slices.
+ *
+ * Entries of a leaf are dropped when its reader is closed (see
+ * LeafReader#addClosedListener), so a cache shared across searchers doesn't keep sets of
+ * readers that were reopened since.
+ */
+public class LRUQueryCache {
+    // Same estimate as lucene for a query key, and roughly a hash map entry.
+    static final long QUERY_RAM_BYTES = 1024;
+    static final long ENTRY_RAM_BYTES = 64;
+
+    private final long maxRamBytesUsed;
+    // Queries with at least one entry, least recently used first. Entries of every leaf
+    // use the instance in here as key.
+    private final LinkedHashMap<Query, Query> uniqueQueries = new LinkedHashMap<>(16, 0.75f, true);
+    // Leaves are compared by identity, a reader is one view of one segment.
+    private final Map<LeafReader, Map<Query, DocIdSet>> leafCaches = new IdentityHashMap<>();
+    // Leaves this cache listens to the close of, once per leaf.
+    private final Set<LeafReader> listenedLeaves = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private long ramBytesUsed;
+    private int cacheSize;
+    private long hitCount;
+    private long missCount;
+    private long cacheCount;
+    private long evictionCount;
+
+    public LRUQueryCache(long maxRamBytesUsed) {
+        if (maxRamBytesUsed <= 0)
+            throw new IllegalArgumentException("maxRamBytesUsed must be > 0: " + maxRamBytesUsed);
+        this.maxRamBytesUsed = maxRamBytesUsed;
+    }
+
+    /**
+     * Wraps weight so that its leaves are served from the cache, and cached when policy
+     * says so.
+     */
+    public Weight doCache(Weight weight, QueryCachingPolicy policy) {
+        if (weight instanceof CachingWrapperWeight)
+            return weight;
+        policy.onUse(weight.getQuery());
+        return new CachingWrapperWeight(weight, policy);
+    }
+
+    /**
+     * Cached set of query on leaf, or null.
+     */
+    synchronized DocIdSet get(Query query, LeafReader leaf, boolean countMiss) {
+        Map<Query, DocIdSet> leafCache = leafCaches.get(leaf);
+        DocIdSet set = leafCache == null ? null : leafCache.get(query);
+        if (set == null) {
+            if (countMiss)
+                missCount++;
+            return null;
+        }
+        hitCount++;
+        // Marks the query as recently used.
+        uniqueQueries.get(query);
+        return set;
+    }
+
+    synchronized void put(Query query, LeafReader leaf, DocIdSet set) {
+        long entryBytes = set.ramBytesUsed() + ENTRY_RAM_BYTES;
+        // Would evict everything else, and itself.
+        if (entryBytes + QUERY_RAM_BYTES > maxRamBytesUsed)
+            return;
+
+        Query key = uniqueQueries.get(query);
+        if (key == null) {
+            key = query;
+            uniqueQueries.put(key, key);
+            ramBytesUsed += QUERY_RAM_BYTES;
+        }
+        if (listenedLeaves.add(leaf))
+            leaf.addClosedListener(this::onClose);
+        DocIdSet previous = leafCaches.computeIfAbsent(leaf, l -> new HashMap<>()).put(key, set);
+        // Another slice may have cached the same leaf meanwhile.
+        if (previous != null)
+            ramBytesUsed -= previous.ramBytesUsed() + ENTRY_RAM_BYTES;
+        else
+            cacheSize++;
+        ramBytesUsed += entryBytes;
+        cacheCount++;
+
+        for (Iterator<Query> it = uniqueQueries.keySet().iterator(); ramBytesUsed > maxRamBytesUsed && it.hasNext(); ) {
+            Query eldest = it.next();
+            it.remove();
+            ramBytesUsed -= QUERY_RAM_BYTES;
+            evictionCount += removeEntries(eldest);
+        }
+    }
+
+    /**
+     * Removes entries of query in every leaf, and returns how many there were.
+     */
+    private int removeEntries(Query query) {
+        int removed = 0;
+        for (Iterator<Map<Query, DocIdSet>> it = leafCaches.values().iterator(); it.hasNext(); ) {
+            Map<Query, DocIdSet> leafCache = it.next();
+            DocIdSet set = leafCache.remove(query);
+            if (set == null)
+                continue;
+            ramBytesUsed -= set.ramBytesUsed() + ENTRY_RAM_BYTES;
+            removed++;
+            if (leafCache.isEmpty())
+                it.remove();
+        }
+        cacheSize -= removed;
+        return removed;
+    }
+
+    /**
+     * Drops every entry of leaf. Called when its reader is closed. Doesn't count as evictions.
+     */
+    public synchronized void clearLeaf(LeafReader leaf) {
+        Map<Query, DocIdSet> leafCache = leafCaches.remove(leaf);
+        if (leafCache == null)
+            return;
+        for (DocIdSet set : leafCache.values()) {
+            ramBytesUsed -= set.ramBytesUsed() + ENTRY_RAM_BYTES;
+        }
+        cacheSize -= leafCache.size();
+        // Queries left without entries.
+        for (Iterator<Query> it = uniqueQueries.keySet().iterator(); it.hasNext(); ) {
+            Query query = it.next();
+            if (!leafCache.containsKey(query))
+                continue;
+            boolean inOtherLeaf = false;
+            for (Map<Query, DocIdSet> other : leafCaches.values()) {
+                if (other.containsKey(query)) {
+                    inOtherLeaf = true;
+                    break;
+                }
+            }
+            if (!inOtherLeaf) {
+                it.remove();
+                ramBytesUsed -= QUERY_RAM_BYTES;
+            }
+        }
+    }
+
+    private synchronized void onClose(LeafReader leaf) {
+        listenedLeaves.remove(leaf);
+        clearLeaf(leaf);
+    }
+
+    /**
+     * Drops every entry. Doesn't count as evictions.
+     */
+    public synchronized void clear() {
+        uniqueQueries.clear();
+        leafCaches.clear();
+        ramBytesUsed = 0;
+        cacheSize = 0;
+    }
+
+    public synchronized long ramBytesUsed() {
+        return ramBytesUsed;
+    }
+
+    /**
+     * Number of (query, leaf) entries.
+     */
+    public synchronized int getCacheSize() {
+        return cacheSize;
+    }
+
+    /**
+     * Lookups that found a set.
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Lookups that found nothing, whether the query got cached then or not.
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Sets put in the cache.
+     */
+    public synchronized long getCacheCount() {
+        return cacheCount;
+    }
+
+    /**
+     * Entries evicted to stay within maxRamBytesUsed.
+     */
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "LRUQueryCache(size=" + cacheSize + ", ramBytesUsed=" + ramBytesUsed + ", hits=" + hitCount
+            + ", misses=" + missCount + ", evictions=" + evictionCount + ")";
+    }
+
+    private class CachingWrapperWeight extends Weight {
+        private final Weight in;
+        private final QueryCachingPolicy policy;
+
+        CachingWrapperWeight(Weight in, QueryCachingPolicy policy) {
+            super(in.getQuery(), in.getScoreMode());
+            this.in = in;
+            this.policy = policy;
+        }
+
+        /**
+         * Set of the leaf, cached now if it wasn't. Null if it isn't and shouldn't be.
+         */
+        private DocIdSet cachedOrCache(LeafReaderContext context) {
+            Query query = getQuery();
+            DocIdSet set = get(query, context.reader(), true);
+            if (set != null || !policy.shouldCache(query))
+                return set;
+
+            DocIdSet.Builder builder = new DocIdSet.Builder(context.reader().maxDoc());
+            BulkScorer scorer = in.bulkScorer(context);
+            if (scorer != null) {
+                scorer.score(new LeafCollector() {
+                    @Override
+                    public void collect(int docId) {
+                        builder.add(docId);
+                    }
+
+                    @Override
+                    public void collect(DocIdStream stream) {
+                        stream.forEach(builder::add);
+                    }
+                });
+            }
+            set = builder.build();
+            put(query, context.reader(), set);
+            return set;
+        }
+
+        @Override
+        public Scorer scorer(LeafReaderContext context) {
+            DocIdSet set = cachedOrCache(context);
+            if (set == null)
+                return in.scorer(context);
+            if (set.cardinality() == 0)
+                return null;
+            return new ConstantScoreScorer(set.iterator(), 0f);
+        }
+
+        @Override
+        public BulkScorer bulkScorer(LeafReaderContext context) {
+            DocIdSet set = cachedOrCache(context);
+            if (set == null)
+                return in.bulkScorer(context);
+            if (set.cardinality() == 0)
+                return null;
+            return new BulkScorer() {
+                @Override
+                public void score(LeafCollector collector) {
+                    set.collect(collector);
+                }
+
+                @Override
+                public long cost() {
+                    return set.cardinality();
+                }
+            };
+        }
+
+        @Override
+        public int count(LeafReaderContext context) {
+            int count = in.count(context);
+            if (count >= 0)
+                return count;
+            // Only if already cached, a miss here would count twice as search follows.
+            DocIdSet set = get(getQuery(), context.reader(), false);
+            return set == null ? -1 : set.cardinality();
+        }
+    }
+}
@@ -1,8 +1,30 @@
 package org.kanatti.minilucene.search;
 
 /**
- * Collects results at a segment level. No scoring yet.
+ * Collects results at a segment level. Doc-ids are local to the leaf.
+ *
+ * Docs can come one at a time or in bulk. Bulk methods default to collecting one by one,
+ * collectors that can do better (like just counting) override them.
  */
 public interface LeafCollector {
+    /**
+     * Called before collection starts on the leaf, so that collectors
+     * needing scores can ask the scorer for score of the current doc.
+     */
+    default void setScorer(Scorer scorer) {}
+
     void collect(int docId);
+
+    /**
+     * Collects docs[0..count). The array is reused by the caller, so don't hold on to it.
+     */
+    default void collect(int[] docs, int count) {
+        for (int i = 0; i < count; i++) {
+            collect(docs[i]);
+        }
+    }
+
+    default void collect(DocIdStream stream) {
+        stream.forEach(this::collect);
+    }
 }
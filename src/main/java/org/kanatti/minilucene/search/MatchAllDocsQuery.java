@@ -0,0 +1,70 @@
+package org.kanatti.minilucene.search;
+
+import org.kanatti.minilucene.index.LeafReaderContext;
+
+/**
+ * Matches every doc, with a constant score of 1.
+ */
+public class MatchAllDocsQuery extends Query {
+
+    @Override
+    public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode) {
+        return new MatchAllWeight(this, scoreMode);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return sameClassAs(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return classHash();
+    }
+
+    @Override
+    public String toString() {
+        return "*:*";
+    }
+
+    private static class MatchAllWeight extends Weight {
+        MatchAllWeight(MatchAllDocsQuery query, ScoreMode scoreMode) {
+            super(query, scoreMode);
+        }
+
+        @Override
+        public Scorer scorer(LeafReaderContext context) {
+            int maxDoc = context.reader().maxDoc();
+            if (maxDoc == 0)
+                return null;
+            return new ConstantScoreScorer(new RangeDISI(0, maxDoc), 1f);
+        }
+
+        @Override
+        public int count(LeafReaderContext context) {
+            return context.reader().maxDoc();
+        }
+
+        @Override
+        public BulkScorer bulkScorer(LeafReaderContext context) {
+            if (getScoreMode().needsScores())
+                return super.bulkScorer(context);
+
+            int maxDoc = context.reader().maxDoc();
+            if (maxDoc == 0)
+                return null;
+            // Whole leaf in one go, so counting is O(1).
+            return new BulkScorer() {
+                @Override
+                public void score(LeafCollector collector) {
+                    collector.collect(new RangeDocIdStream(0, maxDoc));
+                }
+
+                @Override
+                public long cost() {
+                    return maxDoc;
+                }
+            };
+        }
+    }
+}
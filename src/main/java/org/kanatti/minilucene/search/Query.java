@@ -1,5 +1,26 @@
 package org.kanatti.minilucene.search;
 
-public class Query {
-    
+/**
+ * Describes what to match. Queries are just descriptions and don't hold any index state,
+ * that goes into the {@link Weight} created for a searcher.
+ *
+ * Queries are immutable and equal when they match the same docs by construction, as they
+ * are used as keys of {@link LRUQueryCache}.
+ */
+public abstract class Query {
+    public abstract Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode);
+
+    @Override
+    public abstract boolean equals(Object other);
+
+    @Override
+    public abstract int hashCode();
+
+    protected final boolean sameClassAs(Object other) {
+        return other != null && getClass() == other.getClass();
+    }
+
+    protected final int classHash() {
+        return getClass().getName().hashCode();
+    }
 }
@@ -0,0 +1,16 @@
+package org.kanatti.minilucene.search;
+
+/**
+ * Decides which queries {@link LRUQueryCache} caches.
+ */
+public interface QueryCachingPolicy {
+    /**
+     * Called once per weight created for query, whether it ends up cached or not.
+     */
+    void onUse(Query query);
+
+    /**
+     * Whether matches of query are worth caching, when they aren't cached yet.
+     */
+    boolean shouldCache(Query query);
+}
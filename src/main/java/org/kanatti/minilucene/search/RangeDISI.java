@@ -0,0 +1,41 @@
+package org.kanatti.minilucene.search;
+
+/**
+ * A {@link DocIdSetIterator} over every doc in [minDoc, maxDoc).
+ */
+public class RangeDISI implements DocIdSetIterator {
+    private final int minDoc;
+    private final int maxDoc;
+    private int doc = NOT_STARTED;
+
+    public RangeDISI(int minDoc, int maxDoc) {
+        this.minDoc = minDoc;
+        this.maxDoc = maxDoc;
+    }
+
+    @Override
+    public int docId() {
+        return doc;
+    }
+
+    @Override
+    public int nextDoc() {
+        if (doc == NO_MORE_DOCS)
+            return NO_MORE_DOCS;
+        return advance(doc + 1);
+    }
+
+    @Override
+    public int advance(int target) {
+        if (target >= maxDoc)
+            doc = NO_MORE_DOCS;
+        else
+            doc = Math.max(target, minDoc);
+        return doc;
+    }
+
+    @Override
+    public long cost() {
+        return maxDoc - minDoc;
+    }
+}
@@ -0,0 +1,28 @@
+package org.kanatti.minilucene.search;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Every doc in [minDoc, maxDoc).
+ */
+public final class RangeDocIdStream extends DocIdStream {
+    private final int minDoc;
+    private final int maxDoc;
+
+    public RangeDocIdStream(int minDoc, int maxDoc) {
+        this.minDoc = minDoc;
+        this.maxDoc = maxDoc;
+    }
+
+    @Override
+    public void forEach(IntConsumer consumer) {
+        for (int doc = minDoc; doc < maxDoc; doc++) {
+            consumer.accept(doc);
+        }
+    }
+
+    @Override
+    public int count() {
+        return maxDoc - minDoc;
+    }
+}
@@ -0,0 +1,288 @@
+package org.kanatti.minilucene.search;
+
+/**
+ * A set of doc-ids that adapts to how dense it is, similar to lucene's RoaringDocIdSet.
+ *
+ * Doc space is split into blocks of 64K docs, and each block picks the cheapest container:
+ * - nothing, if the block has no docs.
+ * - a sorted char[] of the lower 16 bits, if the block is sparse (up to 4096 docs).
+ * - a {@link FixedBitSet} of 64K bits (8KB), if the block is dense.
+ * - nothing but a flag, if every doc in the block is present.
+ *
+ * So memory is at most ~8KB per block regardless of density, and is much less at both ends.
+ */
+public class RoaringDocIdSet {
+    static final int BLOCK_SHIFT = 16;
+    static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+    static final int BLOCK_MASK = BLOCK_SIZE - 1;
+
+    /**
+     * Above this many docs a char[] (2 bytes/doc) costs more than a 8KB bitmap.
+     */
+    static final int MAX_ARRAY_LENGTH = 1 << 12;
+
+    private final Container[] containers;
+    private final int maxDoc;
+    private final int cardinality;
+
+    private RoaringDocIdSet(Container[] containers, int maxDoc, int cardinality) {
+        this.containers = containers;
+        this.maxDoc = maxDoc;
+        this.cardinality = cardinality;
+    }
+
+    /**
+     * Number of docs in the set.
+     */
+    public int cardinality() {
+        return cardinality;
+    }
+
+    public int maxDoc() {
+        return maxDoc;
+    }
+
+    /**
+     * Approximate heap usage in bytes.
+     */
+    public long ramBytesUsed() {
+        long bytes = 16 + 16 + 8L * containers.length;
+        for (Container container : containers) {
+            if (container != null)
+                bytes += container.ramBytesUsed();
+        }
+        return bytes;
+    }
+
+    public DocIdSetIterator iterator() {
+        return new Iterator();
+    }
+
+    /**
+     * Builds a {@link RoaringDocIdSet}. Docs must be added in increasing order.
+     */
+    public static class Builder {
+        private final int maxDoc;
+        private final Container[] containers;
+        // Lower 16 bits of docs in the current block.
+        private final char[] buffer = new char[BLOCK_SIZE];
+        private int bufferSize;
+        private int currentBlock = -1;
+        private int lastDoc = -1;
+        private int cardinality;
+
+        public Builder(int maxDoc) {
+            this.maxDoc = maxDoc;
+            this.containers = new Container[(maxDoc + BLOCK_MASK) >>> BLOCK_SHIFT];
+        }
+
+        public Builder add(int doc) {
+            if (doc <= lastDoc)
+                throw new IllegalArgumentException("Docs must be added in increasing order");
+            if (doc >= maxDoc)
+                throw new IllegalArgumentException("Out of range");
+
+            int block = doc >>> BLOCK_SHIFT;
+            if (block != currentBlock) {
+                flushBlock();
+                currentBlock = block;
+            }
+            buffer[bufferSize++] = (char) (doc & BLOCK_MASK);
+            lastDoc = doc;
+            return this;
+        }
+
+        /**
+         * Adds all remaining docs from the iterator.
+         */
+        public Builder add(DocIdSetIterator disi) {
+            for (int doc = disi.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = disi.nextDoc()) {
+                add(doc);
+            }
+            return this;
+        }
+
+        public RoaringDocIdSet build() {
+            flushBlock();
+            return new RoaringDocIdSet(containers, maxDoc, cardinality);
+        }
+
+        private void flushBlock() {
+            if (bufferSize == 0)
+                return;
+
+            // Last block can be shorter than BLOCK_SIZE.
+            int blockLength = Math.min(BLOCK_SIZE, maxDoc - (currentBlock << BLOCK_SHIFT));
+
+            Container container;
+            if (bufferSize == blockLength) {
+                container = new AllContainer(blockLength);
+            } else if (bufferSize <= MAX_ARRAY_LENGTH) {
+                char[] docs = new char[bufferSize];
+                System.arraycopy(buffer, 0, docs, 0, bufferSize);
+                container = new ArrayContainer(docs);
+            } else {
+                FixedBitSet bits = new FixedBitSet(blockLength);
+                for (int i = 0; i < bufferSize; i++) {
+                    bits.set(buffer[i]);
+                }
+                container = new BitmapContainer(bits);
+            }
+
+            containers[currentBlock] = container;
+            cardinality += bufferSize;
+            bufferSize = 0;
+        }
+    }
+
+    /**
+     * Docs of a single block, addressed by their lower 16 bits.
+     */
+    private static abstract class Container {
+        /**
+         * First doc >= target within this block, or -1 if none.
+         * The cursor remembers the position of the current doc, which lets array
+         * containers search forward instead of starting over.
+         */
+        abstract int advance(int target, Cursor cursor);
+
+        abstract long ramBytesUsed();
+    }
+
+    /**
+     * Per-iterator position inside the current container.
+     */
+    private static final class Cursor {
+        int pos;
+    }
+
+    private static final class ArrayContainer extends Container {
+        private final char[] docs;
+
+        ArrayContainer(char[] docs) {
+            this.docs = docs;
+        }
+
+        @Override
+        int advance(int target, Cursor cursor) {
+            int pos = cursor.pos;
+            if (pos < docs.length && docs[pos] >= target) {
+                return docs[pos];
+            }
+            // Usually target is just the next doc, so check that before binary search.
+            if (pos + 1 < docs.length && docs[pos + 1] >= target) {
+                cursor.pos = pos + 1;
+                return docs[pos + 1];
+            }
+
+            int lo = pos, hi = docs.length - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                if (docs[mid] < target)
+                    lo = mid + 1;
+                else
+                    hi = mid - 1;
+            }
+            cursor.pos = lo;
+            return lo < docs.length ? docs[lo] : -1;
+        }
+
+        @Override
+        long ramBytesUsed() {
+            return 16 + 16 + 2L * docs.length;
+        }
+    }
+
+    private static final class BitmapContainer extends Container {
+        private final FixedBitSet bits;
+
+        BitmapContainer(FixedBitSet bits) {
+            this.bits = bits;
+        }
+
+        @Override
+        int advance(int target, Cursor cursor) {
+            if (target >= bits.length())
+                return -1;
+            return bits.nextSetBit(target);
+        }
+
+        @Override
+        long ramBytesUsed() {
+            return 16 + 16 + 16 + 8L * bits.getBits().length;
+        }
+    }
+
+    private static final class AllContainer extends Container {
+        private final int length;
+
+        AllContainer(int length) {
+            this.length = length;
+        }
+
+        @Override
+        int advance(int target, Cursor cursor) {
+            return target < length ? target : -1;
+        }
+
+        @Override
+        long ramBytesUsed() {
+            return 16;
+        }
+    }
+
+    /**
+     * Iterates container by container. advance() to a later block jumps straight
+     * to that block, so skipped blocks are never looked into.
+     */
+    private final class Iterator implements DocIdSetIterator {
+        private final Cursor cursor = new Cursor();
+        private int block = -1;
+        private int doc = NOT_STARTED;
+
+        @Override
+        public int docId() {
+            return doc;
+        }
+
+        @Override
+        public int nextDoc() {
+            return advance(doc + 1);
+        }
+
+        @Override
+        public int advance(int target) {
+            if (doc == NO_MORE_DOCS)
+                return NO_MORE_DOCS;
+
+            int targetBlock = target >>> BLOCK_SHIFT;
+            if (targetBlock != block) {
+                block = targetBlock;
+                cursor.pos = 0;
+            }
+
+            while (block < containers.length) {
+                Container container = containers[block];
+                if (container != null) {
+                    int low = container.advance(target & BLOCK_MASK, cursor);
+                    if (low != -1) {
+                        doc = (block << BLOCK_SHIFT) | low;
+                        return doc;
+                    }
+                }
+                // Nothing left in this block, move to start of next one.
+                block++;
+                cursor.pos = 0;
+                target = block << BLOCK_SHIFT;
+            }
+
+            doc = NO_MORE_DOCS;
+            return doc;
+        }
+
+        @Override
+        public long cost() {
+            return cardinality;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.kanatti.minilucene.search;
+
+/**
+ * What a collector needs from scorers. Knowing that scores are not needed lets
+ * queries skip scoring altogether and push docs in bulk.
+ */
+public enum ScoreMode {
+    /**
+     * All matching docs, with scores.
+     */
+    COMPLETE(true),
+
+    /**
+     * All matching docs, scores are never looked at.
+     */
+    COMPLETE_NO_SCORES(false),
+
+    /**
+     * Only the best scoring docs matter, so scorers may skip docs that can't beat
+     * {@link Scorer#setMinCompetitiveScore(float)}. Hit counts are then a lower bound.
+     */
+    TOP_SCORES(true);
+
+    private final boolean needsScores;
+
+    ScoreMode(boolean needsScores) {
+        this.needsScores = needsScores;
+    }
+
+    public boolean needsScores() {
+        return needsScores;
+    }
+}
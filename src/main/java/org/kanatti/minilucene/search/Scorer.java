@@ -1,5 +1,40 @@
 package org.kanatti.minilucene.search;
 
-public class Scorer {
-    
+/**
+ * Matching docs of a query within a leaf, via {@link #iterator()}, and a score for
+ * whichever doc the iterator is currently on.
+ */
+public abstract class Scorer {
+    public abstract DocIdSetIterator iterator();
+
+    /**
+     * Score of current doc.
+     */
+    public abstract float score();
+
+    public int docId() {
+        return iterator().docId();
+    }
+
+    /**
+     * Collector telling that docs scoring below minScore are of no use anymore.
+     * Only called in {@link ScoreMode#TOP_SCORES}, scorers are free to ignore it.
+     */
+    public void setMinCompetitiveScore(float minScore) {}
+
+    /**
+     * Moves block-level score info to the block containing target, without moving the
+     * iterator, and returns the last doc of that block. Default is a single block.
+     */
+    public int advanceShallow(int target) {
+        return DocIdSetIterator.NO_MORE_DOCS;
+    }
+
+    /**
+     * Upper bound of score of any doc from the current shallow block up to upTo.
+     * Default is that we don't know.
+     */
+    public float getMaxScore(int upTo) {
+        return Float.POSITIVE_INFINITY;
+    }
 }
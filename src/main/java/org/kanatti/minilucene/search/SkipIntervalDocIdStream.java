@@ -0,0 +1,77 @@
+package org.kanatti.minilucene.search;
+
+import java.util.function.IntConsumer;
+
+import org.kanatti.minilucene.index.NumericDocValues;
+
+/**
+ * Every doc in [minDoc, maxDoc) that has a value of field, for an interval of the field's
+ * skip index that fully matched. It comes with the interval's stats from the skip index,
+ * so counting and aggregating the field (see {@link StatsCollector}) don't have to read
+ * any value.
+ */
+public final class SkipIntervalDocIdStream extends DocIdStream {
+    private final String field;
+    private final int minDoc;
+    private final int maxDoc;
+    private final int docCount;
+    private final long minValue;
+    private final long maxValue;
+    private final long sum;
+    private final NumericDocValues values;
+
+    /**
+     * values is only used to find docs with a value when not every doc of the interval has one.
+     */
+    public SkipIntervalDocIdStream(String field, int minDoc, int maxDoc, int docCount, long minValue,
+            long maxValue, long sum, NumericDocValues values) {
+        this.field = field;
+        this.minDoc = minDoc;
+        this.maxDoc = maxDoc;
+        this.docCount = docCount;
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+        this.sum = sum;
+        this.values = values;
+    }
+
+    public String field() {
+        return field;
+    }
+
+    public long minValue() {
+        return minValue;
+    }
+
+    public long maxValue() {
+        return maxValue;
+    }
+
+    /**
+     * Sum of values, wrapping around on overflow.
+     */
+    public long sum() {
+        return sum;
+    }
+
+    @Override
+    public void forEach(IntConsumer consumer) {
+        if (docCount == maxDoc - minDoc) {
+            for (int doc = minDoc; doc < maxDoc; doc++) {
+                consumer.accept(doc);
+            }
+            return;
+        }
+        int doc = values.docId();
+        if (doc < minDoc)
+            doc = values.advance(minDoc);
+        for (; doc < maxDoc; doc = values.nextDoc()) {
+            consumer.accept(doc);
+        }
+    }
+
+    @Override
+    public int count() {
+        return docCount;
+    }
+}
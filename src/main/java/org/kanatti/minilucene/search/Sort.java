@@ -0,0 +1,54 @@
+package org.kanatti.minilucene.search;
+
+import java.util.List;
+
+/**
+ * Order of docs by one or more {@link SortField}s, the first one deciding and the next
+ * ones breaking ties. Remaining ties go to the smaller doc-id.
+ *
+ * Used both at search time (see {@link TopFieldCollector}) and as index sort, see
+ * IndexWriterConfig#setIndexSort.
+ */
+public record Sort(List<SortField> fields) {
+    public Sort {
+        if (fields.isEmpty())
+            throw new IllegalArgumentException("Need at least one sort field");
+        fields = List.copyOf(fields);
+    }
+
+    public Sort(SortField... fields) {
+        this(List.of(fields));
+    }
+
+    /**
+     * Whether docs sorted by other are also sorted by this, that is this is a prefix of other.
+     */
+    public boolean isPrefixOf(Sort other) {
+        return other != null && fields.size() <= other.fields.size()
+            && fields.equals(other.fields.subList(0, fields.size()));
+    }
+
+    /**
+     * Compares two docs by their values, one per sort field, with missing values already
+     * replaced by {@link SortField#missingValue()}. Doesn't break ties by doc-id.
+     */
+    public int compare(long[] values1, int offset1, long[] values2, int offset2) {
+        for (int i = 0; i < fields.size(); i++) {
+            int cmp = Long.compare(values1[offset1 + i], values2[offset2 + i]);
+            if (cmp != 0)
+                return fields.get(i).reverse() ? -cmp : cmp;
+        }
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (SortField field : fields) {
+            if (sb.length() > 0)
+                sb.append(", ");
+            sb.append(field);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,26 @@
+package org.kanatti.minilucene.search;
+
+/**
+ * Sorts docs by their numeric doc value of field (see Document#addLong), ascending unless
+ * reverse. Docs without a value sort last either way, as if their value was
+ * {@link #missingValue()}.
+ */
+public record SortField(String field, boolean reverse) {
+    public SortField {
+        if (field == null)
+            throw new IllegalArgumentException("field must not be null");
+    }
+
+    public SortField(String field) {
+        this(field, false);
+    }
+
+    public long missingValue() {
+        return reverse ? Long.MIN_VALUE : Long.MAX_VALUE;
+    }
+
+    @Override
+    public String toString() {
+        return field + (reverse ? " desc" : "");
+    }
+}
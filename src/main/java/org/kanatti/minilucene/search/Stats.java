@@ -0,0 +1,20 @@
+package org.kanatti.minilucene.search;
+
+/**
+ * Count, sum, min and max of numeric values, see {@link StatsCollector}. With no values,
+ * min is Long.MAX_VALUE and max Long.MIN_VALUE. Sum wraps around on overflow.
+ */
+public record Stats(long count, long sum, long min, long max) {
+    public static final Stats EMPTY = new Stats(0, 0, Long.MAX_VALUE, Long.MIN_VALUE);
+
+    /**
+     * Average value, NaN if there are no values.
+     */
+    public double avg() {
+        return count == 0 ? Double.NaN : (double) sum / count;
+    }
+
+    public Stats merge(Stats other) {
+        return new Stats(count + other.count, sum + other.sum, Math.min(min, other.min), Math.max(max, other.max));
+    }
+}
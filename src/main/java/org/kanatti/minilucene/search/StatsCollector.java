@@ -0,0 +1,142 @@
+package org.kanatti.minilucene.search;
+
+import java.util.Collection;
+import java.util.function.IntConsumer;
+
+import org.kanatti.minilucene.index.LeafReaderContext;
+import org.kanatti.minilucene.index.NumericDocValues;
+
+/**
+ * Computes {@link Stats} (count, sum, min, max, and so avg) of a numeric doc values field
+ * over matching docs. Docs without a value aren't counted.
+ *
+ * Works a batch at a time: docs pushed in blocks get their values in one
+ * {@link NumericDocValues#longValues} call, and then a tight loop over the long[] adds
+ * them up, instead of a couple of virtual calls and a branch per doc. Intervals of the
+ * same field that a {@link DocValuesRangeQuery} knows to fully match come as a
+ * {@link SkipIntervalDocIdStream}, whose stats the skip index already has, so none of
+ * their values are read.
+ *
+ * Not thread-safe, use {@link #createManager(String)} to search in parallel.
+ */
+public class StatsCollector implements Collector {
+    static final int BATCH_SIZE = DefaultBulkScorer.BLOCK_SIZE;
+
+    private final String field;
+    private long count;
+    private long sum;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+
+    public StatsCollector(String field) {
+        this.field = field;
+    }
+
+    @Override
+    public ScoreMode scoreMode() {
+        return ScoreMode.COMPLETE_NO_SCORES;
+    }
+
+    @Override
+    public LeafCollector getLeafCollector(LeafReaderContext context) {
+        NumericDocValues values = context.reader().getNumericDocValues(field);
+        if (values == null)
+            return doc -> {};
+        return new StatsLeafCollector(values);
+    }
+
+    public Stats getStats() {
+        return new Stats(count, sum, min, max);
+    }
+
+    private class StatsLeafCollector implements LeafCollector {
+        private final NumericDocValues values;
+        private final int[] docBuffer = new int[BATCH_SIZE];
+        private long[] valueBuffer = new long[BATCH_SIZE];
+        // Docs of a stream buffered in docBuffer, not yet added.
+        private int pending;
+        // Created once, so that streams don't allocate a lambda each.
+        private final IntConsumer bufferDoc = this::bufferDoc;
+
+        StatsLeafCollector(NumericDocValues values) {
+            this.values = values;
+        }
+
+        @Override
+        public void collect(int docId) {
+            if (values.advanceExact(docId)) {
+                long value = values.longValue();
+                count++;
+                sum += value;
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+        }
+
+        @Override
+        public void collect(int[] docs, int count) {
+            if (count > valueBuffer.length)
+                valueBuffer = new long[count];
+            add(valueBuffer, values.longValues(docs, count, valueBuffer));
+        }
+
+        @Override
+        public void collect(DocIdStream stream) {
+            if (stream instanceof SkipIntervalDocIdStream interval && interval.field().equals(field)) {
+                count += interval.count();
+                sum += interval.sum();
+                min = Math.min(min, interval.minValue());
+                max = Math.max(max, interval.maxValue());
+                return;
+            }
+
+            pending = 0;
+            stream.forEach(bufferDoc);
+            if (pending > 0)
+                collect(docBuffer, pending);
+        }
+
+        private void bufferDoc(int doc) {
+            docBuffer[pending++] = doc;
+            if (pending == BATCH_SIZE) {
+                collect(docBuffer, BATCH_SIZE);
+                pending = 0;
+            }
+        }
+
+        private void add(long[] batch, int n) {
+            long batchSum = 0, batchMin = min, batchMax = max;
+            for (int i = 0; i < n; i++) {
+                long value = batch[i];
+                batchSum += value;
+                batchMin = Math.min(batchMin, value);
+                batchMax = Math.max(batchMax, value);
+            }
+            count += n;
+            sum += batchSum;
+            min = batchMin;
+            max = batchMax;
+        }
+    }
+
+    /**
+     * Stats per slice, merged into one.
+     */
+    public static CollectorManager<StatsCollector, Stats> createManager(String field) {
+        return new CollectorManager<>() {
+            @Override
+            public StatsCollector newCollector() {
+                return new StatsCollector(field);
+            }
+
+            @Override
+            public Stats reduce(Collection<StatsCollector> collectors) {
+                Stats merged = Stats.EMPTY;
+                for (StatsCollector collector : collectors) {
+                    merged = merged.merge(collector.getStats());
+                }
+                return merged;
+            }
+        };
+    }
+}
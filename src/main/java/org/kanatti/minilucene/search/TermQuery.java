@@ -0,0 +1,76 @@
+package org.kanatti.minilucene.search;
+
+import org.kanatti.minilucene.index.LeafReaderContext;
+import org.kanatti.minilucene.index.PostingsEnum;
+
+/**
+ * Matches docs containing a term in a field.
+ */
+public class TermQuery extends Query {
+    private final String field;
+    private final String term;
+
+    public TermQuery(String field, String term) {
+        this.field = field;
+        this.term = term;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public String getTerm() {
+        return term;
+    }
+
+    @Override
+    public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode) {
+        int docFreq = searcher.getIndexReader().docFreq(field, term);
+        int numDocs = searcher.getIndexReader().maxDoc();
+        return new TermWeight(this, scoreMode, TermScorer.idf(docFreq, numDocs));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!sameClassAs(other))
+            return false;
+        TermQuery that = (TermQuery) other;
+        return field.equals(that.field) && term.equals(that.term);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * classHash() + field.hashCode()) + term.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return field + ":" + term;
+    }
+
+    private static class TermWeight extends Weight {
+        // idf is computed once across all leaves, so scores are comparable between leaves.
+        private final float idf;
+
+        TermWeight(TermQuery query, ScoreMode scoreMode, float idf) {
+            super(query, scoreMode);
+            this.idf = idf;
+        }
+
+        @Override
+        public Scorer scorer(LeafReaderContext context) {
+            TermQuery query = (TermQuery) getQuery();
+            PostingsEnum postings = context.reader().postings(query.field, query.term);
+            if (postings == null)
+                return null;
+            return new TermScorer(postings, idf);
+        }
+
+        @Override
+        public int count(LeafReaderContext context) {
+            // No deletes, so every doc of the postings matches.
+            TermQuery query = (TermQuery) getQuery();
+            return context.reader().docFreq(query.field, query.term);
+        }
+    }
+}
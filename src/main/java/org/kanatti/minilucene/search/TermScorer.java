@@ -0,0 +1,53 @@
+package org.kanatti.minilucene.search;
+
+import org.kanatti.minilucene.index.PostingsEnum;
+
+/**
+ * Scores docs of a term with BM25, minus the length normalization since we don't
+ * have norms yet. So it is just idf * tf / (tf + k1).
+ */
+public class TermScorer extends Scorer {
+    static final float K1 = 1.2f;
+
+    private final PostingsEnum postings;
+    private final float idf;
+
+    public TermScorer(PostingsEnum postings, float idf) {
+        this.postings = postings;
+        this.idf = idf;
+    }
+
+    /**
+     * BM25 idf, rarer terms weigh more.
+     */
+    public static float idf(int docFreq, int numDocs) {
+        return (float) Math.log(1 + (numDocs - docFreq + 0.5) / (docFreq + 0.5));
+    }
+
+    @Override
+    public DocIdSetIterator iterator() {
+        return postings;
+    }
+
+    @Override
+    public float score() {
+        return score(postings.freq());
+    }
+
+    @Override
+    public int advanceShallow(int target) {
+        return postings.advanceShallow(target);
+    }
+
+    /**
+     * Score only grows with freq, so max freq of the blocks gives max score.
+     */
+    @Override
+    public float getMaxScore(int upTo) {
+        return score(postings.maxFreq(upTo));
+    }
+
+    private float score(int freq) {
+        return idf * freq / (freq + K1);
+    }
+}
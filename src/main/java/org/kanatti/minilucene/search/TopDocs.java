@@ -0,0 +1,90 @@
+package org.kanatti.minilucene.search;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Top hits of a search, best first. docs and scores are parallel arrays, and docs are
+ * global doc-ids (docBase + leaf doc).
+ */
+public class TopDocs {
+    private final int totalHits;
+    private final boolean totalHitsExact;
+    private final int[] docs;
+    private final float[] scores;
+
+    public TopDocs(int totalHits, boolean totalHitsExact, int[] docs, float[] scores) {
+        this.totalHits = totalHits;
+        this.totalHitsExact = totalHitsExact;
+        this.docs = docs;
+        this.scores = scores;
+    }
+
+    /**
+     * Number of docs that matched, not just the ones returned.
+     * Only a lower bound if {@link #totalHitsExact()} is false.
+     */
+    public int totalHits() {
+        return totalHits;
+    }
+
+    /**
+     * False if scorers were allowed to skip non-competitive docs, so some matches were never counted.
+     */
+    public boolean totalHitsExact() {
+        return totalHitsExact;
+    }
+
+    public int[] docs() {
+        return docs;
+    }
+
+    public float[] scores() {
+        return scores;
+    }
+
+    public int size() {
+        return docs.length;
+    }
+
+    /**
+     * Merges top hits of several slices into the overall top numHits.
+     */
+    public static TopDocs merge(int numHits, List<TopDocs> shards) {
+        int totalHits = 0;
+        boolean totalHitsExact = true;
+        int size = 0;
+        for (TopDocs shard : shards) {
+            totalHits += shard.totalHits;
+            totalHitsExact &= shard.totalHitsExact;
+            size += shard.size();
+        }
+
+        // Once per search, so keeping it simple: sort positions of all hits.
+        int[] allDocs = new int[size];
+        float[] allScores = new float[size];
+        int upto = 0;
+        for (TopDocs shard : shards) {
+            System.arraycopy(shard.docs, 0, allDocs, upto, shard.size());
+            System.arraycopy(shard.scores, 0, allScores, upto, shard.size());
+            upto += shard.size();
+        }
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> {
+            int cmp = Float.compare(allScores[b], allScores[a]);
+            return cmp != 0 ? cmp : Integer.compare(allDocs[a], allDocs[b]);
+        });
+
+        int n = Math.min(numHits, size);
+        int[] docs = new int[n];
+        float[] scores = new float[n];
+        for (int i = 0; i < n; i++) {
+            docs[i] = allDocs[order[i]];
+            scores[i] = allScores[order[i]];
+        }
+        return new TopDocs(totalHits, totalHitsExact, docs, scores);
+    }
+}
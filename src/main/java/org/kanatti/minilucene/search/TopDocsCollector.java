@@ -0,0 +1,198 @@
+package org.kanatti.minilucene.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.kanatti.minilucene.index.LeafReaderContext;
+
+/**
+ * Collects the top numHits docs by score.
+ *
+ * Same idea as lucene's TopScoreDocCollector on its PriorityQueue (see PriorityQueueExample),
+ * but the heap is two parallel arrays of docs and scores instead of an object per hit,
+ * so collecting doesn't allocate at all.
+ *
+ * Heap is pre-filled with sentinels (score -Infinity), so it is always "full" and
+ * the top (worst hit) is always the bar to beat. A competitive hit just overwrites the
+ * top and sifts it down, the updateTop() pattern. A hit that doesn't beat the top is
+ * dropped right away without touching the heap.
+ *
+ * Once more than totalHitsThreshold docs have been counted, the heap top is also passed on
+ * to the scorer as min competitive score, so that scorers can skip docs (and whole blocks)
+ * that can't make it. Hit count is then only a lower bound.
+ *
+ * Ties on score go to the smaller doc-id. Like {@link TotalHitCountCollector}, not
+ * thread-safe, use {@link #createManager(int)} to search in parallel.
+ */
+public class TopDocsCollector implements Collector {
+    /**
+     * Same default as lucene, counts are exact up to 1000 hits.
+     */
+    public static final int DEFAULT_TOTAL_HITS_THRESHOLD = 1000;
+
+    private final int numHits;
+    private final int totalHitsThreshold;
+    private final int[] heapDocs;
+    private final float[] heapScores;
+    private int totalHits;
+    private boolean pruning;
+
+    public TopDocsCollector(int numHits) {
+        this(numHits, DEFAULT_TOTAL_HITS_THRESHOLD);
+    }
+
+    /**
+     * Pass Integer.MAX_VALUE as totalHitsThreshold to always count every hit.
+     */
+    public TopDocsCollector(int numHits, int totalHitsThreshold) {
+        if (numHits <= 0)
+            throw new IllegalArgumentException("numHits must be > 0");
+        this.numHits = numHits;
+        this.totalHitsThreshold = Math.max(numHits, totalHitsThreshold);
+        this.heapDocs = new int[numHits];
+        this.heapScores = new float[numHits];
+        for (int i = 0; i < numHits; i++) {
+            heapDocs[i] = Integer.MAX_VALUE;
+            heapScores[i] = Float.NEGATIVE_INFINITY;
+        }
+    }
+
+    @Override
+    public ScoreMode scoreMode() {
+        return totalHitsThreshold == Integer.MAX_VALUE ? ScoreMode.COMPLETE : ScoreMode.TOP_SCORES;
+    }
+
+    @Override
+    public LeafCollector getLeafCollector(LeafReaderContext context) {
+        int docBase = context.docBase();
+        return new LeafCollector() {
+            private Scorer scorer;
+
+            @Override
+            public void setScorer(Scorer scorer) {
+                this.scorer = scorer;
+                // Bar from previous leaves holds for this one too.
+                if (pruning)
+                    scorer.setMinCompetitiveScore(heapScores[0]);
+            }
+
+            @Override
+            public void collect(int docId) {
+                totalHits++;
+                if (!pruning && totalHits > totalHitsThreshold) {
+                    pruning = true;
+                    scorer.setMinCompetitiveScore(heapScores[0]);
+                }
+                float score = scorer.score();
+
+                // Minimum competitive score is whatever is on top of the heap.
+                float minCompetitiveScore = heapScores[0];
+                if (score < minCompetitiveScore)
+                    return;
+                int doc = docBase + docId;
+                if (score == minCompetitiveScore && doc > heapDocs[0])
+                    return;
+
+                heapDocs[0] = doc;
+                heapScores[0] = score;
+                updateTop();
+                if (pruning)
+                    scorer.setMinCompetitiveScore(heapScores[0]);
+            }
+        };
+    }
+
+    public int getTotalHits() {
+        return totalHits;
+    }
+
+    /**
+     * Top hits, best first. Empties the heap, so call it once after search is done.
+     */
+    public TopDocs topDocs() {
+        int size = Math.min(totalHits, numHits);
+
+        // Sentinels are worse than any real hit, so they come out first.
+        for (int i = size; i < numHits; i++) {
+            pop(numHits - (i - size));
+        }
+
+        int[] docs = new int[size];
+        float[] scores = new float[size];
+        for (int i = size - 1; i >= 0; i--) {
+            docs[i] = heapDocs[0];
+            scores[i] = heapScores[0];
+            pop(i + 1);
+        }
+        return new TopDocs(totalHits, !pruning, docs, scores);
+    }
+
+    public static CollectorManager<TopDocsCollector, TopDocs> createManager(int numHits) {
+        return createManager(numHits, DEFAULT_TOTAL_HITS_THRESHOLD);
+    }
+
+    public static CollectorManager<TopDocsCollector, TopDocs> createManager(int numHits, int totalHitsThreshold) {
+        return new CollectorManager<>() {
+            @Override
+            public TopDocsCollector newCollector() {
+                return new TopDocsCollector(numHits, totalHitsThreshold);
+            }
+
+            @Override
+            public TopDocs reduce(Collection<TopDocsCollector> collectors) {
+                List<TopDocs> shards = new ArrayList<>(collectors.size());
+                for (TopDocsCollector collector : collectors) {
+                    shards.add(collector.topDocs());
+                }
+                return TopDocs.merge(numHits, shards);
+            }
+        };
+    }
+
+    /**
+     * Whether hit i is worse than hit j.
+     */
+    private boolean lessThan(int i, int j) {
+        float si = heapScores[i], sj = heapScores[j];
+        return si < sj || (si == sj && heapDocs[i] > heapDocs[j]);
+    }
+
+    /**
+     * Top was replaced, move it down to where it belongs.
+     */
+    private void updateTop() {
+        siftDown(0, numHits);
+    }
+
+    /**
+     * Removes the top from a heap of given size, by moving the last one up.
+     */
+    private void pop(int size) {
+        heapDocs[0] = heapDocs[size - 1];
+        heapScores[0] = heapScores[size - 1];
+        siftDown(0, size - 1);
+    }
+
+    private void siftDown(int i, int size) {
+        int doc = heapDocs[i];
+        float score = heapScores[i];
+
+        int child = 2 * i + 1;
+        while (child < size) {
+            if (child + 1 < size && lessThan(child + 1, child))
+                child++;
+            // Stop once the node is no worse than the worse child.
+            float cs = heapScores[child];
+            if (score < cs || (score == cs && doc > heapDocs[child]))
+                break;
+            heapDocs[i] = heapDocs[child];
+            heapScores[i] = cs;
+            i = child;
+            child = 2 * i + 1;
+        }
+
+        heapDocs[i] = doc;
+        heapScores[i] = score;
+    }
+}
@@ -0,0 +1,217 @@
+package org.kanatti.minilucene.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.kanatti.minilucene.index.LeafReader;
+import org.kanatti.minilucene.index.LeafReaderContext;
+import org.kanatti.minilucene.index.NumericDocValues;
+
+/**
+ * Collects the top numHits docs by a {@link Sort} instead of by score.
+ *
+ * Same heap as {@link TopDocsCollector}, docs in one array and their sort values in
+ * another, numFields longs per slot. The top is the worst hit, and a doc has to beat it to
+ * get in. Ties go to the smaller doc-id.
+ *
+ * Early termination: when a leaf's index sort starts with this sort (see
+ * IndexWriterConfig#setIndexSort), docs come in sort order, so once a doc of the leaf
+ * doesn't make it into a full heap, none of the docs after it can. The rest of the leaf is
+ * then only counted, and as soon as more than totalHitsThreshold hits were counted,
+ * collection of the leaf stops with {@link CollectionTerminatedException}. Hit count is
+ * then only a lower bound. On a leaf sorted by timestamp desc, "latest 10" reads values
+ * of the first 10 docs and counts totalHitsThreshold docs, whatever the leaf's size.
+ *
+ * Not thread-safe, use {@link #createManager(Sort, int)} to search in parallel.
+ */
+public class TopFieldCollector implements Collector {
+    private final Sort sort;
+    private final int numFields;
+    private final long[] missingValues;
+    private final int numHits;
+    private final int totalHitsThreshold;
+    private final int[] heapDocs;
+    // Values of slot i at [i * numFields, (i + 1) * numFields), plus a slot for the doc being collected.
+    private final long[] heapValues;
+    private int size;
+    private int totalHits;
+    private boolean terminated;
+
+    public TopFieldCollector(Sort sort, int numHits) {
+        this(sort, numHits, TopDocsCollector.DEFAULT_TOTAL_HITS_THRESHOLD);
+    }
+
+    /**
+     * Pass Integer.MAX_VALUE as totalHitsThreshold to always count every hit.
+     */
+    public TopFieldCollector(Sort sort, int numHits, int totalHitsThreshold) {
+        if (numHits <= 0)
+            throw new IllegalArgumentException("numHits must be > 0");
+        this.sort = sort;
+        this.numFields = sort.fields().size();
+        this.missingValues = new long[numFields];
+        for (int i = 0; i < numFields; i++) {
+            missingValues[i] = sort.fields().get(i).missingValue();
+        }
+        this.numHits = numHits;
+        this.totalHitsThreshold = Math.max(numHits, totalHitsThreshold);
+        this.heapDocs = new int[numHits];
+        this.heapValues = new long[(numHits + 1) * numFields];
+    }
+
+    @Override
+    public ScoreMode scoreMode() {
+        return ScoreMode.COMPLETE_NO_SCORES;
+    }
+
+    @Override
+    public LeafCollector getLeafCollector(LeafReaderContext context) {
+        int docBase = context.docBase();
+        LeafReader reader = context.reader();
+        NumericDocValues[] values = new NumericDocValues[numFields];
+        for (int i = 0; i < numFields; i++) {
+            values[i] = reader.getNumericDocValues(sort.fields().get(i).field());
+        }
+        boolean leafSorted = sort.isPrefixOf(reader.getIndexSort());
+        int current = numHits * numFields;
+
+        return new LeafCollector() {
+            // Set on a sorted leaf once a doc didn't make it, the following ones can't either.
+            private boolean nonCompetitive;
+
+            @Override
+            public void collect(int docId) {
+                totalHits++;
+                if (nonCompetitive) {
+                    checkTerminate();
+                    return;
+                }
+
+                for (int i = 0; i < numFields; i++) {
+                    NumericDocValues fieldValues = values[i];
+                    heapValues[current + i] = fieldValues != null && fieldValues.advanceExact(docId)
+                        ? fieldValues.longValue() : missingValues[i];
+                }
+                int doc = docBase + docId;
+
+                if (size < numHits) {
+                    heapDocs[size] = doc;
+                    System.arraycopy(heapValues, current, heapValues, size * numFields, numFields);
+                    siftUp(size++);
+                    return;
+                }
+
+                int cmp = sort.compare(heapValues, current, heapValues, 0);
+                if (cmp > 0 || (cmp == 0 && doc > heapDocs[0])) {
+                    if (leafSorted) {
+                        nonCompetitive = true;
+                        checkTerminate();
+                    }
+                    return;
+                }
+                heapDocs[0] = doc;
+                System.arraycopy(heapValues, current, heapValues, 0, numFields);
+                siftDown(0, size);
+            }
+
+            private void checkTerminate() {
+                if (totalHits > totalHitsThreshold) {
+                    terminated = true;
+                    throw new CollectionTerminatedException();
+                }
+            }
+        };
+    }
+
+    public int getTotalHits() {
+        return totalHits;
+    }
+
+    /**
+     * Top hits, best first. Empties the heap, so call it once after search is done.
+     */
+    public TopFieldDocs topDocs() {
+        int n = size;
+        int[] docs = new int[n];
+        long[][] sortValues = new long[n][];
+        for (int i = n - 1; i >= 0; i--) {
+            docs[i] = heapDocs[0];
+            sortValues[i] = new long[numFields];
+            System.arraycopy(heapValues, 0, sortValues[i], 0, numFields);
+            pop();
+        }
+        return new TopFieldDocs(totalHits, !terminated, docs, sortValues, sort);
+    }
+
+    public static CollectorManager<TopFieldCollector, TopFieldDocs> createManager(Sort sort, int numHits) {
+        return createManager(sort, numHits, TopDocsCollector.DEFAULT_TOTAL_HITS_THRESHOLD);
+    }
+
+    public static CollectorManager<TopFieldCollector, TopFieldDocs> createManager(Sort sort, int numHits,
+            int totalHitsThreshold) {
+        return new CollectorManager<>() {
+            @Override
+            public TopFieldCollector newCollector() {
+                return new TopFieldCollector(sort, numHits, totalHitsThreshold);
+            }
+
+            @Override
+            public TopFieldDocs reduce(Collection<TopFieldCollector> collectors) {
+                List<TopFieldDocs> shards = new ArrayList<>(collectors.size());
+                for (TopFieldCollector collector : collectors) {
+                    shards.add(collector.topDocs());
+                }
+                return TopFieldDocs.merge(sort, numHits, shards);
+            }
+        };
+    }
+
+    /**
+     * Whether hit i is worse than hit j.
+     */
+    private boolean lessThan(int i, int j) {
+        int cmp = sort.compare(heapValues, i * numFields, heapValues, j * numFields);
+        return cmp > 0 || (cmp == 0 && heapDocs[i] > heapDocs[j]);
+    }
+
+    private void pop() {
+        size--;
+        swap(0, size);
+        siftDown(0, size);
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!lessThan(i, parent))
+                break;
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i, int size) {
+        int child = 2 * i + 1;
+        while (child < size) {
+            if (child + 1 < size && lessThan(child + 1, child))
+                child++;
+            if (!lessThan(child, i))
+                break;
+            swap(i, child);
+            i = child;
+            child = 2 * i + 1;
+        }
+    }
+
+    private void swap(int i, int j) {
+        int doc = heapDocs[i];
+        heapDocs[i] = heapDocs[j];
+        heapDocs[j] = doc;
+        for (int k = 0, a = i * numFields, b = j * numFields; k < numFields; k++) {
+            long value = heapValues[a + k];
+            heapValues[a + k] = heapValues[b + k];
+            heapValues[b + k] = value;
+        }
+    }
+}
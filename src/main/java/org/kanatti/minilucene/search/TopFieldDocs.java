@@ -0,0 +1,77 @@
+package org.kanatti.minilucene.search;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Top hits by a {@link Sort}, see {@link TopFieldCollector}. Docs aren't scored, so
+ * scores are all NaN, sortValues()[i] has the values hit i was sorted by instead.
+ */
+public class TopFieldDocs extends TopDocs {
+    private final long[][] sortValues;
+    private final Sort sort;
+
+    public TopFieldDocs(int totalHits, boolean totalHitsExact, int[] docs, long[][] sortValues, Sort sort) {
+        super(totalHits, totalHitsExact, docs, nanScores(docs.length));
+        this.sortValues = sortValues;
+        this.sort = sort;
+    }
+
+    /**
+     * Values of every sort field for each hit, missing ones as {@link SortField#missingValue()}.
+     */
+    public long[][] sortValues() {
+        return sortValues;
+    }
+
+    public Sort sort() {
+        return sort;
+    }
+
+    /**
+     * Merges top hits of several slices into the overall top numHits, like
+     * {@link TopDocs#merge} but by sort values.
+     */
+    public static TopFieldDocs merge(Sort sort, int numHits, List<TopFieldDocs> shards) {
+        int totalHits = 0;
+        boolean totalHitsExact = true;
+        int size = 0;
+        for (TopFieldDocs shard : shards) {
+            totalHits += shard.totalHits();
+            totalHitsExact &= shard.totalHitsExact();
+            size += shard.size();
+        }
+
+        int[] allDocs = new int[size];
+        long[][] allValues = new long[size][];
+        int upto = 0;
+        for (TopFieldDocs shard : shards) {
+            System.arraycopy(shard.docs(), 0, allDocs, upto, shard.size());
+            System.arraycopy(shard.sortValues, 0, allValues, upto, shard.size());
+            upto += shard.size();
+        }
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> {
+            int cmp = sort.compare(allValues[a], 0, allValues[b], 0);
+            return cmp != 0 ? cmp : Integer.compare(allDocs[a], allDocs[b]);
+        });
+
+        int n = Math.min(numHits, size);
+        int[] docs = new int[n];
+        long[][] sortValues = new long[n][];
+        for (int i = 0; i < n; i++) {
+            docs[i] = allDocs[order[i]];
+            sortValues[i] = allValues[order[i]];
+        }
+        return new TopFieldDocs(totalHits, totalHitsExact, docs, sortValues, sort);
+    }
+
+    private static float[] nanScores(int n) {
+        float[] scores = new float[n];
+        Arrays.fill(scores, Float.NaN);
+        return scores;
+    }
+}
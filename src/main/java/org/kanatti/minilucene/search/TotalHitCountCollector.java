@@ -1,12 +1,19 @@
 package org.kanatti.minilucene.search;
 
+import org.kanatti.minilucene.index.LeafReaderContext;
+
 /**
  * Counts how many documents matched.
+ *
+ * Bulk scorers push docs in blocks or as {@link DocIdStream}s, which are counted without
+ * looking at the docs, like a YES interval of {@link DocValuesRangeQuery} taking one
+ * add of its doc count. {@link IndexSearcher#count(Query)} doesn't even get here for
+ * leaves whose count {@link Weight#count} knows.
  */
 public class TotalHitCountCollector implements Collector {
     // Shared across leafs and not thread-safe.
     // So a single collector is always used within a thread.
-    // Seems CollectorManager lets you parallelize, something to check.
+    // To count in parallel, use TotalHitCountCollectorManager, which gives each slice its own.
     private int totalHits;
 
     public int getTotalHits() {
@@ -14,12 +21,29 @@ public class TotalHitCountCollector implements Collector {
     }
 
     @Override
-    public LeafCollector getLeafCollector() {
+    public ScoreMode scoreMode() {
+        return ScoreMode.COMPLETE_NO_SCORES;
+    }
+
+    @Override
+    public LeafCollector getLeafCollector(LeafReaderContext context) {
         return new LeafCollector() {
             @Override
             public void collect(int docId) {
                 totalHits++;
             }
+
+            // Docs themselves don't matter, only how many.
+
+            @Override
+            public void collect(int[] docs, int count) {
+                totalHits += count;
+            }
+
+            @Override
+            public void collect(DocIdStream stream) {
+                totalHits += stream.count();
+            }
         };
     }
 }
@@ -0,0 +1,23 @@
+package org.kanatti.minilucene.search;
+
+import java.util.Collection;
+
+/**
+ * Counts hits per slice with a {@link TotalHitCountCollector} each, then sums them up.
+ */
+public class TotalHitCountCollectorManager implements CollectorManager<TotalHitCountCollector, Integer> {
+
+    @Override
+    public TotalHitCountCollector newCollector() {
+        return new TotalHitCountCollector();
+    }
+
+    @Override
+    public Integer reduce(Collection<TotalHitCountCollector> collectors) {
+        int totalHits = 0;
+        for (TotalHitCountCollector collector : collectors) {
+            totalHits += collector.getTotalHits();
+        }
+        return totalHits;
+    }
+}
@@ -0,0 +1,62 @@
+package org.kanatti.minilucene.search;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Caches queries that were used at least minFrequency times among the last HISTORY_SIZE
+ * uses, like lucene's policy of the same name. A query run once would only pay for
+ * building its set, while a filter that keeps coming back pays once and is then read
+ * from memory.
+ *
+ * Term and match-all queries are never cached, iterating them is about as cheap as
+ * iterating a cached set.
+ */
+public class UsageTrackingQueryCachingPolicy implements QueryCachingPolicy {
+    static final int HISTORY_SIZE = 256;
+    public static final int DEFAULT_MIN_FREQUENCY = 5;
+
+    private final int minFrequency;
+    // Ring buffer of recent uses, and how often each query appears in it.
+    private final Query[] history = new Query[HISTORY_SIZE];
+    private final Map<Query, Integer> frequencies = new HashMap<>();
+    private int next;
+
+    public UsageTrackingQueryCachingPolicy() {
+        this(DEFAULT_MIN_FREQUENCY);
+    }
+
+    public UsageTrackingQueryCachingPolicy(int minFrequency) {
+        if (minFrequency < 1 || minFrequency > HISTORY_SIZE)
+            throw new IllegalArgumentException("minFrequency must be in [1, " + HISTORY_SIZE + "]: " + minFrequency);
+        this.minFrequency = minFrequency;
+    }
+
+    @Override
+    public synchronized void onUse(Query query) {
+        if (isCheap(query))
+            return;
+        Query evicted = history[next];
+        if (evicted != null)
+            frequencies.computeIfPresent(evicted, (q, frequency) -> frequency == 1 ? null : frequency - 1);
+        history[next] = query;
+        frequencies.merge(query, 1, Integer::sum);
+        next = (next + 1) % HISTORY_SIZE;
+    }
+
+    @Override
+    public synchronized boolean shouldCache(Query query) {
+        return !isCheap(query) && frequency(query) >= minFrequency;
+    }
+
+    /**
+     * Number of times query was used among recent uses.
+     */
+    synchronized int frequency(Query query) {
+        return frequencies.getOrDefault(query, 0);
+    }
+
+    private static boolean isCheap(Query query) {
+        return query instanceof TermQuery || query instanceof MatchAllDocsQuery;
+    }
+}
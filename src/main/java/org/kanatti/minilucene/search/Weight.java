@@ -1,5 +1,50 @@
 package org.kanatti.minilucene.search;
 
-public class Weight {
-    
+import org.kanatti.minilucene.index.LeafReaderContext;
+
+/**
+ * A {@link Query} prepared for a searcher. Anything computed once per search, like
+ * term statistics across leaves, lives here. Then a {@link Scorer} is created per leaf.
+ */
+public abstract class Weight {
+    private final Query query;
+    private final ScoreMode scoreMode;
+
+    protected Weight(Query query, ScoreMode scoreMode) {
+        this.query = query;
+        this.scoreMode = scoreMode;
+    }
+
+    public Query getQuery() {
+        return query;
+    }
+
+    public ScoreMode getScoreMode() {
+        return scoreMode;
+    }
+
+    /**
+     * Scorer for the leaf, or null if nothing in the leaf can match.
+     */
+    public abstract Scorer scorer(LeafReaderContext context);
+
+    /**
+     * Number of docs of the leaf that match, if the query can tell without iterating
+     * them, like from index stats. -1 otherwise.
+     */
+    public int count(LeafReaderContext context) {
+        return -1;
+    }
+
+    /**
+     * Bulk scorer for the leaf, or null if nothing in the leaf can match.
+     * This is what {@link IndexSearcher} uses. Override it if the query can push docs
+     * in bulk better than going through its scorer.
+     */
+    public BulkScorer bulkScorer(LeafReaderContext context) {
+        Scorer scorer = scorer(context);
+        if (scorer == null)
+            return null;
+        return new DefaultBulkScorer(scorer, scoreMode);
+    }
 }
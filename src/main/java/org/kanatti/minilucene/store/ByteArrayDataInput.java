@@ -0,0 +1,84 @@
+package org.kanatti.minilucene.store;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+import org.kanatti.minilucene.util.GroupVarintUtil;
+
+/**
+ * {@link DataInput} over a byte array.
+ */
+public class ByteArrayDataInput extends DataInput {
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final byte[] bytes;
+    private final int end;
+    private int pos;
+
+    public ByteArrayDataInput(byte[] bytes) {
+        this(bytes, 0, bytes.length);
+    }
+
+    public ByteArrayDataInput(byte[] bytes, int offset, int len) {
+        this.bytes = bytes;
+        this.pos = offset;
+        this.end = offset + len;
+    }
+
+    @Override
+    public byte readByte() {
+        if (pos >= end)
+            throw new IllegalStateException("Read past end");
+        return bytes[pos++];
+    }
+
+    @Override
+    public void readBytes(byte[] dst, int offset, int len) {
+        checkAvailable(len);
+        System.arraycopy(bytes, pos, dst, offset, len);
+        pos += len;
+    }
+
+    @Override
+    public void readLongs(long[] longs, int offset, int len) {
+        checkAvailable((long) len * Long.BYTES);
+        for (int i = 0; i < len; i++) {
+            longs[offset + i] = (long) LONGS.get(bytes, pos);
+            pos += Long.BYTES;
+        }
+    }
+
+    @Override
+    public int readGroupVarints(int[] values, int offset, int len) {
+        int i = 0;
+        // Group loads read up to MAX_GROUP_BYTES from its start, stop when that could go past the end.
+        for (; i < len && pos + GroupVarintUtil.MAX_GROUP_BYTES <= end; i += 4) {
+            pos = GroupVarintUtil.decodeGroup(bytes, pos, values, offset + i);
+        }
+        return i;
+    }
+
+    @Override
+    public void skipBytes(long numBytes) {
+        checkAvailable(numBytes);
+        pos += (int) numBytes;
+    }
+
+    private void checkAvailable(long len) {
+        if (pos + len > end)
+            throw new IllegalStateException("Read past end");
+    }
+
+    public int getPosition() {
+        return pos;
+    }
+
+    public void setPosition(int pos) {
+        this.pos = pos;
+    }
+
+    public boolean eof() {
+        return pos == end;
+    }
+}
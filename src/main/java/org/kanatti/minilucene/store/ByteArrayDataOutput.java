@@ -0,0 +1,70 @@
+package org.kanatti.minilucene.store;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * {@link DataOutput} into a growing byte array.
+ */
+public class ByteArrayDataOutput extends DataOutput {
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private byte[] bytes;
+    private int size;
+
+    public ByteArrayDataOutput() {
+        this(64);
+    }
+
+    public ByteArrayDataOutput(int initialCapacity) {
+        this.bytes = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    @Override
+    public void writeByte(byte b) {
+        ensureCapacity(1);
+        bytes[size++] = b;
+    }
+
+    @Override
+    public void writeBytes(byte[] src, int offset, int len) {
+        ensureCapacity(len);
+        System.arraycopy(src, offset, bytes, size, len);
+        size += len;
+    }
+
+    @Override
+    public void writeLongs(long[] longs, int offset, int len) {
+        ensureCapacity(len * Long.BYTES);
+        for (int i = 0; i < len; i++) {
+            LONGS.set(bytes, size, longs[offset + i]);
+            size += Long.BYTES;
+        }
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > bytes.length)
+            bytes = Arrays.copyOf(bytes, Math.max(size + extra, bytes.length << 1));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void reset() {
+        size = 0;
+    }
+
+    /**
+     * Copies what was written so far to out, without an intermediate array.
+     */
+    public void writeTo(DataOutput out) {
+        out.writeBytes(bytes, 0, size);
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(bytes, size);
+    }
+}
@@ -0,0 +1,81 @@
+package org.kanatti.minilucene.store;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Sequential reader of what a {@link DataOutput} wrote.
+ */
+public abstract class DataInput {
+
+    public abstract byte readByte();
+
+    public void readBytes(byte[] bytes, int offset, int len) {
+        for (int i = 0; i < len; i++) {
+            bytes[offset + i] = readByte();
+        }
+    }
+
+    public int readInt() {
+        return (readByte() & 0xFF)
+                | (readByte() & 0xFF) << 8
+                | (readByte() & 0xFF) << 16
+                | (readByte() & 0xFF) << 24;
+    }
+
+    public long readLong() {
+        return (readInt() & 0xFFFFFFFFL) | ((long) readInt() << 32);
+    }
+
+    /**
+     * Bulk read, implementations backed by memory override this to copy whole blocks.
+     */
+    public void readLongs(long[] longs, int offset, int len) {
+        for (int i = 0; i < len; i++) {
+            longs[offset + i] = readLong();
+        }
+    }
+
+    /**
+     * Decodes groups of {@link org.kanatti.minilucene.compression.GroupVarint} straight out
+     * of the underlying memory, up to len values (a multiple of 4), and returns how many it
+     * decoded. The rest is left for the codec to read group by group. Inputs backed by
+     * memory override this, the default decodes nothing.
+     */
+    public int readGroupVarints(int[] values, int offset, int len) {
+        return 0;
+    }
+
+    public int readVInt() {
+        int i = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = readByte();
+            i |= (b & 0x7F) << shift;
+            if (b >= 0)
+                return i;
+        }
+        throw new IllegalStateException("Invalid vInt");
+    }
+
+    public long readVLong() {
+        long l = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = readByte();
+            l |= (b & 0x7FL) << shift;
+            if (b >= 0)
+                return l;
+        }
+        throw new IllegalStateException("Invalid vLong");
+    }
+
+    public String readString() {
+        byte[] bytes = new byte[readVInt()];
+        readBytes(bytes, 0, bytes.length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public void skipBytes(long numBytes) {
+        for (long i = 0; i < numBytes; i++) {
+            readByte();
+        }
+    }
+}
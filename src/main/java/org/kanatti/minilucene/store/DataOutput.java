@@ -0,0 +1,67 @@
+package org.kanatti.minilucene.store;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Sequential writer of primitives. Everything is little-endian, so that blocks of longs can
+ * be read back with plain loads on the platforms we care about.
+ */
+public abstract class DataOutput {
+
+    public abstract void writeByte(byte b);
+
+    public void writeBytes(byte[] bytes, int offset, int len) {
+        for (int i = 0; i < len; i++) {
+            writeByte(bytes[offset + i]);
+        }
+    }
+
+    public void writeInt(int i) {
+        writeByte((byte) i);
+        writeByte((byte) (i >>> 8));
+        writeByte((byte) (i >>> 16));
+        writeByte((byte) (i >>> 24));
+    }
+
+    public void writeLong(long l) {
+        writeInt((int) l);
+        writeInt((int) (l >>> 32));
+    }
+
+    public void writeLongs(long[] longs, int offset, int len) {
+        for (int i = 0; i < len; i++) {
+            writeLong(longs[offset + i]);
+        }
+    }
+
+    /**
+     * 7 bits per byte, high bit set on all but the last one. Small values take a single byte.
+     * Negative values always take 5 bytes.
+     */
+    public void writeVInt(int i) {
+        while ((i & ~0x7F) != 0) {
+            writeByte((byte) ((i & 0x7F) | 0x80));
+            i >>>= 7;
+        }
+        writeByte((byte) i);
+    }
+
+    /**
+     * UTF-8 bytes behind a vInt length.
+     */
+    public void writeString(String s) {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        writeVInt(bytes.length);
+        writeBytes(bytes, 0, bytes.length);
+    }
+
+    public void writeVLong(long l) {
+        if (l < 0)
+            throw new IllegalArgumentException("Can't write negative vLong: " + l);
+        while ((l & ~0x7FL) != 0) {
+            writeByte((byte) ((l & 0x7F) | 0x80));
+            l >>>= 7;
+        }
+        writeByte((byte) l);
+    }
+}
@@ -0,0 +1,38 @@
+package org.kanatti.minilucene.store;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Flat list of files that make up an index. Files are write-once: created, written
+ * sequentially, closed, and only ever read after that.
+ */
+public abstract class Directory implements Closeable {
+
+    public abstract String[] listAll() throws IOException;
+
+    public abstract boolean fileExists(String name) throws IOException;
+
+    /**
+     * Creates a new file, fails if it already exists.
+     */
+    public abstract IndexOutput createOutput(String name) throws IOException;
+
+    public abstract IndexInput openInput(String name) throws IOException;
+
+    public abstract void deleteFile(String name) throws IOException;
+
+    /**
+     * Atomically renames, replacing dest if it exists. This is how commits become visible.
+     */
+    public abstract void rename(String source, String dest) throws IOException;
+
+    /**
+     * Makes sure the files are on stable storage.
+     */
+    public abstract void sync(Collection<String> names) throws IOException;
+
+    @Override
+    public void close() throws IOException {}
+}
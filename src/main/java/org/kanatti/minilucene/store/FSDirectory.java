@@ -0,0 +1,230 @@
+package org.kanatti.minilucene.store;
+
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.stream.Stream;
+
+/**
+ * {@link Directory} on a file system directory. Inputs do positional reads on a
+ * FileChannel through a small buffer, so clones don't interfere with each other.
+ */
+public class FSDirectory extends Directory {
+    static final int BUFFER_SIZE = 8192;
+
+    private final Path path;
+
+    public FSDirectory(Path path) throws IOException {
+        this.path = Files.createDirectories(path);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    public String[] listAll() throws IOException {
+        try (Stream<Path> files = Files.list(path)) {
+            return files.map(p -> p.getFileName().toString()).sorted().toArray(String[]::new);
+        }
+    }
+
+    @Override
+    public boolean fileExists(String name) {
+        return Files.exists(path.resolve(name));
+    }
+
+    @Override
+    public IndexOutput createOutput(String name) throws IOException {
+        OutputStream os = Files.newOutputStream(path.resolve(name), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        return new FSIndexOutput(new BufferedOutputStream(os, BUFFER_SIZE));
+    }
+
+    @Override
+    public IndexInput openInput(String name) throws IOException {
+        FileChannel channel = FileChannel.open(path.resolve(name), StandardOpenOption.READ);
+        return new FSIndexInput(channel, channel.size());
+    }
+
+    @Override
+    public void deleteFile(String name) throws IOException {
+        Files.delete(path.resolve(name));
+    }
+
+    @Override
+    public void rename(String source, String dest) throws IOException {
+        Files.move(path.resolve(source), path.resolve(dest), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public void sync(Collection<String> names) throws IOException {
+        for (String name : names) {
+            try (FileChannel channel = FileChannel.open(path.resolve(name), StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+        }
+    }
+
+    private static class FSIndexOutput extends IndexOutput {
+        private final OutputStream os;
+        private long pos;
+
+        FSIndexOutput(OutputStream os) {
+            this.os = os;
+        }
+
+        @Override
+        public void writeByte(byte b) {
+            try {
+                os.write(b);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            pos++;
+        }
+
+        @Override
+        public void writeBytes(byte[] bytes, int offset, int len) {
+            try {
+                os.write(bytes, offset, len);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            pos += len;
+        }
+
+        @Override
+        public long getFilePointer() {
+            return pos;
+        }
+
+        @Override
+        public void close() throws IOException {
+            os.close();
+        }
+    }
+
+    private static class FSIndexInput extends IndexInput {
+        private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+        private final FileChannel channel;
+        private final long length;
+        private boolean isClone;
+
+        private byte[] buffer = new byte[BUFFER_SIZE];
+        // File position of buffer[0], and what's valid in buffer.
+        private long bufferStart;
+        private int bufferLen;
+        private int bufferPos;
+
+        FSIndexInput(FileChannel channel, long length) {
+            this.channel = channel;
+            this.length = length;
+        }
+
+        @Override
+        public byte readByte() {
+            if (bufferPos == bufferLen)
+                refill();
+            return buffer[bufferPos++];
+        }
+
+        @Override
+        public void readBytes(byte[] bytes, int offset, int len) {
+            while (len > 0) {
+                if (bufferPos == bufferLen)
+                    refill();
+                int n = Math.min(len, bufferLen - bufferPos);
+                System.arraycopy(buffer, bufferPos, bytes, offset, n);
+                bufferPos += n;
+                offset += n;
+                len -= n;
+            }
+        }
+
+        @Override
+        public void readLongs(long[] longs, int offset, int len) {
+            for (int i = 0; i < len; i++) {
+                if (bufferLen - bufferPos >= Long.BYTES) {
+                    longs[offset + i] = (long) LONGS.get(buffer, bufferPos);
+                    bufferPos += Long.BYTES;
+                } else {
+                    longs[offset + i] = readLong();
+                }
+            }
+        }
+
+        private void refill() {
+            bufferStart += bufferPos;
+            bufferPos = 0;
+            bufferLen = (int) Math.min(BUFFER_SIZE, length - bufferStart);
+            if (bufferLen <= 0) {
+                bufferLen = 0;
+                throw new UncheckedIOException(new EOFException("Read past EOF"));
+            }
+
+            ByteBuffer bb = ByteBuffer.wrap(buffer, 0, bufferLen);
+            try {
+                while (bb.hasRemaining()) {
+                    if (channel.read(bb, bufferStart + bb.position()) < 0)
+                        throw new EOFException("Read past EOF");
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public long getFilePointer() {
+            return bufferStart + bufferPos;
+        }
+
+        @Override
+        public void seek(long pos) {
+            if (pos < 0 || pos > length)
+                throw new IllegalArgumentException("Seek to " + pos + " out of [0, " + length + "]");
+            if (pos >= bufferStart && pos <= bufferStart + bufferLen) {
+                bufferPos = (int) (pos - bufferStart);
+            } else {
+                // Next read refills from here.
+                bufferStart = pos;
+                bufferLen = 0;
+                bufferPos = 0;
+            }
+        }
+
+        @Override
+        public long length() {
+            return length;
+        }
+
+        @Override
+        public FSIndexInput clone() {
+            FSIndexInput clone = (FSIndexInput) super.clone();
+            clone.isClone = true;
+            clone.buffer = new byte[BUFFER_SIZE];
+            clone.bufferStart = getFilePointer();
+            clone.bufferLen = 0;
+            clone.bufferPos = 0;
+            return clone;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!isClone)
+                channel.close();
+        }
+    }
+}
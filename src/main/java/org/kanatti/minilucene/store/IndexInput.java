@@ -0,0 +1,40 @@
+package org.kanatti.minilucene.store;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Random access {@link DataInput} over a file of a {@link Directory}.
+ *
+ * Reads don't throw IOException, as they happen deep inside postings iteration, so
+ * implementations wrap IO failures in UncheckedIOException.
+ *
+ * Clones share the underlying file but have their own position, that's how every postings
+ * enum gets to read independently. Only the original should be closed, clones become
+ * unusable once it is.
+ */
+public abstract class IndexInput extends DataInput implements Closeable, Cloneable {
+
+    public abstract long getFilePointer();
+
+    public abstract void seek(long pos);
+
+    public abstract long length();
+
+    @Override
+    public void skipBytes(long numBytes) {
+        seek(getFilePointer() + numBytes);
+    }
+
+    @Override
+    public IndexInput clone() {
+        try {
+            return (IndexInput) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    @Override
+    public abstract void close() throws IOException;
+}
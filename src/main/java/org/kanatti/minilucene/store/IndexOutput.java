@@ -0,0 +1,19 @@
+package org.kanatti.minilucene.store;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Sequential {@link DataOutput} into a new file of a {@link Directory}.
+ * Like {@link IndexInput}, writes wrap IO failures in UncheckedIOException.
+ */
+public abstract class IndexOutput extends DataOutput implements Closeable {
+
+    /**
+     * Number of bytes written so far.
+     */
+    public abstract long getFilePointer();
+
+    @Override
+    public abstract void close() throws IOException;
+}
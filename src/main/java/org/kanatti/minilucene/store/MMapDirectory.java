@@ -0,0 +1,41 @@
+package org.kanatti.minilucene.store;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@link FSDirectory} whose inputs memory-map their file, through the foreign memory API.
+ *
+ * Reads go straight to the mapped pages, so the OS page cache is the only copy of the
+ * index, which can be way bigger than heap. Opening a file costs nothing but the mapping,
+ * pages only get loaded as they are touched.
+ *
+ * Every file gets its own shared Arena, closed (unmapped) when the input is closed. Clones
+ * must not be used after that, they'd fail with IllegalStateException instead of crashing
+ * the JVM, that's what the arena is for.
+ */
+public class MMapDirectory extends FSDirectory {
+
+    public MMapDirectory(Path path) throws IOException {
+        super(path);
+    }
+
+    @Override
+    public IndexInput openInput(String name) throws IOException {
+        try (FileChannel channel = FileChannel.open(getPath().resolve(name), StandardOpenOption.READ)) {
+            // Shared, as inputs get cloned into search threads.
+            Arena arena = Arena.ofShared();
+            try {
+                MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+                return new MemorySegmentIndexInput(name, segment, arena);
+            } catch (IOException | RuntimeException e) {
+                arena.close();
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package org.kanatti.minilucene.store;
+
+import java.io.EOFException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+
+import org.kanatti.minilucene.util.GroupVarintUtil;
+
+/**
+ * {@link IndexInput} over a {@link MemorySegment}, usually a mapped file, see
+ * {@link MMapDirectory}. Primitives are read in place from the segment, and bulk reads
+ * copy straight into the destination array.
+ */
+public class MemorySegmentIndexInput extends IndexInput {
+    static final ValueLayout.OfInt INT_LE = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    static final ValueLayout.OfLong LONG_LE = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private final String name;
+    private final MemorySegment segment;
+    // Null for clones, only the original owns the mapping.
+    private final Arena arena;
+    private long pos;
+
+    MemorySegmentIndexInput(String name, MemorySegment segment, Arena arena) {
+        this.name = name;
+        this.segment = segment;
+        this.arena = arena;
+    }
+
+    @Override
+    public byte readByte() {
+        try {
+            return segment.get(ValueLayout.JAVA_BYTE, pos++);
+        } catch (IndexOutOfBoundsException e) {
+            pos--;
+            throw eof(e);
+        }
+    }
+
+    @Override
+    public void readBytes(byte[] bytes, int offset, int len) {
+        try {
+            MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, pos, bytes, offset, len);
+        } catch (IndexOutOfBoundsException e) {
+            throw eof(e);
+        }
+        pos += len;
+    }
+
+    @Override
+    public int readInt() {
+        try {
+            int i = segment.get(INT_LE, pos);
+            pos += Integer.BYTES;
+            return i;
+        } catch (IndexOutOfBoundsException e) {
+            throw eof(e);
+        }
+    }
+
+    @Override
+    public long readLong() {
+        try {
+            long l = segment.get(LONG_LE, pos);
+            pos += Long.BYTES;
+            return l;
+        } catch (IndexOutOfBoundsException e) {
+            throw eof(e);
+        }
+    }
+
+    @Override
+    public void readLongs(long[] longs, int offset, int len) {
+        try {
+            MemorySegment.copy(segment, LONG_LE, pos, longs, offset, len);
+        } catch (IndexOutOfBoundsException e) {
+            throw eof(e);
+        }
+        pos += (long) len * Long.BYTES;
+    }
+
+    @Override
+    public int readGroupVarints(int[] values, int offset, int len) {
+        int i = 0;
+        long size = segment.byteSize();
+        // Group loads read up to MAX_GROUP_BYTES from its start, stop when that could go past the end.
+        for (; i < len && pos + GroupVarintUtil.MAX_GROUP_BYTES <= size; i += 4) {
+            pos = GroupVarintUtil.decodeGroup(segment, pos, values, offset + i);
+        }
+        return i;
+    }
+
+    private UncheckedIOException eof(IndexOutOfBoundsException e) {
+        EOFException eof = new EOFException("Read past EOF: " + name);
+        eof.initCause(e);
+        return new UncheckedIOException(eof);
+    }
+
+    @Override
+    public long getFilePointer() {
+        return pos;
+    }
+
+    @Override
+    public void seek(long pos) {
+        if (pos < 0 || pos > segment.byteSize())
+            throw new IllegalArgumentException("Seek to " + pos + " out of [0, " + segment.byteSize() + "]: " + name);
+        this.pos = pos;
+    }
+
+    @Override
+    public long length() {
+        return segment.byteSize();
+    }
+
+    @Override
+    public MemorySegmentIndexInput clone() {
+        MemorySegmentIndexInput clone = new MemorySegmentIndexInput(name, segment, null);
+        clone.pos = pos;
+        return clone;
+    }
+
+    @Override
+    public void close() {
+        if (arena != null)
+            arena.close();
+    }
+
+    @Override
+    public String toString() {
+        return "MemorySegmentIndexInput(" + name + ")";
+    }
+}
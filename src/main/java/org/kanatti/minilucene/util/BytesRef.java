@@ -0,0 +1,89 @@
+package org.kanatti.minilucene.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A slice of a byte[], bytes[offset, offset + length). Terms are handled as UTF-8 bytes
+ * in these, so that looking up or iterating terms doesn't create Strings.
+ *
+ * Same as lucene's, fields are public and the bytes are not copied, so whoever hands one
+ * out may reuse it (see TermsEnum#term).
+ */
+public final class BytesRef implements Comparable<BytesRef> {
+    private static final byte[] EMPTY = new byte[0];
+
+    public byte[] bytes;
+    public int offset;
+    public int length;
+
+    public BytesRef() {
+        this(EMPTY);
+    }
+
+    public BytesRef(byte[] bytes) {
+        this(bytes, 0, bytes.length);
+    }
+
+    public BytesRef(byte[] bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * UTF-8 bytes of the string.
+     */
+    public BytesRef(CharSequence text) {
+        this(text.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String utf8ToString() {
+        return new String(bytes, offset, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Copy that owns its bytes.
+     */
+    public BytesRef deepCopy() {
+        return new BytesRef(Arrays.copyOfRange(bytes, offset, offset + length));
+    }
+
+    /**
+     * Unsigned byte order, which for UTF-8 is the same as code point order.
+     */
+    @Override
+    public int compareTo(BytesRef other) {
+        return Arrays.compareUnsigned(bytes, offset, offset + length,
+            other.bytes, other.offset, other.offset + other.length);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof BytesRef other
+            && Arrays.equals(bytes, offset, offset + length, other.bytes, other.offset, other.offset + other.length);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 1;
+        for (int i = offset; i < offset + length; i++) {
+            h = 31 * h + bytes[i];
+        }
+        return h;
+    }
+
+    /**
+     * Hex bytes, as terms aren't necessarily valid UTF-8.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = offset; i < offset + length; i++) {
+            if (i > offset)
+                sb.append(' ');
+            sb.append(Integer.toHexString(bytes[i] & 0xFF));
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -0,0 +1,89 @@
+package org.kanatti.minilucene.util;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Decoding of a single group of {@link org.kanatti.minilucene.compression.GroupVarint},
+ * shared by the codec and by inputs that decode groups straight out of their memory
+ * (see DataInput#readGroupVarints).
+ *
+ * The tag indexes a table with the offset of each value in the group, so a group is 4 int
+ * loads and masks and no branches. Loads read 4 bytes whatever the value's length, so
+ * there have to be {@link #MAX_GROUP_BYTES} readable from the group's start.
+ */
+public final class GroupVarintUtil {
+    /**
+     * Bytes decoding a group may read from its start: the tag, and a 4-byte load at the last
+     * value's offset, which is 12 at most.
+     */
+    public static final int MAX_GROUP_BYTES = 1 + 12 + 4;
+
+    private static final VarHandle INTS = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfInt INT_LE = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    // By byte length - 1.
+    private static final int[] MASKS = { 0xFF, 0xFFFF, 0xFFFFFF, 0xFFFFFFFF };
+
+    // For every tag: offsets of its 4 values within the group (after the tag), and total length.
+    private static final byte[] OFFSETS = new byte[256 * 4];
+    private static final byte[] LENGTHS = new byte[256];
+
+    static {
+        for (int tag = 0; tag < 256; tag++) {
+            int offset = 0;
+            for (int i = 0; i < 4; i++) {
+                OFFSETS[tag * 4 + i] = (byte) offset;
+                offset += byteLength(tag, i);
+            }
+            LENGTHS[tag] = (byte) offset;
+        }
+    }
+
+    private GroupVarintUtil() {}
+
+    /**
+     * Byte length (1-4) of value i of a group with this tag.
+     */
+    public static int byteLength(int tag, int i) {
+        return ((tag >>> (i << 1)) & 3) + 1;
+    }
+
+    /**
+     * Bytes of the group's values, after the tag.
+     */
+    public static int valuesLength(byte tag) {
+        return LENGTHS[tag & 0xFF];
+    }
+
+    /**
+     * Decodes the group at bytes[pos] and returns where the next group starts.
+     */
+    public static int decodeGroup(byte[] bytes, int pos, int[] values, int offset) {
+        int tag = bytes[pos] & 0xFF;
+        int o = tag << 2;
+        int start = pos + 1;
+        values[offset] = (int) INTS.get(bytes, start + OFFSETS[o]) & MASKS[tag & 3];
+        values[offset + 1] = (int) INTS.get(bytes, start + OFFSETS[o + 1]) & MASKS[(tag >>> 2) & 3];
+        values[offset + 2] = (int) INTS.get(bytes, start + OFFSETS[o + 2]) & MASKS[(tag >>> 4) & 3];
+        values[offset + 3] = (int) INTS.get(bytes, start + OFFSETS[o + 3]) & MASKS[tag >>> 6];
+        return start + LENGTHS[tag];
+    }
+
+    /**
+     * Same, from memory.
+     */
+    public static long decodeGroup(MemorySegment segment, long pos, int[] values, int offset) {
+        int tag = segment.get(ValueLayout.JAVA_BYTE, pos) & 0xFF;
+        int o = tag << 2;
+        long start = pos + 1;
+        values[offset] = segment.get(INT_LE, start + OFFSETS[o]) & MASKS[tag & 3];
+        values[offset + 1] = segment.get(INT_LE, start + OFFSETS[o + 1]) & MASKS[(tag >>> 2) & 3];
+        values[offset + 2] = segment.get(INT_LE, start + OFFSETS[o + 2]) & MASKS[(tag >>> 4) & 3];
+        values[offset + 3] = segment.get(INT_LE, start + OFFSETS[o + 3]) & MASKS[tag >>> 6];
+        return start + LENGTHS[tag];
+    }
+}
@@ -0,0 +1,188 @@
+package org.kanatti.minilucene.util;
+
+import java.util.Arrays;
+
+/**
+ * long -> long hash map on primitive arrays, so that nothing gets boxed. Meant for
+ * counting, like histograms: {@link #addTo} is the main operation.
+ *
+ * Open addressing with linear probing, keys and values in parallel arrays. Empty slots
+ * are marked by key 0, and key 0 itself is kept on the side. Keys are mixed before
+ * masking, as real keys (timestamps, prices) tend to have all the entropy in a few bits.
+ */
+public class LongLongHashMap {
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    private boolean hasZeroKey;
+    private long zeroValue;
+
+    public LongLongHashMap() {
+        this(16);
+    }
+
+    public LongLongHashMap(int expectedSize) {
+        allocate(Math.max(4, Integer.highestOneBit((int) Math.ceil(expectedSize / LOAD_FACTOR)) << 1));
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * Number of keys.
+     */
+    public int size() {
+        return size + (hasZeroKey ? 1 : 0);
+    }
+
+    public boolean containsKey(long key) {
+        if (key == 0)
+            return hasZeroKey;
+        return keys[slot(key)] == key;
+    }
+
+    /**
+     * Value of the key, or defaultValue if it's not there.
+     */
+    public long get(long key, long defaultValue) {
+        if (key == 0)
+            return hasZeroKey ? zeroValue : defaultValue;
+        int slot = slot(key);
+        return keys[slot] == key ? values[slot] : defaultValue;
+    }
+
+    public void put(long key, long value) {
+        if (key == 0) {
+            hasZeroKey = true;
+            zeroValue = value;
+            return;
+        }
+        int slot = slot(key);
+        if (keys[slot] != key)
+            slot = insert(slot, key);
+        values[slot] = value;
+    }
+
+    /**
+     * Adds delta to the value of key, a missing key counting as 0, and returns the new value.
+     */
+    public long addTo(long key, long delta) {
+        if (key == 0) {
+            hasZeroKey = true;
+            return zeroValue += delta;
+        }
+        int slot = slot(key);
+        if (keys[slot] != key)
+            slot = insert(slot, key);
+        return values[slot] += delta;
+    }
+
+    /**
+     * Adds all values of other to this one, key by key.
+     */
+    public void addAll(LongLongHashMap other) {
+        if (other.hasZeroKey)
+            addTo(0, other.zeroValue);
+        for (int i = 0; i < other.keys.length; i++) {
+            if (other.keys[i] != 0)
+                addTo(other.keys[i], other.values[i]);
+        }
+    }
+
+    public void forEach(LongLongConsumer consumer) {
+        if (hasZeroKey)
+            consumer.accept(0, zeroValue);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0)
+                consumer.accept(keys[i], values[i]);
+        }
+    }
+
+    /**
+     * Keys in increasing order.
+     */
+    public long[] sortedKeys() {
+        long[] sorted = new long[size()];
+        int n = 0;
+        if (hasZeroKey)
+            sorted[n++] = 0;
+        for (long key : keys) {
+            if (key != 0)
+                sorted[n++] = key;
+        }
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, 0);
+        size = 0;
+        hasZeroKey = false;
+        zeroValue = 0;
+    }
+
+    /**
+     * Slot holding key, or the empty one where it would go.
+     */
+    private int slot(long key) {
+        int slot = mix(key) & mask;
+        while (keys[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Puts key into the empty slot, with value 0, and returns the slot it ended up in.
+     */
+    private int insert(int slot, long key) {
+        if (size == resizeAt) {
+            rehash(keys.length << 1);
+            slot = slot(key);
+        }
+        keys[slot] = key;
+        values[slot] = 0;
+        size++;
+        return slot;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys, oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != 0) {
+                int slot = slot(key);
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Murmur3's 64-bit finalizer.
+     */
+    private static int mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+
+    @FunctionalInterface
+    public interface LongLongConsumer {
+        void accept(long key, long value);
+    }
+}
@@ -0,0 +1,63 @@
+package org.kanatti.minilucene.compression;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+import org.kanatti.minilucene.store.ByteArrayDataInput;
+import org.kanatti.minilucene.store.ByteArrayDataOutput;
+
+/**
+ * Which codec {@link BlockCodec} picks, and round trips of blocks of every length.
+ */
+public class BlockCodecTest {
+
+    @Test
+    public void testPick() {
+        int[] values = new int[PFor.BLOCK_SIZE];
+        assertEquals(BlockCodec.Type.PFOR, BlockCodec.pick(values, PFor.BLOCK_SIZE));
+        // 4 bytes as vInts, a tag and 4 bytes as a group.
+        assertEquals(BlockCodec.Type.VBYTE, BlockCodec.pick(values, 4));
+        // Tie, 2 + 1 + 1 + 1 bytes against 1 + 4.
+        values[0] = 128;
+        assertEquals(5, VByte.encodedSize(values, 0, 4));
+        assertEquals(5, GroupVarint.encodedSize(values, 0, 4));
+        assertEquals(BlockCodec.Type.GROUP_VARINT, BlockCodec.pick(values, 4));
+        // 2 bytes each as vInts, 1 + 4 as a group.
+        Arrays.fill(values, 0, 4, 200);
+        assertEquals(BlockCodec.Type.GROUP_VARINT, BlockCodec.pick(values, 4));
+        // No group at all, both are the same vInts.
+        assertEquals(BlockCodec.Type.GROUP_VARINT, BlockCodec.pick(values, 3));
+        assertEquals(BlockCodec.Type.GROUP_VARINT, BlockCodec.pick(values, 0));
+    }
+
+    @Test
+    public void testRoundTrip() {
+        Random random = new Random(13);
+        BlockCodec codec = new BlockCodec();
+        int[] decoded = new int[PFor.BLOCK_SIZE];
+        for (int len = 1; len <= PFor.BLOCK_SIZE; len++) {
+            for (int iter = 0; iter < 5; iter++) {
+                int bits = 1 + random.nextInt(32);
+                int[] values = new int[PFor.BLOCK_SIZE];
+                for (int i = 0; i < len; i++) {
+                    values[i] = (int) (random.nextLong() & ((1L << bits) - 1));
+                }
+                ByteArrayDataOutput out = new ByteArrayDataOutput();
+                BlockCodec.Type type = codec.write(values, len, out);
+                assertEquals(BlockCodec.pick(values, len), type);
+                out.writeByte((byte) 42);
+
+                ByteArrayDataInput in = new ByteArrayDataInput(out.toByteArray());
+                codec.read(in, decoded, len);
+                String message = len + " values of " + bits + " bits as " + type;
+                assertArrayEquals(message, Arrays.copyOf(values, len), Arrays.copyOf(decoded, len));
+                assertEquals(message, out.size() - 1, in.getPosition());
+                assertEquals(42, in.readByte());
+            }
+        }
+    }
+}
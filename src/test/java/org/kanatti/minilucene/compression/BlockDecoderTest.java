@@ -0,0 +1,84 @@
+package org.kanatti.minilucene.compression;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Round-trips blocks through {@link Bitpack#encode128} and every {@link BlockDecoder},
+ * whichever of them {@link BlockDecoder#INSTANCE} picked on this machine.
+ */
+public class BlockDecoderTest {
+    private static final BlockDecoder[] DECODERS = {BlockDecoder.scalar(), BlockDecoder.vectorized()};
+
+    @Test
+    public void testRandomBlocks() {
+        Random random = new Random(3);
+        int[] values = new int[Bitpack.BLOCK_SIZE];
+        for (int bitsPerValue = 1; bitsPerValue <= 32; bitsPerValue++) {
+            long mask = (1L << bitsPerValue) - 1;
+            for (int iter = 0; iter < 20; iter++) {
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = (int) (random.nextLong() & mask);
+                }
+                check(values, bitsPerValue);
+            }
+        }
+    }
+
+    @Test
+    public void testEdgeBlocks() {
+        int[] values = new int[Bitpack.BLOCK_SIZE];
+        for (int bitsPerValue = 1; bitsPerValue <= 32; bitsPerValue++) {
+            int max = (int) ((1L << bitsPerValue) - 1);
+            Arrays.fill(values, 0);
+            check(values, bitsPerValue);
+            Arrays.fill(values, max);
+            check(values, bitsPerValue);
+            // Alternating, so that a value crossing a word boundary in a lane shows up.
+            for (int i = 0; i < values.length; i++) {
+                values[i] = (i / 4) % 2 == 0 ? max : 0;
+            }
+            check(values, bitsPerValue);
+            // The index of every value, in its low bits, catches values landing in another lane.
+            for (int i = 0; i < values.length; i++) {
+                values[i] = i & max;
+            }
+            check(values, bitsPerValue);
+        }
+    }
+
+    @Test
+    public void testUnusedPackedLongs() {
+        // Longs past packedLongs(bitsPerValue) are garbage from wider blocks, and are ignored.
+        int[] values = new int[Bitpack.BLOCK_SIZE];
+        Random random = new Random(5);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(8);
+        }
+        long[] packed = new long[Bitpack.packedLongs(32)];
+        Arrays.fill(packed, -1L);
+        Bitpack.encode128(values, 3, packed);
+        for (BlockDecoder decoder : DECODERS) {
+            int[] decoded = new int[Bitpack.BLOCK_SIZE];
+            decoder.decode128(packed, 3, decoded);
+            assertArrayEquals(decoder.toString(), values, decoded);
+        }
+    }
+
+    private static void check(int[] values, int bitsPerValue) {
+        long[] packed = new long[Bitpack.packedLongs(bitsPerValue)];
+        Bitpack.encode128(values, bitsPerValue, packed);
+        for (BlockDecoder decoder : DECODERS) {
+            int[] decoded = new int[Bitpack.BLOCK_SIZE];
+            decoder.decode128(packed, bitsPerValue, decoded);
+            assertArrayEquals(decoder + " " + bitsPerValue + " bits", values, decoded);
+        }
+        int[] decoded = new int[Bitpack.BLOCK_SIZE];
+        Bitpack.decode128(packed, bitsPerValue, decoded);
+        assertArrayEquals(bitsPerValue + " bits", values, decoded);
+    }
+}
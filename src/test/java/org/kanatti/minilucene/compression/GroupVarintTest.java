@@ -0,0 +1,193 @@
+package org.kanatti.minilucene.compression;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kanatti.minilucene.store.ByteArrayDataInput;
+import org.kanatti.minilucene.store.ByteArrayDataOutput;
+import org.kanatti.minilucene.store.IndexInput;
+import org.kanatti.minilucene.store.IndexOutput;
+import org.kanatti.minilucene.store.MMapDirectory;
+import org.kanatti.minilucene.util.GroupVarintUtil;
+
+/**
+ * Round-trips {@link GroupVarint} and {@link VByte}, checking that reads end exactly where
+ * writes did, through both the copying path and the in-place ones of byte arrays and
+ * memory segments.
+ */
+public class GroupVarintTest {
+    // Values taking 1, 2, 3 and 4 bytes, negative ones taking 4 (5 as vInts).
+    private static final int[] EDGE_VALUES = {
+        0, 1, 0xFF, 0x100, 0xFFFF, 0x10000, 0xFFFFFF, 0x1000000, Integer.MAX_VALUE, -1, Integer.MIN_VALUE
+    };
+
+    private Path path;
+    private Random random;
+
+    @Before
+    public void setUp() throws IOException {
+        path = Files.createTempDirectory("minilucene");
+        random = new Random(9);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (var files = Files.walk(path)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private int[] randomValues(int len) {
+        int[] values = new int[len];
+        for (int i = 0; i < len; i++) {
+            values[i] = random.nextBoolean()
+                ? EDGE_VALUES[random.nextInt(EDGE_VALUES.length)]
+                : random.nextInt() >>> random.nextInt(32);
+        }
+        return values;
+    }
+
+    @Test
+    public void testRoundTrip() {
+        GroupVarint groupVarint = new GroupVarint();
+        // Every tail length, and lists long enough for the in-place path to kick in and stop.
+        for (int len = 0; len <= 40; len++) {
+            for (int iter = 0; iter < 20; iter++) {
+                int[] values = randomValues(len);
+                ByteArrayDataOutput out = new ByteArrayDataOutput();
+                GroupVarint.encode(values, 0, len, out);
+                assertEquals(GroupVarint.encodedSize(values, 0, len), out.size());
+                // Followed by something else, as in a postings file.
+                out.writeByte((byte) 42);
+
+                ByteArrayDataInput in = new ByteArrayDataInput(out.toByteArray());
+                int[] decoded = new int[len + 2];
+                groupVarint.decode(in, decoded, 1, len);
+                assertArrayEquals(values, Arrays.copyOfRange(decoded, 1, len + 1));
+                assertEquals(out.size() - 1, in.getPosition());
+                assertEquals(42, in.readByte());
+            }
+        }
+    }
+
+    @Test
+    public void testVByte() {
+        for (int len = 0; len <= 20; len++) {
+            int[] values = randomValues(len);
+            ByteArrayDataOutput out = new ByteArrayDataOutput();
+            VByte.encode(values, 0, len, out);
+            assertEquals(VByte.encodedSize(values, 0, len), out.size());
+
+            ByteArrayDataInput in = new ByteArrayDataInput(out.toByteArray());
+            int[] decoded = new int[len];
+            VByte.decode(in, decoded, 0, len);
+            assertArrayEquals(values, decoded);
+            assertEquals(out.size(), in.getPosition());
+        }
+        assertEquals(5, VByte.encodedSize(new int[] {-1}, 0, 1));
+        assertEquals(5, VByte.encodedSize(new int[] {Integer.MIN_VALUE}, 0, 1));
+    }
+
+    @Test
+    public void testFourByteValues() {
+        int[] values = {-1, Integer.MIN_VALUE, Integer.MAX_VALUE, 0x1000000, -2, -3, -4};
+        assertEquals(1 + 4 * 4 + 3 * 5, GroupVarint.encodedSize(values, 0, values.length));
+        ByteArrayDataOutput out = new ByteArrayDataOutput();
+        GroupVarint.encode(values, 0, values.length, out);
+        ByteArrayDataInput in = new ByteArrayDataInput(out.toByteArray());
+        int[] decoded = new int[values.length];
+        new GroupVarint().decode(in, decoded, 0, values.length);
+        assertArrayEquals(values, decoded);
+        assertTrue(in.eof());
+    }
+
+    @Test
+    public void testByteArrayInPlace() {
+        // One group of 4-byte values is MAX_GROUP_BYTES, the in-place path can read it up to the last byte.
+        int[] values = {-1, Integer.MIN_VALUE, 0x1234_5678, 0x0100_0000};
+        ByteArrayDataOutput out = new ByteArrayDataOutput();
+        GroupVarint.encode(values, 0, 4, out);
+        byte[] bytes = out.toByteArray();
+        assertEquals(GroupVarintUtil.MAX_GROUP_BYTES, bytes.length);
+
+        ByteArrayDataInput in = new ByteArrayDataInput(bytes);
+        int[] decoded = new int[4];
+        assertEquals(4, in.readGroupVarints(decoded, 0, 4));
+        assertArrayEquals(values, decoded);
+        assertEquals(bytes.length, in.getPosition());
+
+        // Same group in the middle of a bigger array, whose end is past the input's.
+        byte[] padded = new byte[bytes.length + 20];
+        System.arraycopy(bytes, 0, padded, 10, bytes.length);
+        in = new ByteArrayDataInput(padded, 10, bytes.length);
+        Arrays.fill(decoded, 0);
+        assertEquals(4, in.readGroupVarints(decoded, 0, 4));
+        assertArrayEquals(values, decoded);
+        assertEquals(10 + bytes.length, in.getPosition());
+
+        // A shorter group at the end can't be decoded in place, GroupVarint copies it.
+        in = new ByteArrayDataInput(padded, 10, bytes.length - 1);
+        assertEquals(0, in.readGroupVarints(decoded, 0, 4));
+        assertEquals(10, in.getPosition());
+    }
+
+    @Test
+    public void testShortGroupAtEnd() {
+        int[] values = {1, 0x100, 0x10000, 0x100_0000 - 1};
+        ByteArrayDataOutput out = new ByteArrayDataOutput();
+        GroupVarint.encode(values, 0, 4, out);
+        byte[] bytes = out.toByteArray();
+        assertEquals(1 + 1 + 2 + 3 + 3, bytes.length);
+        ByteArrayDataInput in = new ByteArrayDataInput(bytes);
+        assertEquals(0, in.readGroupVarints(new int[4], 0, 4));
+        int[] decoded = new int[4];
+        new GroupVarint().decode(in, decoded, 0, 4);
+        assertArrayEquals(values, decoded);
+        assertTrue(in.eof());
+    }
+
+    @Test
+    public void testMemorySegmentInPlace() throws IOException {
+        MMapDirectory dir = new MMapDirectory(path);
+        int[] group = {-1, Integer.MIN_VALUE, 0x1234_5678, 0x0100_0000};
+        try (IndexOutput out = dir.createOutput("group")) {
+            GroupVarint.encode(group, 0, 4, out);
+        }
+        try (IndexInput in = dir.openInput("group")) {
+            assertEquals(GroupVarintUtil.MAX_GROUP_BYTES, in.length());
+            int[] decoded = new int[4];
+            assertEquals(4, in.readGroupVarints(decoded, 0, 4));
+            assertArrayEquals(group, decoded);
+            assertEquals(in.length(), in.getFilePointer());
+        }
+
+        // A long list, the last groups being decoded through the copy.
+        GroupVarint groupVarint = new GroupVarint();
+        for (int len : new int[] {4, 5, 8, 63, 64, 127}) {
+            int[] values = randomValues(len);
+            String name = "values" + len;
+            try (IndexOutput out = dir.createOutput(name)) {
+                GroupVarint.encode(values, 0, len, out);
+            }
+            try (IndexInput in = dir.openInput(name)) {
+                int[] decoded = new int[len];
+                groupVarint.decode(in, decoded, 0, len);
+                assertArrayEquals(values, decoded);
+                assertEquals(in.length(), in.getFilePointer());
+            }
+        }
+    }
+}
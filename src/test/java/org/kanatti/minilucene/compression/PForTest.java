@@ -0,0 +1,158 @@
+package org.kanatti.minilucene.compression;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+import org.kanatti.minilucene.store.ByteArrayDataInput;
+import org.kanatti.minilucene.store.ByteArrayDataOutput;
+
+/**
+ * Round trips of {@link PFor} blocks, with and without exceptions to patch, and of doc
+ * blocks through their gaps. The same instance and output array are reused across blocks,
+ * like postings readers do.
+ */
+public class PForTest {
+    private static final int BLOCK_SIZE = PFor.BLOCK_SIZE;
+
+    private final PFor pfor = new PFor();
+    private final int[] decoded = new int[BLOCK_SIZE];
+    private final Random random = new Random(21);
+
+    /**
+     * Encodes and decodes values, and returns the size of the block.
+     */
+    private int roundTrip(int[] values) {
+        ByteArrayDataOutput out = new ByteArrayDataOutput();
+        pfor.encode(values, out);
+        // Followed by something else, as in a postings file.
+        out.writeByte((byte) 42);
+
+        ByteArrayDataInput in = new ByteArrayDataInput(out.toByteArray());
+        pfor.decode(in, decoded);
+        assertArrayEquals(values, decoded);
+        assertEquals(out.size() - 1, in.getPosition());
+        assertEquals(42, in.readByte());
+        return out.size() - 1;
+    }
+
+    @Test
+    public void testAllEqual() {
+        int[] values = new int[BLOCK_SIZE];
+        for (int value : new int[] {0, 1, 1_000_000, Integer.MAX_VALUE, -1}) {
+            Arrays.fill(values, value);
+            // Header byte and the vInt.
+            assertEquals(1 + VByte.vIntSize(value), roundTrip(values));
+        }
+    }
+
+    @Test
+    public void testNoExceptions() {
+        int[] values = new int[BLOCK_SIZE];
+        for (int bits = 1; bits <= 32; bits++) {
+            // All but one need the whole width, so none is worth patching.
+            Arrays.fill(values, (int) ((1L << bits) - 1));
+            values[0] = 0;
+            assertEquals(2 + Bitpack.packedLongs(bits) * Long.BYTES, roundTrip(values));
+        }
+    }
+
+    @Test
+    public void testAll32BitValues() {
+        int[] values = new int[BLOCK_SIZE];
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            values[i] = random.nextInt() | Integer.MIN_VALUE;
+        }
+        values[7] = Integer.MIN_VALUE;
+        values[8] = -1;
+        assertEquals(2 + Bitpack.packedLongs(32) * Long.BYTES, roundTrip(values));
+    }
+
+    @Test
+    public void testOneHugeValue() {
+        int[] values = new int[BLOCK_SIZE];
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            values[i] = 1 + random.nextInt(3);
+        }
+        for (int huge : new int[] {1 << 20, Integer.MAX_VALUE, -1}) {
+            for (int index : new int[] {0, 63, BLOCK_SIZE - 1}) {
+                int previous = values[index];
+                values[index] = huge;
+                // 2 bits per value and one patch, instead of a 32-bit wide block.
+                assertTrue(roundTrip(values) < 2 + Bitpack.packedLongs(2) * Long.BYTES + 1 + 5 + 1);
+                values[index] = previous;
+            }
+        }
+    }
+
+    @Test
+    public void testManyExceptions() {
+        int[] values = new int[BLOCK_SIZE];
+        for (int iter = 0; iter < 200; iter++) {
+            // Mostly small, with a random share of outliers of random width.
+            int outliers = random.nextInt(BLOCK_SIZE);
+            int smallBits = 1 + random.nextInt(8);
+            for (int i = 0; i < BLOCK_SIZE; i++) {
+                int bits = smallBits;
+                if (random.nextInt(BLOCK_SIZE) < outliers)
+                    bits += random.nextInt(33 - smallBits);
+                values[i] = (int) (random.nextLong() & ((1L << bits) - 1));
+            }
+            roundTrip(values);
+        }
+    }
+
+    @Test
+    public void testDocs() {
+        int[] docs = new int[BLOCK_SIZE];
+        ByteArrayDataOutput out = new ByteArrayDataOutput();
+        int[] bases = new int[4];
+        int[][] blocks = new int[4][];
+        int doc = -1;
+        for (int block = 0; block < blocks.length; block++) {
+            bases[block] = Math.max(doc, 0);
+            for (int i = 0; i < BLOCK_SIZE; i++) {
+                doc += switch (block) {
+                    // Consecutive docs, all gaps equal.
+                    case 0 -> 1;
+                    // One huge gap.
+                    case 1 -> i == 64 ? 100_000_000 : 1 + random.nextInt(3);
+                    // Sparse term.
+                    case 2 -> 1 + random.nextInt(10_000);
+                    default -> 1 + random.nextInt(100);
+                };
+                docs[i] = doc;
+            }
+            blocks[block] = docs.clone();
+            pfor.encodeDocs(docs, bases[block], out);
+        }
+
+        ByteArrayDataInput in = new ByteArrayDataInput(out.toByteArray());
+        for (int block = 0; block < blocks.length; block++) {
+            pfor.decodeDocs(in, bases[block], decoded);
+            assertArrayEquals(blocks[block], decoded);
+        }
+        assertTrue(in.eof());
+    }
+
+    @Test
+    public void testBestBitsPerValue() {
+        int[] widthCounts = new int[33];
+        widthCounts[3] = BLOCK_SIZE;
+        assertEquals(3, PFor.bestBitsPerValue(widthCounts));
+        // A single wide value is patched.
+        widthCounts[3] = BLOCK_SIZE - 1;
+        widthCounts[30] = 1;
+        assertEquals(3, PFor.bestBitsPerValue(widthCounts));
+        // Half of them 2 bits wider, patching them costs more than the bits.
+        widthCounts[3] = 0;
+        widthCounts[30] = 0;
+        widthCounts[10] = BLOCK_SIZE / 2;
+        widthCounts[12] = BLOCK_SIZE / 2;
+        assertEquals(12, PFor.bestBitsPerValue(widthCounts));
+    }
+}
@@ -0,0 +1,69 @@
+package org.kanatti.minilucene.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Closing a reader closes all of its leaves, whichever of them fail.
+ */
+public class IndexReaderTest {
+
+    private static class TestLeafReader extends LeafReader {
+        private final IOException failure;
+        private boolean closed;
+
+        TestLeafReader(IOException failure) {
+            this.failure = failure;
+        }
+
+        @Override
+        public int maxDoc() {
+            return 1;
+        }
+
+        @Override
+        public int docFreq(String field, String term) {
+            return 0;
+        }
+
+        @Override
+        public PostingsEnum postings(String field, String term) {
+            return null;
+        }
+
+        @Override
+        protected void doClose() throws IOException {
+            closed = true;
+            if (failure != null)
+                throw failure;
+        }
+    }
+
+    @Test
+    public void testCloseAllLeaves() throws IOException {
+        IOException first = new IOException("first");
+        IOException second = new IOException("second");
+        List<TestLeafReader> leaves = List.of(
+            new TestLeafReader(null), new TestLeafReader(first), new TestLeafReader(null),
+            new TestLeafReader(second), new TestLeafReader(null));
+        IndexReader reader = new IndexReader(leaves);
+
+        IOException e = assertThrows(IOException.class, reader::close);
+        assertSame(first, e);
+        assertEquals(1, e.getSuppressed().length);
+        assertSame(second, e.getSuppressed()[0]);
+        for (TestLeafReader leaf : leaves) {
+            assertTrue(leaf.closed);
+        }
+
+        // Leaves only close once.
+        reader.close();
+    }
+}
@@ -0,0 +1,187 @@
+package org.kanatti.minilucene.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kanatti.minilucene.search.DocIdSetIterator;
+import org.kanatti.minilucene.search.Sort;
+import org.kanatti.minilucene.search.SortField;
+import org.kanatti.minilucene.store.FSDirectory;
+import org.kanatti.minilucene.store.MMapDirectory;
+
+/**
+ * Flushes segments under an index sort and checks that doc values and postings of every
+ * doc were renumbered the same way: the doc's "id" value, its "key" term, its tags and its
+ * sort values all have to agree with what was added.
+ */
+public class IndexSortTest {
+    private static final int NUM_DOCS = 20_000;
+    // Segment [5_000, 8_000) is added in sort order already.
+    private static final int[] FLUSH_AT = {5_000, 8_000, 8_001};
+    private static final String[] TAGS = {"a", "b", "c"};
+    private static final Sort SORT = new Sort(new SortField("ts", true), new SortField("other"));
+
+    private Path path;
+    private Random random;
+    // By id, the order docs were added in.
+    private long[] ts;
+    private boolean[] hasTs;
+    private long[] other;
+    private int[] tag;
+
+    @Before
+    public void setUp() throws IOException {
+        path = Files.createTempDirectory("minilucene");
+        random = new Random(7);
+        ts = new long[NUM_DOCS];
+        hasTs = new boolean[NUM_DOCS];
+        other = new long[NUM_DOCS];
+        tag = new int[NUM_DOCS];
+
+        int flush = 0;
+        IndexWriterConfig config = new IndexWriterConfig().setIndexSort(SORT);
+        try (IndexWriter writer = new IndexWriter(new FSDirectory(path), config)) {
+            for (int id = 0; id < NUM_DOCS; id++) {
+                Document document = new Document().addLong("id", id).addKeyword("key", "k" + id);
+                boolean presorted = id >= FLUSH_AT[0] && id < FLUSH_AT[1];
+                // Few distinct values, so ties are broken by the second field and then by id.
+                if (presorted || random.nextInt(5) > 0) {
+                    ts[id] = presorted ? NUM_DOCS - id : random.nextInt(500);
+                    hasTs[id] = true;
+                    document.addLong("ts", ts[id]);
+                }
+                other[id] = presorted ? 0 : random.nextInt(3);
+                document.addLong("other", other[id]);
+                tag[id] = random.nextInt(TAGS.length);
+                document.addKeyword("tag", TAGS[tag[id]]);
+                writer.addDocument(document);
+
+                if (flush < FLUSH_AT.length && id + 1 == FLUSH_AT[flush]) {
+                    writer.flush();
+                    flush++;
+                }
+            }
+        }
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (var files = Files.walk(path)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void testSortedSegments() throws IOException {
+        try (IndexReader reader = IndexReader.open(new MMapDirectory(path))) {
+            assertEquals(FLUSH_AT.length + 1, reader.leaves().size());
+            int firstId = 0;
+            for (LeafReaderContext leaf : reader.leaves()) {
+                LeafReader leafReader = leaf.reader();
+                assertEquals(SORT, leafReader.getIndexSort());
+                int maxDoc = leafReader.maxDoc();
+
+                // Ids of the leaf's docs, by doc, from doc values.
+                int[] ids = new int[maxDoc];
+                NumericDocValues idValues = leafReader.getNumericDocValues("id");
+                NumericDocValues tsValues = leafReader.getNumericDocValues("ts");
+                NumericDocValues otherValues = leafReader.getNumericDocValues("other");
+                boolean[] seen = new boolean[maxDoc];
+                for (int doc = 0; doc < maxDoc; doc++) {
+                    assertTrue(idValues.advanceExact(doc));
+                    int id = (int) idValues.longValue();
+                    ids[doc] = id;
+                    assertTrue(id >= firstId && id < firstId + maxDoc);
+                    assertFalse(seen[id - firstId]);
+                    seen[id - firstId] = true;
+
+                    assertEquals(hasTs[id], tsValues.advanceExact(doc));
+                    if (hasTs[id])
+                        assertEquals(ts[id], tsValues.longValue());
+                    assertTrue(otherValues.advanceExact(doc));
+                    assertEquals(other[id], otherValues.longValue());
+
+                    // In sort order, and in the order they were added on ties.
+                    if (doc > 0) {
+                        int cmp = compare(ids[doc - 1], id);
+                        assertTrue(cmp < 0 || (cmp == 0 && ids[doc - 1] < id));
+                    }
+                }
+
+                // Postings point at the same docs as doc values.
+                for (int doc = 0; doc < maxDoc; doc++) {
+                    PostingsEnum postings = leafReader.postings("key", "k" + ids[doc]);
+                    assertEquals(doc, postings.nextDoc());
+                    assertEquals(DocIdSetIterator.NO_MORE_DOCS, postings.nextDoc());
+                }
+                for (int t = 0; t < TAGS.length; t++) {
+                    // Null in the one doc segment, for all tags but one.
+                    PostingsEnum postings = leafReader.postings("tag", TAGS[t]);
+                    int count = 0;
+                    int doc;
+                    while (postings != null && (doc = postings.nextDoc()) != DocIdSetIterator.NO_MORE_DOCS) {
+                        assertEquals(t, tag[ids[doc]]);
+                        count++;
+                    }
+                    int expected = 0;
+                    for (int id = firstId; id < firstId + maxDoc; id++) {
+                        if (tag[id] == t)
+                            expected++;
+                    }
+                    assertEquals(expected, count);
+                    assertEquals(expected, leafReader.docFreq("tag", TAGS[t]));
+                }
+                firstId += maxDoc;
+            }
+            assertEquals(NUM_DOCS, firstId);
+        }
+    }
+
+    @Test
+    public void testNoIndexSort() throws IOException {
+        Path unsorted = Files.createTempDirectory("minilucene");
+        try {
+            try (IndexWriter writer = new IndexWriter(new FSDirectory(unsorted), new IndexWriterConfig())) {
+                writer.addDocument(new Document().addLong("ts", 2));
+                writer.addDocument(new Document().addLong("ts", 1));
+            }
+            try (IndexReader reader = IndexReader.open(new MMapDirectory(unsorted))) {
+                LeafReader leafReader = reader.leaves().get(0).reader();
+                assertNull(leafReader.getIndexSort());
+                NumericDocValues values = leafReader.getNumericDocValues("ts");
+                assertTrue(values.advanceExact(0));
+                assertEquals(2, values.longValue());
+            }
+        } finally {
+            try (var files = Files.walk(unsorted)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Compares docs added as id1 and id2 by SORT.
+     */
+    private int compare(int id1, int id2) {
+        long[] values = {
+            hasTs[id1] ? ts[id1] : SORT.fields().get(0).missingValue(), other[id1],
+            hasTs[id2] ? ts[id2] : SORT.fields().get(0).missingValue(), other[id2]
+        };
+        return SORT.compare(values, 0, values, 2);
+    }
+}
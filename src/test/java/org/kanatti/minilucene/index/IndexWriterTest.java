@@ -0,0 +1,346 @@
+package org.kanatti.minilucene.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kanatti.minilucene.search.DocIdSetIterator;
+import org.kanatti.minilucene.store.Directory;
+import org.kanatti.minilucene.store.FSDirectory;
+import org.kanatti.minilucene.store.MMapDirectory;
+import org.kanatti.minilucene.util.BytesRef;
+
+/**
+ * Writes random docs over several flushes and checks what segments give back against
+ * postings kept on the side: postings iteration, block-max info, the terms dictionary, and
+ * skip data of long postings. Also that files of an older format version are rejected.
+ */
+public class IndexWriterTest {
+    private static final int NUM_DOCS = 40_000;
+    // Flushed after these many docs, so segments of different sizes, a tiny one included.
+    private static final int[] FLUSH_AT = {5_000, 5_300, 23_000};
+    private static final Comparator<String> UTF8_ORDER = Comparator.comparing(BytesRef::new);
+
+    private Path path;
+    private Random random;
+    // field -> term -> doc -> freq, docs being global.
+    private Map<String, TreeMap<String, TreeMap<Integer, Integer>>> expected;
+
+    @Before
+    public void setUp() throws IOException {
+        path = Files.createTempDirectory("minilucene");
+        random = new Random(42);
+        expected = new HashMap<>();
+
+        String[] vocab = new String[500];
+        for (int i = 0; i < vocab.length; i++) {
+            // Some non-ASCII, so that terms order has to be by unsigned bytes.
+            vocab[i] = "w" + Integer.toString(i, 36) + (i % 7 == 0 ? "é" : "");
+        }
+
+        int flush = 0;
+        try (IndexWriter writer = new IndexWriter(new FSDirectory(path), new IndexWriterConfig())) {
+            for (int doc = 0; doc < NUM_DOCS; doc++) {
+                StringBuilder body = new StringBuilder();
+                int numWords = 1 + random.nextInt(20);
+                for (int i = 0; i < numWords; i++) {
+                    String word = vocab[(int) Math.min(vocab.length - 1, Math.abs(random.nextGaussian()) * 80)];
+                    body.append(i % 3 == 0 ? word.toUpperCase() : word).append(i % 4 == 0 ? ", " : " ");
+                    add("body", word, doc);
+                }
+                Document document = new Document().addText("body", body.toString());
+                document.addKeyword("id", "id" + doc);
+                add("id", "id" + doc, doc);
+                document.addLong("n", doc);
+                document.addKeyword("all", "x");
+                add("all", "x", doc);
+                if (random.nextInt(100) == 0) {
+                    document.addKeyword("rare", "y");
+                    add("rare", "y", doc);
+                }
+                writer.addDocument(document);
+
+                if (flush < FLUSH_AT.length && doc + 1 == FLUSH_AT[flush]) {
+                    writer.flush();
+                    flush++;
+                }
+            }
+        }
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (var files = Files.walk(path)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private void add(String field, String term, int doc) {
+        expected.computeIfAbsent(field, f -> new TreeMap<>(UTF8_ORDER))
+            .computeIfAbsent(term, t -> new TreeMap<>())
+            .merge(doc, 1, Integer::sum);
+    }
+
+    @Test
+    public void testPostingsFSDirectory() throws IOException {
+        checkPostings(new FSDirectory(path));
+    }
+
+    @Test
+    public void testPostingsMMapDirectory() throws IOException {
+        checkPostings(new MMapDirectory(path));
+    }
+
+    @Test
+    public void testTermsEnumFSDirectory() throws IOException {
+        checkTermsEnum(new FSDirectory(path));
+    }
+
+    @Test
+    public void testTermsEnumMMapDirectory() throws IOException {
+        checkTermsEnum(new MMapDirectory(path));
+    }
+
+    @Test
+    public void testSkipDataAdvance() throws IOException {
+        try (IndexReader reader = IndexReader.open(new MMapDirectory(path))) {
+            // Biggest leaf, so postings of "all" have two skip levels.
+            LeafReaderContext leaf = reader.leaves().get(0);
+            for (LeafReaderContext context : reader.leaves()) {
+                if (context.reader().maxDoc() > leaf.reader().maxDoc())
+                    leaf = context;
+            }
+            int maxDoc = leaf.reader().maxDoc();
+            int levelOneDocs = SkipReader.SKIP_INTERVAL * SkipReader.SKIP_INTERVAL * SegmentWriter.BLOCK_SIZE;
+            assertTrue(maxDoc > 2 * levelOneDocs);
+
+            TreeMap<Integer, Integer> bodyPostings = leafPostings(leaf, expected.get("body").firstEntry().getValue());
+            for (int jump : new int[] {1, 100, 1_000, 5_000, levelOneDocs, 3 * levelOneDocs / 2}) {
+                // Every doc has "all", so advance lands right on target.
+                PostingsEnum all = leaf.reader().postings("all", "x");
+                for (int target = random.nextInt(jump); target < maxDoc; target += 1 + random.nextInt(2 * jump)) {
+                    assertEquals(target, all.advance(target));
+                    assertEquals(1, all.freq());
+                }
+                assertEquals(DocIdSetIterator.NO_MORE_DOCS, all.advance(maxDoc));
+
+                PostingsEnum body = leaf.reader().postings("body", expected.get("body").firstKey());
+                for (int target = random.nextInt(jump); ; target += 1 + random.nextInt(2 * jump)) {
+                    Integer expectedDoc = target < maxDoc ? bodyPostings.ceilingKey(target) : null;
+                    int doc = body.advance(Math.min(target, maxDoc));
+                    if (expectedDoc == null) {
+                        assertEquals(DocIdSetIterator.NO_MORE_DOCS, doc);
+                        break;
+                    }
+                    assertEquals((int) expectedDoc, doc);
+                    assertEquals((int) bodyPostings.get(doc), body.freq());
+                    target = doc;
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testOldVersion() throws IOException {
+        String[][] files = {
+            {SegmentFormat.SEGMENTS, SegmentFormat.SEGMENTS_CODEC},
+            {"_0." + SegmentFormat.INFO_EXTENSION, SegmentFormat.INFO_CODEC},
+            {"_0." + SegmentFormat.TERMS_EXTENSION, SegmentFormat.TERMS_CODEC},
+            {"_0." + SegmentFormat.TERMS_INDEX_EXTENSION, SegmentFormat.TERMS_INDEX_CODEC},
+            {"_0." + SegmentFormat.POSTINGS_EXTENSION, SegmentFormat.POSTINGS_CODEC},
+            {"_0." + SegmentFormat.DOC_VALUES_META_EXTENSION, SegmentFormat.DOC_VALUES_META_CODEC},
+            {"_0." + SegmentFormat.DOC_VALUES_EXTENSION, SegmentFormat.DOC_VALUES_CODEC},
+        };
+        for (String[] file : files) {
+            Path filePath = path.resolve(file[0]);
+            byte[] bytes = Files.readAllBytes(filePath);
+            // After the magic int and the codec name, a single byte while both are short.
+            int versionOffset = 4 + 1 + file[1].length();
+            assertEquals(SegmentFormat.VERSION, bytes[versionOffset]);
+
+            bytes[versionOffset] = SegmentFormat.VERSION - 1;
+            Files.write(filePath, bytes);
+            CorruptIndexException e = assertThrows(CorruptIndexException.class,
+                () -> IndexReader.open(new FSDirectory(path)));
+            assertTrue(e.getMessage(), e.getMessage().contains(file[0]));
+
+            bytes[versionOffset] = SegmentFormat.VERSION;
+            Files.write(filePath, bytes);
+            IndexReader.open(new FSDirectory(path)).close();
+        }
+    }
+
+    private void checkPostings(Directory dir) throws IOException {
+        try (IndexReader reader = IndexReader.open(dir)) {
+            assertEquals(FLUSH_AT.length + 1, reader.leaves().size());
+            assertEquals(NUM_DOCS, reader.maxDoc());
+
+            for (Map.Entry<String, TreeMap<String, TreeMap<Integer, Integer>>> field : expected.entrySet()) {
+                for (Map.Entry<String, TreeMap<Integer, Integer>> term : field.getValue().entrySet()) {
+                    assertEquals(term.getValue().size(), reader.docFreq(field.getKey(), term.getKey()));
+                    // Ids are all alike, a sample is enough.
+                    if (field.getKey().equals("id") && random.nextInt(50) != 0)
+                        continue;
+                    for (LeafReaderContext leaf : reader.leaves()) {
+                        checkLeafPostings(leaf, field.getKey(), term.getKey(), leafPostings(leaf, term.getValue()));
+                    }
+                }
+            }
+            assertEquals(0, reader.docFreq("body", "missing"));
+            assertNull(reader.leaves().get(0).reader().postings("nosuchfield", "x"));
+        }
+    }
+
+    private void checkLeafPostings(LeafReaderContext leaf, String field, String term,
+            TreeMap<Integer, Integer> postings) {
+        LeafReader reader = leaf.reader();
+        if (postings.isEmpty()) {
+            assertNull(reader.postings(field, term));
+            return;
+        }
+
+        PostingsEnum iterator = reader.postings(field, term);
+        assertEquals(-1, iterator.docId());
+        for (Map.Entry<Integer, Integer> posting : postings.entrySet()) {
+            assertEquals((int) posting.getKey(), iterator.nextDoc());
+            assertEquals((int) posting.getValue(), iterator.freq());
+        }
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, iterator.nextDoc());
+
+        int maxDoc = reader.maxDoc();
+        iterator = reader.postings(field, term);
+        int doc = -1;
+        while (true) {
+            int target = doc + 1 + random.nextInt(random.nextBoolean() ? 5 : 2_000);
+            Integer expectedDoc = postings.ceilingKey(target);
+
+            // Block of target must end at or after the doc advance() will land on.
+            int blockEnd = iterator.advanceShallow(target);
+            if (expectedDoc != null)
+                assertTrue(blockEnd >= expectedDoc);
+            int upTo = target + random.nextInt(3_000);
+            int maxFreq = iterator.maxFreq(upTo);
+            int last = Math.max(target, Math.min(upTo, maxDoc - 1));
+            for (int freq : postings.subMap(target, true, last, true).values()) {
+                assertTrue(freq <= maxFreq);
+            }
+
+            doc = iterator.advance(target);
+            if (expectedDoc == null) {
+                assertEquals(DocIdSetIterator.NO_MORE_DOCS, doc);
+                break;
+            }
+            assertEquals((int) expectedDoc, doc);
+            assertEquals((int) postings.get(doc), iterator.freq());
+
+            if (random.nextBoolean()) {
+                Integer next = postings.higherKey(doc);
+                doc = iterator.nextDoc();
+                if (next == null) {
+                    assertEquals(DocIdSetIterator.NO_MORE_DOCS, doc);
+                    break;
+                }
+                assertEquals((int) next, doc);
+            }
+        }
+    }
+
+    private void checkTermsEnum(Directory dir) throws IOException {
+        try (IndexReader reader = IndexReader.open(dir)) {
+            for (LeafReaderContext leaf : reader.leaves()) {
+                assertNull(leaf.reader().terms("nosuchfield"));
+                for (Map.Entry<String, TreeMap<String, TreeMap<Integer, Integer>>> field : expected.entrySet()) {
+                    // Terms with docs in this leaf, and their leaf docFreq.
+                    TreeMap<String, Integer> terms = new TreeMap<>(UTF8_ORDER);
+                    for (Map.Entry<String, TreeMap<Integer, Integer>> term : field.getValue().entrySet()) {
+                        int docFreq = leafPostings(leaf, term.getValue()).size();
+                        if (docFreq > 0)
+                            terms.put(term.getKey(), docFreq);
+                    }
+                    checkTerms(leaf.reader().terms(field.getKey()), terms);
+                }
+            }
+        }
+    }
+
+    private void checkTerms(TermsEnum termsEnum, TreeMap<String, Integer> terms) {
+        assertNotNull(termsEnum);
+        List<String> all = new ArrayList<>(terms.keySet());
+        for (String term : all) {
+            BytesRef next = termsEnum.next();
+            assertEquals(term, next.utf8ToString());
+            assertEquals((int) terms.get(term), termsEnum.docFreq());
+        }
+        assertNull(termsEnum.next());
+
+        for (int i = 0; i < 500; i++) {
+            String term = all.get(random.nextInt(all.size()));
+            assertTrue(termsEnum.seekExact(new BytesRef(term)));
+            assertEquals(term, termsEnum.term().utf8ToString());
+            assertEquals((int) terms.get(term), termsEnum.docFreq());
+            assertTrue(termsEnum.postings().nextDoc() != DocIdSetIterator.NO_MORE_DOCS);
+
+            // Right after an existing term, "" sorts before anything that follows.
+            String missing = term + "\u0000";
+            assertFalse(termsEnum.seekExact(new BytesRef(missing)));
+            checkSeekCeil(termsEnum, terms, missing);
+            checkSeekCeil(termsEnum, terms, term);
+            // Cut short, so somewhere before the term, often in another block.
+            checkSeekCeil(termsEnum, terms, term.substring(0, 1 + random.nextInt(term.length())));
+        }
+        checkSeekCeil(termsEnum, terms, "");
+        checkSeekCeil(termsEnum, terms, "\uffff");
+    }
+
+    private void checkSeekCeil(TermsEnum termsEnum, TreeMap<String, Integer> terms, String target) {
+        String ceil = terms.ceilingKey(target);
+        TermsEnum.SeekStatus status = termsEnum.seekCeil(new BytesRef(target));
+        if (ceil == null) {
+            assertEquals(TermsEnum.SeekStatus.END, status);
+            return;
+        }
+        assertEquals(ceil.equals(target) ? TermsEnum.SeekStatus.FOUND : TermsEnum.SeekStatus.NOT_FOUND, status);
+        assertEquals(ceil, termsEnum.term().utf8ToString());
+        assertEquals((int) terms.get(ceil), termsEnum.docFreq());
+
+        // next() carries on from where seekCeil landed.
+        String higher = terms.higherKey(ceil);
+        BytesRef next = termsEnum.next();
+        if (higher == null)
+            assertNull(next);
+        else
+            assertEquals(higher, next.utf8ToString());
+    }
+
+    /**
+     * Postings of the leaf, with leaf doc-ids.
+     */
+    private static TreeMap<Integer, Integer> leafPostings(LeafReaderContext leaf, TreeMap<Integer, Integer> postings) {
+        int docBase = leaf.docBase();
+        TreeMap<Integer, Integer> leafPostings = new TreeMap<>();
+        for (Map.Entry<Integer, Integer> posting
+                : postings.subMap(docBase, docBase + leaf.reader().maxDoc()).entrySet()) {
+            leafPostings.put(posting.getKey() - docBase, posting.getValue());
+        }
+        return leafPostings;
+    }
+}
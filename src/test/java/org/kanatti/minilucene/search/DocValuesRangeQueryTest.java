@@ -0,0 +1,298 @@
+package org.kanatti.minilucene.search;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kanatti.minilucene.index.DocValuesSkipper;
+import org.kanatti.minilucene.index.Document;
+import org.kanatti.minilucene.index.IndexReader;
+import org.kanatti.minilucene.index.IndexWriter;
+import org.kanatti.minilucene.index.IndexWriterConfig;
+import org.kanatti.minilucene.index.LeafReaderContext;
+import org.kanatti.minilucene.index.NumericDocValues;
+import org.kanatti.minilucene.store.FSDirectory;
+import org.kanatti.minilucene.store.MMapDirectory;
+import org.kanatti.minilucene.util.LongLongHashMap;
+
+/**
+ * Range queries, counts and aggregations over numeric doc values against brute force, for
+ * fields of different shapes: dense and sparse, sorted by doc id or not, narrow or
+ * spanning more than 32 bits, and with values at the ends of the long range.
+ */
+public class DocValuesRangeQueryTest {
+    private static final int NUM_DOCS = 100_000;
+    // Last leaf is big enough for two skip levels.
+    private static final int[] FLUSH_AT = {20_000, 20_100};
+    private static final String[] FIELDS = {"dense", "sparse", "sorted", "sortedSparse", "extreme", "wide", "constant"};
+
+    private Path path;
+    private Random random;
+    private IndexReader reader;
+    // Per field, by global doc: value, and whether the doc has one.
+    private long[][] values;
+    private boolean[][] hasValue;
+
+    @Before
+    public void setUp() throws IOException {
+        path = Files.createTempDirectory("minilucene");
+        random = new Random(17);
+        values = new long[FIELDS.length][NUM_DOCS];
+        hasValue = new boolean[FIELDS.length][NUM_DOCS];
+
+        int flush = 0;
+        long sorted = -1_000;
+        try (IndexWriter writer = new IndexWriter(new FSDirectory(path), new IndexWriterConfig())) {
+            for (int doc = 0; doc < NUM_DOCS; doc++) {
+                Document document = new Document();
+                add(document, doc, 0, random.nextInt(1_000));
+                if (random.nextInt(5) == 0)
+                    add(document, doc, 1, random.nextInt(1 << 20) - (1 << 19));
+                sorted += random.nextInt(3);
+                add(document, doc, 2, sorted);
+                if (random.nextInt(3) == 0)
+                    add(document, doc, 3, sorted * 7);
+                // Both ends of the long range, so values - min doesn't fit 32 bits.
+                long offset = random.nextInt(1_000);
+                add(document, doc, 4, random.nextBoolean() ? Long.MIN_VALUE + offset : Long.MAX_VALUE - offset);
+                if (random.nextInt(10) > 0)
+                    add(document, doc, 5, random.nextLong());
+                if (doc % 2 == 0)
+                    add(document, doc, 6, 42);
+                writer.addDocument(document);
+
+                if (flush < FLUSH_AT.length && doc + 1 == FLUSH_AT[flush]) {
+                    writer.flush();
+                    flush++;
+                }
+            }
+        }
+        reader = IndexReader.open(new MMapDirectory(path));
+    }
+
+    private void add(Document document, int doc, int field, long value) {
+        document.addLong(FIELDS[field], value);
+        values[field][doc] = value;
+        hasValue[field][doc] = true;
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        reader.close();
+        try (var files = Files.walk(path)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void testRanges() {
+        IndexSearcher searcher = new IndexSearcher(reader);
+        IndexSearcher concurrentSearcher = new IndexSearcher(reader, IndexSearcher.VIRTUAL_THREAD_EXECUTOR);
+        for (int field = 0; field < FIELDS.length; field++) {
+            for (long[] range : ranges(field)) {
+                checkRange(searcher, field, range[0], range[1]);
+                checkRange(concurrentSearcher, field, range[0], range[1]);
+            }
+        }
+    }
+
+    /**
+     * Ranges between random values of the field, plus the edge cases.
+     */
+    private List<long[]> ranges(int field) {
+        List<long[]> ranges = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            long a = randomValue(field), b = randomValue(field);
+            ranges.add(new long[] {Math.min(a, b), Math.max(a, b)});
+        }
+        long value = randomValue(field);
+        ranges.add(new long[] {value, value});
+        // Inverted.
+        ranges.add(new long[] {value + 1, value});
+        ranges.add(new long[] {Long.MAX_VALUE, Long.MIN_VALUE});
+        // Everything, and nothing on either side.
+        ranges.add(new long[] {Long.MIN_VALUE, Long.MAX_VALUE});
+        ranges.add(new long[] {Long.MIN_VALUE, Long.MIN_VALUE});
+        ranges.add(new long[] {Long.MAX_VALUE, Long.MAX_VALUE});
+        // Open-ended.
+        ranges.add(new long[] {Long.MIN_VALUE, value});
+        ranges.add(new long[] {value, Long.MAX_VALUE});
+        return ranges;
+    }
+
+    private long randomValue(int field) {
+        while (true) {
+            int doc = random.nextInt(NUM_DOCS);
+            if (hasValue[field][doc])
+                return values[field][doc];
+        }
+    }
+
+    private void checkRange(IndexSearcher searcher, int field, long lower, long upper) {
+        String name = FIELDS[field];
+        Query query = new DocValuesRangeQuery(name, lower, upper);
+        String message = query.toString();
+
+        List<Integer> expected = new ArrayList<>();
+        for (int doc = 0; doc < NUM_DOCS; doc++) {
+            long value = values[field][doc];
+            if (hasValue[field][doc] && value >= lower && value <= upper)
+                expected.add(doc);
+        }
+
+        assertEquals(message, expected.size(), searcher.count(query));
+        // Bulk scorer, and the per doc scorer.
+        assertArrayEquals(message, toArray(expected), collect(searcher, query, ScoreMode.COMPLETE_NO_SCORES));
+        assertArrayEquals(message, toArray(expected), collect(searcher, query, ScoreMode.COMPLETE));
+
+        // On the queried field, YES intervals come with their stats, on others values are read.
+        for (int statsField : new int[] {field, 0, 5}) {
+            Stats stats = Stats.EMPTY;
+            for (int doc : expected) {
+                if (hasValue[statsField][doc]) {
+                    long value = values[statsField][doc];
+                    stats = stats.merge(new Stats(1, value, value, value));
+                }
+            }
+            assertEquals(message + " stats of " + FIELDS[statsField], stats,
+                searcher.search(query, StatsCollector.createManager(FIELDS[statsField])));
+        }
+
+        TreeMap<Long, Long> histogram = new TreeMap<>();
+        for (int doc : expected) {
+            histogram.merge(values[field][doc], 1L, Long::sum);
+        }
+        LongLongHashMap counts = searcher.search(query, HistogramCollector.createManager(name));
+        assertEquals(message, histogram.size(), counts.size());
+        for (var bucket : histogram.entrySet()) {
+            assertEquals(message, (long) bucket.getValue(), counts.get(bucket.getKey(), 0));
+        }
+    }
+
+    @Test
+    public void testSkipper() {
+        for (int field = 0; field < FIELDS.length; field++) {
+            for (LeafReaderContext leaf : reader.leaves()) {
+                DocValuesSkipper skipper = leaf.reader().getDocValuesSkipper(FIELDS[field]);
+                int docBase = leaf.docBase(), maxDoc = leaf.reader().maxDoc();
+                long[] leafStats = stats(field, docBase, docBase + maxDoc - 1);
+                assertEquals(leafStats[0], skipper.docCount());
+                assertEquals(leafStats[1], skipper.minValue());
+                assertEquals(leafStats[2], skipper.maxValue());
+
+                for (int target = random.nextInt(100); target < maxDoc; target += 1 + random.nextInt(5_000)) {
+                    skipper.advance(target);
+                    int first = skipper.minDocID(0);
+                    // Skipped docs have no value.
+                    int end = first == DocIdSetIterator.NO_MORE_DOCS ? maxDoc : Math.max(target, first);
+                    assertEquals(0, stats(field, docBase + target, docBase + end - 1)[0]);
+                    if (first == DocIdSetIterator.NO_MORE_DOCS)
+                        break;
+
+                    for (int level = 0; level < skipper.numLevels(); level++) {
+                        int min = skipper.minDocID(level), max = skipper.maxDocID(level);
+                        assertTrue(min <= Math.max(target, first) && max >= first);
+                        if (level > 0)
+                            assertTrue(min <= skipper.minDocID(level - 1) && max >= skipper.maxDocID(level - 1));
+                        long[] stats = stats(field, docBase + min, docBase + max);
+                        assertTrue(stats[0] > 0);
+                        assertEquals(stats[0], skipper.docCount(level));
+                        assertEquals(stats[1], skipper.minValue(level));
+                        assertEquals(stats[2], skipper.maxValue(level));
+                        assertEquals(stats[3], skipper.sum(level));
+                    }
+                    target = Math.max(target, skipper.maxDocID(0));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testLongValues() {
+        int[] docs = new int[256];
+        long[] batch = new long[256];
+        for (int field = 0; field < FIELDS.length; field++) {
+            for (LeafReaderContext leaf : reader.leaves()) {
+                int docBase = leaf.docBase(), maxDoc = leaf.reader().maxDoc();
+                NumericDocValues batchValues = leaf.reader().getNumericDocValues(FIELDS[field]);
+                NumericDocValues exactValues = leaf.reader().getNumericDocValues(FIELDS[field]);
+                // Runs of consecutive docs, and docs far apart, in increasing order.
+                int doc = 0;
+                while (doc < maxDoc) {
+                    int count = 0;
+                    int gap = random.nextBoolean() ? 1 : 1 + random.nextInt(500);
+                    for (; count < docs.length && doc < maxDoc; doc += gap) {
+                        docs[count++] = doc;
+                    }
+                    int n = batchValues.longValues(docs, count, batch);
+                    int expected = 0;
+                    for (int i = 0; i < count; i++) {
+                        if (exactValues.advanceExact(docs[i])) {
+                            assertTrue(hasValue[field][docBase + docs[i]]);
+                            assertEquals(values[field][docBase + docs[i]], exactValues.longValue());
+                            assertEquals(exactValues.longValue(), batch[expected++]);
+                        } else {
+                            assertTrue(!hasValue[field][docBase + docs[i]]);
+                        }
+                    }
+                    assertEquals(expected, n);
+                }
+            }
+        }
+    }
+
+    /**
+     * docCount, min, max and sum of the field's values on global docs [from, to].
+     */
+    private long[] stats(int field, int from, int to) {
+        long[] stats = {0, Long.MAX_VALUE, Long.MIN_VALUE, 0};
+        for (int doc = from; doc <= to; doc++) {
+            if (hasValue[field][doc]) {
+                long value = values[field][doc];
+                stats[0]++;
+                stats[1] = Math.min(stats[1], value);
+                stats[2] = Math.max(stats[2], value);
+                stats[3] += value;
+            }
+        }
+        return stats;
+    }
+
+    private static int[] collect(IndexSearcher searcher, Query query, ScoreMode scoreMode) {
+        // Slices may be collected concurrently.
+        List<Integer> docs = Collections.synchronizedList(new ArrayList<>());
+        searcher.search(query, new Collector() {
+            @Override
+            public ScoreMode scoreMode() {
+                return scoreMode;
+            }
+
+            @Override
+            public LeafCollector getLeafCollector(LeafReaderContext context) {
+                int docBase = context.docBase();
+                return doc -> docs.add(docBase + doc);
+            }
+        });
+        docs.sort(null);
+        return toArray(docs);
+    }
+
+    private static int[] toArray(List<Integer> docs) {
+        return docs.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
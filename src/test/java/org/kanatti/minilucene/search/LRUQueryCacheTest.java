@@ -0,0 +1,287 @@
+package org.kanatti.minilucene.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kanatti.minilucene.index.Document;
+import org.kanatti.minilucene.index.IndexReader;
+import org.kanatti.minilucene.index.IndexWriter;
+import org.kanatti.minilucene.index.IndexWriterConfig;
+import org.kanatti.minilucene.index.LeafReaderContext;
+import org.kanatti.minilucene.store.FSDirectory;
+import org.kanatti.minilucene.store.MMapDirectory;
+
+/**
+ * Query cache counters, byte-bounded LRU eviction, dropping entries of closed readers, and
+ * the frequency window of {@link UsageTrackingQueryCachingPolicy}.
+ */
+public class LRUQueryCacheTest {
+    private static final int NUM_DOCS = 3_000;
+    private static final int FLUSH_AT = 1_000;
+    private static final QueryCachingPolicy ALWAYS_CACHE = new QueryCachingPolicy() {
+        @Override
+        public void onUse(Query query) {}
+
+        @Override
+        public boolean shouldCache(Query query) {
+            return true;
+        }
+    };
+
+    private Path path;
+    private IndexReader reader;
+
+    @Before
+    public void setUp() throws IOException {
+        path = Files.createTempDirectory("minilucene");
+        try (IndexWriter writer = new IndexWriter(new FSDirectory(path), new IndexWriterConfig())) {
+            for (int doc = 0; doc < NUM_DOCS; doc++) {
+                writer.addDocument(new Document().addLong("v", doc % 100).addKeyword("k", "k" + doc % 3));
+                if (doc + 1 == FLUSH_AT)
+                    writer.flush();
+            }
+        }
+        reader = IndexReader.open(new MMapDirectory(path));
+        assertEquals(2, reader.leaves().size());
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        reader.close();
+        try (var files = Files.walk(path)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private IndexSearcher searcher(IndexReader reader, LRUQueryCache cache, QueryCachingPolicy policy) {
+        IndexSearcher searcher = new IndexSearcher(reader);
+        searcher.setQueryCache(cache);
+        searcher.setQueryCachingPolicy(policy);
+        return searcher;
+    }
+
+    /**
+     * Docs of v in [lower, lower + 9], 300 of them.
+     */
+    private static Query range(int lower) {
+        return new DocValuesRangeQuery("v", lower, lower + 9);
+    }
+
+    /**
+     * Collects matches one by one, as counts may not go through the cache.
+     */
+    private static int collect(IndexSearcher searcher, Query query) {
+        int[] count = new int[1];
+        searcher.search(query, new Collector() {
+            @Override
+            public ScoreMode scoreMode() {
+                return ScoreMode.COMPLETE_NO_SCORES;
+            }
+
+            @Override
+            public LeafCollector getLeafCollector(LeafReaderContext context) {
+                return doc -> count[0]++;
+            }
+        });
+        return count[0];
+    }
+
+    @Test
+    public void testCounters() {
+        LRUQueryCache cache = new LRUQueryCache(1 << 20);
+        IndexSearcher searcher = searcher(reader, cache, ALWAYS_CACHE);
+
+        assertEquals(300, collect(searcher, range(0)));
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(2, cache.getCacheCount());
+        assertEquals(2, cache.getCacheSize());
+
+        // Served from the cache, for an equal query too.
+        assertEquals(300, collect(searcher, range(0)));
+        assertEquals(300, collect(searcher, new DocValuesRangeQuery("v", 0, 9)));
+        assertEquals(4, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(2, cache.getCacheCount());
+
+        assertEquals(300, collect(searcher, range(10)));
+        assertEquals(4, cache.getHitCount());
+        assertEquals(4, cache.getMissCount());
+        assertEquals(4, cache.getCacheCount());
+        assertEquals(4, cache.getCacheSize());
+        assertEquals(0, cache.getEvictionCount());
+
+        cache.clear();
+        assertEquals(0, cache.getCacheSize());
+        assertEquals(0, cache.ramBytesUsed());
+        assertEquals(0, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testNotCachedWithScores() {
+        LRUQueryCache cache = new LRUQueryCache(1 << 20);
+        IndexSearcher searcher = searcher(reader, cache, ALWAYS_CACHE);
+        TopDocs topDocs = searcher.search(range(0), TopDocsCollector.createManager(10));
+        assertEquals(300, topDocs.totalHits());
+        assertEquals(0, cache.getCacheSize());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    public void testEviction() {
+        LRUQueryCache sizing = new LRUQueryCache(1 << 20);
+        collect(searcher(reader, sizing, ALWAYS_CACHE), range(0));
+        // All ranges match as many docs, so take as many bytes.
+        long queryBytes = sizing.ramBytesUsed();
+        assertTrue(queryBytes > LRUQueryCache.QUERY_RAM_BYTES + 2 * LRUQueryCache.ENTRY_RAM_BYTES);
+
+        long maxRamBytesUsed = 3 * queryBytes + queryBytes / 2;
+        LRUQueryCache cache = new LRUQueryCache(maxRamBytesUsed);
+        IndexSearcher searcher = searcher(reader, cache, ALWAYS_CACHE);
+        for (int i = 0; i < 3; i++) {
+            collect(searcher, range(i * 10));
+        }
+        assertEquals(3 * queryBytes, cache.ramBytesUsed());
+        assertEquals(0, cache.getEvictionCount());
+
+        // Makes range(0) the most recently used, so range(10) goes first.
+        collect(searcher, range(0));
+        collect(searcher, range(30));
+        assertEquals(3 * queryBytes, cache.ramBytesUsed());
+        assertEquals(6, cache.getCacheSize());
+        assertEquals(2, cache.getEvictionCount());
+        for (LeafReaderContext leaf : reader.leaves()) {
+            assertNotNull(cache.get(range(0), leaf.reader(), false));
+            assertNull(cache.get(range(10), leaf.reader(), false));
+            assertNotNull(cache.get(range(20), leaf.reader(), false));
+            assertNotNull(cache.get(range(30), leaf.reader(), false));
+        }
+
+        for (int i = 4; i < 10; i++) {
+            assertEquals(300, collect(searcher, range(i * 10)));
+            assertTrue(cache.ramBytesUsed() <= maxRamBytesUsed);
+        }
+        assertEquals(14, cache.getEvictionCount());
+        assertEquals(6, cache.getCacheSize());
+
+        // Too big to be cached at all, without evicting anything.
+        LRUQueryCache tiny = new LRUQueryCache(queryBytes / 4);
+        IndexSearcher tinySearcher = searcher(reader, tiny, ALWAYS_CACHE);
+        assertEquals(300, collect(tinySearcher, range(0)));
+        assertEquals(300, collect(tinySearcher, range(0)));
+        assertEquals(0, tiny.getCacheSize());
+        assertEquals(0, tiny.ramBytesUsed());
+        assertEquals(0, tiny.getHitCount());
+        assertEquals(0, tiny.getEvictionCount());
+    }
+
+    @Test
+    public void testClosedReader() throws IOException {
+        LRUQueryCache cache = new LRUQueryCache(1 << 20);
+        collect(searcher(reader, cache, ALWAYS_CACHE), range(0));
+        long readerBytes = cache.ramBytesUsed();
+
+        // Shared with a reader of the same segments, as after a reopen.
+        IndexReader other = IndexReader.open(new MMapDirectory(path));
+        IndexSearcher otherSearcher = searcher(other, cache, ALWAYS_CACHE);
+        collect(otherSearcher, range(0));
+        collect(otherSearcher, range(10));
+        assertEquals(6, cache.getCacheSize());
+
+        reader.close();
+        assertEquals(4, cache.getCacheSize());
+        // Two queries with two leaves each, as the closed reader had one.
+        assertEquals(2 * readerBytes, cache.ramBytesUsed());
+        for (LeafReaderContext leaf : other.leaves()) {
+            assertNotNull(cache.get(range(0), leaf.reader(), false));
+        }
+
+        other.close();
+        assertEquals(0, cache.getCacheSize());
+        assertEquals(0, cache.ramBytesUsed());
+        assertEquals(0, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testOptionalClausesNotCachedWithoutScores() {
+        LRUQueryCache cache = new LRUQueryCache(1 << 20);
+        IndexSearcher searcher = searcher(reader, cache, ALWAYS_CACHE);
+        Query query = new BooleanQuery.Builder()
+            .add(range(0), BooleanQuery.Occur.MUST)
+            .add(range(50), BooleanQuery.Occur.SHOULD)
+            .build();
+        assertEquals(300, collect(searcher, query));
+        for (LeafReaderContext leaf : reader.leaves()) {
+            assertNotNull(cache.get(query, leaf.reader(), false));
+            assertNotNull(cache.get(range(0), leaf.reader(), false));
+            assertNull(cache.get(range(50), leaf.reader(), false));
+        }
+    }
+
+    @Test
+    public void testUsageTrackingPolicy() {
+        UsageTrackingQueryCachingPolicy policy = new UsageTrackingQueryCachingPolicy(3);
+        Query query = range(0);
+        policy.onUse(query);
+        policy.onUse(range(0));
+        assertFalse(policy.shouldCache(query));
+        policy.onUse(query);
+        assertTrue(policy.shouldCache(query));
+        assertEquals(3, policy.frequency(query));
+
+        // Uses fall out of the window, one by one.
+        for (int i = 0; i < UsageTrackingQueryCachingPolicy.HISTORY_SIZE - 3; i++) {
+            policy.onUse(range(1_000 + i));
+        }
+        assertTrue(policy.shouldCache(query));
+        policy.onUse(range(1));
+        assertEquals(2, policy.frequency(query));
+        assertFalse(policy.shouldCache(query));
+        policy.onUse(range(2));
+        policy.onUse(range(3));
+        assertEquals(0, policy.frequency(query));
+
+        // Cheap queries are neither cached nor take room in the window.
+        Query term = new TermQuery("k", "k0");
+        Query matchAll = new MatchAllDocsQuery();
+        for (int i = 0; i < 10; i++) {
+            policy.onUse(term);
+            policy.onUse(matchAll);
+        }
+        assertFalse(policy.shouldCache(term));
+        assertFalse(policy.shouldCache(matchAll));
+        assertEquals(1, policy.frequency(range(1)));
+    }
+
+    @Test
+    public void testCachedAfterMinFrequency() {
+        LRUQueryCache cache = new LRUQueryCache(1 << 20);
+        IndexSearcher searcher = searcher(reader, cache, new UsageTrackingQueryCachingPolicy(3));
+        for (int i = 0; i < 2; i++) {
+            assertEquals(300, collect(searcher, range(0)));
+            assertEquals(0, cache.getCacheSize());
+        }
+        assertEquals(300, collect(searcher, range(0)));
+        assertEquals(2, cache.getCacheSize());
+        assertEquals(300, collect(searcher, range(0)));
+        assertEquals(2, cache.getHitCount());
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(1_000, collect(searcher, new TermQuery("k", "k0")));
+        }
+        assertEquals(2, cache.getCacheSize());
+    }
+}
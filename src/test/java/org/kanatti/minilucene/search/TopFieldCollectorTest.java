@@ -0,0 +1,220 @@
+package org.kanatti.minilucene.search;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kanatti.minilucene.index.Document;
+import org.kanatti.minilucene.index.IndexReader;
+import org.kanatti.minilucene.index.IndexWriter;
+import org.kanatti.minilucene.index.IndexWriterConfig;
+import org.kanatti.minilucene.index.LeafReaderContext;
+import org.kanatti.minilucene.index.NumericDocValues;
+import org.kanatti.minilucene.store.FSDirectory;
+import org.kanatti.minilucene.store.MMapDirectory;
+
+/**
+ * Top hits by field against brute force, on the same docs indexed with and without an
+ * index sort. On the sorted index, sorts that are a prefix of the index sort terminate
+ * early, and then have to give the same top hits with an inexact hit count.
+ */
+public class TopFieldCollectorTest {
+    private static final int NUM_DOCS = 30_000;
+    private static final int[] FLUSH_AT = {4_000, 12_000};
+    private static final Sort INDEX_SORT = new Sort(new SortField("ts", true), new SortField("id"));
+
+    private Path sortedPath;
+    private Path unsortedPath;
+    private IndexReader sortedReader;
+    private IndexReader unsortedReader;
+    // By id: ts, missing ones as the missing value of a descending sort, and tag.
+    private long[] ts;
+    private int[] tag;
+
+    @Before
+    public void setUp() throws IOException {
+        sortedPath = Files.createTempDirectory("minilucene");
+        unsortedPath = Files.createTempDirectory("minilucene");
+        Random random = new Random(11);
+        ts = new long[NUM_DOCS];
+        tag = new int[NUM_DOCS];
+
+        int flush = 0;
+        try (IndexWriter sorted = new IndexWriter(new FSDirectory(sortedPath),
+                new IndexWriterConfig().setIndexSort(INDEX_SORT));
+                IndexWriter unsorted = new IndexWriter(new FSDirectory(unsortedPath), new IndexWriterConfig())) {
+            for (int id = 0; id < NUM_DOCS; id++) {
+                Document document = new Document().addLong("id", id);
+                ts[id] = Long.MIN_VALUE;
+                // Ties on ts, and docs without one.
+                if (random.nextInt(10) > 0) {
+                    ts[id] = random.nextInt(2_000);
+                    document.addLong("ts", ts[id]);
+                }
+                tag[id] = random.nextInt(4);
+                document.addKeyword("tag", "t" + tag[id]);
+                sorted.addDocument(document);
+                unsorted.addDocument(document);
+
+                if (flush < FLUSH_AT.length && id + 1 == FLUSH_AT[flush]) {
+                    sorted.flush();
+                    unsorted.flush();
+                    flush++;
+                }
+            }
+        }
+        sortedReader = IndexReader.open(new MMapDirectory(sortedPath));
+        unsortedReader = IndexReader.open(new MMapDirectory(unsortedPath));
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        sortedReader.close();
+        unsortedReader.close();
+        for (Path path : List.of(sortedPath, unsortedPath)) {
+            try (var files = Files.walk(path)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testEarlyTermination() {
+        Sort sort = new Sort(new SortField("ts", true));
+        for (Query query : queries()) {
+            for (int numHits : new int[] {1, 10, 100}) {
+                String message = query + " top " + numHits;
+                long[][] expected = topValues(query, sort, numHits);
+                int count = count(query);
+
+                TopFieldDocs unsorted = search(unsortedReader, query, sort, numHits, 1_000);
+                assertTrue(message, unsorted.totalHitsExact());
+                assertEquals(message, count, unsorted.totalHits());
+                assertSortValues(message, expected, unsorted);
+
+                TopFieldDocs sorted = search(sortedReader, query, sort, numHits, 1_000);
+                assertFalse(message, sorted.totalHitsExact());
+                assertTrue(message, sorted.totalHits() > 1_000 && sorted.totalHits() < count);
+                assertSortValues(message, expected, sorted);
+
+                // Counting every hit, the count is exact and top hits the same.
+                TopFieldDocs counted = search(sortedReader, query, sort, numHits, Integer.MAX_VALUE);
+                assertTrue(message, counted.totalHitsExact());
+                assertEquals(message, count, counted.totalHits());
+                assertSortValues(message, expected, counted);
+            }
+        }
+    }
+
+    @Test
+    public void testNotAPrefix() {
+        // Ascending ts isn't sorted by the index sort, nor is id alone.
+        for (Sort sort : List.of(new Sort(new SortField("ts")), new Sort(new SortField("id", true)))) {
+            for (Query query : queries()) {
+                String message = query + " by " + sort;
+                long[][] expected = topValues(query, sort, 20);
+                for (IndexReader reader : List.of(sortedReader, unsortedReader)) {
+                    TopFieldDocs topDocs = search(reader, query, sort, 20, 1_000);
+                    assertTrue(message, topDocs.totalHitsExact());
+                    assertEquals(message, count(query), topDocs.totalHits());
+                    assertSortValues(message, expected, topDocs);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFullIndexSort() {
+        // Ids are unique, so docs are the same on both indexes.
+        for (Query query : queries()) {
+            long[][] expected = topValues(query, INDEX_SORT, 50);
+            for (IndexReader reader : List.of(sortedReader, unsortedReader)) {
+                TopFieldDocs topDocs = search(reader, query, INDEX_SORT, 50, 1_000);
+                assertSortValues(query.toString(), expected, topDocs);
+                for (int i = 0; i < expected.length; i++) {
+                    assertEquals(expected[i][1], id(reader, topDocs.docs()[i]));
+                }
+            }
+        }
+    }
+
+    private List<Query> queries() {
+        return List.of(
+            new MatchAllDocsQuery(),
+            new TermQuery("tag", "t1"),
+            new DocValuesRangeQuery("id", 5_000, 25_000));
+    }
+
+    private boolean matches(Query query, int id) {
+        if (query instanceof TermQuery termQuery)
+            return termQuery.getTerm().equals("t" + tag[id]);
+        if (query instanceof DocValuesRangeQuery)
+            return id >= 5_000 && id <= 25_000;
+        return true;
+    }
+
+    private int count(Query query) {
+        int count = 0;
+        for (int id = 0; id < NUM_DOCS; id++) {
+            if (matches(query, id))
+                count++;
+        }
+        return count;
+    }
+
+    /**
+     * Sort values of the top numHits matches, by brute force. Sorts are on ts and id only.
+     */
+    private long[][] topValues(Query query, Sort sort, int numHits) {
+        List<long[]> hits = new ArrayList<>();
+        for (int id = 0; id < NUM_DOCS; id++) {
+            if (!matches(query, id))
+                continue;
+            long[] values = new long[sort.fields().size()];
+            for (int i = 0; i < values.length; i++) {
+                SortField field = sort.fields().get(i);
+                boolean missing = field.field().equals("ts") && ts[id] == Long.MIN_VALUE;
+                values[i] = missing ? field.missingValue() : field.field().equals("ts") ? ts[id] : id;
+            }
+            hits.add(values);
+        }
+        hits.sort((a, b) -> sort.compare(a, 0, b, 0));
+        return hits.subList(0, Math.min(numHits, hits.size())).toArray(new long[0][]);
+    }
+
+    private static TopFieldDocs search(IndexReader reader, Query query, Sort sort, int numHits, int threshold) {
+        return new IndexSearcher(reader).search(query, TopFieldCollector.createManager(sort, numHits, threshold));
+    }
+
+    private static void assertSortValues(String message, long[][] expected, TopFieldDocs topDocs) {
+        assertEquals(message, expected.length, topDocs.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertArrayEquals(message + " hit " + i, expected[i], topDocs.sortValues()[i]);
+        }
+    }
+
+    private static long id(IndexReader reader, int doc) {
+        for (LeafReaderContext leaf : reader.leaves()) {
+            if (doc < leaf.docBase() + leaf.reader().maxDoc()) {
+                NumericDocValues values = leaf.reader().getNumericDocValues("id");
+                assertTrue(values.advanceExact(doc - leaf.docBase()));
+                return values.longValue();
+            }
+        }
+        throw new AssertionError("No leaf for doc " + doc);
+    }
+}